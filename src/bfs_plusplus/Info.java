@@ -13,7 +13,7 @@ public class Info {
     public static int VISION_DIST;
 
     public static MapLocation[] spawnLocs;
-    public static IterableLocSet spawnLocsSet;
+    public static BitLocSet spawnLocsSet;
     public static MapLocation closestSpawn;
     public static int numFlagsNearbyNotPickedUp;
     public static MapLocation closestFlag;
@@ -30,7 +30,7 @@ public class Info {
         // TODO: Add other initialization code here (transfer some from RobotPlayer)
 
         spawnLocs = rc.getAllySpawnLocations();
-        spawnLocsSet = new IterableLocSet(spawnLocs.length);
+        spawnLocsSet = new BitLocSet(spawnLocs.length);
         for (int i = spawnLocs.length - 1; i >= 0; i--) {
             spawnLocsSet.add(spawnLocs[i]);
         }
@@ -121,6 +121,7 @@ public strictfp class RobotPlayer {
     // stunned enemy tracking
     static FastQueue<Pair<Integer, Integer>> stunnedEnemiesQ = new FastQueue<>(100);
     static FastIntIntMap stunnedEnemiesSet = new FastIntIntMap(50);
+    static BitLocSet currRoundStunsSet = new BitLocSet();
     static MapLocation[] prevRoundStuns = new MapLocation[70];
     static int prevRoundStunLen = 0;
 
@@ -550,7 +551,7 @@ public strictfp class RobotPlayer {
                     }
                     // find all stun traps this turn
                     int currRoundStunIndex = 0;
-                    IterableLocSet currRoundStunsSet = new IterableLocSet();
+                    currRoundStunsSet.clear();
                     for (int i = nearbyMap.length; --i >= 0;) {
                         MapInfo mapInfo = nearbyMap[i];
                         if (mapInfo.getTrapType() == TrapType.STUN) {
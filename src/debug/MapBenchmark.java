@@ -0,0 +1,121 @@
+package debug;
+
+import battlecode.common.*;
+import debug.utils.FastIntIntMap;
+import debug.utils.IntIntHashMap;
+
+import java.util.Random;
+
+/**
+ * Bytecode benchmark of the old StringBuilder FastIntIntMap against the open
+ * addressing IntIntHashMap, run under the real instrumenter by playing the
+ * debug bot. One case (map, size) per turn so a slow case can't run over into
+ * the next turn and wreck the count. Copies of both maps live in debug.utils
+ * since bots can only touch their own package.
+ *
+ * Prints per op averages for add, contains hit/miss, getVal and remove.
+ */
+public class MapBenchmark {
+    static final int[] SIZES = { 10, 25, 50 };
+    static final String[] OPS = { "add", "contains hit", "contains miss", "getVal", "remove" };
+
+    static int caseIdx = 0;
+
+    public static boolean done() {
+        return caseIdx >= SIZES.length * 2 + 1;
+    }
+
+    // runs the next case, call once per turn
+    public static void step() {
+        if (caseIdx == SIZES.length * 2) {
+            checkBigIds();
+            caseIdx++;
+            return;
+        }
+        int n = SIZES[caseIdx / 2];
+        boolean fast = caseIdx % 2 == 1;
+        caseIdx++;
+
+        // robot ids are handed out from 10000 up
+        Random rng = new Random(n);
+        int[] hits = new int[n];
+        int[] misses = new int[n];
+        for (int i = n; --i >= 0;) {
+            hits[i] = 10000 + rng.nextInt(4000) * 2;
+            misses[i] = hits[i] + 1;
+        }
+        int[] cost = fast ? runHash(hits, misses) : runOld(hits, misses);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(fast ? "IntIntHashMap" : "FastIntIntMap").append(" n=").append(n);
+        for (int i = 0; i < OPS.length; i++) {
+            sb.append(" | ").append(OPS[i]).append(' ').append((float) cost[i] / n);
+        }
+        System.out.println(sb);
+    }
+
+    static int[] runOld(int[] hits, int[] misses) {
+        int n = hits.length;
+        int[] cost = new int[OPS.length];
+        FastIntIntMap map = new FastIntIntMap(n);
+        int bc = Clock.getBytecodeNum();
+        for (int i = n; --i >= 0;)
+            map.add(hits[i], i);
+        cost[0] = Clock.getBytecodeNum() - bc;
+        bc = Clock.getBytecodeNum();
+        for (int i = n; --i >= 0;)
+            map.contains(hits[i]);
+        cost[1] = Clock.getBytecodeNum() - bc;
+        bc = Clock.getBytecodeNum();
+        for (int i = n; --i >= 0;)
+            map.contains(misses[i]);
+        cost[2] = Clock.getBytecodeNum() - bc;
+        bc = Clock.getBytecodeNum();
+        for (int i = n; --i >= 0;)
+            map.getVal(hits[i]);
+        cost[3] = Clock.getBytecodeNum() - bc;
+        bc = Clock.getBytecodeNum();
+        for (int i = n; --i >= 0;)
+            map.remove(hits[i]);
+        cost[4] = Clock.getBytecodeNum() - bc;
+        return cost;
+    }
+
+    static int[] runHash(int[] hits, int[] misses) {
+        int n = hits.length;
+        int[] cost = new int[OPS.length];
+        IntIntHashMap map = new IntIntHashMap(n);
+        int bc = Clock.getBytecodeNum();
+        for (int i = n; --i >= 0;)
+            map.add(hits[i], i);
+        cost[0] = Clock.getBytecodeNum() - bc;
+        bc = Clock.getBytecodeNum();
+        for (int i = n; --i >= 0;)
+            map.contains(hits[i]);
+        cost[1] = Clock.getBytecodeNum() - bc;
+        bc = Clock.getBytecodeNum();
+        for (int i = n; --i >= 0;)
+            map.contains(misses[i]);
+        cost[2] = Clock.getBytecodeNum() - bc;
+        bc = Clock.getBytecodeNum();
+        for (int i = n; --i >= 0;)
+            map.getVal(hits[i]);
+        cost[3] = Clock.getBytecodeNum() - bc;
+        bc = Clock.getBytecodeNum();
+        for (int i = n; --i >= 0;)
+            map.remove(hits[i]);
+        cost[4] = Clock.getBytecodeNum() - bc;
+        return cost;
+    }
+
+    // the old map stores keys as key + 0x100 in a char, anything above 0xfeff
+    // wraps around and collides
+    static void checkBigIds() {
+        FastIntIntMap old = new FastIntIntMap(4);
+        IntIntHashMap hash = new IntIntHashMap(4);
+        old.add(0x10000, 7);
+        hash.add(0x10000, 7);
+        System.out.println("key 0x10000 -> FastIntIntMap contains 0: " + old.contains(0) + ", IntIntHashMap contains 0: "
+                + hash.contains(0) + ", getVal(0x10000) " + old.getVal(0x10000) + " vs " + hash.getVal(0x10000));
+    }
+}
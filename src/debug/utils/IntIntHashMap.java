@@ -0,0 +1,141 @@
+package debug.utils;
+
+/**
+ * Fixed capacity int -> int map, open addressing with linear probing. Removal
+ * shifts the rest of the probe run back instead of leaving tombstones, so
+ * lookups stay a couple of probes no matter how much churn there is. Unlike
+ * FastIntIntMap it takes any key (except -1, used as the empty marker) and
+ * cost doesn't grow with size.
+ *
+ * Capacity is the next power of 2 >= 2 * maxSize, keep it under half full.
+ */
+public class IntIntHashMap {
+    // stored as key + 1 so a fresh array is all empty slots
+    public int[] keys;
+    public int[] vals;
+    public int size;
+    public int mask;
+    private int shift;
+
+    public IntIntHashMap() {
+        this(50);
+    }
+
+    public IntIntHashMap(int maxSize) {
+        int cap = 4;
+        shift = 30;
+        while (cap < maxSize * 2) {
+            cap <<= 1;
+            shift--;
+        }
+        mask = cap - 1;
+        keys = new int[cap];
+        vals = new int[cap];
+    }
+
+    // fibonacci hash, spreads sequential robot ids over the table
+    private int slot(int key) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    // adds key if missing, does not overwrite like FastIntIntMap
+    public void add(int key, int val) {
+        int stored = key + 1;
+        int i = slot(key);
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == stored)
+                return;
+            i = (i + 1) & mask;
+        }
+        keys[i] = stored;
+        vals[i] = val;
+        size++;
+    }
+
+    // adds or overwrites
+    public void put(int key, int val) {
+        int stored = key + 1;
+        int i = slot(key);
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == stored) {
+                vals[i] = val;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = stored;
+        vals[i] = val;
+        size++;
+    }
+
+    public void remove(int key) {
+        int stored = key + 1;
+        int i = slot(key);
+        int k;
+        while ((k = keys[i]) != stored) {
+            if (k == 0)
+                return;
+            i = (i + 1) & mask;
+        }
+        // pull later entries of the run back into the hole if their home slot
+        // allows it
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if ((k = keys[j]) == 0)
+                break;
+            int home = slot(k - 1);
+            if (i <= j ? (home <= i || home > j) : (home <= i && home > j)) {
+                keys[i] = k;
+                vals[i] = vals[j];
+                i = j;
+            }
+        }
+        keys[i] = 0;
+        size--;
+    }
+
+    public boolean contains(int key) {
+        int stored = key + 1;
+        int i = slot(key);
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == stored)
+                return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    // -1 if key is missing
+    public int getVal(int key) {
+        int stored = key + 1;
+        int i = slot(key);
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == stored)
+                return vals[i];
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    public void clear() {
+        // fresh arrays beat zeroing them one slot at a time
+        keys = new int[mask + 1];
+        vals = new int[mask + 1];
+        size = 0;
+    }
+
+    public int[] getKeys() {
+        int[] out = new int[size];
+        int n = 0;
+        for (int i = mask + 1; --i >= 0;) {
+            if (keys[i] != 0)
+                out[n++] = keys[i] - 1;
+        }
+        return out;
+    }
+}
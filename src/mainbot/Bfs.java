@@ -1,2254 +1,657 @@
 package mainbot;
 
-import battlecode.common.Direction;
-import battlecode.common.MapLocation;
-import battlecode.common.RobotController;
-import battlecode.common.MapInfo;
+import battlecode.common.*;
 
-// yoinked from 5 musketeers 2022, although originally from xsquare
+// generated by tools/codegen/BfsGenerator.java from tools/templates/Bfs.java.tmpl, edit those instead
+// floods once per turn (and location) with the biggest unrolled bfs that still fits
+// in the bytecode we have left, every query after that is a lookup into the same
+// result. the variants themselves are BfsR8, BfsR13, BfsR20
 public class Bfs {
 
     public static RobotController rc;
-    // Includes a ~200 BC cushion
-    public static final int MIN_BC_TO_USE = 4900;
-
-    static MapLocation l30;
-    static double v30;
-    static Direction d30;
-    static double p30;
-
-    static MapLocation l31;
-    static double v31;
-    static Direction d31;
-    static double p31;
-
-    static MapLocation l32;
-    static double v32;
-    static Direction d32;
-    static double p32;
-
-    static MapLocation l33;
-    static double v33;
-    static Direction d33;
-    static double p33;
-
-    static MapLocation l34;
-    static double v34;
-    static Direction d34;
-    static double p34;
-
-    static MapLocation l42;
-    static double v42;
-    static Direction d42;
-    static double p42;
-
-    static MapLocation l43;
-    static double v43;
-    static Direction d43;
-    static double p43;
-
-    static MapLocation l44;
-    static double v44;
-    static Direction d44;
-    static double p44;
-
-    static MapLocation l45;
-    static double v45;
-    static Direction d45;
-    static double p45;
-
-    static MapLocation l46;
-    static double v46;
-    static Direction d46;
-    static double p46;
-
-    static MapLocation l47;
-    static double v47;
-    static Direction d47;
-    static double p47;
-
-    static MapLocation l48;
-    static double v48;
-    static Direction d48;
-    static double p48;
-
-    static MapLocation l54;
-    static double v54;
-    static Direction d54;
-    static double p54;
-
-    static MapLocation l55;
-    static double v55;
-    static Direction d55;
-    static double p55;
-
-    static MapLocation l56;
-    static double v56;
-    static Direction d56;
-    static double p56;
-
-    static MapLocation l57;
-    static double v57;
-    static Direction d57;
-    static double p57;
-
-    static MapLocation l58;
-    static double v58;
-    static Direction d58;
-    static double p58;
-
-    static MapLocation l59;
-    static double v59;
-    static Direction d59;
-    static double p59;
-
-    static MapLocation l60;
-    static double v60;
-    static Direction d60;
-    static double p60;
-
-    static MapLocation l61;
-    static double v61;
-    static Direction d61;
-    static double p61;
-
-    static MapLocation l62;
-    static double v62;
-    static Direction d62;
-    static double p62;
-
-    static MapLocation l67;
-    static double v67;
-    static Direction d67;
-    static double p67;
-
-    static MapLocation l68;
-    static double v68;
-    static Direction d68;
-    static double p68;
-
-    static MapLocation l69;
-    static double v69;
-    static Direction d69;
-    static double p69;
-
-    static MapLocation l70;
-    static double v70;
-    static Direction d70;
-    static double p70;
-
-    static MapLocation l71;
-    static double v71;
-    static Direction d71;
-    static double p71;
-
-    static MapLocation l72;
-    static double v72;
-    static Direction d72;
-    static double p72;
-
-    static MapLocation l73;
-    static double v73;
-    static Direction d73;
-    static double p73;
-
-    static MapLocation l74;
-    static double v74;
-    static Direction d74;
-    static double p74;
-
-    static MapLocation l75;
-    static double v75;
-    static Direction d75;
-    static double p75;
-
-    static MapLocation l80;
-    static double v80;
-    static Direction d80;
-    static double p80;
-
-    static MapLocation l81;
-    static double v81;
-    static Direction d81;
-    static double p81;
-
-    static MapLocation l82;
-    static double v82;
-    static Direction d82;
-    static double p82;
-
-    static MapLocation l83;
-    static double v83;
-    static Direction d83;
-    static double p83;
-
-    static MapLocation l84;
-    static double v84;
-    static Direction d84;
-    static double p84;
-
-    static MapLocation l85;
-    static double v85;
-    static Direction d85;
-    static double p85;
-
-    static MapLocation l86;
-    static double v86;
-    static Direction d86;
-    static double p86;
-
-    static MapLocation l87;
-    static double v87;
-    static Direction d87;
-    static double p87;
-
-    static MapLocation l88;
-    static double v88;
-    static Direction d88;
-    static double p88;
-
-    static MapLocation l93;
-    static double v93;
-    static Direction d93;
-    static double p93;
-
-    static MapLocation l94;
-    static double v94;
-    static Direction d94;
-    static double p94;
-
-    static MapLocation l95;
-    static double v95;
-    static Direction d95;
-    static double p95;
-
-    static MapLocation l96;
-    static double v96;
-    static Direction d96;
-    static double p96;
-
-    static MapLocation l97;
-    static double v97;
-    static Direction d97;
-    static double p97;
-
-    static MapLocation l98;
-    static double v98;
-    static Direction d98;
-    static double p98;
-
-    static MapLocation l99;
-    static double v99;
-    static Direction d99;
-    static double p99;
-
-    static MapLocation l100;
-    static double v100;
-    static Direction d100;
-    static double p100;
-
-    static MapLocation l101;
-    static double v101;
-    static Direction d101;
-    static double p101;
-
-    static MapLocation l106;
-    static double v106;
-    static Direction d106;
-    static double p106;
-
-    static MapLocation l107;
-    static double v107;
-    static Direction d107;
-    static double p107;
-
-    static MapLocation l108;
-    static double v108;
-    static Direction d108;
-    static double p108;
-
-    static MapLocation l109;
-    static double v109;
-    static Direction d109;
-    static double p109;
-
-    static MapLocation l110;
-    static double v110;
-    static Direction d110;
-    static double p110;
-
-    static MapLocation l111;
-    static double v111;
-    static Direction d111;
-    static double p111;
-
-    static MapLocation l112;
-    static double v112;
-    static Direction d112;
-    static double p112;
-
-    static MapLocation l113;
-    static double v113;
-    static Direction d113;
-    static double p113;
-
-    static MapLocation l114;
-    static double v114;
-    static Direction d114;
-    static double p114;
-
-    static MapLocation l120;
-    static double v120;
-    static Direction d120;
-    static double p120;
-
-    static MapLocation l121;
-    static double v121;
-    static Direction d121;
-    static double p121;
-
-    static MapLocation l122;
-    static double v122;
-    static Direction d122;
-    static double p122;
-
-    static MapLocation l123;
-    static double v123;
-    static Direction d123;
-    static double p123;
-
-    static MapLocation l124;
-    static double v124;
-    static Direction d124;
-    static double p124;
-
-    static MapLocation l125;
-    static double v125;
-    static Direction d125;
-    static double p125;
-
-    static MapLocation l126;
-    static double v126;
-    static Direction d126;
-    static double p126;
-
-    static MapLocation l134;
-    static double v134;
-    static Direction d134;
-    static double p134;
-
-    static MapLocation l135;
-    static double v135;
-    static Direction d135;
-    static double p135;
-
-    static MapLocation l136;
-    static double v136;
-    static Direction d136;
-    static double p136;
-
-    static MapLocation l137;
-    static double v137;
-    static Direction d137;
-    static double p137;
-
-    static MapLocation l138;
-    static double v138;
-    static Direction d138;
-    static double p138;
+    // cost of the smallest variant, below this bfs can't run at all
+    public static final int MIN_BC_TO_USE = BfsR8.MIN_BC_TO_USE;
+    public static final int UNREACHED = 1000000;
+
+    // biggest variant (r^2) anything may flood with, lowered while we are shedding work
+    public static int radiusCap = 20;
+    // let the flood step into water we would fill first, set around calls that can
+    // afford it (Pathfinder.pathfindThroughWater)
+    public static boolean waterFill = false;
+
+    // r^2 of the variant holding the current flood, 0 if none fit
+    public static int lastRadius = 0;
+    static int floodRound = -1;
+    static int floodX;
+    static int floodY;
+    static boolean floodReady;
+    static boolean floodFill;
+
+    // round(64 * sqrt(i)) for every squared distance the packed variants can
+    // ask about. a string constant costs nothing to set up and charAt is one call
+    public static final String SQRT = ""
+            + "\000\100\133\157\200\217\235\251\265\300\312\324\336\347\357\370"
+            + "\u0100\u0108\u0110\u0117\u011e\u0125\u012c\u0133\u013a\u0140\u0146\u014d\u0153\u0159\u015f\u0164"
+            + "\u016a\u0170\u0175\u017b\u0180\u0185\u018b\u0190\u0195\u019a\u019f\u01a4\u01a9\u01ad\u01b2\u01b7"
+            + "\u01bb\u01c0\u01c5\u01c9\u01ce\u01d2\u01d6\u01db\u01df\u01e3\u01e7\u01ec\u01f0\u01f4\u01f8\u01fc"
+            + "\u0200\u0204\u0208\u020c\u0210\u0214\u0217\u021b\u021f\u0223\u0227\u022a\u022e\u0232\u0235\u0239"
+            + "\u023c\u0240\u0244\u0247\u024b\u024e\u0252\u0255\u0258\u025c\u025f\u0263\u0266\u0269\u026d\u0270"
+            + "\u0273\u0276\u027a\u027d\u0280\u0283\u0286\u028a\u028d\u0290\u0293\u0296\u0299\u029c\u029f\u02a2"
+            + "\u02a5\u02a8\u02ab\u02ae\u02b1\u02b4\u02b7\u02ba\u02bd\u02c0\u02c3\u02c6\u02c9\u02cc\u02ce\u02d1"
+            + "\u02d4\u02d7\u02da\u02dd\u02df\u02e2\u02e5\u02e8\u02ea\u02ed\u02f0\u02f3\u02f5\u02f8\u02fb\u02fd"
+            + "\u0300\u0303\u0305\u0308\u030b\u030d\u0310\u0312\u0315\u0318\u031a\u031d\u031f\u0322\u0324\u0327"
+            + "\u032a\u032c\u032f\u0331\u0334\u0336\u0339\u033b\u033e\u0340\u0342\u0345\u0347\u034a\u034c\u034f"
+            + "\u0351\u0353\u0356\u0358\u035b\u035d\u035f\u0362\u0364\u0366\u0369\u036b\u036e\u0370\u0372\u0374"
+            + "\u0377\u0379\u037b\u037e\u0380\u0382\u0385\u0387\u0389\u038b\u038e\u0390\u0392\u0394\u0397\u0399"
+            + "\u039b\u039d\u039f\u03a2\u03a4\u03a6\u03a8\u03aa\u03ad\u03af\u03b1\u03b3\u03b5\u03b7\u03ba\u03bc"
+            + "\u03be\u03c0\u03c2\u03c4\u03c6\u03c8\u03cb\u03cd\u03cf\u03d1\u03d3\u03d5\u03d7\u03d9\u03db\u03dd"
+            + "\u03df\u03e2\u03e4\u03e6\u03e8\u03ea\u03ec\u03ee\u03f0\u03f2\u03f4\u03f6\u03f8\u03fa\u03fc\u03fe"
+            + "\u0400\u0402\u0404\u0406\u0408\u040a\u040c\u040e\u0410\u0412\u0414\u0416\u0418\u041a\u041c\u041e"
+            + "\u0420\u0421\u0423\u0425\u0427\u0429\u042b\u042d\u042f\u0431\u0433\u0435\u0437\u0438\u043a\u043c"
+            + "\u043e\u0440\u0442\u0444\u0446\u0448\u0449\u044b\u044d\u044f\u0451\u0453\u0455\u0456\u0458\u045a"
+            + "\u045c\u045e\u0460\u0461\u0463\u0465\u0467\u0469\u046a\u046c\u046e\u0470\u0472\u0473\u0475\u0477"
+            + "\u0479\u047b\u047c\u047e\u0480\u0482\u0484\u0485\u0487\u0489\u048b\u048c\u048e\u0490\u0492\u0493"
+            + "\u0495\u0497\u0499\u049a\u049c\u049e\u04a0\u04a1\u04a3\u04a5\u04a6\u04a8\u04aa\u04ac\u04ad\u04af"
+            + "\u04b1\u04b2\u04b4\u04b6\u04b8\u04b9\u04bb\u04bd\u04be\u04c0\u04c2\u04c3\u04c5\u04c7\u04c8\u04ca"
+            + "\u04cc\u04cd\u04cf\u04d1\u04d2\u04d4\u04d6\u04d7\u04d9\u04db\u04dc\u04de\u04e0\u04e1\u04e3\u04e5"
+            + "\u04e6\u04e8\u04e9\u04eb\u04ed\u04ee\u04f0\u04f2\u04f3\u04f5\u04f6\u04f8\u04fa\u04fb\u04fd\u04fe"
+            + "\u0500\u0502\u0503\u0505\u0506\u0508\u050a\u050b\u050d\u050e\u0510\u0511\u0513\u0515\u0516\u0518"
+            + "\u0519\u051b\u051c\u051e\u0520\u0521\u0523\u0524\u0526\u0527\u0529\u052a\u052c\u052e\u052f\u0531"
+            + "\u0532\u0534\u0535\u0537\u0538\u053a\u053b\u053d\u053e\u0540\u0542\u0543\u0545\u0546\u0548\u0549"
+            + "\u054b\u054c\u054e\u054f\u0551\u0552\u0554\u0555\u0557\u0558\u055a\u055b\u055d\u055e\u0560\u0561"
+            + "\u0563\u0564\u0566\u0567\u0569\u056a\u056b\u056d\u056e\u0570\u0571\u0573\u0574\u0576\u0577\u0579"
+            + "\u057a\u057c\u057d\u057f\u0580\u0581\u0583\u0584\u0586\u0587\u0589\u058a\u058c\u058d\u058e\u0590"
+            + "\u0591\u0593\u0594\u0596\u0597\u0599\u059a\u059b\u059d\u059e\u05a0\u05a1\u05a2\u05a4\u05a5\u05a7"
+            + "\u05a8\u05aa\u05ab\u05ac\u05ae\u05af\u05b1\u05b2\u05b3\u05b5\u05b6\u05b8\u05b9\u05ba\u05bc\u05bd"
+            + "\u05bf\u05c0\u05c1\u05c3\u05c4\u05c6\u05c7\u05c8\u05ca\u05cb\u05cc\u05ce\u05cf\u05d1\u05d2\u05d3"
+            + "\u05d5\u05d6\u05d7\u05d9\u05da\u05dc\u05dd\u05de\u05e0\u05e1\u05e2\u05e4\u05e5\u05e6\u05e8\u05e9"
+            + "\u05eb\u05ec\u05ed\u05ef\u05f0\u05f1\u05f3\u05f4\u05f5\u05f7\u05f8\u05f9\u05fb\u05fc\u05fd\u05ff"
+            + "\u0600\u0601\u0603\u0604\u0605\u0607\u0608\u0609\u060b\u060c\u060d\u060f\u0610\u0611\u0613\u0614"
+            + "\u0615\u0617\u0618\u0619\u061a\u061c\u061d\u061e\u0620\u0621\u0622\u0624\u0625\u0626\u0627\u0629"
+            + "\u062a\u062b\u062d\u062e\u062f\u0631\u0632\u0633\u0634\u0636\u0637\u0638\u063a\u063b\u063c\u063d"
+            + "\u063f\u0640\u0641\u0643\u0644\u0645\u0646\u0648\u0649\u064a\u064b\u064d\u064e\u064f\u0651\u0652"
+            + "\u0653\u0654\u0656\u0657\u0658\u0659\u065b\u065c\u065d\u065e\u0660\u0661\u0662\u0663\u0665\u0666"
+            + "\u0667\u0668\u066a\u066b\u066c\u066d\u066f\u0670\u0671\u0672\u0674\u0675\u0676\u0677\u0679\u067a"
+            + "\u067b\u067c\u067e\u067f\u0680\u0681\u0682\u0684\u0685\u0686\u0687\u0689\u068a\u068b\u068c\u068d"
+            + "\u068f\u0690\u0691\u0692\u0694\u0695\u0696\u0697\u0698\u069a\u069b\u069c\u069d\u069e\u06a0\u06a1"
+            + "\u06a2\u06a3\u06a5\u06a6\u06a7\u06a8\u06a9\u06ab\u06ac\u06ad\u06ae\u06af\u06b1\u06b2\u06b3\u06b4"
+            + "\u06b5\u06b6\u06b8\u06b9\u06ba\u06bb\u06bc\u06be\u06bf\u06c0\u06c1\u06c2\u06c4\u06c5\u06c6\u06c7"
+            + "\u06c8\u06c9\u06cb\u06cc\u06cd\u06ce\u06cf\u06d1\u06d2\u06d3\u06d4\u06d5\u06d6\u06d8\u06d9\u06da"
+            + "\u06db\u06dc\u06dd\u06df\u06e0\u06e1\u06e2\u06e3\u06e4\u06e6\u06e7\u06e8\u06e9\u06ea\u06eb\u06ec"
+            + "\u06ee\u06ef\u06f0\u06f1\u06f2\u06f3\u06f5\u06f6\u06f7\u06f8\u06f9\u06fa\u06fb\u06fd\u06fe\u06ff"
+            + "\u0700\u0701\u0702\u0703\u0705\u0706\u0707\u0708\u0709\u070a\u070b\u070d\u070e\u070f\u0710\u0711"
+            + "\u0712\u0713\u0714\u0716\u0717\u0718\u0719\u071a\u071b\u071c\u071d\u071f\u0720\u0721\u0722\u0723"
+            + "\u0724\u0725\u0726\u0728\u0729\u072a\u072b\u072c\u072d\u072e\u072f\u0730\u0732\u0733\u0734\u0735"
+            + "\u0736\u0737\u0738\u0739\u073a\u073c\u073d\u073e\u073f\u0740\u0741\u0742\u0743\u0744\u0746\u0747"
+            + "\u0748\u0749\u074a\u074b\u074c\u074d\u074e\u074f\u0750\u0752\u0753\u0754\u0755\u0756\u0757\u0758"
+            + "\u0759\u075a\u075b\u075c\u075e\u075f\u0760\u0761\u0762\u0763\u0764\u0765\u0766\u0767\u0768\u0769"
+            + "\u076b\u076c\u076d\u076e\u076f\u0770\u0771\u0772\u0773\u0774\u0775\u0776\u0777\u0779\u077a\u077b"
+            + "\u077c\u077d\u077e\u077f\u0780\u0781\u0782\u0783\u0784\u0785\u0786\u0787\u0789\u078a\u078b\u078c"
+            + "\u078d\u078e\u078f\u0790\u0791\u0792\u0793\u0794\u0795\u0796\u0797\u0798\u0799\u079a\u079c\u079d"
+            + "\u079e\u079f\u07a0\u07a1\u07a2\u07a3\u07a4\u07a5\u07a6\u07a7\u07a8\u07a9\u07aa\u07ab\u07ac\u07ad"
+            + "\u07ae\u07af\u07b0\u07b1\u07b3\u07b4\u07b5\u07b6\u07b7\u07b8\u07b9\u07ba\u07bb\u07bc\u07bd\u07be"
+            + "\u07bf\u07c0\u07c1\u07c2\u07c3\u07c4\u07c5\u07c6\u07c7\u07c8\u07c9\u07ca\u07cb\u07cc\u07cd\u07ce"
+            + "\u07cf\u07d0\u07d1\u07d2\u07d4\u07d5\u07d6\u07d7\u07d8\u07d9\u07da\u07db\u07dc\u07dd\u07de\u07df"
+            + "\u07e0\u07e1\u07e2\u07e3\u07e4\u07e5\u07e6\u07e7\u07e8\u07e9\u07ea\u07eb\u07ec\u07ed\u07ee\u07ef"
+            + "\u07f0\u07f1\u07f2\u07f3\u07f4\u07f5\u07f6\u07f7\u07f8\u07f9\u07fa\u07fb\u07fc\u07fd\u07fe\u07ff"
+            + "\u0800\u0801\u0802\u0803\u0804\u0805\u0806\u0807\u0808\u0809\u080a\u080b\u080c\u080d\u080e\u080f"
+            + "\u0810\u0811\u0812\u0813\u0814\u0815\u0816\u0817\u0818\u0819\u081a\u081b\u081c\u081d\u081e\u081f"
+            + "\u0820\u0821\u0822\u0823\u0824\u0825\u0826\u0827\u0828\u0829\u082a\u082b\u082c\u082d\u082d\u082e"
+            + "\u082f\u0830\u0831\u0832\u0833\u0834\u0835\u0836\u0837\u0838\u0839\u083a\u083b\u083c\u083d\u083e"
+            + "\u083f\u0840\u0841\u0842\u0843\u0844\u0845\u0846\u0847\u0848\u0849\u084a\u084b\u084c\u084d\u084e"
+            + "\u084e\u084f\u0850\u0851\u0852\u0853\u0854\u0855\u0856\u0857\u0858\u0859\u085a\u085b\u085c\u085d"
+            + "\u085e\u085f\u0860\u0861\u0862\u0863\u0864\u0865\u0865\u0866\u0867\u0868\u0869\u086a\u086b\u086c"
+            + "\u086d\u086e\u086f\u0870\u0871\u0872\u0873\u0874\u0875\u0876\u0877\u0878\u0878\u0879\u087a\u087b"
+            + "\u087c\u087d\u087e\u087f\u0880\u0881\u0882\u0883\u0884\u0885\u0886\u0887\u0888\u0888\u0889\u088a"
+            + "\u088b\u088c\u088d\u088e\u088f\u0890\u0891\u0892\u0893\u0894\u0895\u0896\u0896\u0897\u0898\u0899"
+            + "\u089a\u089b\u089c\u089d\u089e\u089f\u08a0\u08a1\u08a2\u08a3\u08a3\u08a4\u08a5\u08a6\u08a7\u08a8"
+            + "\u08a9\u08aa\u08ab\u08ac\u08ad\u08ae\u08af\u08af\u08b0\u08b1\u08b2\u08b3\u08b4\u08b5\u08b6\u08b7"
+            + "\u08b8\u08b9\u08ba\u08bb\u08bb\u08bc\u08bd\u08be\u08bf\u08c0\u08c1\u08c2\u08c3\u08c4\u08c5\u08c5"
+            + "\u08c6\u08c7\u08c8\u08c9\u08ca\u08cb\u08cc\u08cd\u08ce\u08cf\u08cf\u08d0\u08d1\u08d2\u08d3\u08d4"
+            + "\u08d5\u08d6\u08d7\u08d8\u08d9\u08d9\u08da\u08db\u08dc\u08dd\u08de\u08df\u08e0\u08e1\u08e2\u08e2"
+            + "\u08e3\u08e4\u08e5\u08e6\u08e7\u08e8\u08e9\u08ea\u08eb\u08eb\u08ec\u08ed\u08ee\u08ef\u08f0\u08f1"
+            + "\u08f2\u08f3\u08f4\u08f4\u08f5\u08f6\u08f7\u08f8\u08f9\u08fa\u08fb\u08fc\u08fc\u08fd\u08fe\u08ff"
+            + "\u0900\u0901\u0902\u0903\u0904\u0904\u0905\u0906\u0907\u0908\u0909\u090a\u090b\u090c\u090c\u090d"
+            + "\u090e\u090f\u0910\u0911\u0912\u0913\u0913\u0914\u0915\u0916\u0917\u0918\u0919\u091a\u091b\u091b"
+            + "\u091c\u091d\u091e\u091f\u0920\u0921\u0922\u0922\u0923\u0924\u0925\u0926\u0927\u0928\u0929\u0929"
+            + "\u092a\u092b\u092c\u092d\u092e\u092f\u0930\u0930\u0931\u0932\u0933\u0934\u0935\u0936\u0936\u0937"
+            + "\u0938\u0939\u093a\u093b\u093c\u093d\u093d\u093e\u093f\u0940\u0941\u0942\u0943\u0943\u0944\u0945"
+            + "\u0946\u0947\u0948\u0949\u0949\u094a\u094b\u094c\u094d\u094e\u094f\u0950\u0950\u0951\u0952\u0953"
+            + "\u0954\u0955\u0956\u0956\u0957\u0958\u0959\u095a\u095b\u095c\u095c\u095d\u095e\u095f\u0960\u0961"
+            + "\u0961\u0962\u0963\u0964\u0965\u0966\u0967\u0967\u0968\u0969\u096a\u096b\u096c\u096d\u096d\u096e"
+            + "\u096f\u0970\u0971\u0972\u0972\u0973\u0974\u0975\u0976\u0977\u0978\u0978\u0979\u097a\u097b\u097c"
+            + "\u097d\u097d\u097e\u097f\u0980\u0981\u0982\u0983\u0983\u0984\u0985\u0986\u0987\u0988\u0988\u0989"
+            + "\u098a\u098b\u098c\u098d\u098d\u098e\u098f\u0990\u0991\u0992\u0992\u0993\u0994\u0995\u0996\u0997"
+            + "\u0997\u0998\u0999\u099a\u099b\u099c\u099c\u099d\u099e\u099f\u09a0\u09a1\u09a1\u09a2\u09a3\u09a4"
+            + "\u09a5\u09a6\u09a6\u09a7\u09a8\u09a9\u09aa\u09ab\u09ab\u09ac\u09ad\u09ae\u09af\u09b0\u09b0\u09b1"
+            + "\u09b2\u09b3\u09b4\u09b4\u09b5\u09b6\u09b7\u09b8\u09b9\u09b9\u09ba\u09bb\u09bc\u09bd\u09be\u09be"
+            + "\u09bf\u09c0\u09c1\u09c2\u09c2\u09c3\u09c4\u09c5\u09c6\u09c7\u09c7\u09c8\u09c9\u09ca\u09cb\u09cb"
+            + "\u09cc\u09cd\u09ce\u09cf\u09d0\u09d0\u09d1\u09d2\u09d3\u09d4\u09d4\u09d5\u09d6\u09d7\u09d8\u09d8"
+            + "\u09d9\u09da\u09db\u09dc\u09dd\u09dd\u09de\u09df\u09e0\u09e1\u09e1\u09e2\u09e3\u09e4\u09e5\u09e5"
+            + "\u09e6\u09e7\u09e8\u09e9\u09ea\u09ea\u09eb\u09ec\u09ed\u09ee\u09ee\u09ef\u09f0\u09f1\u09f2\u09f2"
+            + "\u09f3\u09f4\u09f5\u09f6\u09f6\u09f7\u09f8\u09f9\u09fa\u09fa\u09fb\u09fc\u09fd\u09fe\u09fe\u09ff"
+            + "\u0a00\u0a01\u0a02\u0a02\u0a03\u0a04\u0a05\u0a06\u0a06\u0a07\u0a08\u0a09\u0a0a\u0a0a\u0a0b\u0a0c"
+            + "\u0a0d\u0a0e\u0a0e\u0a0f\u0a10\u0a11\u0a12\u0a12\u0a13\u0a14\u0a15\u0a16\u0a16\u0a17\u0a18\u0a19"
+            + "\u0a19\u0a1a\u0a1b\u0a1c\u0a1d\u0a1d\u0a1e\u0a1f\u0a20\u0a21\u0a21\u0a22\u0a23\u0a24\u0a25\u0a25"
+            + "\u0a26\u0a27\u0a28\u0a28\u0a29\u0a2a\u0a2b\u0a2c\u0a2c\u0a2d\u0a2e\u0a2f\u0a30\u0a30\u0a31\u0a32"
+            + "\u0a33\u0a33\u0a34\u0a35\u0a36\u0a37\u0a37\u0a38\u0a39\u0a3a\u0a3b\u0a3b\u0a3c\u0a3d\u0a3e\u0a3e"
+            + "\u0a3f\u0a40\u0a41\u0a42\u0a42\u0a43\u0a44\u0a45\u0a45\u0a46\u0a47\u0a48\u0a49\u0a49\u0a4a\u0a4b"
+            + "\u0a4c\u0a4c\u0a4d\u0a4e\u0a4f\u0a50\u0a50\u0a51\u0a52\u0a53\u0a53\u0a54\u0a55\u0a56\u0a57\u0a57"
+            + "\u0a58\u0a59\u0a5a\u0a5a\u0a5b\u0a5c\u0a5d\u0a5d\u0a5e\u0a5f\u0a60\u0a61\u0a61\u0a62\u0a63\u0a64"
+            + "\u0a64\u0a65\u0a66\u0a67\u0a68\u0a68\u0a69\u0a6a\u0a6b\u0a6b\u0a6c\u0a6d\u0a6e\u0a6e\u0a6f\u0a70"
+            + "\u0a71\u0a71\u0a72\u0a73\u0a74\u0a75\u0a75\u0a76\u0a77\u0a78\u0a78\u0a79\u0a7a\u0a7b\u0a7b\u0a7c"
+            + "\u0a7d\u0a7e\u0a7e\u0a7f\u0a80\u0a81\u0a82\u0a82\u0a83\u0a84\u0a85\u0a85\u0a86\u0a87\u0a88\u0a88"
+            + "\u0a89\u0a8a\u0a8b\u0a8b\u0a8c\u0a8d\u0a8e\u0a8e\u0a8f\u0a90\u0a91\u0a91\u0a92\u0a93\u0a94\u0a94"
+            + "\u0a95\u0a96\u0a97\u0a98\u0a98\u0a99\u0a9a\u0a9b\u0a9b\u0a9c\u0a9d\u0a9e\u0a9e\u0a9f\u0aa0\u0aa1"
+            + "\u0aa1\u0aa2\u0aa3\u0aa4\u0aa4\u0aa5\u0aa6\u0aa7\u0aa7\u0aa8\u0aa9\u0aaa\u0aaa\u0aab\u0aac\u0aad"
+            + "\u0aad\u0aae\u0aaf\u0ab0\u0ab0\u0ab1\u0ab2\u0ab3\u0ab3\u0ab4\u0ab5\u0ab6\u0ab6\u0ab7\u0ab8\u0ab9"
+            + "\u0ab9\u0aba\u0abb\u0abc\u0abc\u0abd\u0abe\u0abf\u0abf\u0ac0\u0ac1\u0ac1\u0ac2\u0ac3\u0ac4\u0ac4"
+            + "\u0ac5\u0ac6\u0ac7\u0ac7\u0ac8\u0ac9\u0aca\u0aca\u0acb\u0acc\u0acd\u0acd\u0ace\u0acf\u0ad0\u0ad0"
+            + "\u0ad1\u0ad2\u0ad3\u0ad3\u0ad4\u0ad5\u0ad5\u0ad6\u0ad7\u0ad8\u0ad8\u0ad9\u0ada\u0adb\u0adb\u0adc"
+            + "\u0add\u0ade\u0ade\u0adf\u0ae0\u0ae1\u0ae1\u0ae2\u0ae3\u0ae3\u0ae4\u0ae5\u0ae6\u0ae6\u0ae7\u0ae8"
+            + "\u0ae9\u0ae9\u0aea\u0aeb\u0aec\u0aec\u0aed\u0aee\u0aee\u0aef\u0af0\u0af1\u0af1\u0af2\u0af3\u0af4"
+            + "\u0af4\u0af5\u0af6\u0af7\u0af7\u0af8\u0af9\u0af9\u0afa\u0afb\u0afc\u0afc\u0afd\u0afe\u0aff\u0aff"
+            + "\u0b00\u0b01\u0b01\u0b02\u0b03\u0b04\u0b04\u0b05\u0b06\u0b07\u0b07\u0b08\u0b09\u0b09\u0b0a\u0b0b"
+            + "\u0b0c\u0b0c\u0b0d\u0b0e\u0b0f\u0b0f\u0b10\u0b11\u0b11\u0b12\u0b13\u0b14\u0b14\u0b15\u0b16\u0b16"
+            + "\u0b17\u0b18\u0b19\u0b19\u0b1a\u0b1b\u0b1c\u0b1c\u0b1d\u0b1e\u0b1e\u0b1f\u0b20\u0b21\u0b21\u0b22"
+            + "\u0b23\u0b23\u0b24\u0b25\u0b26\u0b26\u0b27\u0b28\u0b28\u0b29\u0b2a\u0b2b\u0b2b\u0b2c\u0b2d\u0b2d"
+            + "\u0b2e\u0b2f\u0b30\u0b30\u0b31\u0b32\u0b32\u0b33\u0b34\u0b35\u0b35\u0b36\u0b37\u0b37\u0b38\u0b39"
+            + "\u0b3a\u0b3a\u0b3b\u0b3c\u0b3c\u0b3d\u0b3e\u0b3f\u0b3f\u0b40\u0b41\u0b41\u0b42\u0b43\u0b44\u0b44"
+            + "\u0b45\u0b46\u0b46\u0b47\u0b48\u0b49\u0b49\u0b4a\u0b4b\u0b4b\u0b4c\u0b4d\u0b4d\u0b4e\u0b4f\u0b50"
+            + "\u0b50\u0b51\u0b52\u0b52\u0b53\u0b54\u0b55\u0b55\u0b56\u0b57\u0b57\u0b58\u0b59\u0b59\u0b5a\u0b5b"
+            + "\u0b5c\u0b5c\u0b5d\u0b5e\u0b5e\u0b5f\u0b60\u0b61\u0b61\u0b62\u0b63\u0b63\u0b64\u0b65\u0b65\u0b66"
+            + "\u0b67\u0b68\u0b68\u0b69\u0b6a\u0b6a\u0b6b\u0b6c\u0b6c\u0b6d\u0b6e\u0b6f\u0b6f\u0b70\u0b71\u0b71"
+            + "\u0b72\u0b73\u0b73\u0b74\u0b75\u0b76\u0b76\u0b77\u0b78\u0b78\u0b79\u0b7a\u0b7a\u0b7b\u0b7c\u0b7d"
+            + "\u0b7d\u0b7e\u0b7f\u0b7f\u0b80\u0b81\u0b81\u0b82\u0b83\u0b83\u0b84\u0b85\u0b86\u0b86\u0b87\u0b88"
+            + "\u0b88\u0b89\u0b8a\u0b8a\u0b8b\u0b8c\u0b8c\u0b8d\u0b8e\u0b8f\u0b8f\u0b90\u0b91\u0b91\u0b92\u0b93"
+            + "\u0b93\u0b94\u0b95\u0b95\u0b96\u0b97\u0b98\u0b98\u0b99\u0b9a\u0b9a\u0b9b\u0b9c\u0b9c\u0b9d\u0b9e"
+            + "\u0b9e\u0b9f\u0ba0\u0ba1\u0ba1\u0ba2\u0ba3\u0ba3\u0ba4\u0ba5\u0ba5\u0ba6\u0ba7\u0ba7\u0ba8\u0ba9"
+            + "\u0ba9\u0baa\u0bab\u0bac\u0bac\u0bad\u0bae\u0bae\u0baf\u0bb0\u0bb0\u0bb1\u0bb2\u0bb2\u0bb3\u0bb4"
+            + "\u0bb4\u0bb5\u0bb6\u0bb6\u0bb7\u0bb8\u0bb9\u0bb9\u0bba\u0bbb\u0bbb\u0bbc\u0bbd\u0bbd\u0bbe\u0bbf"
+            + "\u0bbf\u0bc0\u0bc1\u0bc1\u0bc2\u0bc3\u0bc3\u0bc4\u0bc5\u0bc5\u0bc6\u0bc7\u0bc7\u0bc8\u0bc9\u0bca"
+            + "\u0bca\u0bcb\u0bcc\u0bcc\u0bcd\u0bce\u0bce\u0bcf\u0bd0\u0bd0\u0bd1\u0bd2\u0bd2\u0bd3\u0bd4\u0bd4"
+            + "\u0bd5\u0bd6\u0bd6\u0bd7\u0bd8\u0bd8\u0bd9\u0bda\u0bda\u0bdb\u0bdc\u0bdc\u0bdd\u0bde\u0bde\u0bdf"
+            + "\u0be0\u0be1\u0be1\u0be2\u0be3\u0be3\u0be4\u0be5\u0be5\u0be6\u0be7\u0be7\u0be8\u0be9\u0be9\u0bea"
+            + "\u0beb\u0beb\u0bec\u0bed\u0bed\u0bee\u0bef\u0bef\u0bf0\u0bf1\u0bf1\u0bf2\u0bf3\u0bf3\u0bf4\u0bf5"
+            + "\u0bf5\u0bf6\u0bf7\u0bf7\u0bf8\u0bf9\u0bf9\u0bfa\u0bfb\u0bfb\u0bfc\u0bfd\u0bfd\u0bfe\u0bff\u0bff"
+            + "\u0c00\u0c01\u0c01\u0c02\u0c03\u0c03\u0c04\u0c05\u0c05\u0c06\u0c07\u0c07\u0c08\u0c09\u0c09\u0c0a"
+            + "\u0c0b\u0c0b\u0c0c\u0c0d\u0c0d\u0c0e\u0c0f\u0c0f\u0c10\u0c11\u0c11\u0c12\u0c13\u0c13\u0c14\u0c15"
+            + "\u0c15\u0c16\u0c17\u0c17\u0c18\u0c19\u0c19\u0c1a\u0c1b\u0c1b\u0c1c\u0c1d\u0c1d\u0c1e\u0c1f\u0c1f"
+            + "\u0c20\u0c20\u0c21\u0c22\u0c22\u0c23\u0c24\u0c24\u0c25\u0c26\u0c26\u0c27\u0c28\u0c28\u0c29\u0c2a"
+            + "\u0c2a\u0c2b\u0c2c\u0c2c\u0c2d\u0c2e\u0c2e\u0c2f\u0c30\u0c30\u0c31\u0c32\u0c32\u0c33\u0c34\u0c34"
+            + "\u0c35\u0c36\u0c36\u0c37\u0c37\u0c38\u0c39\u0c39\u0c3a\u0c3b\u0c3b\u0c3c\u0c3d\u0c3d\u0c3e\u0c3f"
+            + "\u0c3f\u0c40\u0c41\u0c41\u0c42\u0c43\u0c43\u0c44\u0c45\u0c45\u0c46\u0c47\u0c47\u0c48\u0c48\u0c49"
+            + "\u0c4a\u0c4a\u0c4b\u0c4c\u0c4c\u0c4d\u0c4e\u0c4e\u0c4f\u0c50\u0c50\u0c51\u0c52\u0c52\u0c53\u0c54"
+            + "\u0c54\u0c55\u0c55\u0c56\u0c57\u0c57\u0c58\u0c59\u0c59\u0c5a\u0c5b\u0c5b\u0c5c\u0c5d\u0c5d\u0c5e"
+            + "\u0c5f\u0c5f\u0c60\u0c60\u0c61\u0c62\u0c62\u0c63\u0c64\u0c64\u0c65\u0c66\u0c66\u0c67\u0c68\u0c68"
+            + "\u0c69\u0c6a\u0c6a\u0c6b\u0c6b\u0c6c\u0c6d\u0c6d\u0c6e\u0c6f\u0c6f\u0c70\u0c71\u0c71\u0c72\u0c73"
+            + "\u0c73\u0c74\u0c74\u0c75\u0c76\u0c76\u0c77\u0c78\u0c78\u0c79\u0c7a\u0c7a\u0c7b\u0c7c\u0c7c\u0c7d"
+            + "\u0c7d\u0c7e\u0c7f\u0c7f\u0c80\u0c81\u0c81\u0c82\u0c83\u0c83\u0c84\u0c84\u0c85\u0c86\u0c86\u0c87"
+            + "\u0c88\u0c88\u0c89\u0c8a\u0c8a\u0c8b\u0c8b\u0c8c\u0c8d\u0c8d\u0c8e\u0c8f\u0c8f\u0c90\u0c91\u0c91"
+            + "\u0c92\u0c93\u0c93\u0c94\u0c94\u0c95\u0c96\u0c96\u0c97\u0c98\u0c98\u0c99\u0c99\u0c9a\u0c9b\u0c9b"
+            + "\u0c9c\u0c9d\u0c9d\u0c9e\u0c9f\u0c9f\u0ca0\u0ca0\u0ca1\u0ca2\u0ca2\u0ca3\u0ca4\u0ca4\u0ca5\u0ca6"
+            + "\u0ca6\u0ca7\u0ca7\u0ca8\u0ca9\u0ca9\u0caa\u0cab\u0cab\u0cac\u0cac\u0cad\u0cae\u0cae\u0caf\u0cb0"
+            + "\u0cb0\u0cb1\u0cb2\u0cb2\u0cb3\u0cb3\u0cb4\u0cb5\u0cb5\u0cb6\u0cb7\u0cb7\u0cb8\u0cb8\u0cb9\u0cba"
+            + "\u0cba\u0cbb\u0cbc\u0cbc\u0cbd\u0cbd\u0cbe\u0cbf\u0cbf\u0cc0\u0cc1\u0cc1\u0cc2\u0cc3\u0cc3\u0cc4"
+            + "\u0cc4\u0cc5\u0cc6\u0cc6\u0cc7\u0cc8\u0cc8\u0cc9\u0cc9\u0cca\u0ccb\u0ccb\u0ccc\u0ccd\u0ccd\u0cce"
+            + "\u0cce\u0ccf\u0cd0\u0cd0\u0cd1\u0cd2\u0cd2\u0cd3\u0cd3\u0cd4\u0cd5\u0cd5\u0cd6\u0cd7\u0cd7\u0cd8"
+            + "\u0cd8\u0cd9\u0cda\u0cda\u0cdb\u0cdb\u0cdc\u0cdd\u0cdd\u0cde\u0cdf\u0cdf\u0ce0\u0ce0\u0ce1\u0ce2"
+            + "\u0ce2\u0ce3\u0ce4\u0ce4\u0ce5\u0ce5\u0ce6\u0ce7\u0ce7\u0ce8\u0ce9\u0ce9\u0cea\u0cea\u0ceb\u0cec"
+            + "\u0cec\u0ced\u0ced\u0cee\u0cef\u0cef\u0cf0\u0cf1\u0cf1\u0cf2\u0cf2\u0cf3\u0cf4\u0cf4\u0cf5\u0cf6"
+            + "\u0cf6\u0cf7\u0cf7\u0cf8\u0cf9\u0cf9\u0cfa\u0cfa\u0cfb\u0cfc\u0cfc\u0cfd\u0cfe\u0cfe\u0cff\u0cff"
+            + "\u0d00\u0d01\u0d01\u0d02\u0d02\u0d03\u0d04\u0d04\u0d05\u0d06\u0d06\u0d07\u0d07\u0d08\u0d09\u0d09"
+            + "\u0d0a\u0d0a\u0d0b\u0d0c\u0d0c\u0d0d\u0d0e\u0d0e\u0d0f\u0d0f\u0d10\u0d11\u0d11\u0d12\u0d12\u0d13"
+            + "\u0d14\u0d14\u0d15\u0d15\u0d16\u0d17\u0d17\u0d18\u0d19\u0d19\u0d1a\u0d1a\u0d1b\u0d1c\u0d1c\u0d1d"
+            + "\u0d1d\u0d1e\u0d1f\u0d1f\u0d20\u0d20\u0d21\u0d22\u0d22\u0d23\u0d24\u0d24\u0d25\u0d25\u0d26\u0d27"
+            + "\u0d27\u0d28\u0d28\u0d29\u0d2a\u0d2a\u0d2b\u0d2b\u0d2c\u0d2d\u0d2d\u0d2e\u0d2e\u0d2f\u0d30\u0d30"
+            + "\u0d31\u0d31\u0d32\u0d33\u0d33\u0d34\u0d35\u0d35\u0d36\u0d36\u0d37\u0d38\u0d38\u0d39\u0d39\u0d3a"
+            + "\u0d3b\u0d3b\u0d3c\u0d3c\u0d3d\u0d3e\u0d3e\u0d3f\u0d3f\u0d40\u0d41\u0d41\u0d42\u0d42\u0d43\u0d44"
+            + "\u0d44\u0d45\u0d45\u0d46\u0d47\u0d47\u0d48\u0d48\u0d49\u0d4a\u0d4a\u0d4b\u0d4b\u0d4c\u0d4d\u0d4d"
+            + "\u0d4e\u0d4e\u0d4f\u0d50\u0d50\u0d51\u0d51\u0d52\u0d53\u0d53\u0d54\u0d54\u0d55\u0d56\u0d56\u0d57"
+            + "\u0d57\u0d58\u0d59\u0d59\u0d5a\u0d5a\u0d5b\u0d5c\u0d5c\u0d5d\u0d5d\u0d5e\u0d5f\u0d5f\u0d60\u0d60"
+            + "\u0d61\u0d62\u0d62\u0d63\u0d63\u0d64\u0d65\u0d65\u0d66\u0d66\u0d67\u0d68\u0d68\u0d69\u0d69\u0d6a"
+            + "\u0d6b\u0d6b\u0d6c\u0d6c\u0d6d\u0d6e\u0d6e\u0d6f\u0d6f\u0d70\u0d71\u0d71\u0d72\u0d72\u0d73\u0d74"
+            + "\u0d74\u0d75\u0d75\u0d76\u0d77\u0d77\u0d78\u0d78\u0d79\u0d79\u0d7a\u0d7b\u0d7b\u0d7c\u0d7c\u0d7d"
+            + "\u0d7e\u0d7e\u0d7f\u0d7f\u0d80\u0d81\u0d81\u0d82\u0d82\u0d83\u0d84\u0d84\u0d85\u0d85\u0d86\u0d87"
+            + "\u0d87\u0d88\u0d88\u0d89\u0d89\u0d8a\u0d8b\u0d8b\u0d8c\u0d8c\u0d8d\u0d8e\u0d8e\u0d8f\u0d8f\u0d90"
+            + "\u0d91\u0d91\u0d92\u0d92\u0d93\u0d94\u0d94\u0d95\u0d95\u0d96\u0d96\u0d97\u0d98\u0d98\u0d99\u0d99"
+            + "\u0d9a\u0d9b\u0d9b\u0d9c\u0d9c\u0d9d\u0d9e\u0d9e\u0d9f\u0d9f\u0da0\u0da0\u0da1\u0da2\u0da2\u0da3"
+            + "\u0da3\u0da4\u0da5\u0da5\u0da6\u0da6\u0da7\u0da7\u0da8\u0da9\u0da9\u0daa\u0daa\u0dab\u0dac\u0dac"
+            + "\u0dad\u0dad\u0dae\u0daf\u0daf\u0db0\u0db0\u0db1\u0db1\u0db2\u0db3\u0db3\u0db4\u0db4\u0db5\u0db6"
+            + "\u0db6\u0db7\u0db7\u0db8\u0db8\u0db9\u0dba\u0dba\u0dbb\u0dbb\u0dbc\u0dbd\u0dbd\u0dbe\u0dbe\u0dbf"
+            + "\u0dbf\u0dc0\u0dc1\u0dc1\u0dc2\u0dc2\u0dc3\u0dc3\u0dc4\u0dc5\u0dc5\u0dc6\u0dc6\u0dc7\u0dc8\u0dc8"
+            + "\u0dc9\u0dc9\u0dca\u0dca\u0dcb\u0dcc\u0dcc\u0dcd\u0dcd\u0dce\u0dcf\u0dcf\u0dd0\u0dd0\u0dd1\u0dd1"
+            + "\u0dd2\u0dd3\u0dd3\u0dd4\u0dd4\u0dd5\u0dd5\u0dd6\u0dd7\u0dd7\u0dd8\u0dd8\u0dd9\u0dda\u0dda\u0ddb"
+            + "\u0ddb\u0ddc\u0ddc\u0ddd\u0dde\u0dde\u0ddf\u0ddf\u0de0\u0de0\u0de1\u0de2\u0de2\u0de3\u0de3\u0de4"
+            + "\u0de4\u0de5\u0de6\u0de6\u0de7\u0de7\u0de8\u0de8\u0de9\u0dea\u0dea\u0deb\u0deb\u0dec\u0ded\u0ded"
+            + "\u0dee\u0dee\u0def\u0def\u0df0\u0df1\u0df1\u0df2\u0df2\u0df3\u0df3\u0df4\u0df5\u0df5\u0df6\u0df6"
+            + "\u0df7\u0df7\u0df8\u0df9\u0df9\u0dfa\u0dfa\u0dfb\u0dfb\u0dfc\u0dfd\u0dfd\u0dfe\u0dfe\u0dff\u0dff"
+            + "\u0e00\u0e01\u0e01\u0e02\u0e02\u0e03\u0e03\u0e04\u0e05\u0e05\u0e06\u0e06\u0e07\u0e07\u0e08\u0e09"
+            + "\u0e09\u0e0a\u0e0a\u0e0b\u0e0b\u0e0c\u0e0d\u0e0d\u0e0e\u0e0e\u0e0f\u0e0f\u0e10\u0e11\u0e11\u0e12"
+            + "\u0e12\u0e13\u0e13\u0e14\u0e15\u0e15\u0e16\u0e16\u0e17\u0e17\u0e18\u0e18\u0e19\u0e1a\u0e1a\u0e1b"
+            + "\u0e1b\u0e1c\u0e1c\u0e1d\u0e1e\u0e1e\u0e1f\u0e1f\u0e20\u0e20\u0e21\u0e22\u0e22\u0e23\u0e23\u0e24"
+            + "\u0e24\u0e25\u0e26\u0e26\u0e27\u0e27\u0e28\u0e28\u0e29\u0e29\u0e2a\u0e2b\u0e2b\u0e2c\u0e2c\u0e2d"
+            + "\u0e2d\u0e2e\u0e2f\u0e2f\u0e30\u0e30\u0e31\u0e31\u0e32\u0e33\u0e33\u0e34\u0e34\u0e35\u0e35\u0e36"
+            + "\u0e36\u0e37\u0e38\u0e38\u0e39\u0e39\u0e3a\u0e3a\u0e3b\u0e3c\u0e3c\u0e3d\u0e3d\u0e3e\u0e3e\u0e3f"
+            + "\u0e3f\u0e40\u0e41\u0e41\u0e42\u0e42\u0e43\u0e43\u0e44\u0e44\u0e45\u0e46\u0e46\u0e47\u0e47\u0e48"
+            + "\u0e48\u0e49\u0e4a\u0e4a\u0e4b\u0e4b\u0e4c\u0e4c\u0e4d\u0e4d\u0e4e\u0e4f\u0e4f\u0e50\u0e50\u0e51"
+            + "\u0e51\u0e52\u0e52\u0e53\u0e54\u0e54\u0e55\u0e55\u0e56\u0e56\u0e57\u0e58\u0e58\u0e59\u0e59\u0e5a"
+            + "\u0e5a\u0e5b\u0e5b\u0e5c\u0e5d\u0e5d\u0e5e\u0e5e\u0e5f\u0e5f\u0e60\u0e60\u0e61\u0e62\u0e62\u0e63"
+            + "\u0e63\u0e64\u0e64\u0e65\u0e65\u0e66\u0e67\u0e67\u0e68\u0e68\u0e69\u0e69\u0e6a\u0e6a\u0e6b\u0e6c"
+            + "\u0e6c\u0e6d\u0e6d\u0e6e\u0e6e\u0e6f\u0e6f\u0e70\u0e71\u0e71\u0e72\u0e72\u0e73\u0e73\u0e74\u0e74"
+            + "\u0e75\u0e76\u0e76\u0e77\u0e77\u0e78\u0e78\u0e79\u0e79\u0e7a\u0e7a\u0e7b\u0e7c\u0e7c\u0e7d\u0e7d"
+            + "\u0e7e\u0e7e\u0e7f\u0e7f\u0e80\u0e81\u0e81\u0e82\u0e82\u0e83\u0e83\u0e84\u0e84\u0e85\u0e86\u0e86"
+            + "\u0e87\u0e87\u0e88\u0e88\u0e89\u0e89\u0e8a\u0e8a\u0e8b\u0e8c\u0e8c\u0e8d\u0e8d\u0e8e\u0e8e\u0e8f"
+            + "\u0e8f\u0e90\u0e91\u0e91\u0e92\u0e92\u0e93\u0e93\u0e94\u0e94\u0e95\u0e95\u0e96\u0e97\u0e97\u0e98"
+            + "\u0e98\u0e99\u0e99\u0e9a\u0e9a\u0e9b\u0e9b\u0e9c\u0e9d\u0e9d\u0e9e\u0e9e\u0e9f\u0e9f\u0ea0\u0ea0"
+            + "\u0ea1\u0ea2\u0ea2\u0ea3\u0ea3\u0ea4\u0ea4\u0ea5\u0ea5\u0ea6\u0ea6\u0ea7\u0ea8\u0ea8\u0ea9\u0ea9"
+            + "\u0eaa\u0eaa\u0eab\u0eab\u0eac\u0eac\u0ead\u0eae\u0eae\u0eaf\u0eaf\u0eb0\u0eb0\u0eb1\u0eb1\u0eb2"
+            + "\u0eb2\u0eb3\u0eb4\u0eb4\u0eb5\u0eb5\u0eb6\u0eb6\u0eb7\u0eb7\u0eb8\u0eb8\u0eb9\u0eb9\u0eba\u0ebb"
+            + "\u0ebb\u0ebc\u0ebc\u0ebd\u0ebd\u0ebe\u0ebe\u0ebf\u0ebf\u0ec0\u0ec1\u0ec1\u0ec2\u0ec2\u0ec3\u0ec3"
+            + "\u0ec4\u0ec4\u0ec5\u0ec5\u0ec6\u0ec7\u0ec7\u0ec8\u0ec8\u0ec9\u0ec9\u0eca\u0eca\u0ecb\u0ecb\u0ecc"
+            + "\u0ecc\u0ecd\u0ece\u0ece\u0ecf\u0ecf\u0ed0\u0ed0\u0ed1\u0ed1\u0ed2\u0ed2\u0ed3\u0ed3\u0ed4\u0ed5"
+            + "\u0ed5\u0ed6\u0ed6\u0ed7\u0ed7\u0ed8\u0ed8\u0ed9\u0ed9\u0eda\u0eda\u0edb\u0edc\u0edc\u0edd\u0edd"
+            + "\u0ede\u0ede\u0edf\u0edf\u0ee0\u0ee0\u0ee1\u0ee1\u0ee2\u0ee3\u0ee3\u0ee4\u0ee4\u0ee5\u0ee5\u0ee6"
+            + "\u0ee6\u0ee7\u0ee7\u0ee8\u0ee8\u0ee9\u0eea\u0eea\u0eeb\u0eeb\u0eec\u0eec\u0eed\u0eed\u0eee\u0eee"
+            + "\u0eef\u0eef\u0ef0\u0ef1\u0ef1\u0ef2\u0ef2\u0ef3\u0ef3\u0ef4\u0ef4\u0ef5\u0ef5\u0ef6\u0ef6\u0ef7"
+            + "\u0ef7\u0ef8\u0ef9\u0ef9\u0efa\u0efa\u0efb\u0efb\u0efc\u0efc\u0efd\u0efd\u0efe\u0efe\u0eff\u0eff"
+            + "\u0f00\u0f01\u0f01\u0f02\u0f02\u0f03\u0f03\u0f04\u0f04\u0f05\u0f05\u0f06\u0f06\u0f07\u0f07\u0f08"
+            + "\u0f09\u0f09\u0f0a\u0f0a\u0f0b\u0f0b\u0f0c\u0f0c\u0f0d\u0f0d\u0f0e\u0f0e\u0f0f\u0f0f\u0f10\u0f10"
+            + "\u0f11\u0f12\u0f12\u0f13\u0f13\u0f14\u0f14\u0f15\u0f15\u0f16\u0f16\u0f17\u0f17\u0f18\u0f18\u0f19"
+            + "\u0f1a\u0f1a\u0f1b\u0f1b\u0f1c\u0f1c\u0f1d\u0f1d\u0f1e\u0f1e\u0f1f\u0f1f\u0f20\u0f20\u0f21\u0f21"
+            + "\u0f22\u0f23\u0f23\u0f24\u0f24\u0f25\u0f25\u0f26\u0f26\u0f27\u0f27\u0f28\u0f28\u0f29\u0f29\u0f2a"
+            + "\u0f2a\u0f2b\u0f2b\u0f2c\u0f2d\u0f2d\u0f2e\u0f2e\u0f2f\u0f2f\u0f30\u0f30\u0f31\u0f31\u0f32\u0f32"
+            + "\u0f33\u0f33\u0f34\u0f34\u0f35\u0f35\u0f36\u0f37\u0f37\u0f38\u0f38\u0f39\u0f39\u0f3a\u0f3a\u0f3b"
+            + "\u0f3b\u0f3c\u0f3c\u0f3d\u0f3d\u0f3e\u0f3e\u0f3f\u0f3f\u0f40\u0f41\u0f41\u0f42\u0f42\u0f43\u0f43"
+            + "\u0f44\u0f44\u0f45\u0f45\u0f46\u0f46\u0f47\u0f47\u0f48\u0f48\u0f49\u0f49\u0f4a\u0f4a\u0f4b\u0f4c"
+            + "\u0f4c\u0f4d\u0f4d\u0f4e\u0f4e\u0f4f\u0f4f\u0f50\u0f50\u0f51\u0f51\u0f52\u0f52\u0f53\u0f53\u0f54"
+            + "\u0f54\u0f55\u0f55\u0f56\u0f56\u0f57\u0f58\u0f58\u0f59\u0f59\u0f5a\u0f5a\u0f5b\u0f5b\u0f5c\u0f5c"
+            + "\u0f5d\u0f5d\u0f5e\u0f5e\u0f5f\u0f5f\u0f60\u0f60\u0f61\u0f61\u0f62\u0f62\u0f63\u0f64\u0f64\u0f65"
+            + "\u0f65\u0f66\u0f66\u0f67\u0f67\u0f68\u0f68\u0f69\u0f69\u0f6a\u0f6a\u0f6b\u0f6b\u0f6c\u0f6c\u0f6d"
+            + "\u0f6d\u0f6e\u0f6e\u0f6f\u0f6f\u0f70\u0f70\u0f71\u0f72\u0f72\u0f73\u0f73\u0f74\u0f74\u0f75\u0f75"
+            + "\u0f76\u0f76\u0f77\u0f77\u0f78\u0f78\u0f79\u0f79\u0f7a\u0f7a\u0f7b\u0f7b\u0f7c\u0f7c\u0f7d\u0f7d"
+            + "\u0f7e\u0f7e\u0f7f\u0f7f\u0f80\u0f81\u0f81\u0f82\u0f82\u0f83\u0f83\u0f84\u0f84\u0f85\u0f85\u0f86"
+            + "\u0f86\u0f87\u0f87\u0f88\u0f88\u0f89\u0f89\u0f8a\u0f8a\u0f8b\u0f8b\u0f8c\u0f8c\u0f8d\u0f8d\u0f8e"
+            + "\u0f8e\u0f8f\u0f8f\u0f90\u0f90\u0f91\u0f92\u0f92\u0f93\u0f93\u0f94\u0f94\u0f95\u0f95\u0f96\u0f96"
+            + "\u0f97\u0f97\u0f98\u0f98\u0f99\u0f99\u0f9a\u0f9a\u0f9b\u0f9b\u0f9c\u0f9c\u0f9d\u0f9d\u0f9e\u0f9e"
+            + "\u0f9f\u0f9f\u0fa0\u0fa0\u0fa1\u0fa1\u0fa2\u0fa2\u0fa3\u0fa3\u0fa4\u0fa4\u0fa5\u0fa6\u0fa6\u0fa7"
+            + "\u0fa7\u0fa8\u0fa8\u0fa9\u0fa9\u0faa\u0faa\u0fab\u0fab\u0fac\u0fac\u0fad\u0fad\u0fae\u0fae\u0faf"
+            + "\u0faf\u0fb0\u0fb0\u0fb1\u0fb1\u0fb2\u0fb2\u0fb3\u0fb3\u0fb4\u0fb4\u0fb5\u0fb5\u0fb6\u0fb6\u0fb7"
+            + "\u0fb7\u0fb8\u0fb8\u0fb9\u0fb9\u0fba\u0fba\u0fbb\u0fbb\u0fbc\u0fbc\u0fbd\u0fbd\u0fbe\u0fbe\u0fbf"
+            + "\u0fbf\u0fc0\u0fc1\u0fc1\u0fc2\u0fc2\u0fc3\u0fc3\u0fc4\u0fc4\u0fc5\u0fc5\u0fc6\u0fc6\u0fc7\u0fc7"
+            + "\u0fc8\u0fc8\u0fc9\u0fc9\u0fca\u0fca\u0fcb\u0fcb\u0fcc\u0fcc\u0fcd\u0fcd\u0fce\u0fce\u0fcf\u0fcf"
+            + "\u0fd0\u0fd0\u0fd1\u0fd1\u0fd2\u0fd2\u0fd3\u0fd3\u0fd4\u0fd4\u0fd5\u0fd5\u0fd6\u0fd6\u0fd7\u0fd7"
+            + "\u0fd8\u0fd8\u0fd9\u0fd9\u0fda\u0fda\u0fdb\u0fdb\u0fdc\u0fdc\u0fdd\u0fdd\u0fde\u0fde\u0fdf\u0fdf"
+            + "\u0fe0\u0fe0\u0fe1\u0fe1\u0fe2\u0fe2\u0fe3\u0fe3\u0fe4\u0fe4\u0fe5\u0fe5\u0fe6\u0fe6\u0fe7\u0fe7"
+            + "\u0fe8\u0fe8\u0fe9\u0fe9\u0fea\u0fea\u0feb\u0feb\u0fec\u0fec\u0fed\u0fed\u0fee\u0fee\u0fef\u0fef"
+            + "\u0ff0\u0ff0\u0ff1\u0ff1\u0ff2\u0ff2\u0ff3\u0ff3\u0ff4\u0ff4\u0ff5\u0ff5\u0ff6\u0ff6\u0ff7\u0ff7"
+            + "\u0ff8\u0ff8\u0ff9\u0ff9\u0ffa\u0ffa\u0ffb\u0ffb\u0ffc\u0ffc\u0ffd\u0ffd\u0ffe\u0ffe\u0fff\u0fff"
+            + "\u1000\u1000\u1001\u1001\u1002\u1002\u1003\u1003\u1004\u1004\u1005\u1005\u1006\u1006\u1007\u1007"
+            + "\u1008\u1008\u1009\u1009\u100a\u100a\u100b\u100b\u100c\u100c\u100d\u100d\u100e\u100e\u100f\u100f"
+            + "\u1010\u1010\u1011\u1011\u1012\u1012\u1013\u1013\u1014\u1014\u1015\u1015\u1016\u1016\u1017\u1017"
+            + "\u1018\u1018\u1019\u1019\u101a\u101a\u101b\u101b\u101c\u101c\u101d\u101d\u101e\u101e\u101f\u101f"
+            + "\u1020\u1020\u1021\u1021\u1022\u1022\u1023\u1023\u1024\u1024\u1025\u1025\u1026\u1026\u1027\u1027"
+            + "\u1028\u1028\u1029\u1029\u102a\u102a\u102b\u102b\u102c\u102c\u102d\u102d\u102e\u102e\u102f\u102f"
+            + "\u1030\u1030\u1031\u1031\u1032\u1032\u1033\u1033\u1034\u1034\u1035\u1035\u1036\u1036\u1037\u1037"
+            + "\u1038\u1038\u1039\u1039\u103a\u103a\u103b\u103b\u103c\u103c\u103d\u103d\u103e\u103e\u103f\u103f"
+            + "\u1040\u1040\u1040\u1041\u1041\u1042\u1042\u1043\u1043\u1044\u1044\u1045\u1045\u1046\u1046\u1047"
+            + "\u1047\u1048\u1048\u1049\u1049\u104a\u104a\u104b\u104b\u104c\u104c\u104d\u104d\u104e\u104e\u104f"
+            + "\u104f\u1050\u1050\u1051\u1051\u1052\u1052\u1053\u1053\u1054\u1054\u1055\u1055\u1056\u1056\u1057"
+            + "\u1057\u1058\u1058\u1059\u1059\u105a\u105a\u105b\u105b\u105b\u105c\u105c\u105d\u105d\u105e\u105e"
+            + "\u105f\u105f\u1060\u1060\u1061\u1061\u1062\u1062\u1063\u1063\u1064\u1064\u1065\u1065\u1066\u1066"
+            + "\u1067\u1067\u1068\u1068\u1069\u1069\u106a\u106a\u106b\u106b\u106c\u106c\u106d\u106d\u106e\u106e"
+            + "\u106f\u106f\u106f\u1070\u1070\u1071\u1071\u1072\u1072\u1073\u1073\u1074\u1074\u1075\u1075\u1076"
+            + "\u1076\u1077\u1077\u1078\u1078\u1079\u1079\u107a\u107a\u107b\u107b\u107c\u107c\u107d\u107d\u107e"
+            + "\u107e\u107f\u107f\u1080\u1080\u1080\u1081\u1081\u1082\u1082\u1083\u1083\u1084\u1084\u1085\u1085"
+            + "\u1086\u1086\u1087\u1087\u1088\u1088\u1089\u1089\u108a\u108a\u108b\u108b\u108c\u108c\u108d\u108d"
+            + "\u108e\u108e\u108f\u108f\u108f\u1090\u1090\u1091\u1091\u1092\u1092\u1093\u1093\u1094\u1094\u1095"
+            + "\u1095\u1096\u1096\u1097\u1097\u1098\u1098\u1099\u1099\u109a\u109a\u109b\u109b\u109c\u109c\u109d"
+            + "\u109d\u109d\u109e\u109e\u109f\u109f\u10a0\u10a0\u10a1\u10a1\u10a2\u10a2\u10a3\u10a3\u10a4\u10a4"
+            + "\u10a5\u10a5\u10a6\u10a6\u10a7\u10a7\u10a8\u10a8\u10a9\u10a9\u10a9\u10aa\u10aa\u10ab\u10ab\u10ac"
+            + "\u10ac\u10ad\u10ad\u10ae\u10ae\u10af\u10af\u10b0\u10b0\u10b1\u10b1\u10b2\u10b2\u10b3\u10b3\u10b4"
+            + "\u10b4\u10b5\u10b5\u10b5\u10b6\u10b6\u10b7\u10b7\u10b8\u10b8\u10b9\u10b9\u10ba\u10ba\u10bb\u10bb"
+            + "\u10bc\u10bc\u10bd\u10bd\u10be\u10be\u10bf\u10bf\u10c0\u10c0\u10c0\u10c1\u10c1\u10c2\u10c2\u10c3"
+            + "\u10c3\u10c4\u10c4\u10c5\u10c5\u10c6\u10c6\u10c7\u10c7\u10c8\u10c8\u10c9\u10c9\u10ca\u10ca\u10ca"
+            + "\u10cb\u10cb\u10cc\u10cc\u10cd\u10cd\u10ce\u10ce\u10cf\u10cf\u10d0\u10d0\u10d1\u10d1\u10d2\u10d2"
+            + "\u10d3\u10d3\u10d4\u10d4\u10d4\u10d5\u10d5\u10d6\u10d6\u10d7\u10d7\u10d8\u10d8\u10d9\u10d9\u10da"
+            + "\u10da\u10db\u10db\u10dc\u10dc\u10dd\u10dd\u10de\u10de\u10de\u10df\u10df\u10e0\u10e0\u10e1\u10e1"
+            + "\u10e2\u10e2\u10e3\u10e3\u10e4\u10e4\u10e5\u10e5\u10e6\u10e6\u10e7\u10e7\u10e7\u10e8\u10e8\u10e9"
+            + "\u10e9\u10ea\u10ea\u10eb\u10eb\u10ec\u10ec\u10ed\u10ed\u10ee\u10ee\u10ef\u10ef\u10ef\u10f0\u10f0"
+            + "\u10f1\u10f1\u10f2\u10f2\u10f3\u10f3\u10f4\u10f4\u10f5\u10f5\u10f6\u10f6\u10f7\u10f7\u10f8\u10f8"
+            + "\u10f8\u10f9\u10f9\u10fa\u10fa\u10fb\u10fb\u10fc\u10fc\u10fd\u10fd\u10fe\u10fe\u10ff\u10ff\u1100"
+            + "\u1100\u1100\u1101\u1101\u1102\u1102\u1103\u1103\u1104\u1104\u1105\u1105\u1106\u1106\u1107\u1107"
+            + "\u1108\u1108\u1108\u1109\u1109\u110a\u110a\u110b\u110b\u110c\u110c\u110d\u110d\u110e\u110e\u110f"
+            + "\u110f\u1110\u1110\u1110\u1111\u1111\u1112\u1112\u1113\u1113\u1114\u1114\u1115\u1115\u1116\u1116"
+            + "\u1117\u1117\u1117\u1118\u1118\u1119\u1119\u111a\u111a\u111b\u111b\u111c\u111c\u111d\u111d\u111e"
+            + "\u111e\u111e\u111f\u111f\u1120\u1120\u1121\u1121\u1122\u1122\u1123\u1123\u1124\u1124\u1125\u1125"
+            + "\u1125\u1126\u1126\u1127\u1127\u1128\u1128\u1129\u1129\u112a\u112a\u112b\u112b\u112c\u112c\u112c"
+            + "\u112d\u112d\u112e\u112e\u112f\u112f\u1130\u1130\u1131\u1131\u1132\u1132\u1133\u1133\u1133\u1134"
+            + "\u1134\u1135\u1135\u1136\u1136\u1137\u1137\u1138\u1138\u1139\u1139\u113a\u113a\u113a\u113b\u113b"
+            + "\u113c\u113c\u113d\u113d\u113e\u113e\u113f\u113f\u1140\u1140\u1140\u1141\u1141\u1142\u1142\u1143"
+            + "\u1143\u1144\u1144\u1145\u1145\u1146\u1146\u1146\u1147\u1147\u1148\u1148\u1149\u1149\u114a\u114a"
+            + "\u114b\u114b\u114c\u114c\u114d\u114d\u114d\u114e\u114e\u114f\u114f\u1150\u1150\u1151\u1151\u1152"
+            + "\u1152\u1153\u1153\u1153\u1154\u1154\u1155\u1155\u1156\u1156\u1157\u1157\u1158\u1158\u1159\u1159"
+            + "\u1159\u115a\u115a\u115b\u115b\u115c\u115c\u115d\u115d\u115e\u115e\u115f\u115f\u115f\u1160\u1160"
+            + "\u1161\u1161\u1162\u1162\u1163\u1163\u1164\u1164\u1164\u1165\u1165\u1166\u1166\u1167\u1167\u1168"
+            + "\u1168\u1169\u1169\u116a\u116a\u116a\u116b\u116b\u116c\u116c\u116d\u116d\u116e\u116e\u116f\u116f"
+            + "\u1170\u1170\u1170\u1171\u1171\u1172\u1172\u1173\u1173\u1174\u1174\u1175\u1175\u1175\u1176\u1176"
+            + "\u1177\u1177\u1178\u1178\u1179\u1179\u117a\u117a\u117b\u117b\u117b\u117c\u117c\u117d\u117d\u117e"
+            + "\u117e\u117f\u117f\u1180\u1180\u1180\u1181\u1181\u1182\u1182\u1183\u1183\u1184\u1184\u1185\u1185"
+            + "\u1185\u1186\u1186\u1187\u1187\u1188\u1188\u1189\u1189\u118a\u118a\u118b\u118b\u118b\u118c\u118c"
+            + "\u118d\u118d\u118e\u118e\u118f\u118f\u1190\u1190\u1190\u1191\u1191\u1192\u1192\u1193\u1193\u1194"
+            + "\u1194\u1195\u1195\u1195\u1196\u1196\u1197\u1197\u1198\u1198\u1199\u1199\u119a\u119a\u119a\u119b"
+            + "\u119b\u119c\u119c\u119d\u119d\u119e\u119e\u119f\u119f\u119f\u11a0\u11a0\u11a1\u11a1\u11a2\u11a2"
+            + "\u11a3\u11a3\u11a4\u11a4\u11a4\u11a5\u11a5\u11a6\u11a6\u11a7\u11a7\u11a8\u11a8\u11a9\u11a9\u11a9"
+            + "\u11aa\u11aa\u11ab\u11ab\u11ac\u11ac\u11ad\u11ad\u11ad\u11ae\u11ae\u11af\u11af\u11b0\u11b0\u11b1"
+            + "\u11b1\u11b2\u11b2\u11b2\u11b3\u11b3\u11b4\u11b4\u11b5\u11b5\u11b6\u11b6\u11b7\u11b7\u11b7\u11b8"
+            + "\u11b8\u11b9\u11b9\u11ba\u11ba\u11bb\u11bb\u11bb\u11bc\u11bc\u11bd\u11bd\u11be\u11be\u11bf\u11bf"
+            + "\u11c0\u11c0\u11c0\u11c1\u11c1\u11c2\u11c2\u11c3\u11c3\u11c4\u11c4\u11c5\u11c5\u11c5\u11c6\u11c6"
+            + "\u11c7\u11c7\u11c8\u11c8\u11c9\u11c9\u11c9\u11ca\u11ca\u11cb\u11cb\u11cc\u11cc\u11cd\u11cd\u11ce"
+            + "\u11ce\u11ce\u11cf\u11cf\u11d0\u11d0\u11d1\u11d1\u11d2\u11d2\u11d2\u11d3\u11d3\u11d4\u11d4\u11d5"
+            + "\u11d5\u11d6\u11d6\u11d6\u11d7\u11d7\u11d8\u11d8\u11d9\u11d9\u11da\u11da\u11db\u11db\u11db\u11dc"
+            + "\u11dc\u11dd\u11dd\u11de\u11de\u11df\u11df\u11df\u11e0\u11e0\u11e1\u11e1\u11e2\u11e2\u11e3\u11e3"
+            + "\u11e3\u11e4\u11e4\u11e5\u11e5\u11e6\u11e6\u11e7\u11e7\u11e7\u11e8\u11e8\u11e9\u11e9\u11ea\u11ea"
+            + "\u11eb\u11eb\u11ec\u11ec\u11ec\u11ed\u11ed\u11ee\u11ee\u11ef\u11ef\u11f0\u11f0\u11f0\u11f1\u11f1"
+            + "\u11f2\u11f2\u11f3\u11f3\u11f4\u11f4\u11f4\u11f5\u11f5\u11f6\u11f6\u11f7\u11f7\u11f8\u11f8\u11f8"
+            + "\u11f9\u11f9\u11fa\u11fa\u11fb\u11fb\u11fc\u11fc\u11fc\u11fd\u11fd\u11fe\u11fe\u11ff\u11ff\u1200"
+            + "\u1200\u1200\u1201\u1201\u1202\u1202\u1203\u1203\u1204\u1204\u1204\u1205\u1205\u1206\u1206\u1207"
+            + "\u1207\u1208\u1208\u1208\u1209\u1209\u120a\u120a\u120b\u120b\u120c\u120c\u120c\u120d\u120d\u120e"
+            + "\u120e\u120f\u120f\u1210\u1210\u1210\u1211\u1211\u1212\u1212\u1213\u1213\u1214\u1214\u1214\u1215"
+            + "\u1215\u1216\u1216\u1217\u1217\u1217\u1218\u1218\u1219\u1219\u121a\u121a\u121b\u121b\u121b\u121c"
+            + "\u121c\u121d\u121d\u121e\u121e\u121f\u121f\u121f\u1220\u1220\u1221\u1221\u1222\u1222\u1223\u1223"
+            + "\u1223\u1224\u1224\u1225\u1225\u1226\u1226\u1227\u1227\u1227\u1228\u1228\u1229\u1229\u122a\u122a"
+            + "\u122a\u122b\u122b\u122c\u122c\u122d\u122d\u122e\u122e\u122e\u122f\u122f\u1230\u1230\u1231\u1231"
+            + "\u1232\u1232\u1232\u1233\u1233\u1234\u1234\u1235\u1235\u1235\u1236\u1236\u1237\u1237\u1238\u1238"
+            + "\u1239\u1239\u1239\u123a\u123a\u123b\u123b\u123c\u123c\u123c\u123d\u123d\u123e\u123e\u123f\u123f"
+            + "\u1240\u1240\u1240\u1241\u1241\u1242\u1242\u1243\u1243\u1244\u1244\u1244\u1245\u1245\u1246\u1246"
+            + "\u1247\u1247\u1247\u1248\u1248\u1249\u1249\u124a\u124a\u124b\u124b\u124b\u124c\u124c\u124d\u124d"
+            + "\u124e\u124e\u124e\u124f\u124f\u1250\u1250\u1251\u1251\u1252\u1252\u1252\u1253\u1253\u1254\u1254"
+            + "\u1255\u1255\u1255\u1256\u1256\u1257\u1257\u1258\u1258\u1258\u1259\u1259\u125a\u125a\u125b\u125b"
+            + "\u125c\u125c\u125c\u125d\u125d\u125e\u125e\u125f\u125f\u125f\u1260\u1260\u1261\u1261\u1262\u1262"
+            + "\u1263\u1263\u1263\u1264\u1264\u1265\u1265\u1266\u1266\u1266\u1267\u1267\u1268\u1268\u1269\u1269"
+            + "\u1269\u126a\u126a\u126b\u126b\u126c\u126c\u126d\u126d\u126d\u126e\u126e\u126f\u126f\u1270\u1270"
+            + "\u1270\u1271\u1271\u1272\u1272\u1273\u1273\u1273\u1274\u1274\u1275\u1275\u1276\u1276\u1276\u1277"
+            + "\u1277\u1278\u1278\u1279\u1279\u127a\u127a\u127a\u127b\u127b\u127c\u127c\u127d\u127d\u127d\u127e"
+            + "\u127e\u127f\u127f\u1280\u1280\u1280\u1281\u1281\u1282\u1282\u1283\u1283\u1283\u1284\u1284\u1285"
+            + "\u1285\u1286\u1286\u1286\u1287\u1287\u1288\u1288\u1289\u1289\u128a\u128a\u128a\u128b\u128b\u128c"
+            + "\u128c\u128d\u128d\u128d\u128e\u128e\u128f\u128f\u1290\u1290\u1290\u1291\u1291\u1292\u1292\u1293"
+            + "\u1293\u1293\u1294\u1294\u1295\u1295\u1296\u1296\u1296\u1297\u1297\u1298\u1298\u1299\u1299\u1299"
+            + "\u129a\u129a\u129b\u129b\u129c\u129c\u129c\u129d\u129d\u129e\u129e\u129f\u129f\u129f\u12a0\u12a0"
+            + "\u12a1\u12a1\u12a2\u12a2\u12a2\u12a3\u12a3\u12a4\u12a4\u12a5\u12a5\u12a5\u12a6\u12a6\u12a7\u12a7"
+            + "\u12a8\u12a8\u12a8\u12a9\u12a9\u12aa\u12aa\u12ab\u12ab\u12ab\u12ac\u12ac\u12ad\u12ad\u12ae\u12ae"
+            + "\u12ae\u12af\u12af\u12b0\u12b0\u12b1\u12b1\u12b1\u12b2\u12b2\u12b3\u12b3\u12b4\u12b4\u12b4\u12b5"
+            + "\u12b5\u12b6\u12b6\u12b7\u12b7\u12b7\u12b8\u12b8\u12b9\u12b9\u12ba\u12ba\u12ba\u12bb\u12bb\u12bc"
+            + "\u12bc\u12bd\u12bd\u12bd\u12be\u12be\u12bf\u12bf\u12c0\u12c0\u12c0\u12c1\u12c1\u12c2\u12c2\u12c3"
+            + "\u12c3\u12c3\u12c4\u12c4\u12c5\u12c5\u12c6\u12c6\u12c6\u12c7\u12c7\u12c8\u12c8\u12c9\u12c9\u12c9"
+            + "\u12ca\u12ca\u12cb\u12cb\u12cc\u12cc\u12cc\u12cd\u12cd\u12ce\u12ce\u12ce\u12cf\u12cf\u12d0\u12d0"
+            + "\u12d1\u12d1\u12d1\u12d2\u12d2\u12d3\u12d3\u12d4\u12d4\u12d4\u12d5\u12d5\u12d6\u12d6\u12d7\u12d7"
+            + "\u12d7\u12d8\u12d8\u12d9\u12d9\u12da\u12da\u12da\u12db\u12db\u12dc\u12dc\u12dd\u12dd\u12dd\u12de"
+            + "\u12de\u12df\u12df\u12df\u12e0\u12e0\u12e1\u12e1\u12e2\u12e2\u12e2\u12e3\u12e3\u12e4\u12e4\u12e5"
+            + "\u12e5\u12e5\u12e6\u12e6\u12e7\u12e7\u12e8\u12e8\u12e8\u12e9\u12e9\u12ea\u12ea\u12ea\u12eb\u12eb"
+            + "\u12ec\u12ec\u12ed\u12ed\u12ed\u12ee\u12ee\u12ef\u12ef\u12f0\u12f0\u12f0\u12f1\u12f1\u12f2\u12f2"
+            + "\u12f3\u12f3\u12f3\u12f4\u12f4\u12f5\u12f5\u12f5\u12f6\u12f6\u12f7\u12f7\u12f8\u12f8\u12f8\u12f9"
+            + "\u12f9\u12fa\u12fa\u12fb\u12fb\u12fb\u12fc\u12fc\u12fd\u12fd\u12fd\u12fe\u12fe\u12ff\u12ff\u1300"
+            + "\u1300\u1300\u1301\u1301\u1302\u1302\u1303\u1303\u1303\u1304\u1304\u1305\u1305\u1305\u1306\u1306"
+            + "\u1307\u1307\u1308\u1308\u1308\u1309\u1309\u130a\u130a\u130b\u130b\u130b\u130c\u130c\u130d\u130d"
+            + "\u130d\u130e\u130e\u130f\u130f\u1310\u1310\u1310\u1311\u1311\u1312\u1312\u1312\u1313\u1313\u1314"
+            + "\u1314\u1315\u1315\u1315\u1316\u1316\u1317\u1317\u1318\u1318\u1318\u1319\u1319\u131a\u131a\u131a"
+            + "\u131b\u131b\u131c\u131c\u131d\u131d\u131d\u131e\u131e\u131f\u131f\u131f\u1320\u1320\u1321\u1321"
+            + "\u1322\u1322\u1322\u1323\u1323\u1324\u1324\u1324\u1325\u1325\u1326\u1326\u1327\u1327\u1327\u1328"
+            + "\u1328\u1329\u1329\u132a\u132a\u132a\u132b\u132b\u132c\u132c\u132c\u132d\u132d\u132e\u132e\u132f"
+            + "\u132f\u132f\u1330\u1330\u1331\u1331\u1331\u1332\u1332\u1333\u1333\u1334\u1334\u1334\u1335\u1335"
+            + "\u1336\u1336\u1336\u1337\u1337\u1338\u1338\u1339\u1339\u1339\u133a\u133a\u133b\u133b\u133b\u133c"
+            + "\u133c\u133d\u133d\u133e\u133e\u133e\u133f\u133f\u1340\u1340\u1340\u1341\u1341\u1342\u1342\u1342"
+            + "\u1343\u1343\u1344\u1344\u1345\u1345\u1345\u1346\u1346\u1347\u1347\u1347\u1348\u1348\u1349\u1349"
+            + "\u134a\u134a\u134a\u134b\u134b\u134c\u134c\u134c\u134d\u134d\u134e\u134e\u134f\u134f\u134f\u1350"
+            + "\u1350\u1351\u1351\u1351\u1352\u1352\u1353\u1353\u1353\u1354\u1354\u1355\u1355\u1356\u1356\u1356"
+            + "\u1357\u1357\u1358\u1358\u1358\u1359\u1359\u135a\u135a\u135b\u135b\u135b\u135c\u135c\u135d\u135d"
+            + "\u135d\u135e\u135e\u135f\u135f\u135f\u1360\u1360\u1361\u1361\u1362\u1362\u1362\u1363\u1363\u1364"
+            + "\u1364\u1364\u1365\u1365\u1366\u1366\u1366\u1367\u1367\u1368\u1368\u1369\u1369\u1369\u136a\u136a"
+            + "\u136b\u136b\u136b\u136c\u136c\u136d\u136d\u136e\u136e\u136e\u136f\u136f\u1370\u1370\u1370\u1371"
+            + "\u1371\u1372\u1372\u1372\u1373\u1373\u1374\u1374\u1374\u1375\u1375\u1376\u1376\u1377\u1377\u1377"
+            + "\u1378\u1378\u1379\u1379\u1379\u137a\u137a\u137b\u137b\u137b\u137c\u137c\u137d\u137d\u137e\u137e"
+            + "\u137e\u137f\u137f\u1380\u1380\u1380\u1381\u1381\u1382\u1382\u1382\u1383\u1383\u1384\u1384\u1385"
+            + "\u1385\u1385\u1386\u1386\u1387\u1387\u1387\u1388\u1388\u1389\u1389\u1389\u138a\u138a\u138b\u138b"
+            + "\u138b\u138c\u138c\u138d\u138d\u138e\u138e\u138e\u138f\u138f\u1390\u1390\u1390\u1391\u1391\u1392"
+            + "\u1392\u1392\u1393\u1393\u1394\u1394\u1394\u1395\u1395\u1396\u1396\u1397\u1397\u1397\u1398\u1398"
+            + "\u1399\u1399\u1399\u139a\u139a\u139b\u139b\u139b\u139c\u139c\u139d\u139d\u139d\u139e\u139e\u139f"
+            + "\u139f\u139f\u13a0\u13a0\u13a1\u13a1\u13a2\u13a2\u13a2\u13a3\u13a3\u13a4\u13a4\u13a4\u13a5\u13a5"
+            + "\u13a6\u13a6\u13a6\u13a7\u13a7\u13a8\u13a8\u13a8\u13a9\u13a9\u13aa\u13aa\u13aa\u13ab\u13ab\u13ac"
+            + "\u13ac\u13ad\u13ad\u13ad\u13ae\u13ae\u13af\u13af\u13af\u13b0\u13b0\u13b1\u13b1\u13b1\u13b2\u13b2"
+            + "\u13b3\u13b3\u13b3\u13b4\u13b4\u13b5\u13b5\u13b5\u13b6\u13b6\u13b7\u13b7\u13b7\u13b8\u13b8\u13b9"
+            + "\u13b9\u13ba\u13ba\u13ba\u13bb\u13bb\u13bc\u13bc\u13bc\u13bd\u13bd\u13be\u13be\u13be\u13bf\u13bf"
+            + "\u13c0\u13c0\u13c0\u13c1\u13c1\u13c2\u13c2\u13c2\u13c3\u13c3\u13c4\u13c4\u13c4\u13c5\u13c5\u13c6"
+            + "\u13c6\u13c6\u13c7\u13c7\u13c8\u13c8\u13c8\u13c9\u13c9\u13ca\u13ca\u13cb\u13cb\u13cb\u13cc\u13cc"
+            + "\u13cd\u13cd\u13cd\u13ce\u13ce\u13cf\u13cf\u13cf\u13d0\u13d0\u13d1\u13d1\u13d1\u13d2\u13d2\u13d3"
+            + "\u13d3\u13d3\u13d4\u13d4\u13d5\u13d5\u13d5\u13d6\u13d6\u13d7\u13d7\u13d7\u13d8\u13d8\u13d9\u13d9"
+            + "\u13d9\u13da\u13da\u13db\u13db\u13db\u13dc\u13dc\u13dd\u13dd\u13dd\u13de\u13de\u13df\u13df\u13df"
+            + "\u13e0\u13e0\u13e1\u13e1\u13e2\u13e2\u13e2\u13e3\u13e3\u13e4\u13e4\u13e4\u13e5\u13e5\u13e6\u13e6"
+            + "\u13e6\u13e7\u13e7\u13e8\u13e8\u13e8\u13e9\u13e9\u13ea\u13ea\u13ea\u13eb\u13eb\u13ec\u13ec\u13ec"
+            + "\u13ed\u13ed\u13ee\u13ee\u13ee\u13ef\u13ef\u13f0\u13f0\u13f0\u13f1\u13f1\u13f2\u13f2\u13f2\u13f3"
+            + "\u13f3\u13f4\u13f4\u13f4\u13f5\u13f5\u13f6\u13f6\u13f6\u13f7\u13f7\u13f8\u13f8\u13f8\u13f9\u13f9"
+            + "\u13fa\u13fa\u13fa\u13fb\u13fb\u13fc\u13fc\u13fc\u13fd\u13fd\u13fe\u13fe\u13fe\u13ff\u13ff\u1400"
+            + "\u1400\u1400\u1401\u1401\u1402\u1402\u1402\u1403\u1403\u1404\u1404\u1404\u1405\u1405\u1406\u1406"
+            + "\u1406\u1407\u1407\u1408\u1408\u1408\u1409\u1409\u140a\u140a\u140a\u140b\u140b\u140c\u140c\u140c"
+            + "\u140d\u140d\u140e\u140e\u140e\u140f\u140f\u1410\u1410\u1410\u1411\u1411\u1412\u1412\u1412\u1413"
+            + "\u1413\u1414\u1414\u1414\u1415\u1415\u1416\u1416\u1416\u1417\u1417\u1418\u1418\u1418\u1419\u1419"
+            + "\u141a\u141a\u141a\u141b\u141b\u141c\u141c\u141c\u141d\u141d\u141e\u141e\u141e\u141f\u141f\u1420"
+            + "\u1420\u1420\u1421\u1421\u1421\u1422\u1422\u1423\u1423\u1423\u1424\u1424\u1425\u1425\u1425\u1426"
+            + "\u1426\u1427\u1427\u1427\u1428\u1428\u1429\u1429\u1429\u142a\u142a\u142b\u142b\u142b\u142c\u142c"
+            + "\u142d\u142d\u142d\u142e\u142e\u142f\u142f\u142f\u1430\u1430\u1431\u1431\u1431\u1432\u1432\u1433"
+            + "\u1433\u1433\u1434\u1434\u1435\u1435\u1435\u1436\u1436\u1437\u1437\u1437\u1438\u1438\u1438\u1439"
+            + "\u1439\u143a\u143a\u143a\u143b\u143b\u143c\u143c\u143c\u143d\u143d\u143e\u143e\u143e\u143f\u143f"
+            + "\u1440\u1440\u1440\u1441\u1441\u1442\u1442\u1442\u1443\u1443\u1444\u1444\u1444\u1445\u1445\u1446"
+            + "\u1446\u1446\u1447\u1447\u1448\u1448\u1448\u1449\u1449\u1449\u144a\u144a\u144b\u144b\u144b\u144c"
+            + "\u144c\u144d\u144d\u144d\u144e\u144e\u144f\u144f\u144f\u1450\u1450\u1451\u1451\u1451\u1452\u1452"
+            + "\u1453\u1453\u1453\u1454\u1454\u1455\u1455\u1455\u1456\u1456\u1456\u1457\u1457\u1458\u1458\u1458"
+            + "\u1459\u1459\u145a\u145a\u145a\u145b\u145b\u145c\u145c\u145c\u145d\u145d\u145e\u145e\u145e\u145f"
+            + "\u145f\u1460\u1460\u1460\u1461\u1461\u1461\u1462\u1462\u1463\u1463\u1463\u1464\u1464\u1465\u1465"
+            + "\u1465\u1466\u1466\u1467\u1467\u1467\u1468\u1468\u1469\u1469\u1469\u146a\u146a\u146a\u146b\u146b"
+            + "\u146c\u146c\u146c\u146d\u146d\u146e\u146e\u146e\u146f\u146f\u1470\u1470\u1470\u1471\u1471\u1472"
+            + "\u1472\u1472\u1473\u1473\u1473\u1474\u1474\u1475\u1475\u1475\u1476\u1476\u1477\u1477\u1477\u1478"
+            + "\u1478\u1479\u1479\u1479\u147a\u147a\u147b\u147b\u147b\u147c\u147c\u147c\u147d\u147d\u147e\u147e"
+            + "\u147e\u147f\u147f\u1480\u1480\u1480\u1481\u1481\u1482\u1482\u1482\u1483\u1483\u1484\u1484\u1484"
+            + "\u1485\u1485\u1485\u1486\u1486\u1487\u1487\u1487\u1488\u1488\u1489\u1489\u1489\u148a\u148a\u148b"
+            + "\u148b\u148b\u148c\u148c\u148c\u148d\u148d\u148e\u148e\u148e\u148f\u148f\u1490\u1490\u1490\u1491"
+            + "\u1491\u1492\u1492\u1492\u1493\u1493\u1493\u1494\u1494\u1495\u1495\u1495\u1496\u1496\u1497\u1497"
+            + "\u1497\u1498\u1498\u1499\u1499\u1499\u149a\u149a\u149a\u149b\u149b\u149c\u149c\u149c\u149d\u149d"
+            + "\u149e\u149e\u149e\u149f\u149f\u14a0\u14a0\u14a0\u14a1\u14a1\u14a1\u14a2\u14a2\u14a3\u14a3\u14a3"
+            + "\u14a4\u14a4\u14a5\u14a5\u14a5\u14a6\u14a6\u14a6\u14a7\u14a7\u14a8\u14a8\u14a8\u14a9\u14a9\u14aa"
+            + "\u14aa\u14aa\u14ab\u14ab\u14ac\u14ac\u14ac\u14ad\u14ad\u14ad\u14ae\u14ae\u14af\u14af\u14af\u14b0"
+            + "\u14b0\u14b1\u14b1\u14b1\u14b2\u14b2\u14b2\u14b3\u14b3\u14b4\u14b4\u14b4\u14b5\u14b5\u14b6\u14b6"
+            + "\u14b6\u14b7\u14b7\u14b8\u14b8\u14b8\u14b9\u14b9\u14b9\u14ba\u14ba\u14bb\u14bb\u14bb\u14bc\u14bc"
+            + "\u14bd\u14bd\u14bd\u14be\u14be\u14be\u14bf\u14bf\u14c0\u14c0\u14c0\u14c1\u14c1\u14c2\u14c2\u14c2"
+            + "\u14c3\u14c3\u14c3\u14c4\u14c4\u14c5\u14c5\u14c5\u14c6\u14c6\u14c7\u14c7\u14c7\u14c8\u14c8\u14c8"
+            + "\u14c9\u14c9\u14ca\u14ca\u14ca\u14cb\u14cb\u14cc\u14cc\u14cc\u14cd\u14cd\u14cd\u14ce\u14ce\u14cf"
+            + "\u14cf\u14cf\u14d0\u14d0\u14d1\u14d1\u14d1\u14d2\u14d2\u14d2\u14d3\u14d3\u14d4\u14d4\u14d4\u14d5"
+            + "\u14d5\u14d6\u14d6\u14d6\u14d7\u14d7\u14d7\u14d8\u14d8\u14d9\u14d9\u14d9\u14da\u14da\u14db\u14db"
+            + "\u14db\u14dc\u14dc\u14dc\u14dd\u14dd\u14de\u14de\u14de\u14df\u14df\u14e0\u14e0\u14e0\u14e1\u14e1"
+            + "\u14e1\u14e2\u14e2\u14e3\u14e3\u14e3\u14e4\u14e4\u14e5\u14e5\u14e5\u14e6\u14e6\u14e6\u14e7\u14e7"
+            + "\u14e8\u14e8\u14e8\u14e9\u14e9\u14e9\u14ea\u14ea\u14eb\u14eb\u14eb\u14ec\u14ec\u14ed\u14ed\u14ed"
+            + "\u14ee\u14ee\u14ee\u14ef\u14ef\u14f0\u14f0\u14f0\u14f1\u14f1\u14f2\u14f2\u14f2\u14f3\u14f3\u14f3"
+            + "\u14f4\u14f4\u14f5\u14f5\u14f5\u14f6\u14f6\u14f6\u14f7\u14f7\u14f8\u14f8\u14f8\u14f9\u14f9\u14fa"
+            + "\u14fa\u14fa\u14fb\u14fb\u14fb\u14fc\u14fc\u14fd\u14fd\u14fd\u14fe\u14fe\u14fe\u14ff\u14ff\u1500"
+            + "\u1500\u1500\u1501\u1501\u1502\u1502\u1502\u1503\u1503\u1503\u1504\u1504\u1505\u1505\u1505\u1506"
+            + "\u1506\u1506\u1507\u1507\u1508\u1508\u1508\u1509\u1509\u150a\u150a\u150a\u150b\u150b\u150b\u150c"
+            + "\u150c\u150d\u150d\u150d\u150e\u150e\u150e\u150f\u150f\u1510\u1510\u1510\u1511\u1511\u1511\u1512"
+            + "\u1512\u1513\u1513\u1513\u1514\u1514\u1515\u1515\u1515\u1516\u1516\u1516\u1517\u1517\u1518\u1518"
+            + "\u1518\u1519\u1519\u1519\u151a\u151a\u151b\u151b\u151b\u151c\u151c\u151c\u151d\u151d\u151e\u151e"
+            + "\u151e\u151f\u151f\u1520\u1520\u1520\u1521\u1521\u1521\u1522\u1522\u1523\u1523\u1523\u1524\u1524"
+            + "\u1524\u1525\u1525\u1526\u1526\u1526\u1527\u1527\u1527\u1528\u1528\u1529\u1529\u1529\u152a\u152a"
+            + "\u152a\u152b\u152b\u152c\u152c\u152c\u152d\u152d\u152e\u152e\u152e\u152f\u152f\u152f\u1530\u1530"
+            + "\u1531\u1531\u1531\u1532\u1532\u1532\u1533\u1533\u1534\u1534\u1534\u1535\u1535\u1535\u1536\u1536"
+            + "\u1537\u1537\u1537\u1538\u1538\u1538\u1539\u1539\u153a\u153a\u153a\u153b\u153b\u153b\u153c\u153c"
+            + "\u153d\u153d\u153d\u153e\u153e\u153e\u153f\u153f\u1540\u1540\u1540\u1541\u1541\u1542\u1542\u1542"
+            + "\u1543\u1543\u1543\u1544\u1544\u1545\u1545\u1545\u1546\u1546\u1546\u1547\u1547\u1548\u1548\u1548"
+            + "\u1549\u1549\u1549\u154a\u154a\u154b\u154b\u154b\u154c\u154c\u154c\u154d\u154d\u154e\u154e\u154e"
+            + "\u154f\u154f\u154f\u1550\u1550\u1551\u1551\u1551\u1552\u1552\u1552\u1553\u1553\u1554\u1554\u1554"
+            + "\u1555\u1555\u1555\u1556\u1556\u1557\u1557\u1557\u1558\u1558\u1558\u1559\u1559\u155a\u155a\u155a"
+            + "\u155b\u155b\u155b\u155c\u155c\u155d\u155d\u155d\u155e\u155e\u155e\u155f\u155f\u1560\u1560\u1560"
+            + "\u1561\u1561\u1561\u1562\u1562\u1563\u1563\u1563\u1564\u1564\u1564\u1565\u1565\u1566\u1566\u1566"
+            + "\u1567\u1567\u1567\u1568\u1568\u1569\u1569\u1569\u156a\u156a\u156a\u156b\u156b\u156b\u156c\u156c"
+            + "\u156d\u156d\u156d\u156e\u156e\u156e\u156f\u156f\u1570\u1570\u1570\u1571\u1571\u1571\u1572\u1572"
+            + "\u1573\u1573\u1573\u1574\u1574\u1574\u1575\u1575\u1576\u1576\u1576\u1577\u1577\u1577\u1578\u1578"
+            + "\u1579\u1579\u1579\u157a\u157a\u157a\u157b\u157b\u157c\u157c\u157c\u157d\u157d\u157d\u157e\u157e"
+            + "\u157f\u157f\u157f\u1580\u1580\u1580\u1581\u1581\u1581\u1582\u1582\u1583\u1583\u1583\u1584\u1584"
+            + "\u1584\u1585\u1585\u1586\u1586\u1586\u1587\u1587\u1587\u1588\u1588\u1589\u1589\u1589\u158a\u158a"
+            + "\u158a\u158b\u158b\u158c\u158c\u158c\u158d\u158d\u158d\u158e\u158e\u158e\u158f\u158f\u1590\u1590"
+            + "\u1590\u1591\u1591\u1591\u1592\u1592\u1593\u1593\u1593\u1594\u1594\u1594\u1595\u1595\u1596\u1596"
+            + "\u1596\u1597\u1597\u1597\u1598\u1598\u1599\u1599\u1599\u159a\u159a\u159a\u159b\u159b\u159b\u159c"
+            + "\u159c\u159d\u159d\u159d\u159e\u159e\u159e\u159f\u159f\u15a0\u15a0\u15a0\u15a1\u15a1\u15a1\u15a2"
+            + "\u15a2\u15a2\u15a3\u15a3\u15a4\u15a4\u15a4\u15a5\u15a5\u15a5\u15a6\u15a6\u15a7\u15a7\u15a7\u15a8"
+            + "\u15a8\u15a8\u15a9\u15a9\u15aa\u15aa\u15aa\u15ab\u15ab\u15ab\u15ac\u15ac\u15ac\u15ad\u15ad\u15ae"
+            + "\u15ae\u15ae\u15af\u15af\u15af\u15b0\u15b0\u15b1\u15b1\u15b1\u15b2\u15b2\u15b2\u15b3\u15b3\u15b3"
+            + "\u15b4\u15b4\u15b5\u15b5\u15b5\u15b6\u15b6\u15b6\u15b7\u15b7\u15b8\u15b8\u15b8\u15b9\u15b9\u15b9"
+            + "\u15ba\u15ba\u15ba\u15bb\u15bb\u15bc\u15bc\u15bc\u15bd\u15bd\u15bd\u15be\u15be\u15bf\u15bf\u15bf"
+            + "\u15c0\u15c0\u15c0\u15c1\u15c1\u15c1\u15c2\u15c2\u15c3\u15c3\u15c3\u15c4\u15c4\u15c4\u15c5\u15c5"
+            + "\u15c6\u15c6\u15c6\u15c7\u15c7\u15c7\u15c8\u15c8\u15c8\u15c9\u15c9\u15ca\u15ca\u15ca\u15cb\u15cb"
+            + "\u15cb\u15cc\u15cc\u15cc\u15cd\u15cd\u15ce\u15ce\u15ce\u15cf\u15cf\u15cf\u15d0\u15d0\u15d1\u15d1"
+            + "\u15d1\u15d2\u15d2\u15d2\u15d3\u15d3\u15d3\u15d4\u15d4\u15d5\u15d5\u15d5\u15d6\u15d6\u15d6\u15d7"
+            + "\u15d7\u15d7\u15d8\u15d8\u15d9\u15d9\u15d9\u15da\u15da\u15da\u15db\u15db\u15dc\u15dc\u15dc\u15dd"
+            + "\u15dd\u15dd\u15de\u15de\u15de\u15df\u15df\u15e0\u15e0\u15e0\u15e1\u15e1\u15e1\u15e2\u15e2\u15e2"
+            + "\u15e3\u15e3\u15e4\u15e4\u15e4\u15e5\u15e5\u15e5\u15e6\u15e6\u15e6\u15e7\u15e7\u15e8\u15e8\u15e8"
+            + "\u15e9\u15e9\u15e9\u15ea\u15ea\u15eb\u15eb\u15eb\u15ec\u15ec\u15ec\u15ed\u15ed\u15ed\u15ee\u15ee"
+            + "\u15ef\u15ef\u15ef\u15f0\u15f0\u15f0\u15f1\u15f1\u15f1\u15f2\u15f2\u15f3\u15f3\u15f3\u15f4\u15f4"
+            + "\u15f4\u15f5\u15f5\u15f5\u15f6\u15f6\u15f7\u15f7\u15f7\u15f8\u15f8\u15f8\u15f9\u15f9\u15f9\u15fa"
+            + "\u15fa\u15fb\u15fb\u15fb\u15fc\u15fc\u15fc\u15fd\u15fd\u15fd\u15fe\u15fe\u15ff\u15ff\u15ff\u1600"
+            + "\u1600\u1600\u1601\u1601\u1601\u1602\u1602\u1603\u1603\u1603\u1604\u1604\u1604\u1605\u1605\u1605"
+            + "\u1606\u1606\u1607\u1607\u1607\u1608\u1608\u1608\u1609\u1609\u1609\u160a\u160a\u160b\u160b\u160b"
+            + "\u160c\u160c\u160c\u160d\u160d\u160d\u160e\u160e\u160f\u160f\u160f\u1610\u1610\u1610\u1611\u1611"
+            + "\u1611\u1612\u1612\u1613\u1613\u1613\u1614\u1614\u1614\u1615\u1615\u1615\u1616\u1616\u1617\u1617"
+            + "\u1617\u1618\u1618\u1618\u1619\u1619\u1619\u161a\u161a\u161a\u161b\u161b\u161c\u161c\u161c\u161d"
+            + "\u161d\u161d\u161e\u161e\u161e\u161f\u161f\u1620\u1620\u1620\u1621\u1621\u1621\u1622\u1622\u1622"
+            + "\u1623\u1623\u1624\u1624\u1624\u1625\u1625\u1625\u1626\u1626\u1626\u1627\u1627\u1627\u1628\u1628"
+            + "\u1629\u1629\u1629\u162a\u162a\u162a\u162b\u162b\u162b\u162c\u162c\u162d\u162d\u162d\u162e\u162e"
+            + "\u162e\u162f\u162f\u162f\u1630\u1630\u1631\u1631\u1631\u1632\u1632\u1632\u1633\u1633\u1633\u1634"
+            + "\u1634\u1634\u1635\u1635\u1636\u1636\u1636\u1637\u1637\u1637\u1638\u1638\u1638\u1639\u1639\u163a"
+            + "\u163a\u163a\u163b\u163b\u163b\u163c\u163c\u163c\u163d\u163d\u163d\u163e\u163e\u163f\u163f\u163f"
+            + "\u1640\u1640\u1640\u1641\u1641\u1641\u1642\u1642\u1643\u1643\u1643\u1644\u1644\u1644\u1645\u1645"
+            + "\u1645\u1646\u1646\u1646\u1647\u1647\u1648\u1648\u1648\u1649\u1649\u1649\u164a\u164a\u164a\u164b"
+            + "\u164b\u164b\u164c\u164c\u164d\u164d\u164d\u164e\u164e\u164e\u164f\u164f\u164f\u1650\u1650\u1651"
+            + "\u1651\u1651\u1652\u1652\u1652\u1653\u1653\u1653\u1654\u1654\u1654\u1655\u1655\u1656\u1656\u1656"
+            + "\u1657\u1657\u1657\u1658\u1658\u1658\u1659\u1659\u1659\u165a\u165a\u165b\u165b\u165b\u165c\u165c"
+            + "\u165c\u165d\u165d\u165d\u165e\u165e\u165e\u165f\u165f\u1660\u1660\u1660\u1661\u1661\u1661\u1662"
+            + "\u1662\u1662\u1663\u1663\u1663\u1664\u1664\u1665\u1665\u1665\u1666\u1666\u1666\u1667\u1667\u1667"
+            + "\u1668\u1668\u1668\u1669\u1669\u166a\u166a\u166a\u166b\u166b\u166b\u166c\u166c\u166c\u166d\u166d"
+            + "\u166d\u166e\u166e\u166f\u166f\u166f\u1670\u1670\u1670\u1671\u1671\u1671\u1672\u1672\u1672\u1673"
+            + "\u1673\u1674\u1674\u1674\u1675\u1675\u1675\u1676\u1676\u1676\u1677\u1677\u1677\u1678\u1678\u1679"
+            + "\u1679\u1679\u167a\u167a\u167a\u167b\u167b\u167b\u167c\u167c\u167c\u167d\u167d\u167e\u167e\u167e"
+            + "\u167f\u167f\u167f\u1680\u1680\u1680\u1681\u1681\u1681\u1682\u1682\u1682\u1683\u1683\u1684\u1684"
+            + "\u1684\u1685\u1685\u1685\u1686\u1686\u1686\u1687\u1687\u1687\u1688\u1688\u1689\u1689\u1689\u168a"
+            + "\u168a\u168a\u168b\u168b\u168b\u168c\u168c\u168c\u168d\u168d\u168d\u168e\u168e\u168f\u168f\u168f"
+            + "\u1690\u1690\u1690\u1691\u1691\u1691\u1692\u1692\u1692\u1693\u1693\u1694\u1694\u1694\u1695\u1695"
+            + "\u1695\u1696\u1696\u1696\u1697\u1697\u1697\u1698\u1698\u1698\u1699\u1699\u169a\u169a\u169a\u169b"
+            + "\u169b\u169b\u169c\u169c\u169c\u169d\u169d\u169d\u169e\u169e\u169e\u169f\u169f\u16a0\u16a0\u16a0";
+
+    // floods from where we stand unless that already happened this turn, returns
+    // lastRadius
+    public static int flood() {
+        MapLocation me = rc.getLocation();
+        boolean ready = rc.isMovementReady();
+        boolean fill = waterFill;
+        int round = rc.getRoundNum();
+        if (lastRadius != 0 && floodRound == round && floodX == me.x && floodY == me.y && floodReady == ready
+                && floodFill == fill) {
+            return lastRadius;
+        }
+        int left = Clock.getBytecodesLeft();
+        int cap = radiusCap;
+        lastRadius = 0;
+        if (cap >= 20 && left > BfsR20.MIN_BC_TO_USE) {
+            BfsR20.flood(ready, fill);
+            lastRadius = 20;
+        } else if (cap >= 13 && left > BfsR13.MIN_BC_TO_USE) {
+            BfsR13.flood(ready, fill);
+            lastRadius = 13;
+        } else if (cap >= 8 && left > BfsR8.MIN_BC_TO_USE) {
+            BfsR8.flood(ready, fill);
+            lastRadius = 8;
+        }
+        floodRound = round;
+        floodX = me.x;
+        floodY = me.y;
+        floodReady = ready;
+        floodFill = fill;
+        return lastRadius;
+    }
 
     public static Direction getBestDir(MapLocation target) {
-        l84 = rc.getLocation();
-        v84 = 0;
-        l71 = l84.add(Direction.WEST);
-        v71 = 1000000;
-        d71 = null;
-        l83 = l71.add(Direction.SOUTHEAST);
-        v83 = 1000000;
-        d83 = null;
-        l97 = l83.add(Direction.NORTHEAST);
-        v97 = 1000000;
-        d97 = null;
-        l85 = l97.add(Direction.NORTHWEST);
-        v85 = 1000000;
-        d85 = null;
-        l72 = l85.add(Direction.WEST);
-        v72 = 1000000;
-        d72 = null;
-        l58 = l72.add(Direction.SOUTHWEST);
-        v58 = 1000000;
-        d58 = null;
-        l70 = l58.add(Direction.SOUTHEAST);
-        v70 = 1000000;
-        d70 = null;
-        l82 = l70.add(Direction.SOUTHEAST);
-        v82 = 1000000;
-        d82 = null;
-        l96 = l82.add(Direction.NORTHEAST);
-        v96 = 1000000;
-        d96 = null;
-        l110 = l96.add(Direction.NORTHEAST);
-        v110 = 1000000;
-        d110 = null;
-        l98 = l110.add(Direction.NORTHWEST);
-        v98 = 1000000;
-        d98 = null;
-        l86 = l98.add(Direction.NORTHWEST);
-        v86 = 1000000;
-        d86 = null;
-        l73 = l86.add(Direction.WEST);
-        v73 = 1000000;
-        d73 = null;
-        l60 = l73.add(Direction.WEST);
-        v60 = 1000000;
-        d60 = null;
-        l59 = l60.add(Direction.SOUTH);
-        v59 = 1000000;
-        d59 = null;
-        l45 = l59.add(Direction.SOUTHWEST);
-        v45 = 1000000;
-        d45 = null;
-        l57 = l45.add(Direction.SOUTHEAST);
-        v57 = 1000000;
-        d57 = null;
-        l56 = l57.add(Direction.SOUTH);
-        v56 = 1000000;
-        d56 = null;
-        l69 = l56.add(Direction.EAST);
-        v69 = 1000000;
-        d69 = null;
-        l81 = l69.add(Direction.SOUTHEAST);
-        v81 = 1000000;
-        d81 = null;
-        l95 = l81.add(Direction.NORTHEAST);
-        v95 = 1000000;
-        d95 = null;
-        l108 = l95.add(Direction.EAST);
-        v108 = 1000000;
-        d108 = null;
-        l109 = l108.add(Direction.NORTH);
-        v109 = 1000000;
-        d109 = null;
-        l123 = l109.add(Direction.NORTHEAST);
-        v123 = 1000000;
-        d123 = null;
-        l111 = l123.add(Direction.NORTHWEST);
-        v111 = 1000000;
-        d111 = null;
-        l112 = l111.add(Direction.NORTH);
-        v112 = 1000000;
-        d112 = null;
-        l99 = l112.add(Direction.WEST);
-        v99 = 1000000;
-        d99 = null;
-        l87 = l99.add(Direction.NORTHWEST);
-        v87 = 1000000;
-        d87 = null;
-        l74 = l87.add(Direction.WEST);
-        v74 = 1000000;
-        d74 = null;
-        l61 = l74.add(Direction.WEST);
-        v61 = 1000000;
-        d61 = null;
-        l48 = l61.add(Direction.WEST);
-        v48 = 1000000;
-        d48 = null;
-        l47 = l48.add(Direction.SOUTH);
-        v47 = 1000000;
-        d47 = null;
-        l46 = l47.add(Direction.SOUTH);
-        v46 = 1000000;
-        d46 = null;
-        l32 = l46.add(Direction.SOUTHWEST);
-        v32 = 1000000;
-        d32 = null;
-        l44 = l32.add(Direction.SOUTHEAST);
-        v44 = 1000000;
-        d44 = null;
-        l43 = l44.add(Direction.SOUTH);
-        v43 = 1000000;
-        d43 = null;
-        l42 = l43.add(Direction.SOUTH);
-        v42 = 1000000;
-        d42 = null;
-        l55 = l42.add(Direction.EAST);
-        v55 = 1000000;
-        d55 = null;
-        l68 = l55.add(Direction.EAST);
-        v68 = 1000000;
-        d68 = null;
-        l80 = l68.add(Direction.SOUTHEAST);
-        v80 = 1000000;
-        d80 = null;
-        l94 = l80.add(Direction.NORTHEAST);
-        v94 = 1000000;
-        d94 = null;
-        l107 = l94.add(Direction.EAST);
-        v107 = 1000000;
-        d107 = null;
-        l120 = l107.add(Direction.EAST);
-        v120 = 1000000;
-        d120 = null;
-        l121 = l120.add(Direction.NORTH);
-        v121 = 1000000;
-        d121 = null;
-        l122 = l121.add(Direction.NORTH);
-        v122 = 1000000;
-        d122 = null;
-        l136 = l122.add(Direction.NORTHEAST);
-        v136 = 1000000;
-        d136 = null;
-        l124 = l136.add(Direction.NORTHWEST);
-        v124 = 1000000;
-        d124 = null;
-        l125 = l124.add(Direction.NORTH);
-        v125 = 1000000;
-        d125 = null;
-        l126 = l125.add(Direction.NORTH);
-        v126 = 1000000;
-        d126 = null;
-        l113 = l126.add(Direction.WEST);
-        v113 = 1000000;
-        d113 = null;
-        l100 = l113.add(Direction.WEST);
-        v100 = 1000000;
-        d100 = null;
-        l88 = l100.add(Direction.NORTHWEST);
-        v88 = 1000000;
-        d88 = null;
-        l75 = l88.add(Direction.WEST);
-        v75 = 1000000;
-        d75 = null;
-        l62 = l75.add(Direction.WEST);
-        v62 = 1000000;
-        d62 = null;
-        l34 = l48.add(Direction.SOUTHWEST);
-        v34 = 1000000;
-        d34 = null;
-        l33 = l34.add(Direction.SOUTH);
-        v33 = 1000000;
-        d33 = null;
-        l31 = l32.add(Direction.SOUTH);
-        v31 = 1000000;
-        d31 = null;
-        l30 = l31.add(Direction.SOUTH);
-        v30 = 1000000;
-        d30 = null;
-        l54 = l42.add(Direction.SOUTHEAST);
-        v54 = 1000000;
-        d54 = null;
-        l67 = l54.add(Direction.EAST);
-        v67 = 1000000;
-        d67 = null;
-        l93 = l80.add(Direction.EAST);
-        v93 = 1000000;
-        d93 = null;
-        l106 = l93.add(Direction.EAST);
-        v106 = 1000000;
-        d106 = null;
-        l134 = l122.add(Direction.SOUTHEAST);
-        v134 = 1000000;
-        d134 = null;
-        l135 = l134.add(Direction.NORTH);
-        v135 = 1000000;
-        d135 = null;
-        l137 = l136.add(Direction.NORTH);
-        v137 = 1000000;
-        d137 = null;
-        l138 = l137.add(Direction.NORTH);
-        v138 = 1000000;
-        d138 = null;
-        l114 = l113.add(Direction.NORTH);
-        v114 = 1000000;
-        d114 = null;
-        l101 = l114.add(Direction.WEST);
-        v101 = 1000000;
-        d101 = null;
+        switch (flood()) {
+            case 20:
+                return BfsR20.getBestDir(target);
+            case 13:
+                return BfsR13.getBestDir(target);
+            case 8:
+                return BfsR8.getBestDir(target);
+        }
+        return null;
+    }
 
-        try {
-            if (rc.canMove(Direction.WEST)) {
-                MapInfo mi = rc.senseMapInfo(l71);
-                p71 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                v71 = p71;
-                d71 = Direction.WEST;
-            }
-            if (rc.canMove(Direction.SOUTH)) {
-                MapInfo mi = rc.senseMapInfo(l83);
-                p83 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                v83 = p83;
-                d83 = Direction.SOUTH;
-                if (v83 > v71 + p83) {
-                    v83 = v71 + p83;
-                    d83 = d71;
-                }
-            }
-            if (rc.canMove(Direction.NORTH)) {
-                MapInfo mi = rc.senseMapInfo(l85);
-                p85 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                v85 = p85;
-                d85 = Direction.NORTH;
-                if (v85 > v71 + p85) {
-                    v85 = v71 + p85;
-                    d85 = d71;
-                }
-            }
-            if (rc.canMove(Direction.EAST)) {
-                MapInfo mi = rc.senseMapInfo(l97);
-                p97 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                v97 = p97;
-                d97 = Direction.EAST;
-                if (v97 > v85 + p97) {
-                    v97 = v85 + p97;
-                    d97 = d85;
-                }
-                if (v97 > v83 + p97) {
-                    v97 = v83 + p97;
-                    d97 = d83;
-                }
-            }
-            if (rc.canMove(Direction.SOUTHWEST)) {
-                MapInfo mi = rc.senseMapInfo(l70);
-                p70 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                v70 = p70;
-                d70 = Direction.SOUTHWEST;
-                if (v70 > v71 + p70) {
-                    v70 = v71 + p70;
-                    d70 = d71;
-                }
-                if (v70 > v83 + p70) {
-                    v70 = v83 + p70;
-                    d70 = d83;
-                }
-            }
-            if (rc.canMove(Direction.NORTHWEST)) {
-                MapInfo mi = rc.senseMapInfo(l72);
-                p72 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                v72 = p72;
-                d72 = Direction.NORTHWEST;
-                if (v72 > v71 + p72) {
-                    v72 = v71 + p72;
-                    d72 = d71;
-                }
-                if (v72 > v85 + p72) {
-                    v72 = v85 + p72;
-                    d72 = d85;
-                }
-            }
-            if (rc.canMove(Direction.SOUTHEAST)) {
-                MapInfo mi = rc.senseMapInfo(l96);
-                p96 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                v96 = p96;
-                d96 = Direction.SOUTHEAST;
-                if (v96 > v97 + p96) {
-                    v96 = v97 + p96;
-                    d96 = d97;
-                }
-                if (v96 > v83 + p96) {
-                    v96 = v83 + p96;
-                    d96 = d83;
-                }
-            }
-            if (rc.canMove(Direction.NORTHEAST)) {
-                MapInfo mi = rc.senseMapInfo(l98);
-                p98 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                v98 = p98;
-                d98 = Direction.NORTHEAST;
-                if (v98 > v85 + p98) {
-                    v98 = v85 + p98;
-                    d98 = d85;
-                }
-                if (v98 > v97 + p98) {
-                    v98 = v97 + p98;
-                    d98 = d97;
-                }
-            }
-            if (rc.canSenseLocation(l58)) {
-                MapInfo mi = rc.senseMapInfo(l58);
-                p58 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v58 > v71 + p58) {
-                    v58 = v71 + p58;
-                    d58 = d71;
-                }
-                if (v58 > v70 + p58) {
-                    v58 = v70 + p58;
-                    d58 = d70;
-                }
-                if (v58 > v72 + p58) {
-                    v58 = v72 + p58;
-                    d58 = d72;
-                }
-            }
-            if (rc.canSenseLocation(l82)) {
-                MapInfo mi = rc.senseMapInfo(l82);
-                p82 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v82 > v83 + p82) {
-                    v82 = v83 + p82;
-                    d82 = d83;
-                }
-                if (v82 > v70 + p82) {
-                    v82 = v70 + p82;
-                    d82 = d70;
-                }
-                if (v82 > v96 + p82) {
-                    v82 = v96 + p82;
-                    d82 = d96;
-                }
-            }
-            if (rc.canSenseLocation(l86)) {
-                MapInfo mi = rc.senseMapInfo(l86);
-                p86 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v86 > v85 + p86) {
-                    v86 = v85 + p86;
-                    d86 = d85;
-                }
-                if (v86 > v72 + p86) {
-                    v86 = v72 + p86;
-                    d86 = d72;
-                }
-                if (v86 > v98 + p86) {
-                    v86 = v98 + p86;
-                    d86 = d98;
-                }
-            }
-            if (rc.canSenseLocation(l110)) {
-                MapInfo mi = rc.senseMapInfo(l110);
-                p110 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v110 > v97 + p110) {
-                    v110 = v97 + p110;
-                    d110 = d97;
-                }
-                if (v110 > v98 + p110) {
-                    v110 = v98 + p110;
-                    d110 = d98;
-                }
-                if (v110 > v96 + p110) {
-                    v110 = v96 + p110;
-                    d110 = d96;
-                }
-            }
-            if (rc.canSenseLocation(l57)) {
-                MapInfo mi = rc.senseMapInfo(l57);
-                p57 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v57 > v71 + p57) {
-                    v57 = v71 + p57;
-                    d57 = d71;
-                }
-                if (v57 > v70 + p57) {
-                    v57 = v70 + p57;
-                    d57 = d70;
-                }
-                if (v57 > v58 + p57) {
-                    v57 = v58 + p57;
-                    d57 = d58;
-                }
-            }
-            if (rc.canSenseLocation(l59)) {
-                MapInfo mi = rc.senseMapInfo(l59);
-                p59 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v59 > v71 + p59) {
-                    v59 = v71 + p59;
-                    d59 = d71;
-                }
-                if (v59 > v72 + p59) {
-                    v59 = v72 + p59;
-                    d59 = d72;
-                }
-                if (v59 > v58 + p59) {
-                    v59 = v58 + p59;
-                    d59 = d58;
-                }
-            }
-            if (rc.canSenseLocation(l69)) {
-                MapInfo mi = rc.senseMapInfo(l69);
-                p69 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v69 > v83 + p69) {
-                    v69 = v83 + p69;
-                    d69 = d83;
-                }
-                if (v69 > v70 + p69) {
-                    v69 = v70 + p69;
-                    d69 = d70;
-                }
-                if (v69 > v82 + p69) {
-                    v69 = v82 + p69;
-                    d69 = d82;
-                }
-                if (v69 > v57 + p69) {
-                    v69 = v57 + p69;
-                    d69 = d57;
-                }
-            }
-            if (rc.canSenseLocation(l73)) {
-                MapInfo mi = rc.senseMapInfo(l73);
-                p73 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v73 > v85 + p73) {
-                    v73 = v85 + p73;
-                    d73 = d85;
-                }
-                if (v73 > v72 + p73) {
-                    v73 = v72 + p73;
-                    d73 = d72;
-                }
-                if (v73 > v86 + p73) {
-                    v73 = v86 + p73;
-                    d73 = d86;
-                }
-                if (v73 > v59 + p73) {
-                    v73 = v59 + p73;
-                    d73 = d59;
-                }
-            }
-            if (rc.canSenseLocation(l95)) {
-                MapInfo mi = rc.senseMapInfo(l95);
-                p95 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v95 > v83 + p95) {
-                    v95 = v83 + p95;
-                    d95 = d83;
-                }
-                if (v95 > v96 + p95) {
-                    v95 = v96 + p95;
-                    d95 = d96;
-                }
-                if (v95 > v82 + p95) {
-                    v95 = v82 + p95;
-                    d95 = d82;
-                }
-            }
-            if (rc.canSenseLocation(l99)) {
-                MapInfo mi = rc.senseMapInfo(l99);
-                p99 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v99 > v85 + p99) {
-                    v99 = v85 + p99;
-                    d99 = d85;
-                }
-                if (v99 > v98 + p99) {
-                    v99 = v98 + p99;
-                    d99 = d98;
-                }
-                if (v99 > v86 + p99) {
-                    v99 = v86 + p99;
-                    d99 = d86;
-                }
-            }
-            if (rc.canSenseLocation(l109)) {
-                MapInfo mi = rc.senseMapInfo(l109);
-                p109 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v109 > v97 + p109) {
-                    v109 = v97 + p109;
-                    d109 = d97;
-                }
-                if (v109 > v96 + p109) {
-                    v109 = v96 + p109;
-                    d109 = d96;
-                }
-                if (v109 > v110 + p109) {
-                    v109 = v110 + p109;
-                    d109 = d110;
-                }
-                if (v109 > v95 + p109) {
-                    v109 = v95 + p109;
-                    d109 = d95;
-                }
-            }
-            if (rc.canSenseLocation(l111)) {
-                MapInfo mi = rc.senseMapInfo(l111);
-                p111 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v111 > v97 + p111) {
-                    v111 = v97 + p111;
-                    d111 = d97;
-                }
-                if (v111 > v98 + p111) {
-                    v111 = v98 + p111;
-                    d111 = d98;
-                }
-                if (v111 > v110 + p111) {
-                    v111 = v110 + p111;
-                    d111 = d110;
-                }
-                if (v111 > v99 + p111) {
-                    v111 = v99 + p111;
-                    d111 = d99;
-                }
-            }
-            if (rc.canSenseLocation(l56)) {
-                MapInfo mi = rc.senseMapInfo(l56);
-                p56 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v56 > v70 + p56) {
-                    v56 = v70 + p56;
-                    d56 = d70;
-                }
-                if (v56 > v57 + p56) {
-                    v56 = v57 + p56;
-                    d56 = d57;
-                }
-                if (v56 > v69 + p56) {
-                    v56 = v69 + p56;
-                    d56 = d69;
-                }
-            }
-            if (rc.canSenseLocation(l60)) {
-                MapInfo mi = rc.senseMapInfo(l60);
-                p60 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v60 > v72 + p60) {
-                    v60 = v72 + p60;
-                    d60 = d72;
-                }
-                if (v60 > v59 + p60) {
-                    v60 = v59 + p60;
-                    d60 = d59;
-                }
-                if (v60 > v73 + p60) {
-                    v60 = v73 + p60;
-                    d60 = d73;
-                }
-            }
-            if (rc.canSenseLocation(l108)) {
-                MapInfo mi = rc.senseMapInfo(l108);
-                p108 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v108 > v96 + p108) {
-                    v108 = v96 + p108;
-                    d108 = d96;
-                }
-                if (v108 > v109 + p108) {
-                    v108 = v109 + p108;
-                    d108 = d109;
-                }
-                if (v108 > v95 + p108) {
-                    v108 = v95 + p108;
-                    d108 = d95;
-                }
-            }
-            if (rc.canSenseLocation(l112)) {
-                MapInfo mi = rc.senseMapInfo(l112);
-                p112 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v112 > v98 + p112) {
-                    v112 = v98 + p112;
-                    d112 = d98;
-                }
-                if (v112 > v99 + p112) {
-                    v112 = v99 + p112;
-                    d112 = d99;
-                }
-                if (v112 > v111 + p112) {
-                    v112 = v111 + p112;
-                    d112 = d111;
-                }
-            }
-            if (rc.canSenseLocation(l45)) {
-                MapInfo mi = rc.senseMapInfo(l45);
-                p45 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v45 > v58 + p45) {
-                    v45 = v58 + p45;
-                    d45 = d58;
-                }
-                if (v45 > v57 + p45) {
-                    v45 = v57 + p45;
-                    d45 = d57;
-                }
-                if (v45 > v59 + p45) {
-                    v45 = v59 + p45;
-                    d45 = d59;
-                }
-            }
-            if (rc.canSenseLocation(l81)) {
-                MapInfo mi = rc.senseMapInfo(l81);
-                p81 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v81 > v82 + p81) {
-                    v81 = v82 + p81;
-                    d81 = d82;
-                }
-                if (v81 > v69 + p81) {
-                    v81 = v69 + p81;
-                    d81 = d69;
-                }
-                if (v81 > v95 + p81) {
-                    v81 = v95 + p81;
-                    d81 = d95;
-                }
-            }
-            if (rc.canSenseLocation(l87)) {
-                MapInfo mi = rc.senseMapInfo(l87);
-                p87 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v87 > v86 + p87) {
-                    v87 = v86 + p87;
-                    d87 = d86;
-                }
-                if (v87 > v73 + p87) {
-                    v87 = v73 + p87;
-                    d87 = d73;
-                }
-                if (v87 > v99 + p87) {
-                    v87 = v99 + p87;
-                    d87 = d99;
-                }
-            }
-            if (rc.canSenseLocation(l123)) {
-                MapInfo mi = rc.senseMapInfo(l123);
-                p123 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v123 > v110 + p123) {
-                    v123 = v110 + p123;
-                    d123 = d110;
-                }
-                if (v123 > v111 + p123) {
-                    v123 = v111 + p123;
-                    d123 = d111;
-                }
-                if (v123 > v109 + p123) {
-                    v123 = v109 + p123;
-                    d123 = d109;
-                }
-            }
-            if (rc.canSenseLocation(l44)) {
-                MapInfo mi = rc.senseMapInfo(l44);
-                p44 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v44 > v58 + p44) {
-                    v44 = v58 + p44;
-                    d44 = d58;
-                }
-                if (v44 > v57 + p44) {
-                    v44 = v57 + p44;
-                    d44 = d57;
-                }
-                if (v44 > v56 + p44) {
-                    v44 = v56 + p44;
-                    d44 = d56;
-                }
-                if (v44 > v45 + p44) {
-                    v44 = v45 + p44;
-                    d44 = d45;
-                }
-            }
-            if (rc.canSenseLocation(l46)) {
-                MapInfo mi = rc.senseMapInfo(l46);
-                p46 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v46 > v58 + p46) {
-                    v46 = v58 + p46;
-                    d46 = d58;
-                }
-                if (v46 > v59 + p46) {
-                    v46 = v59 + p46;
-                    d46 = d59;
-                }
-                if (v46 > v60 + p46) {
-                    v46 = v60 + p46;
-                    d46 = d60;
-                }
-                if (v46 > v45 + p46) {
-                    v46 = v45 + p46;
-                    d46 = d45;
-                }
-            }
-            if (rc.canSenseLocation(l68)) {
-                MapInfo mi = rc.senseMapInfo(l68);
-                p68 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v68 > v82 + p68) {
-                    v68 = v82 + p68;
-                    d68 = d82;
-                }
-                if (v68 > v69 + p68) {
-                    v68 = v69 + p68;
-                    d68 = d69;
-                }
-                if (v68 > v56 + p68) {
-                    v68 = v56 + p68;
-                    d68 = d56;
-                }
-                if (v68 > v81 + p68) {
-                    v68 = v81 + p68;
-                    d68 = d81;
-                }
-            }
-            if (rc.canSenseLocation(l74)) {
-                MapInfo mi = rc.senseMapInfo(l74);
-                p74 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v74 > v86 + p74) {
-                    v74 = v86 + p74;
-                    d74 = d86;
-                }
-                if (v74 > v73 + p74) {
-                    v74 = v73 + p74;
-                    d74 = d73;
-                }
-                if (v74 > v60 + p74) {
-                    v74 = v60 + p74;
-                    d74 = d60;
-                }
-                if (v74 > v87 + p74) {
-                    v74 = v87 + p74;
-                    d74 = d87;
-                }
-            }
-            if (rc.canSenseLocation(l94)) {
-                MapInfo mi = rc.senseMapInfo(l94);
-                p94 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v94 > v82 + p94) {
-                    v94 = v82 + p94;
-                    d94 = d82;
-                }
-                if (v94 > v95 + p94) {
-                    v94 = v95 + p94;
-                    d94 = d95;
-                }
-                if (v94 > v108 + p94) {
-                    v94 = v108 + p94;
-                    d94 = d108;
-                }
-                if (v94 > v81 + p94) {
-                    v94 = v81 + p94;
-                    d94 = d81;
-                }
-            }
-            if (rc.canSenseLocation(l100)) {
-                MapInfo mi = rc.senseMapInfo(l100);
-                p100 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v100 > v86 + p100) {
-                    v100 = v86 + p100;
-                    d100 = d86;
-                }
-                if (v100 > v99 + p100) {
-                    v100 = v99 + p100;
-                    d100 = d99;
-                }
-                if (v100 > v112 + p100) {
-                    v100 = v112 + p100;
-                    d100 = d112;
-                }
-                if (v100 > v87 + p100) {
-                    v100 = v87 + p100;
-                    d100 = d87;
-                }
-            }
-            if (rc.canSenseLocation(l122)) {
-                MapInfo mi = rc.senseMapInfo(l122);
-                p122 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v122 > v110 + p122) {
-                    v122 = v110 + p122;
-                    d122 = d110;
-                }
-                if (v122 > v109 + p122) {
-                    v122 = v109 + p122;
-                    d122 = d109;
-                }
-                if (v122 > v108 + p122) {
-                    v122 = v108 + p122;
-                    d122 = d108;
-                }
-                if (v122 > v123 + p122) {
-                    v122 = v123 + p122;
-                    d122 = d123;
-                }
-            }
-            if (rc.canSenseLocation(l124)) {
-                MapInfo mi = rc.senseMapInfo(l124);
-                p124 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v124 > v110 + p124) {
-                    v124 = v110 + p124;
-                    d124 = d110;
-                }
-                if (v124 > v111 + p124) {
-                    v124 = v111 + p124;
-                    d124 = d111;
-                }
-                if (v124 > v112 + p124) {
-                    v124 = v112 + p124;
-                    d124 = d112;
-                }
-                if (v124 > v123 + p124) {
-                    v124 = v123 + p124;
-                    d124 = d123;
-                }
-            }
-            if (rc.canSenseLocation(l43)) {
-                MapInfo mi = rc.senseMapInfo(l43);
-                p43 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v43 > v57 + p43) {
-                    v43 = v57 + p43;
-                    d43 = d57;
-                }
-                if (v43 > v56 + p43) {
-                    v43 = v56 + p43;
-                    d43 = d56;
-                }
-                if (v43 > v44 + p43) {
-                    v43 = v44 + p43;
-                    d43 = d44;
-                }
-            }
-            if (rc.canSenseLocation(l47)) {
-                MapInfo mi = rc.senseMapInfo(l47);
-                p47 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v47 > v59 + p47) {
-                    v47 = v59 + p47;
-                    d47 = d59;
-                }
-                if (v47 > v60 + p47) {
-                    v47 = v60 + p47;
-                    d47 = d60;
-                }
-                if (v47 > v46 + p47) {
-                    v47 = v46 + p47;
-                    d47 = d46;
-                }
-            }
-            if (rc.canSenseLocation(l55)) {
-                MapInfo mi = rc.senseMapInfo(l55);
-                p55 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v55 > v69 + p55) {
-                    v55 = v69 + p55;
-                    d55 = d69;
-                }
-                if (v55 > v56 + p55) {
-                    v55 = v56 + p55;
-                    d55 = d56;
-                }
-                if (v55 > v68 + p55) {
-                    v55 = v68 + p55;
-                    d55 = d68;
-                }
-                if (v55 > v43 + p55) {
-                    v55 = v43 + p55;
-                    d55 = d43;
-                }
-            }
-            if (rc.canSenseLocation(l61)) {
-                MapInfo mi = rc.senseMapInfo(l61);
-                p61 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v61 > v73 + p61) {
-                    v61 = v73 + p61;
-                    d61 = d73;
-                }
-                if (v61 > v60 + p61) {
-                    v61 = v60 + p61;
-                    d61 = d60;
-                }
-                if (v61 > v74 + p61) {
-                    v61 = v74 + p61;
-                    d61 = d74;
-                }
-                if (v61 > v47 + p61) {
-                    v61 = v47 + p61;
-                    d61 = d47;
-                }
-            }
-            if (rc.canSenseLocation(l107)) {
-                MapInfo mi = rc.senseMapInfo(l107);
-                p107 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v107 > v95 + p107) {
-                    v107 = v95 + p107;
-                    d107 = d95;
-                }
-                if (v107 > v108 + p107) {
-                    v107 = v108 + p107;
-                    d107 = d108;
-                }
-                if (v107 > v94 + p107) {
-                    v107 = v94 + p107;
-                    d107 = d94;
-                }
-            }
-            if (rc.canSenseLocation(l113)) {
-                MapInfo mi = rc.senseMapInfo(l113);
-                p113 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v113 > v99 + p113) {
-                    v113 = v99 + p113;
-                    d113 = d99;
-                }
-                if (v113 > v112 + p113) {
-                    v113 = v112 + p113;
-                    d113 = d112;
-                }
-                if (v113 > v100 + p113) {
-                    v113 = v100 + p113;
-                    d113 = d100;
-                }
-            }
-            if (rc.canSenseLocation(l121)) {
-                MapInfo mi = rc.senseMapInfo(l121);
-                p121 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v121 > v109 + p121) {
-                    v121 = v109 + p121;
-                    d121 = d109;
-                }
-                if (v121 > v108 + p121) {
-                    v121 = v108 + p121;
-                    d121 = d108;
-                }
-                if (v121 > v122 + p121) {
-                    v121 = v122 + p121;
-                    d121 = d122;
-                }
-                if (v121 > v107 + p121) {
-                    v121 = v107 + p121;
-                    d121 = d107;
-                }
-            }
-            if (rc.canSenseLocation(l125)) {
-                MapInfo mi = rc.senseMapInfo(l125);
-                p125 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v125 > v111 + p125) {
-                    v125 = v111 + p125;
-                    d125 = d111;
-                }
-                if (v125 > v112 + p125) {
-                    v125 = v112 + p125;
-                    d125 = d112;
-                }
-                if (v125 > v124 + p125) {
-                    v125 = v124 + p125;
-                    d125 = d124;
-                }
-                if (v125 > v113 + p125) {
-                    v125 = v113 + p125;
-                    d125 = d113;
-                }
-            }
-            if (rc.canSenseLocation(l32)) {
-                MapInfo mi = rc.senseMapInfo(l32);
-                p32 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v32 > v45 + p32) {
-                    v32 = v45 + p32;
-                    d32 = d45;
-                }
-                if (v32 > v44 + p32) {
-                    v32 = v44 + p32;
-                    d32 = d44;
-                }
-                if (v32 > v46 + p32) {
-                    v32 = v46 + p32;
-                    d32 = d46;
-                }
-            }
-            if (rc.canSenseLocation(l80)) {
-                MapInfo mi = rc.senseMapInfo(l80);
-                p80 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v80 > v81 + p80) {
-                    v80 = v81 + p80;
-                    d80 = d81;
-                }
-                if (v80 > v68 + p80) {
-                    v80 = v68 + p80;
-                    d80 = d68;
-                }
-                if (v80 > v94 + p80) {
-                    v80 = v94 + p80;
-                    d80 = d94;
-                }
-            }
-            if (rc.canSenseLocation(l88)) {
-                MapInfo mi = rc.senseMapInfo(l88);
-                p88 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v88 > v87 + p88) {
-                    v88 = v87 + p88;
-                    d88 = d87;
-                }
-                if (v88 > v74 + p88) {
-                    v88 = v74 + p88;
-                    d88 = d74;
-                }
-                if (v88 > v100 + p88) {
-                    v88 = v100 + p88;
-                    d88 = d100;
-                }
-            }
-            if (rc.canSenseLocation(l136)) {
-                MapInfo mi = rc.senseMapInfo(l136);
-                p136 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v136 > v123 + p136) {
-                    v136 = v123 + p136;
-                    d136 = d123;
-                }
-                if (v136 > v124 + p136) {
-                    v136 = v124 + p136;
-                    d136 = d124;
-                }
-                if (v136 > v122 + p136) {
-                    v136 = v122 + p136;
-                    d136 = d122;
-                }
-            }
-            if (rc.canSenseLocation(l31)) {
-                MapInfo mi = rc.senseMapInfo(l31);
-                p31 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v31 > v45 + p31) {
-                    v31 = v45 + p31;
-                    d31 = d45;
-                }
-                if (v31 > v44 + p31) {
-                    v31 = v44 + p31;
-                    d31 = d44;
-                }
-                if (v31 > v43 + p31) {
-                    v31 = v43 + p31;
-                    d31 = d43;
-                }
-                if (v31 > v32 + p31) {
-                    v31 = v32 + p31;
-                    d31 = d32;
-                }
-            }
-            if (rc.canSenseLocation(l33)) {
-                MapInfo mi = rc.senseMapInfo(l33);
-                p33 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v33 > v45 + p33) {
-                    v33 = v45 + p33;
-                    d33 = d45;
-                }
-                if (v33 > v46 + p33) {
-                    v33 = v46 + p33;
-                    d33 = d46;
-                }
-                if (v33 > v47 + p33) {
-                    v33 = v47 + p33;
-                    d33 = d47;
-                }
-                if (v33 > v32 + p33) {
-                    v33 = v32 + p33;
-                    d33 = d32;
-                }
-            }
-            if (rc.canSenseLocation(l67)) {
-                MapInfo mi = rc.senseMapInfo(l67);
-                p67 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v67 > v81 + p67) {
-                    v67 = v81 + p67;
-                    d67 = d81;
-                }
-                if (v67 > v68 + p67) {
-                    v67 = v68 + p67;
-                    d67 = d68;
-                }
-                if (v67 > v55 + p67) {
-                    v67 = v55 + p67;
-                    d67 = d55;
-                }
-                if (v67 > v80 + p67) {
-                    v67 = v80 + p67;
-                    d67 = d80;
-                }
-            }
-            if (rc.canSenseLocation(l75)) {
-                MapInfo mi = rc.senseMapInfo(l75);
-                p75 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v75 > v87 + p75) {
-                    v75 = v87 + p75;
-                    d75 = d87;
-                }
-                if (v75 > v74 + p75) {
-                    v75 = v74 + p75;
-                    d75 = d74;
-                }
-                if (v75 > v61 + p75) {
-                    v75 = v61 + p75;
-                    d75 = d61;
-                }
-                if (v75 > v88 + p75) {
-                    v75 = v88 + p75;
-                    d75 = d88;
-                }
-            }
-            if (rc.canSenseLocation(l93)) {
-                MapInfo mi = rc.senseMapInfo(l93);
-                p93 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v93 > v81 + p93) {
-                    v93 = v81 + p93;
-                    d93 = d81;
-                }
-                if (v93 > v94 + p93) {
-                    v93 = v94 + p93;
-                    d93 = d94;
-                }
-                if (v93 > v107 + p93) {
-                    v93 = v107 + p93;
-                    d93 = d107;
-                }
-                if (v93 > v80 + p93) {
-                    v93 = v80 + p93;
-                    d93 = d80;
-                }
-            }
-            if (rc.canSenseLocation(l101)) {
-                MapInfo mi = rc.senseMapInfo(l101);
-                p101 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v101 > v87 + p101) {
-                    v101 = v87 + p101;
-                    d101 = d87;
-                }
-                if (v101 > v100 + p101) {
-                    v101 = v100 + p101;
-                    d101 = d100;
-                }
-                if (v101 > v113 + p101) {
-                    v101 = v113 + p101;
-                    d101 = d113;
-                }
-                if (v101 > v88 + p101) {
-                    v101 = v88 + p101;
-                    d101 = d88;
-                }
-            }
-            if (rc.canSenseLocation(l135)) {
-                MapInfo mi = rc.senseMapInfo(l135);
-                p135 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v135 > v123 + p135) {
-                    v135 = v123 + p135;
-                    d135 = d123;
-                }
-                if (v135 > v122 + p135) {
-                    v135 = v122 + p135;
-                    d135 = d122;
-                }
-                if (v135 > v121 + p135) {
-                    v135 = v121 + p135;
-                    d135 = d121;
-                }
-                if (v135 > v136 + p135) {
-                    v135 = v136 + p135;
-                    d135 = d136;
-                }
-            }
-            if (rc.canSenseLocation(l137)) {
-                MapInfo mi = rc.senseMapInfo(l137);
-                p137 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v137 > v123 + p137) {
-                    v137 = v123 + p137;
-                    d137 = d123;
-                }
-                if (v137 > v124 + p137) {
-                    v137 = v124 + p137;
-                    d137 = d124;
-                }
-                if (v137 > v125 + p137) {
-                    v137 = v125 + p137;
-                    d137 = d125;
-                }
-                if (v137 > v136 + p137) {
-                    v137 = v136 + p137;
-                    d137 = d136;
-                }
-            }
-            if (rc.canSenseLocation(l42)) {
-                MapInfo mi = rc.senseMapInfo(l42);
-                p42 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v42 > v56 + p42) {
-                    v42 = v56 + p42;
-                    d42 = d56;
-                }
-                if (v42 > v43 + p42) {
-                    v42 = v43 + p42;
-                    d42 = d43;
-                }
-                if (v42 > v55 + p42) {
-                    v42 = v55 + p42;
-                    d42 = d55;
-                }
-            }
-            if (rc.canSenseLocation(l48)) {
-                MapInfo mi = rc.senseMapInfo(l48);
-                p48 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v48 > v60 + p48) {
-                    v48 = v60 + p48;
-                    d48 = d60;
-                }
-                if (v48 > v47 + p48) {
-                    v48 = v47 + p48;
-                    d48 = d47;
-                }
-                if (v48 > v61 + p48) {
-                    v48 = v61 + p48;
-                    d48 = d61;
-                }
-            }
-            if (rc.canSenseLocation(l120)) {
-                MapInfo mi = rc.senseMapInfo(l120);
-                p120 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v120 > v108 + p120) {
-                    v120 = v108 + p120;
-                    d120 = d108;
-                }
-                if (v120 > v121 + p120) {
-                    v120 = v121 + p120;
-                    d120 = d121;
-                }
-                if (v120 > v107 + p120) {
-                    v120 = v107 + p120;
-                    d120 = d107;
-                }
-            }
-            if (rc.canSenseLocation(l126)) {
-                MapInfo mi = rc.senseMapInfo(l126);
-                p126 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v126 > v112 + p126) {
-                    v126 = v112 + p126;
-                    d126 = d112;
-                }
-                if (v126 > v113 + p126) {
-                    v126 = v113 + p126;
-                    d126 = d113;
-                }
-                if (v126 > v125 + p126) {
-                    v126 = v125 + p126;
-                    d126 = d125;
-                }
-            }
-            if (rc.canSenseLocation(l30)) {
-                MapInfo mi = rc.senseMapInfo(l30);
-                p30 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v30 > v44 + p30) {
-                    v30 = v44 + p30;
-                    d30 = d44;
-                }
-                if (v30 > v43 + p30) {
-                    v30 = v43 + p30;
-                    d30 = d43;
-                }
-                if (v30 > v31 + p30) {
-                    v30 = v31 + p30;
-                    d30 = d31;
-                }
-                if (v30 > v42 + p30) {
-                    v30 = v42 + p30;
-                    d30 = d42;
-                }
-            }
-            if (rc.canSenseLocation(l34)) {
-                MapInfo mi = rc.senseMapInfo(l34);
-                p34 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v34 > v46 + p34) {
-                    v34 = v46 + p34;
-                    d34 = d46;
-                }
-                if (v34 > v47 + p34) {
-                    v34 = v47 + p34;
-                    d34 = d47;
-                }
-                if (v34 > v33 + p34) {
-                    v34 = v33 + p34;
-                    d34 = d33;
-                }
-                if (v34 > v48 + p34) {
-                    v34 = v48 + p34;
-                    d34 = d48;
-                }
-            }
-            if (rc.canSenseLocation(l54)) {
-                MapInfo mi = rc.senseMapInfo(l54);
-                p54 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v54 > v68 + p54) {
-                    v54 = v68 + p54;
-                    d54 = d68;
-                }
-                if (v54 > v55 + p54) {
-                    v54 = v55 + p54;
-                    d54 = d55;
-                }
-                if (v54 > v67 + p54) {
-                    v54 = v67 + p54;
-                    d54 = d67;
-                }
-                if (v54 > v42 + p54) {
-                    v54 = v42 + p54;
-                    d54 = d42;
-                }
-            }
-            if (rc.canSenseLocation(l62)) {
-                MapInfo mi = rc.senseMapInfo(l62);
-                p62 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v62 > v74 + p62) {
-                    v62 = v74 + p62;
-                    d62 = d74;
-                }
-                if (v62 > v61 + p62) {
-                    v62 = v61 + p62;
-                    d62 = d61;
-                }
-                if (v62 > v75 + p62) {
-                    v62 = v75 + p62;
-                    d62 = d75;
-                }
-                if (v62 > v48 + p62) {
-                    v62 = v48 + p62;
-                    d62 = d48;
-                }
-            }
-            if (rc.canSenseLocation(l106)) {
-                MapInfo mi = rc.senseMapInfo(l106);
-                p106 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v106 > v94 + p106) {
-                    v106 = v94 + p106;
-                    d106 = d94;
-                }
-                if (v106 > v107 + p106) {
-                    v106 = v107 + p106;
-                    d106 = d107;
-                }
-                if (v106 > v93 + p106) {
-                    v106 = v93 + p106;
-                    d106 = d93;
-                }
-                if (v106 > v120 + p106) {
-                    v106 = v120 + p106;
-                    d106 = d120;
-                }
-            }
-            if (rc.canSenseLocation(l114)) {
-                MapInfo mi = rc.senseMapInfo(l114);
-                p114 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v114 > v100 + p114) {
-                    v114 = v100 + p114;
-                    d114 = d100;
-                }
-                if (v114 > v113 + p114) {
-                    v114 = v113 + p114;
-                    d114 = d113;
-                }
-                if (v114 > v101 + p114) {
-                    v114 = v101 + p114;
-                    d114 = d101;
-                }
-                if (v114 > v126 + p114) {
-                    v114 = v126 + p114;
-                    d114 = d126;
-                }
-            }
-            if (rc.canSenseLocation(l134)) {
-                MapInfo mi = rc.senseMapInfo(l134);
-                p134 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v134 > v122 + p134) {
-                    v134 = v122 + p134;
-                    d134 = d122;
-                }
-                if (v134 > v121 + p134) {
-                    v134 = v121 + p134;
-                    d134 = d121;
-                }
-                if (v134 > v135 + p134) {
-                    v134 = v135 + p134;
-                    d134 = d135;
-                }
-                if (v134 > v120 + p134) {
-                    v134 = v120 + p134;
-                    d134 = d120;
-                }
-            }
-            if (rc.canSenseLocation(l138)) {
-                MapInfo mi = rc.senseMapInfo(l138);
-                p138 = mi.isWall() || mi.isDam() ? 1000000 : mi.isWater() ? 4 : 1;
-                if (v138 > v124 + p138) {
-                    v138 = v124 + p138;
-                    d138 = d124;
-                }
-                if (v138 > v125 + p138) {
-                    v138 = v125 + p138;
-                    d138 = d125;
-                }
-                if (v138 > v137 + p138) {
-                    v138 = v137 + p138;
-                    d138 = d137;
-                }
-                if (v138 > v126 + p138) {
-                    v138 = v126 + p138;
-                    d138 = d126;
-                }
-            }
+    // walking cost from us to loc off this turn's flood (1 per step, 4 per water
+    // tile when filling), UNREACHED if walled off and -1 if loc is outside the flood
+    public static int distanceTo(MapLocation loc) {
+        int radius = flood();
+        return distanceIn(radius, loc.x - floodX, loc.y - floodY);
+    }
+
+    // first step of the walk to loc, null if it is unreached or outside the flood
+    public static Direction firstStepTo(MapLocation loc) {
+        int radius = flood();
+        return stepIn(radius, loc.x - floodX, loc.y - floodY);
+    }
 
-            int dx = target.x - l84.x;
-            int dy = target.y - l84.y;
-            switch (dx) {
-                case -4:
-                    switch (dy) {
-                        case -2:
-                            return d30;
-                        case -1:
-                            return d31;
-                        case 0:
-                            return d32;
-                        case 1:
-                            return d33;
-                        case 2:
-                            return d34;
-                    }
-                    break;
-                case -3:
-                    switch (dy) {
-                        case -3:
-                            return d42;
-                        case -2:
-                            return d43;
-                        case -1:
-                            return d44;
-                        case 0:
-                            return d45;
-                        case 1:
-                            return d46;
-                        case 2:
-                            return d47;
-                        case 3:
-                            return d48;
-                    }
-                    break;
-                case -2:
-                    switch (dy) {
-                        case -4:
-                            return d54;
-                        case -3:
-                            return d55;
-                        case -2:
-                            return d56;
-                        case -1:
-                            return d57;
-                        case 0:
-                            return d58;
-                        case 1:
-                            return d59;
-                        case 2:
-                            return d60;
-                        case 3:
-                            return d61;
-                        case 4:
-                            return d62;
-                    }
-                    break;
-                case -1:
-                    switch (dy) {
-                        case -4:
-                            return d67;
-                        case -3:
-                            return d68;
-                        case -2:
-                            return d69;
-                        case -1:
-                            return d70;
-                        case 0:
-                            return d71;
-                        case 1:
-                            return d72;
-                        case 2:
-                            return d73;
-                        case 3:
-                            return d74;
-                        case 4:
-                            return d75;
-                    }
-                    break;
-                case 0:
-                    switch (dy) {
-                        case -4:
-                            return d80;
-                        case -3:
-                            return d81;
-                        case -2:
-                            return d82;
-                        case -1:
-                            return d83;
-                        case 0:
-                            return d84;
-                        case 1:
-                            return d85;
-                        case 2:
-                            return d86;
-                        case 3:
-                            return d87;
-                        case 4:
-                            return d88;
-                    }
-                    break;
-                case 1:
-                    switch (dy) {
-                        case -4:
-                            return d93;
-                        case -3:
-                            return d94;
-                        case -2:
-                            return d95;
-                        case -1:
-                            return d96;
-                        case 0:
-                            return d97;
-                        case 1:
-                            return d98;
-                        case 2:
-                            return d99;
-                        case 3:
-                            return d100;
-                        case 4:
-                            return d101;
-                    }
-                    break;
-                case 2:
-                    switch (dy) {
-                        case -4:
-                            return d106;
-                        case -3:
-                            return d107;
-                        case -2:
-                            return d108;
-                        case -1:
-                            return d109;
-                        case 0:
-                            return d110;
-                        case 1:
-                            return d111;
-                        case 2:
-                            return d112;
-                        case 3:
-                            return d113;
-                        case 4:
-                            return d114;
-                    }
-                    break;
-                case 3:
-                    switch (dy) {
-                        case -3:
-                            return d120;
-                        case -2:
-                            return d121;
-                        case -1:
-                            return d122;
-                        case 0:
-                            return d123;
-                        case 1:
-                            return d124;
-                        case 2:
-                            return d125;
-                        case 3:
-                            return d126;
-                    }
-                    break;
-                case 4:
-                    switch (dy) {
-                        case -2:
-                            return d134;
-                        case -1:
-                            return d135;
-                        case 0:
-                            return d136;
-                        case 1:
-                            return d137;
-                        case 2:
-                            return d138;
-                    }
-                    break;
+    // walk and first step to the last nearest() pick
+    public static int nearestDist;
+    public static Direction nearestStep;
+
+    // of the first n goals, the one with the shortest walk off this turn's flood.
+    // null if none of them can be reached inside it
+    public static MapLocation nearest(MapLocation[] goals, int n) {
+        int radius = flood();
+        MapLocation best = null;
+        int bestDist = UNREACHED;
+        for (int i = n; --i >= 0;) {
+            MapLocation goal = goals[i];
+            int dist = distanceIn(radius, goal.x - floodX, goal.y - floodY);
+            if (dist >= 0 && dist < bestDist) {
+                bestDist = dist;
+                best = goal;
             }
+        }
+        nearestDist = bestDist;
+        nearestStep = best == null ? null : stepIn(radius, best.x - floodX, best.y - floodY);
+        return best;
+    }
 
-            Direction ans = null;
-            double bestEstimation = 0;
-            double initialDist = Math.sqrt(l84.distanceSquaredTo(target));
+    static int distanceIn(int radius, int rx, int ry) {
+        switch (radius) {
+            case 20:
+                return BfsR20.distanceTo(rx, ry);
+            case 13:
+                return BfsR13.distanceTo(rx, ry);
+            case 8:
+                return BfsR8.distanceTo(rx, ry);
+        }
+        return -1;
+    }
 
-            double dist30 = (initialDist - Math.sqrt(l30.distanceSquaredTo(target))) / v30;
-            if (dist30 > bestEstimation) {
-                bestEstimation = dist30;
-                ans = d30;
-            }
-            double dist31 = (initialDist - Math.sqrt(l31.distanceSquaredTo(target))) / v31;
-            if (dist31 > bestEstimation) {
-                bestEstimation = dist31;
-                ans = d31;
-            }
-            double dist32 = (initialDist - Math.sqrt(l32.distanceSquaredTo(target))) / v32;
-            if (dist32 > bestEstimation) {
-                bestEstimation = dist32;
-                ans = d32;
-            }
-            double dist33 = (initialDist - Math.sqrt(l33.distanceSquaredTo(target))) / v33;
-            if (dist33 > bestEstimation) {
-                bestEstimation = dist33;
-                ans = d33;
-            }
-            double dist34 = (initialDist - Math.sqrt(l34.distanceSquaredTo(target))) / v34;
-            if (dist34 > bestEstimation) {
-                bestEstimation = dist34;
-                ans = d34;
-            }
-            double dist42 = (initialDist - Math.sqrt(l42.distanceSquaredTo(target))) / v42;
-            if (dist42 > bestEstimation) {
-                bestEstimation = dist42;
-                ans = d42;
-            }
-            double dist48 = (initialDist - Math.sqrt(l48.distanceSquaredTo(target))) / v48;
-            if (dist48 > bestEstimation) {
-                bestEstimation = dist48;
-                ans = d48;
-            }
-            double dist54 = (initialDist - Math.sqrt(l54.distanceSquaredTo(target))) / v54;
-            if (dist54 > bestEstimation) {
-                bestEstimation = dist54;
-                ans = d54;
-            }
-            double dist62 = (initialDist - Math.sqrt(l62.distanceSquaredTo(target))) / v62;
-            if (dist62 > bestEstimation) {
-                bestEstimation = dist62;
-                ans = d62;
-            }
-            double dist67 = (initialDist - Math.sqrt(l67.distanceSquaredTo(target))) / v67;
-            if (dist67 > bestEstimation) {
-                bestEstimation = dist67;
-                ans = d67;
-            }
-            double dist75 = (initialDist - Math.sqrt(l75.distanceSquaredTo(target))) / v75;
-            if (dist75 > bestEstimation) {
-                bestEstimation = dist75;
-                ans = d75;
-            }
-            double dist80 = (initialDist - Math.sqrt(l80.distanceSquaredTo(target))) / v80;
-            if (dist80 > bestEstimation) {
-                bestEstimation = dist80;
-                ans = d80;
-            }
-            double dist88 = (initialDist - Math.sqrt(l88.distanceSquaredTo(target))) / v88;
-            if (dist88 > bestEstimation) {
-                bestEstimation = dist88;
-                ans = d88;
-            }
-            double dist93 = (initialDist - Math.sqrt(l93.distanceSquaredTo(target))) / v93;
-            if (dist93 > bestEstimation) {
-                bestEstimation = dist93;
-                ans = d93;
-            }
-            double dist101 = (initialDist - Math.sqrt(l101.distanceSquaredTo(target))) / v101;
-            if (dist101 > bestEstimation) {
-                bestEstimation = dist101;
-                ans = d101;
-            }
-            double dist106 = (initialDist - Math.sqrt(l106.distanceSquaredTo(target))) / v106;
-            if (dist106 > bestEstimation) {
-                bestEstimation = dist106;
-                ans = d106;
-            }
-            double dist114 = (initialDist - Math.sqrt(l114.distanceSquaredTo(target))) / v114;
-            if (dist114 > bestEstimation) {
-                bestEstimation = dist114;
-                ans = d114;
-            }
-            double dist120 = (initialDist - Math.sqrt(l120.distanceSquaredTo(target))) / v120;
-            if (dist120 > bestEstimation) {
-                bestEstimation = dist120;
-                ans = d120;
-            }
-            double dist126 = (initialDist - Math.sqrt(l126.distanceSquaredTo(target))) / v126;
-            if (dist126 > bestEstimation) {
-                bestEstimation = dist126;
-                ans = d126;
-            }
-            double dist134 = (initialDist - Math.sqrt(l134.distanceSquaredTo(target))) / v134;
-            if (dist134 > bestEstimation) {
-                bestEstimation = dist134;
-                ans = d134;
-            }
-            double dist135 = (initialDist - Math.sqrt(l135.distanceSquaredTo(target))) / v135;
-            if (dist135 > bestEstimation) {
-                bestEstimation = dist135;
-                ans = d135;
-            }
-            double dist136 = (initialDist - Math.sqrt(l136.distanceSquaredTo(target))) / v136;
-            if (dist136 > bestEstimation) {
-                bestEstimation = dist136;
-                ans = d136;
-            }
-            double dist137 = (initialDist - Math.sqrt(l137.distanceSquaredTo(target))) / v137;
-            if (dist137 > bestEstimation) {
-                bestEstimation = dist137;
-                ans = d137;
-            }
-            double dist138 = (initialDist - Math.sqrt(l138.distanceSquaredTo(target))) / v138;
-            if (dist138 > bestEstimation) {
-                bestEstimation = dist138;
-                ans = d138;
-            }
-            return ans;
-        } catch (Exception e) {
-            e.printStackTrace();
+    static Direction stepIn(int radius, int rx, int ry) {
+        switch (radius) {
+            case 20:
+                return BfsR20.firstStepTo(rx, ry);
+            case 13:
+                return BfsR13.firstStepTo(rx, ry);
+            case 8:
+                return BfsR8.firstStepTo(rx, ry);
         }
         return null;
     }
 
+    // anything we can't see or the flood didn't cover is assumed reachable
     public static boolean isReachable(MapLocation target) {
         if (!rc.canSenseLocation(target)) {
             return true;
         }
-        // uses statics(as found from last pathfind call)
-        // shift dx and dy as current loc could have changed from previous bfs call
-        // loc(l84)
-
-        int dx = target.x - rc.getLocation().x;
-        int dy = target.y - rc.getLocation().y;
-        dx += rc.getLocation().x - l84.x;
-        dy += rc.getLocation().y - l84.y;
-        switch (dx) {
-            case -4:
-                switch (dy) {
-                    case -2:
-                        return v30 < 1000000;
-                    case -1:
-                        return v31 < 1000000;
-                    case 0:
-                        return v32 < 1000000;
-                    case 1:
-                        return v33 < 1000000;
-                    case 2:
-                        return v34 < 1000000;
-                }
-                break;
-            case -3:
-                switch (dy) {
-                    case -3:
-                        return v42 < 1000000;
-                    case -2:
-                        return v43 < 1000000;
-                    case -1:
-                        return v44 < 1000000;
-                    case 0:
-                        return v45 < 1000000;
-                    case 1:
-                        return v46 < 1000000;
-                    case 2:
-                        return v47 < 1000000;
-                    case 3:
-                        return v48 < 1000000;
-                }
-                break;
-            case -2:
-                switch (dy) {
-                    case -4:
-                        return v54 < 1000000;
-                    case -3:
-                        return v55 < 1000000;
-                    case -2:
-                        return v56 < 1000000;
-                    case -1:
-                        return v57 < 1000000;
-                    case 0:
-                        return v58 < 1000000;
-                    case 1:
-                        return v59 < 1000000;
-                    case 2:
-                        return v60 < 1000000;
-                    case 3:
-                        return v61 < 1000000;
-                    case 4:
-                        return v62 < 1000000;
-                }
-                break;
-            case -1:
-                switch (dy) {
-                    case -4:
-                        return v67 < 1000000;
-                    case -3:
-                        return v68 < 1000000;
-                    case -2:
-                        return v69 < 1000000;
-                    case -1:
-                        return v70 < 1000000;
-                    case 0:
-                        return v71 < 1000000;
-                    case 1:
-                        return v72 < 1000000;
-                    case 2:
-                        return v73 < 1000000;
-                    case 3:
-                        return v74 < 1000000;
-                    case 4:
-                        return v75 < 1000000;
-                }
-                break;
-            case 0:
-                switch (dy) {
-                    case -4:
-                        return v80 < 1000000;
-                    case -3:
-                        return v81 < 1000000;
-                    case -2:
-                        return v82 < 1000000;
-                    case -1:
-                        return v83 < 1000000;
-                    case 0:
-                        return v84 < 1000000;
-                    case 1:
-                        return v85 < 1000000;
-                    case 2:
-                        return v86 < 1000000;
-                    case 3:
-                        return v87 < 1000000;
-                    case 4:
-                        return v88 < 1000000;
-                }
-                break;
-            case 1:
-                switch (dy) {
-                    case -4:
-                        return v93 < 1000000;
-                    case -3:
-                        return v94 < 1000000;
-                    case -2:
-                        return v95 < 1000000;
-                    case -1:
-                        return v96 < 1000000;
-                    case 0:
-                        return v97 < 1000000;
-                    case 1:
-                        return v98 < 1000000;
-                    case 2:
-                        return v99 < 1000000;
-                    case 3:
-                        return v100 < 1000000;
-                    case 4:
-                        return v101 < 1000000;
-                }
-                break;
-            case 2:
-                switch (dy) {
-                    case -4:
-                        return v106 < 1000000;
-                    case -3:
-                        return v107 < 1000000;
-                    case -2:
-                        return v108 < 1000000;
-                    case -1:
-                        return v109 < 1000000;
-                    case 0:
-                        return v110 < 1000000;
-                    case 1:
-                        return v111 < 1000000;
-                    case 2:
-                        return v112 < 1000000;
-                    case 3:
-                        return v113 < 1000000;
-                    case 4:
-                        return v114 < 1000000;
-                }
-                break;
-            case 3:
-                switch (dy) {
-                    case -3:
-                        return v120 < 1000000;
-                    case -2:
-                        return v121 < 1000000;
-                    case -1:
-                        return v122 < 1000000;
-                    case 0:
-                        return v123 < 1000000;
-                    case 1:
-                        return v124 < 1000000;
-                    case 2:
-                        return v125 < 1000000;
-                    case 3:
-                        return v126 < 1000000;
-                }
-                break;
-            case 4:
-                switch (dy) {
-                    case -2:
-                        return v134 < 1000000;
-                    case -1:
-                        return v135 < 1000000;
-                    case 0:
-                        return v136 < 1000000;
-                    case 1:
-                        return v137 < 1000000;
-                    case 2:
-                        return v138 < 1000000;
-                }
-                break;
-        }
-        return true;
+        return distanceTo(target) < UNREACHED;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,2012 @@
+package mainbot;
+
+import battlecode.common.*;
+
+// generated by tools/codegen/BfsGenerator.java from tools/templates/BfsRadiusPacked.java.tmpl, edit those instead
+// unrolled bfs over the 69 tiles within r^2 20
+// yoinked from 5 musketeers 2022, although originally from xsquare
+// works on plain coordinates and MapMemory indices so a call allocates nothing. tile
+// costs are read straight out of MapMemory.tiles (recorded at the start of the turn,
+// never seen counts as open) and scoring is integer math on the Bfs.SQRT table
+public class BfsR20 {
+
+    // Includes a ~200 BC cushion
+    public static final int MIN_BC_TO_USE = 3700;
+
+    // where the last flood ran from
+    static int cx;
+    static int cy;
+
+    static int v30;
+    static Direction d30;
+
+    static int v31;
+    static Direction d31;
+
+    static int v32;
+    static Direction d32;
+
+    static int v33;
+    static Direction d33;
+
+    static int v34;
+    static Direction d34;
+
+    static int v42;
+    static Direction d42;
+
+    static int v43;
+    static Direction d43;
+
+    static int v44;
+    static Direction d44;
+
+    static int v45;
+    static Direction d45;
+
+    static int v46;
+    static Direction d46;
+
+    static int v47;
+    static Direction d47;
+
+    static int v48;
+    static Direction d48;
+
+    static int v54;
+    static Direction d54;
+
+    static int v55;
+    static Direction d55;
+
+    static int v56;
+    static Direction d56;
+
+    static int v57;
+    static Direction d57;
+
+    static int v58;
+    static Direction d58;
+
+    static int v59;
+    static Direction d59;
+
+    static int v60;
+    static Direction d60;
+
+    static int v61;
+    static Direction d61;
+
+    static int v62;
+    static Direction d62;
+
+    static int v67;
+    static Direction d67;
+
+    static int v68;
+    static Direction d68;
+
+    static int v69;
+    static Direction d69;
+
+    static int v70;
+    static Direction d70;
+
+    static int v71;
+    static Direction d71;
+
+    static int v72;
+    static Direction d72;
+
+    static int v73;
+    static Direction d73;
+
+    static int v74;
+    static Direction d74;
+
+    static int v75;
+    static Direction d75;
+
+    static int v80;
+    static Direction d80;
+
+    static int v81;
+    static Direction d81;
+
+    static int v82;
+    static Direction d82;
+
+    static int v83;
+    static Direction d83;
+
+    static int v84;
+    static Direction d84;
+
+    static int v85;
+    static Direction d85;
+
+    static int v86;
+    static Direction d86;
+
+    static int v87;
+    static Direction d87;
+
+    static int v88;
+    static Direction d88;
+
+    static int v93;
+    static Direction d93;
+
+    static int v94;
+    static Direction d94;
+
+    static int v95;
+    static Direction d95;
+
+    static int v96;
+    static Direction d96;
+
+    static int v97;
+    static Direction d97;
+
+    static int v98;
+    static Direction d98;
+
+    static int v99;
+    static Direction d99;
+
+    static int v100;
+    static Direction d100;
+
+    static int v101;
+    static Direction d101;
+
+    static int v106;
+    static Direction d106;
+
+    static int v107;
+    static Direction d107;
+
+    static int v108;
+    static Direction d108;
+
+    static int v109;
+    static Direction d109;
+
+    static int v110;
+    static Direction d110;
+
+    static int v111;
+    static Direction d111;
+
+    static int v112;
+    static Direction d112;
+
+    static int v113;
+    static Direction d113;
+
+    static int v114;
+    static Direction d114;
+
+    static int v120;
+    static Direction d120;
+
+    static int v121;
+    static Direction d121;
+
+    static int v122;
+    static Direction d122;
+
+    static int v123;
+    static Direction d123;
+
+    static int v124;
+    static Direction d124;
+
+    static int v125;
+    static Direction d125;
+
+    static int v126;
+    static Direction d126;
+
+    static int v134;
+    static Direction d134;
+
+    static int v135;
+    static Direction d135;
+
+    static int v136;
+    static Direction d136;
+
+    static int v137;
+    static Direction d137;
+
+    static int v138;
+    static Direction d138;
+
+    // fills v/d for every tile from where we stand, ready is whether we can move
+    // this turn (if not adjacent tiles only need to be open land). with fill water
+    // costs a fill and a move instead of being a wall
+    public static void flood(boolean ready, boolean fill) {
+        RobotController rc = Bfs.rc;
+        MapLocation me = rc.getLocation();
+        cx = me.x;
+        cy = me.y;
+        boolean fillNow = fill && rc.isActionReady();
+        int[] tiles = MapMemory.tiles;
+        int[] cost = fill ? MapMemory.BFS_COSTS_FILL : MapMemory.BFS_COSTS;
+        int h = MapMemory.height;
+        int w = MapMemory.width;
+        int p;
+        int col0 = cx * h + cy;
+        int colW1 = col0 - h;
+        int colW2 = colW1 - h;
+        int colW3 = colW2 - h;
+        int colW4 = colW3 - h;
+        int colE1 = col0 + h;
+        int colE2 = colE1 + h;
+        int colE3 = colE2 + h;
+        int colE4 = colE3 + h;
+        boolean okW1 = cx >= 1;
+        boolean okE1 = cx + 1 < w;
+        boolean okS1 = cy >= 1;
+        boolean okN1 = cy + 1 < h;
+        boolean okW2 = cx >= 2;
+        boolean okE2 = cx + 2 < w;
+        boolean okS2 = cy >= 2;
+        boolean okN2 = cy + 2 < h;
+        boolean okW3 = cx >= 3;
+        boolean okE3 = cx + 3 < w;
+        boolean okS3 = cy >= 3;
+        boolean okN3 = cy + 3 < h;
+        boolean okW4 = cx >= 4;
+        boolean okE4 = cx + 4 < w;
+        boolean okS4 = cy >= 4;
+        boolean okN4 = cy + 4 < h;
+        v84 = 0;
+        v71 = 1000000;
+        d71 = null;
+        v83 = 1000000;
+        d83 = null;
+        v85 = 1000000;
+        d85 = null;
+        v97 = 1000000;
+        d97 = null;
+        v70 = 1000000;
+        d70 = null;
+        v72 = 1000000;
+        d72 = null;
+        v96 = 1000000;
+        d96 = null;
+        v98 = 1000000;
+        d98 = null;
+        v58 = 1000000;
+        d58 = null;
+        v82 = 1000000;
+        d82 = null;
+        v86 = 1000000;
+        d86 = null;
+        v110 = 1000000;
+        d110 = null;
+        v57 = 1000000;
+        d57 = null;
+        v59 = 1000000;
+        d59 = null;
+        v69 = 1000000;
+        d69 = null;
+        v73 = 1000000;
+        d73 = null;
+        v95 = 1000000;
+        d95 = null;
+        v99 = 1000000;
+        d99 = null;
+        v109 = 1000000;
+        d109 = null;
+        v111 = 1000000;
+        d111 = null;
+        v56 = 1000000;
+        d56 = null;
+        v60 = 1000000;
+        d60 = null;
+        v108 = 1000000;
+        d108 = null;
+        v112 = 1000000;
+        d112 = null;
+        v45 = 1000000;
+        d45 = null;
+        v81 = 1000000;
+        d81 = null;
+        v87 = 1000000;
+        d87 = null;
+        v123 = 1000000;
+        d123 = null;
+        v44 = 1000000;
+        d44 = null;
+        v46 = 1000000;
+        d46 = null;
+        v68 = 1000000;
+        d68 = null;
+        v74 = 1000000;
+        d74 = null;
+        v94 = 1000000;
+        d94 = null;
+        v100 = 1000000;
+        d100 = null;
+        v122 = 1000000;
+        d122 = null;
+        v124 = 1000000;
+        d124 = null;
+        v43 = 1000000;
+        d43 = null;
+        v47 = 1000000;
+        d47 = null;
+        v55 = 1000000;
+        d55 = null;
+        v61 = 1000000;
+        d61 = null;
+        v107 = 1000000;
+        d107 = null;
+        v113 = 1000000;
+        d113 = null;
+        v121 = 1000000;
+        d121 = null;
+        v125 = 1000000;
+        d125 = null;
+        v32 = 1000000;
+        d32 = null;
+        v80 = 1000000;
+        d80 = null;
+        v88 = 1000000;
+        d88 = null;
+        v136 = 1000000;
+        d136 = null;
+        v31 = 1000000;
+        d31 = null;
+        v33 = 1000000;
+        d33 = null;
+        v67 = 1000000;
+        d67 = null;
+        v75 = 1000000;
+        d75 = null;
+        v93 = 1000000;
+        d93 = null;
+        v101 = 1000000;
+        d101 = null;
+        v135 = 1000000;
+        d135 = null;
+        v137 = 1000000;
+        d137 = null;
+        v42 = 1000000;
+        d42 = null;
+        v48 = 1000000;
+        d48 = null;
+        v120 = 1000000;
+        d120 = null;
+        v126 = 1000000;
+        d126 = null;
+        v30 = 1000000;
+        d30 = null;
+        v34 = 1000000;
+        d34 = null;
+        v54 = 1000000;
+        d54 = null;
+        v62 = 1000000;
+        d62 = null;
+        v106 = 1000000;
+        d106 = null;
+        v114 = 1000000;
+        d114 = null;
+        v134 = 1000000;
+        d134 = null;
+        v138 = 1000000;
+        d138 = null;
+
+        try {
+            if (ready ? rc.canMove(Direction.WEST) : okW1 && cost[tiles[colW1] & 15] == 1) {
+                v71 = 1;
+                d71 = Direction.WEST;
+            } else if (fillNow && okW1 && cost[tiles[colW1] & 15] == MapMemory.WATER_FILL_COST) {
+                v71 = MapMemory.WATER_FILL_COST;
+                d71 = Direction.WEST;
+            }
+            if (ready ? rc.canMove(Direction.SOUTH) : okS1 && cost[tiles[col0 - 1] & 15] == 1) {
+                v83 = 1;
+                d83 = Direction.SOUTH;
+            } else if (fillNow && okS1 && cost[tiles[col0 - 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v83 = MapMemory.WATER_FILL_COST;
+                d83 = Direction.SOUTH;
+            }
+            if (ready ? rc.canMove(Direction.NORTH) : okN1 && cost[tiles[col0 + 1] & 15] == 1) {
+                v85 = 1;
+                d85 = Direction.NORTH;
+            } else if (fillNow && okN1 && cost[tiles[col0 + 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v85 = MapMemory.WATER_FILL_COST;
+                d85 = Direction.NORTH;
+            }
+            if (ready ? rc.canMove(Direction.EAST) : okE1 && cost[tiles[colE1] & 15] == 1) {
+                v97 = 1;
+                d97 = Direction.EAST;
+            } else if (fillNow && okE1 && cost[tiles[colE1] & 15] == MapMemory.WATER_FILL_COST) {
+                v97 = MapMemory.WATER_FILL_COST;
+                d97 = Direction.EAST;
+            }
+            if (ready ? rc.canMove(Direction.SOUTHWEST) : okW1 && okS1 && cost[tiles[colW1 - 1] & 15] == 1) {
+                v70 = 1;
+                d70 = Direction.SOUTHWEST;
+            } else if (fillNow && okW1 && okS1 && cost[tiles[colW1 - 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v70 = MapMemory.WATER_FILL_COST;
+                d70 = Direction.SOUTHWEST;
+            }
+            if (ready ? rc.canMove(Direction.NORTHWEST) : okW1 && okN1 && cost[tiles[colW1 + 1] & 15] == 1) {
+                v72 = 1;
+                d72 = Direction.NORTHWEST;
+            } else if (fillNow && okW1 && okN1 && cost[tiles[colW1 + 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v72 = MapMemory.WATER_FILL_COST;
+                d72 = Direction.NORTHWEST;
+            }
+            if (ready ? rc.canMove(Direction.SOUTHEAST) : okE1 && okS1 && cost[tiles[colE1 - 1] & 15] == 1) {
+                v96 = 1;
+                d96 = Direction.SOUTHEAST;
+            } else if (fillNow && okE1 && okS1 && cost[tiles[colE1 - 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v96 = MapMemory.WATER_FILL_COST;
+                d96 = Direction.SOUTHEAST;
+            }
+            if (ready ? rc.canMove(Direction.NORTHEAST) : okE1 && okN1 && cost[tiles[colE1 + 1] & 15] == 1) {
+                v98 = 1;
+                d98 = Direction.NORTHEAST;
+            } else if (fillNow && okE1 && okN1 && cost[tiles[colE1 + 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v98 = MapMemory.WATER_FILL_COST;
+                d98 = Direction.NORTHEAST;
+            }
+            if (okW2) {
+                p = cost[tiles[colW2] & 15];
+                if (v58 > v71 + p) {
+                    v58 = v71 + p;
+                    d58 = d71;
+                }
+                if (v58 > v70 + p) {
+                    v58 = v70 + p;
+                    d58 = d70;
+                }
+                if (v58 > v72 + p) {
+                    v58 = v72 + p;
+                    d58 = d72;
+                }
+            }
+            if (okS2) {
+                p = cost[tiles[col0 - 2] & 15];
+                if (v82 > v83 + p) {
+                    v82 = v83 + p;
+                    d82 = d83;
+                }
+                if (v82 > v70 + p) {
+                    v82 = v70 + p;
+                    d82 = d70;
+                }
+                if (v82 > v96 + p) {
+                    v82 = v96 + p;
+                    d82 = d96;
+                }
+            }
+            if (okN2) {
+                p = cost[tiles[col0 + 2] & 15];
+                if (v86 > v85 + p) {
+                    v86 = v85 + p;
+                    d86 = d85;
+                }
+                if (v86 > v72 + p) {
+                    v86 = v72 + p;
+                    d86 = d72;
+                }
+                if (v86 > v98 + p) {
+                    v86 = v98 + p;
+                    d86 = d98;
+                }
+            }
+            if (okE2) {
+                p = cost[tiles[colE2] & 15];
+                if (v110 > v97 + p) {
+                    v110 = v97 + p;
+                    d110 = d97;
+                }
+                if (v110 > v96 + p) {
+                    v110 = v96 + p;
+                    d110 = d96;
+                }
+                if (v110 > v98 + p) {
+                    v110 = v98 + p;
+                    d110 = d98;
+                }
+            }
+            if (okW2 && okS1) {
+                p = cost[tiles[colW2 - 1] & 15];
+                if (v57 > v71 + p) {
+                    v57 = v71 + p;
+                    d57 = d71;
+                }
+                if (v57 > v70 + p) {
+                    v57 = v70 + p;
+                    d57 = d70;
+                }
+                if (v57 > v58 + p) {
+                    v57 = v58 + p;
+                    d57 = d58;
+                }
+            }
+            if (okW2 && okN1) {
+                p = cost[tiles[colW2 + 1] & 15];
+                if (v59 > v71 + p) {
+                    v59 = v71 + p;
+                    d59 = d71;
+                }
+                if (v59 > v72 + p) {
+                    v59 = v72 + p;
+                    d59 = d72;
+                }
+                if (v59 > v58 + p) {
+                    v59 = v58 + p;
+                    d59 = d58;
+                }
+            }
+            if (okW1 && okS2) {
+                p = cost[tiles[colW1 - 2] & 15];
+                if (v69 > v83 + p) {
+                    v69 = v83 + p;
+                    d69 = d83;
+                }
+                if (v69 > v70 + p) {
+                    v69 = v70 + p;
+                    d69 = d70;
+                }
+                if (v69 > v82 + p) {
+                    v69 = v82 + p;
+                    d69 = d82;
+                }
+                if (v69 > v57 + p) {
+                    v69 = v57 + p;
+                    d69 = d57;
+                }
+            }
+            if (okW1 && okN2) {
+                p = cost[tiles[colW1 + 2] & 15];
+                if (v73 > v85 + p) {
+                    v73 = v85 + p;
+                    d73 = d85;
+                }
+                if (v73 > v72 + p) {
+                    v73 = v72 + p;
+                    d73 = d72;
+                }
+                if (v73 > v86 + p) {
+                    v73 = v86 + p;
+                    d73 = d86;
+                }
+                if (v73 > v59 + p) {
+                    v73 = v59 + p;
+                    d73 = d59;
+                }
+            }
+            if (okE1 && okS2) {
+                p = cost[tiles[colE1 - 2] & 15];
+                if (v95 > v83 + p) {
+                    v95 = v83 + p;
+                    d95 = d83;
+                }
+                if (v95 > v96 + p) {
+                    v95 = v96 + p;
+                    d95 = d96;
+                }
+                if (v95 > v82 + p) {
+                    v95 = v82 + p;
+                    d95 = d82;
+                }
+            }
+            if (okE1 && okN2) {
+                p = cost[tiles[colE1 + 2] & 15];
+                if (v99 > v85 + p) {
+                    v99 = v85 + p;
+                    d99 = d85;
+                }
+                if (v99 > v98 + p) {
+                    v99 = v98 + p;
+                    d99 = d98;
+                }
+                if (v99 > v86 + p) {
+                    v99 = v86 + p;
+                    d99 = d86;
+                }
+            }
+            if (okE2 && okS1) {
+                p = cost[tiles[colE2 - 1] & 15];
+                if (v109 > v97 + p) {
+                    v109 = v97 + p;
+                    d109 = d97;
+                }
+                if (v109 > v96 + p) {
+                    v109 = v96 + p;
+                    d109 = d96;
+                }
+                if (v109 > v110 + p) {
+                    v109 = v110 + p;
+                    d109 = d110;
+                }
+                if (v109 > v95 + p) {
+                    v109 = v95 + p;
+                    d109 = d95;
+                }
+            }
+            if (okE2 && okN1) {
+                p = cost[tiles[colE2 + 1] & 15];
+                if (v111 > v97 + p) {
+                    v111 = v97 + p;
+                    d111 = d97;
+                }
+                if (v111 > v98 + p) {
+                    v111 = v98 + p;
+                    d111 = d98;
+                }
+                if (v111 > v110 + p) {
+                    v111 = v110 + p;
+                    d111 = d110;
+                }
+                if (v111 > v99 + p) {
+                    v111 = v99 + p;
+                    d111 = d99;
+                }
+            }
+            if (okW2 && okS2) {
+                p = cost[tiles[colW2 - 2] & 15];
+                if (v56 > v70 + p) {
+                    v56 = v70 + p;
+                    d56 = d70;
+                }
+                if (v56 > v57 + p) {
+                    v56 = v57 + p;
+                    d56 = d57;
+                }
+                if (v56 > v69 + p) {
+                    v56 = v69 + p;
+                    d56 = d69;
+                }
+            }
+            if (okW2 && okN2) {
+                p = cost[tiles[colW2 + 2] & 15];
+                if (v60 > v72 + p) {
+                    v60 = v72 + p;
+                    d60 = d72;
+                }
+                if (v60 > v59 + p) {
+                    v60 = v59 + p;
+                    d60 = d59;
+                }
+                if (v60 > v73 + p) {
+                    v60 = v73 + p;
+                    d60 = d73;
+                }
+            }
+            if (okE2 && okS2) {
+                p = cost[tiles[colE2 - 2] & 15];
+                if (v108 > v96 + p) {
+                    v108 = v96 + p;
+                    d108 = d96;
+                }
+                if (v108 > v95 + p) {
+                    v108 = v95 + p;
+                    d108 = d95;
+                }
+                if (v108 > v109 + p) {
+                    v108 = v109 + p;
+                    d108 = d109;
+                }
+            }
+            if (okE2 && okN2) {
+                p = cost[tiles[colE2 + 2] & 15];
+                if (v112 > v98 + p) {
+                    v112 = v98 + p;
+                    d112 = d98;
+                }
+                if (v112 > v99 + p) {
+                    v112 = v99 + p;
+                    d112 = d99;
+                }
+                if (v112 > v111 + p) {
+                    v112 = v111 + p;
+                    d112 = d111;
+                }
+            }
+            if (okW3) {
+                p = cost[tiles[colW3] & 15];
+                if (v45 > v58 + p) {
+                    v45 = v58 + p;
+                    d45 = d58;
+                }
+                if (v45 > v57 + p) {
+                    v45 = v57 + p;
+                    d45 = d57;
+                }
+                if (v45 > v59 + p) {
+                    v45 = v59 + p;
+                    d45 = d59;
+                }
+            }
+            if (okS3) {
+                p = cost[tiles[col0 - 3] & 15];
+                if (v81 > v82 + p) {
+                    v81 = v82 + p;
+                    d81 = d82;
+                }
+                if (v81 > v69 + p) {
+                    v81 = v69 + p;
+                    d81 = d69;
+                }
+                if (v81 > v95 + p) {
+                    v81 = v95 + p;
+                    d81 = d95;
+                }
+            }
+            if (okN3) {
+                p = cost[tiles[col0 + 3] & 15];
+                if (v87 > v86 + p) {
+                    v87 = v86 + p;
+                    d87 = d86;
+                }
+                if (v87 > v73 + p) {
+                    v87 = v73 + p;
+                    d87 = d73;
+                }
+                if (v87 > v99 + p) {
+                    v87 = v99 + p;
+                    d87 = d99;
+                }
+            }
+            if (okE3) {
+                p = cost[tiles[colE3] & 15];
+                if (v123 > v110 + p) {
+                    v123 = v110 + p;
+                    d123 = d110;
+                }
+                if (v123 > v109 + p) {
+                    v123 = v109 + p;
+                    d123 = d109;
+                }
+                if (v123 > v111 + p) {
+                    v123 = v111 + p;
+                    d123 = d111;
+                }
+            }
+            if (okW3 && okS1) {
+                p = cost[tiles[colW3 - 1] & 15];
+                if (v44 > v58 + p) {
+                    v44 = v58 + p;
+                    d44 = d58;
+                }
+                if (v44 > v57 + p) {
+                    v44 = v57 + p;
+                    d44 = d57;
+                }
+                if (v44 > v56 + p) {
+                    v44 = v56 + p;
+                    d44 = d56;
+                }
+                if (v44 > v45 + p) {
+                    v44 = v45 + p;
+                    d44 = d45;
+                }
+            }
+            if (okW3 && okN1) {
+                p = cost[tiles[colW3 + 1] & 15];
+                if (v46 > v58 + p) {
+                    v46 = v58 + p;
+                    d46 = d58;
+                }
+                if (v46 > v59 + p) {
+                    v46 = v59 + p;
+                    d46 = d59;
+                }
+                if (v46 > v60 + p) {
+                    v46 = v60 + p;
+                    d46 = d60;
+                }
+                if (v46 > v45 + p) {
+                    v46 = v45 + p;
+                    d46 = d45;
+                }
+            }
+            if (okW1 && okS3) {
+                p = cost[tiles[colW1 - 3] & 15];
+                if (v68 > v82 + p) {
+                    v68 = v82 + p;
+                    d68 = d82;
+                }
+                if (v68 > v69 + p) {
+                    v68 = v69 + p;
+                    d68 = d69;
+                }
+                if (v68 > v56 + p) {
+                    v68 = v56 + p;
+                    d68 = d56;
+                }
+                if (v68 > v81 + p) {
+                    v68 = v81 + p;
+                    d68 = d81;
+                }
+            }
+            if (okW1 && okN3) {
+                p = cost[tiles[colW1 + 3] & 15];
+                if (v74 > v86 + p) {
+                    v74 = v86 + p;
+                    d74 = d86;
+                }
+                if (v74 > v73 + p) {
+                    v74 = v73 + p;
+                    d74 = d73;
+                }
+                if (v74 > v60 + p) {
+                    v74 = v60 + p;
+                    d74 = d60;
+                }
+                if (v74 > v87 + p) {
+                    v74 = v87 + p;
+                    d74 = d87;
+                }
+            }
+            if (okE1 && okS3) {
+                p = cost[tiles[colE1 - 3] & 15];
+                if (v94 > v82 + p) {
+                    v94 = v82 + p;
+                    d94 = d82;
+                }
+                if (v94 > v95 + p) {
+                    v94 = v95 + p;
+                    d94 = d95;
+                }
+                if (v94 > v108 + p) {
+                    v94 = v108 + p;
+                    d94 = d108;
+                }
+                if (v94 > v81 + p) {
+                    v94 = v81 + p;
+                    d94 = d81;
+                }
+            }
+            if (okE1 && okN3) {
+                p = cost[tiles[colE1 + 3] & 15];
+                if (v100 > v86 + p) {
+                    v100 = v86 + p;
+                    d100 = d86;
+                }
+                if (v100 > v99 + p) {
+                    v100 = v99 + p;
+                    d100 = d99;
+                }
+                if (v100 > v112 + p) {
+                    v100 = v112 + p;
+                    d100 = d112;
+                }
+                if (v100 > v87 + p) {
+                    v100 = v87 + p;
+                    d100 = d87;
+                }
+            }
+            if (okE3 && okS1) {
+                p = cost[tiles[colE3 - 1] & 15];
+                if (v122 > v110 + p) {
+                    v122 = v110 + p;
+                    d122 = d110;
+                }
+                if (v122 > v109 + p) {
+                    v122 = v109 + p;
+                    d122 = d109;
+                }
+                if (v122 > v108 + p) {
+                    v122 = v108 + p;
+                    d122 = d108;
+                }
+                if (v122 > v123 + p) {
+                    v122 = v123 + p;
+                    d122 = d123;
+                }
+            }
+            if (okE3 && okN1) {
+                p = cost[tiles[colE3 + 1] & 15];
+                if (v124 > v110 + p) {
+                    v124 = v110 + p;
+                    d124 = d110;
+                }
+                if (v124 > v111 + p) {
+                    v124 = v111 + p;
+                    d124 = d111;
+                }
+                if (v124 > v112 + p) {
+                    v124 = v112 + p;
+                    d124 = d112;
+                }
+                if (v124 > v123 + p) {
+                    v124 = v123 + p;
+                    d124 = d123;
+                }
+            }
+            if (okW3 && okS2) {
+                p = cost[tiles[colW3 - 2] & 15];
+                if (v43 > v57 + p) {
+                    v43 = v57 + p;
+                    d43 = d57;
+                }
+                if (v43 > v56 + p) {
+                    v43 = v56 + p;
+                    d43 = d56;
+                }
+                if (v43 > v44 + p) {
+                    v43 = v44 + p;
+                    d43 = d44;
+                }
+            }
+            if (okW3 && okN2) {
+                p = cost[tiles[colW3 + 2] & 15];
+                if (v47 > v59 + p) {
+                    v47 = v59 + p;
+                    d47 = d59;
+                }
+                if (v47 > v60 + p) {
+                    v47 = v60 + p;
+                    d47 = d60;
+                }
+                if (v47 > v46 + p) {
+                    v47 = v46 + p;
+                    d47 = d46;
+                }
+            }
+            if (okW2 && okS3) {
+                p = cost[tiles[colW2 - 3] & 15];
+                if (v55 > v69 + p) {
+                    v55 = v69 + p;
+                    d55 = d69;
+                }
+                if (v55 > v56 + p) {
+                    v55 = v56 + p;
+                    d55 = d56;
+                }
+                if (v55 > v68 + p) {
+                    v55 = v68 + p;
+                    d55 = d68;
+                }
+                if (v55 > v43 + p) {
+                    v55 = v43 + p;
+                    d55 = d43;
+                }
+            }
+            if (okW2 && okN3) {
+                p = cost[tiles[colW2 + 3] & 15];
+                if (v61 > v73 + p) {
+                    v61 = v73 + p;
+                    d61 = d73;
+                }
+                if (v61 > v60 + p) {
+                    v61 = v60 + p;
+                    d61 = d60;
+                }
+                if (v61 > v74 + p) {
+                    v61 = v74 + p;
+                    d61 = d74;
+                }
+                if (v61 > v47 + p) {
+                    v61 = v47 + p;
+                    d61 = d47;
+                }
+            }
+            if (okE2 && okS3) {
+                p = cost[tiles[colE2 - 3] & 15];
+                if (v107 > v95 + p) {
+                    v107 = v95 + p;
+                    d107 = d95;
+                }
+                if (v107 > v108 + p) {
+                    v107 = v108 + p;
+                    d107 = d108;
+                }
+                if (v107 > v94 + p) {
+                    v107 = v94 + p;
+                    d107 = d94;
+                }
+            }
+            if (okE2 && okN3) {
+                p = cost[tiles[colE2 + 3] & 15];
+                if (v113 > v99 + p) {
+                    v113 = v99 + p;
+                    d113 = d99;
+                }
+                if (v113 > v112 + p) {
+                    v113 = v112 + p;
+                    d113 = d112;
+                }
+                if (v113 > v100 + p) {
+                    v113 = v100 + p;
+                    d113 = d100;
+                }
+            }
+            if (okE3 && okS2) {
+                p = cost[tiles[colE3 - 2] & 15];
+                if (v121 > v109 + p) {
+                    v121 = v109 + p;
+                    d121 = d109;
+                }
+                if (v121 > v108 + p) {
+                    v121 = v108 + p;
+                    d121 = d108;
+                }
+                if (v121 > v122 + p) {
+                    v121 = v122 + p;
+                    d121 = d122;
+                }
+                if (v121 > v107 + p) {
+                    v121 = v107 + p;
+                    d121 = d107;
+                }
+            }
+            if (okE3 && okN2) {
+                p = cost[tiles[colE3 + 2] & 15];
+                if (v125 > v111 + p) {
+                    v125 = v111 + p;
+                    d125 = d111;
+                }
+                if (v125 > v112 + p) {
+                    v125 = v112 + p;
+                    d125 = d112;
+                }
+                if (v125 > v124 + p) {
+                    v125 = v124 + p;
+                    d125 = d124;
+                }
+                if (v125 > v113 + p) {
+                    v125 = v113 + p;
+                    d125 = d113;
+                }
+            }
+            if (okW4) {
+                p = cost[tiles[colW4] & 15];
+                if (v32 > v45 + p) {
+                    v32 = v45 + p;
+                    d32 = d45;
+                }
+                if (v32 > v44 + p) {
+                    v32 = v44 + p;
+                    d32 = d44;
+                }
+                if (v32 > v46 + p) {
+                    v32 = v46 + p;
+                    d32 = d46;
+                }
+            }
+            if (okS4) {
+                p = cost[tiles[col0 - 4] & 15];
+                if (v80 > v81 + p) {
+                    v80 = v81 + p;
+                    d80 = d81;
+                }
+                if (v80 > v68 + p) {
+                    v80 = v68 + p;
+                    d80 = d68;
+                }
+                if (v80 > v94 + p) {
+                    v80 = v94 + p;
+                    d80 = d94;
+                }
+            }
+            if (okN4) {
+                p = cost[tiles[col0 + 4] & 15];
+                if (v88 > v87 + p) {
+                    v88 = v87 + p;
+                    d88 = d87;
+                }
+                if (v88 > v74 + p) {
+                    v88 = v74 + p;
+                    d88 = d74;
+                }
+                if (v88 > v100 + p) {
+                    v88 = v100 + p;
+                    d88 = d100;
+                }
+            }
+            if (okE4) {
+                p = cost[tiles[colE4] & 15];
+                if (v136 > v123 + p) {
+                    v136 = v123 + p;
+                    d136 = d123;
+                }
+                if (v136 > v122 + p) {
+                    v136 = v122 + p;
+                    d136 = d122;
+                }
+                if (v136 > v124 + p) {
+                    v136 = v124 + p;
+                    d136 = d124;
+                }
+            }
+            if (okW4 && okS1) {
+                p = cost[tiles[colW4 - 1] & 15];
+                if (v31 > v45 + p) {
+                    v31 = v45 + p;
+                    d31 = d45;
+                }
+                if (v31 > v44 + p) {
+                    v31 = v44 + p;
+                    d31 = d44;
+                }
+                if (v31 > v43 + p) {
+                    v31 = v43 + p;
+                    d31 = d43;
+                }
+                if (v31 > v32 + p) {
+                    v31 = v32 + p;
+                    d31 = d32;
+                }
+            }
+            if (okW4 && okN1) {
+                p = cost[tiles[colW4 + 1] & 15];
+                if (v33 > v45 + p) {
+                    v33 = v45 + p;
+                    d33 = d45;
+                }
+                if (v33 > v46 + p) {
+                    v33 = v46 + p;
+                    d33 = d46;
+                }
+                if (v33 > v47 + p) {
+                    v33 = v47 + p;
+                    d33 = d47;
+                }
+                if (v33 > v32 + p) {
+                    v33 = v32 + p;
+                    d33 = d32;
+                }
+            }
+            if (okW1 && okS4) {
+                p = cost[tiles[colW1 - 4] & 15];
+                if (v67 > v81 + p) {
+                    v67 = v81 + p;
+                    d67 = d81;
+                }
+                if (v67 > v68 + p) {
+                    v67 = v68 + p;
+                    d67 = d68;
+                }
+                if (v67 > v55 + p) {
+                    v67 = v55 + p;
+                    d67 = d55;
+                }
+                if (v67 > v80 + p) {
+                    v67 = v80 + p;
+                    d67 = d80;
+                }
+            }
+            if (okW1 && okN4) {
+                p = cost[tiles[colW1 + 4] & 15];
+                if (v75 > v87 + p) {
+                    v75 = v87 + p;
+                    d75 = d87;
+                }
+                if (v75 > v74 + p) {
+                    v75 = v74 + p;
+                    d75 = d74;
+                }
+                if (v75 > v61 + p) {
+                    v75 = v61 + p;
+                    d75 = d61;
+                }
+                if (v75 > v88 + p) {
+                    v75 = v88 + p;
+                    d75 = d88;
+                }
+            }
+            if (okE1 && okS4) {
+                p = cost[tiles[colE1 - 4] & 15];
+                if (v93 > v81 + p) {
+                    v93 = v81 + p;
+                    d93 = d81;
+                }
+                if (v93 > v94 + p) {
+                    v93 = v94 + p;
+                    d93 = d94;
+                }
+                if (v93 > v107 + p) {
+                    v93 = v107 + p;
+                    d93 = d107;
+                }
+                if (v93 > v80 + p) {
+                    v93 = v80 + p;
+                    d93 = d80;
+                }
+            }
+            if (okE1 && okN4) {
+                p = cost[tiles[colE1 + 4] & 15];
+                if (v101 > v87 + p) {
+                    v101 = v87 + p;
+                    d101 = d87;
+                }
+                if (v101 > v100 + p) {
+                    v101 = v100 + p;
+                    d101 = d100;
+                }
+                if (v101 > v113 + p) {
+                    v101 = v113 + p;
+                    d101 = d113;
+                }
+                if (v101 > v88 + p) {
+                    v101 = v88 + p;
+                    d101 = d88;
+                }
+            }
+            if (okE4 && okS1) {
+                p = cost[tiles[colE4 - 1] & 15];
+                if (v135 > v123 + p) {
+                    v135 = v123 + p;
+                    d135 = d123;
+                }
+                if (v135 > v122 + p) {
+                    v135 = v122 + p;
+                    d135 = d122;
+                }
+                if (v135 > v121 + p) {
+                    v135 = v121 + p;
+                    d135 = d121;
+                }
+                if (v135 > v136 + p) {
+                    v135 = v136 + p;
+                    d135 = d136;
+                }
+            }
+            if (okE4 && okN1) {
+                p = cost[tiles[colE4 + 1] & 15];
+                if (v137 > v123 + p) {
+                    v137 = v123 + p;
+                    d137 = d123;
+                }
+                if (v137 > v124 + p) {
+                    v137 = v124 + p;
+                    d137 = d124;
+                }
+                if (v137 > v125 + p) {
+                    v137 = v125 + p;
+                    d137 = d125;
+                }
+                if (v137 > v136 + p) {
+                    v137 = v136 + p;
+                    d137 = d136;
+                }
+            }
+            if (okW3 && okS3) {
+                p = cost[tiles[colW3 - 3] & 15];
+                if (v42 > v56 + p) {
+                    v42 = v56 + p;
+                    d42 = d56;
+                }
+                if (v42 > v43 + p) {
+                    v42 = v43 + p;
+                    d42 = d43;
+                }
+                if (v42 > v55 + p) {
+                    v42 = v55 + p;
+                    d42 = d55;
+                }
+            }
+            if (okW3 && okN3) {
+                p = cost[tiles[colW3 + 3] & 15];
+                if (v48 > v60 + p) {
+                    v48 = v60 + p;
+                    d48 = d60;
+                }
+                if (v48 > v47 + p) {
+                    v48 = v47 + p;
+                    d48 = d47;
+                }
+                if (v48 > v61 + p) {
+                    v48 = v61 + p;
+                    d48 = d61;
+                }
+            }
+            if (okE3 && okS3) {
+                p = cost[tiles[colE3 - 3] & 15];
+                if (v120 > v108 + p) {
+                    v120 = v108 + p;
+                    d120 = d108;
+                }
+                if (v120 > v107 + p) {
+                    v120 = v107 + p;
+                    d120 = d107;
+                }
+                if (v120 > v121 + p) {
+                    v120 = v121 + p;
+                    d120 = d121;
+                }
+            }
+            if (okE3 && okN3) {
+                p = cost[tiles[colE3 + 3] & 15];
+                if (v126 > v112 + p) {
+                    v126 = v112 + p;
+                    d126 = d112;
+                }
+                if (v126 > v113 + p) {
+                    v126 = v113 + p;
+                    d126 = d113;
+                }
+                if (v126 > v125 + p) {
+                    v126 = v125 + p;
+                    d126 = d125;
+                }
+            }
+            if (okW4 && okS2) {
+                p = cost[tiles[colW4 - 2] & 15];
+                if (v30 > v44 + p) {
+                    v30 = v44 + p;
+                    d30 = d44;
+                }
+                if (v30 > v43 + p) {
+                    v30 = v43 + p;
+                    d30 = d43;
+                }
+                if (v30 > v31 + p) {
+                    v30 = v31 + p;
+                    d30 = d31;
+                }
+                if (v30 > v42 + p) {
+                    v30 = v42 + p;
+                    d30 = d42;
+                }
+            }
+            if (okW4 && okN2) {
+                p = cost[tiles[colW4 + 2] & 15];
+                if (v34 > v46 + p) {
+                    v34 = v46 + p;
+                    d34 = d46;
+                }
+                if (v34 > v47 + p) {
+                    v34 = v47 + p;
+                    d34 = d47;
+                }
+                if (v34 > v33 + p) {
+                    v34 = v33 + p;
+                    d34 = d33;
+                }
+                if (v34 > v48 + p) {
+                    v34 = v48 + p;
+                    d34 = d48;
+                }
+            }
+            if (okW2 && okS4) {
+                p = cost[tiles[colW2 - 4] & 15];
+                if (v54 > v68 + p) {
+                    v54 = v68 + p;
+                    d54 = d68;
+                }
+                if (v54 > v55 + p) {
+                    v54 = v55 + p;
+                    d54 = d55;
+                }
+                if (v54 > v67 + p) {
+                    v54 = v67 + p;
+                    d54 = d67;
+                }
+                if (v54 > v42 + p) {
+                    v54 = v42 + p;
+                    d54 = d42;
+                }
+            }
+            if (okW2 && okN4) {
+                p = cost[tiles[colW2 + 4] & 15];
+                if (v62 > v74 + p) {
+                    v62 = v74 + p;
+                    d62 = d74;
+                }
+                if (v62 > v61 + p) {
+                    v62 = v61 + p;
+                    d62 = d61;
+                }
+                if (v62 > v75 + p) {
+                    v62 = v75 + p;
+                    d62 = d75;
+                }
+                if (v62 > v48 + p) {
+                    v62 = v48 + p;
+                    d62 = d48;
+                }
+            }
+            if (okE2 && okS4) {
+                p = cost[tiles[colE2 - 4] & 15];
+                if (v106 > v94 + p) {
+                    v106 = v94 + p;
+                    d106 = d94;
+                }
+                if (v106 > v107 + p) {
+                    v106 = v107 + p;
+                    d106 = d107;
+                }
+                if (v106 > v93 + p) {
+                    v106 = v93 + p;
+                    d106 = d93;
+                }
+                if (v106 > v120 + p) {
+                    v106 = v120 + p;
+                    d106 = d120;
+                }
+            }
+            if (okE2 && okN4) {
+                p = cost[tiles[colE2 + 4] & 15];
+                if (v114 > v100 + p) {
+                    v114 = v100 + p;
+                    d114 = d100;
+                }
+                if (v114 > v113 + p) {
+                    v114 = v113 + p;
+                    d114 = d113;
+                }
+                if (v114 > v101 + p) {
+                    v114 = v101 + p;
+                    d114 = d101;
+                }
+                if (v114 > v126 + p) {
+                    v114 = v126 + p;
+                    d114 = d126;
+                }
+            }
+            if (okE4 && okS2) {
+                p = cost[tiles[colE4 - 2] & 15];
+                if (v134 > v122 + p) {
+                    v134 = v122 + p;
+                    d134 = d122;
+                }
+                if (v134 > v121 + p) {
+                    v134 = v121 + p;
+                    d134 = d121;
+                }
+                if (v134 > v135 + p) {
+                    v134 = v135 + p;
+                    d134 = d135;
+                }
+                if (v134 > v120 + p) {
+                    v134 = v120 + p;
+                    d134 = d120;
+                }
+            }
+            if (okE4 && okN2) {
+                p = cost[tiles[colE4 + 2] & 15];
+                if (v138 > v124 + p) {
+                    v138 = v124 + p;
+                    d138 = d124;
+                }
+                if (v138 > v125 + p) {
+                    v138 = v125 + p;
+                    d138 = d125;
+                }
+                if (v138 > v137 + p) {
+                    v138 = v137 + p;
+                    d138 = d137;
+                }
+                if (v138 > v126 + p) {
+                    v138 = v126 + p;
+                    d138 = d126;
+                }
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    // needs a flood from the current location
+    public static Direction getBestDir(MapLocation target) {
+        int rx = target.x - cx;
+        int ry = target.y - cy;
+        if (rx * rx + ry * ry <= 20) {
+            return firstStepTo(rx, ry);
+        }
+
+        // squared distances from each frontier column/row to the target
+        String sqrt = Bfs.SQRT;
+        int qW4 = (rx + 4) * (rx + 4);
+        int qW3 = (rx + 3) * (rx + 3);
+        int qW2 = (rx + 2) * (rx + 2);
+        int qW1 = (rx + 1) * (rx + 1);
+        int qX0 = rx * rx;
+        int qE1 = (rx - 1) * (rx - 1);
+        int qE2 = (rx - 2) * (rx - 2);
+        int qE3 = (rx - 3) * (rx - 3);
+        int qE4 = (rx - 4) * (rx - 4);
+        int qS4 = (ry + 4) * (ry + 4);
+        int qS3 = (ry + 3) * (ry + 3);
+        int qS2 = (ry + 2) * (ry + 2);
+        int qS1 = (ry + 1) * (ry + 1);
+        int qY0 = ry * ry;
+        int qN1 = (ry - 1) * (ry - 1);
+        int qN2 = (ry - 2) * (ry - 2);
+        int qN3 = (ry - 3) * (ry - 3);
+        int qN4 = (ry - 4) * (ry - 4);
+
+        // (how much closer the tile is, in 64ths of a tile) * 256 / cost of getting there
+        Direction ans = null;
+        int bestEstimation = 0;
+        int initialDist = sqrt.charAt(rx * rx + ry * ry);
+
+        int dist30 = (initialDist - sqrt.charAt(qW4 + qS2)) * 256 / v30;
+        if (dist30 > bestEstimation) {
+            bestEstimation = dist30;
+            ans = d30;
+        }
+        int dist31 = (initialDist - sqrt.charAt(qW4 + qS1)) * 256 / v31;
+        if (dist31 > bestEstimation) {
+            bestEstimation = dist31;
+            ans = d31;
+        }
+        int dist32 = (initialDist - sqrt.charAt(qW4 + qY0)) * 256 / v32;
+        if (dist32 > bestEstimation) {
+            bestEstimation = dist32;
+            ans = d32;
+        }
+        int dist33 = (initialDist - sqrt.charAt(qW4 + qN1)) * 256 / v33;
+        if (dist33 > bestEstimation) {
+            bestEstimation = dist33;
+            ans = d33;
+        }
+        int dist34 = (initialDist - sqrt.charAt(qW4 + qN2)) * 256 / v34;
+        if (dist34 > bestEstimation) {
+            bestEstimation = dist34;
+            ans = d34;
+        }
+        int dist42 = (initialDist - sqrt.charAt(qW3 + qS3)) * 256 / v42;
+        if (dist42 > bestEstimation) {
+            bestEstimation = dist42;
+            ans = d42;
+        }
+        int dist48 = (initialDist - sqrt.charAt(qW3 + qN3)) * 256 / v48;
+        if (dist48 > bestEstimation) {
+            bestEstimation = dist48;
+            ans = d48;
+        }
+        int dist54 = (initialDist - sqrt.charAt(qW2 + qS4)) * 256 / v54;
+        if (dist54 > bestEstimation) {
+            bestEstimation = dist54;
+            ans = d54;
+        }
+        int dist62 = (initialDist - sqrt.charAt(qW2 + qN4)) * 256 / v62;
+        if (dist62 > bestEstimation) {
+            bestEstimation = dist62;
+            ans = d62;
+        }
+        int dist67 = (initialDist - sqrt.charAt(qW1 + qS4)) * 256 / v67;
+        if (dist67 > bestEstimation) {
+            bestEstimation = dist67;
+            ans = d67;
+        }
+        int dist75 = (initialDist - sqrt.charAt(qW1 + qN4)) * 256 / v75;
+        if (dist75 > bestEstimation) {
+            bestEstimation = dist75;
+            ans = d75;
+        }
+        int dist80 = (initialDist - sqrt.charAt(qX0 + qS4)) * 256 / v80;
+        if (dist80 > bestEstimation) {
+            bestEstimation = dist80;
+            ans = d80;
+        }
+        int dist88 = (initialDist - sqrt.charAt(qX0 + qN4)) * 256 / v88;
+        if (dist88 > bestEstimation) {
+            bestEstimation = dist88;
+            ans = d88;
+        }
+        int dist93 = (initialDist - sqrt.charAt(qE1 + qS4)) * 256 / v93;
+        if (dist93 > bestEstimation) {
+            bestEstimation = dist93;
+            ans = d93;
+        }
+        int dist101 = (initialDist - sqrt.charAt(qE1 + qN4)) * 256 / v101;
+        if (dist101 > bestEstimation) {
+            bestEstimation = dist101;
+            ans = d101;
+        }
+        int dist106 = (initialDist - sqrt.charAt(qE2 + qS4)) * 256 / v106;
+        if (dist106 > bestEstimation) {
+            bestEstimation = dist106;
+            ans = d106;
+        }
+        int dist114 = (initialDist - sqrt.charAt(qE2 + qN4)) * 256 / v114;
+        if (dist114 > bestEstimation) {
+            bestEstimation = dist114;
+            ans = d114;
+        }
+        int dist120 = (initialDist - sqrt.charAt(qE3 + qS3)) * 256 / v120;
+        if (dist120 > bestEstimation) {
+            bestEstimation = dist120;
+            ans = d120;
+        }
+        int dist126 = (initialDist - sqrt.charAt(qE3 + qN3)) * 256 / v126;
+        if (dist126 > bestEstimation) {
+            bestEstimation = dist126;
+            ans = d126;
+        }
+        int dist134 = (initialDist - sqrt.charAt(qE4 + qS2)) * 256 / v134;
+        if (dist134 > bestEstimation) {
+            bestEstimation = dist134;
+            ans = d134;
+        }
+        int dist135 = (initialDist - sqrt.charAt(qE4 + qS1)) * 256 / v135;
+        if (dist135 > bestEstimation) {
+            bestEstimation = dist135;
+            ans = d135;
+        }
+        int dist136 = (initialDist - sqrt.charAt(qE4 + qY0)) * 256 / v136;
+        if (dist136 > bestEstimation) {
+            bestEstimation = dist136;
+            ans = d136;
+        }
+        int dist137 = (initialDist - sqrt.charAt(qE4 + qN1)) * 256 / v137;
+        if (dist137 > bestEstimation) {
+            bestEstimation = dist137;
+            ans = d137;
+        }
+        int dist138 = (initialDist - sqrt.charAt(qE4 + qN2)) * 256 / v138;
+        if (dist138 > bestEstimation) {
+            bestEstimation = dist138;
+            ans = d138;
+        }
+        return ans;
+    }
+
+    // walking cost to (cx + rx, cy + ry), -1 outside the disk
+    public static int distanceTo(int rx, int ry) {
+        switch (rx) {
+            case -4:
+                switch (ry) {
+                    case -2:
+                        return v30;
+                    case -1:
+                        return v31;
+                    case 0:
+                        return v32;
+                    case 1:
+                        return v33;
+                    case 2:
+                        return v34;
+                }
+                break;
+            case -3:
+                switch (ry) {
+                    case -3:
+                        return v42;
+                    case -2:
+                        return v43;
+                    case -1:
+                        return v44;
+                    case 0:
+                        return v45;
+                    case 1:
+                        return v46;
+                    case 2:
+                        return v47;
+                    case 3:
+                        return v48;
+                }
+                break;
+            case -2:
+                switch (ry) {
+                    case -4:
+                        return v54;
+                    case -3:
+                        return v55;
+                    case -2:
+                        return v56;
+                    case -1:
+                        return v57;
+                    case 0:
+                        return v58;
+                    case 1:
+                        return v59;
+                    case 2:
+                        return v60;
+                    case 3:
+                        return v61;
+                    case 4:
+                        return v62;
+                }
+                break;
+            case -1:
+                switch (ry) {
+                    case -4:
+                        return v67;
+                    case -3:
+                        return v68;
+                    case -2:
+                        return v69;
+                    case -1:
+                        return v70;
+                    case 0:
+                        return v71;
+                    case 1:
+                        return v72;
+                    case 2:
+                        return v73;
+                    case 3:
+                        return v74;
+                    case 4:
+                        return v75;
+                }
+                break;
+            case 0:
+                switch (ry) {
+                    case -4:
+                        return v80;
+                    case -3:
+                        return v81;
+                    case -2:
+                        return v82;
+                    case -1:
+                        return v83;
+                    case 0:
+                        return v84;
+                    case 1:
+                        return v85;
+                    case 2:
+                        return v86;
+                    case 3:
+                        return v87;
+                    case 4:
+                        return v88;
+                }
+                break;
+            case 1:
+                switch (ry) {
+                    case -4:
+                        return v93;
+                    case -3:
+                        return v94;
+                    case -2:
+                        return v95;
+                    case -1:
+                        return v96;
+                    case 0:
+                        return v97;
+                    case 1:
+                        return v98;
+                    case 2:
+                        return v99;
+                    case 3:
+                        return v100;
+                    case 4:
+                        return v101;
+                }
+                break;
+            case 2:
+                switch (ry) {
+                    case -4:
+                        return v106;
+                    case -3:
+                        return v107;
+                    case -2:
+                        return v108;
+                    case -1:
+                        return v109;
+                    case 0:
+                        return v110;
+                    case 1:
+                        return v111;
+                    case 2:
+                        return v112;
+                    case 3:
+                        return v113;
+                    case 4:
+                        return v114;
+                }
+                break;
+            case 3:
+                switch (ry) {
+                    case -3:
+                        return v120;
+                    case -2:
+                        return v121;
+                    case -1:
+                        return v122;
+                    case 0:
+                        return v123;
+                    case 1:
+                        return v124;
+                    case 2:
+                        return v125;
+                    case 3:
+                        return v126;
+                }
+                break;
+            case 4:
+                switch (ry) {
+                    case -2:
+                        return v134;
+                    case -1:
+                        return v135;
+                    case 0:
+                        return v136;
+                    case 1:
+                        return v137;
+                    case 2:
+                        return v138;
+                }
+                break;
+        }
+        return -1;
+    }
+
+    // first step towards (cx + rx, cy + ry), null if unreached or outside the disk
+    public static Direction firstStepTo(int rx, int ry) {
+        switch (rx) {
+            case -4:
+                switch (ry) {
+                    case -2:
+                        return d30;
+                    case -1:
+                        return d31;
+                    case 0:
+                        return d32;
+                    case 1:
+                        return d33;
+                    case 2:
+                        return d34;
+                }
+                break;
+            case -3:
+                switch (ry) {
+                    case -3:
+                        return d42;
+                    case -2:
+                        return d43;
+                    case -1:
+                        return d44;
+                    case 0:
+                        return d45;
+                    case 1:
+                        return d46;
+                    case 2:
+                        return d47;
+                    case 3:
+                        return d48;
+                }
+                break;
+            case -2:
+                switch (ry) {
+                    case -4:
+                        return d54;
+                    case -3:
+                        return d55;
+                    case -2:
+                        return d56;
+                    case -1:
+                        return d57;
+                    case 0:
+                        return d58;
+                    case 1:
+                        return d59;
+                    case 2:
+                        return d60;
+                    case 3:
+                        return d61;
+                    case 4:
+                        return d62;
+                }
+                break;
+            case -1:
+                switch (ry) {
+                    case -4:
+                        return d67;
+                    case -3:
+                        return d68;
+                    case -2:
+                        return d69;
+                    case -1:
+                        return d70;
+                    case 0:
+                        return d71;
+                    case 1:
+                        return d72;
+                    case 2:
+                        return d73;
+                    case 3:
+                        return d74;
+                    case 4:
+                        return d75;
+                }
+                break;
+            case 0:
+                switch (ry) {
+                    case -4:
+                        return d80;
+                    case -3:
+                        return d81;
+                    case -2:
+                        return d82;
+                    case -1:
+                        return d83;
+                    case 0:
+                        return d84;
+                    case 1:
+                        return d85;
+                    case 2:
+                        return d86;
+                    case 3:
+                        return d87;
+                    case 4:
+                        return d88;
+                }
+                break;
+            case 1:
+                switch (ry) {
+                    case -4:
+                        return d93;
+                    case -3:
+                        return d94;
+                    case -2:
+                        return d95;
+                    case -1:
+                        return d96;
+                    case 0:
+                        return d97;
+                    case 1:
+                        return d98;
+                    case 2:
+                        return d99;
+                    case 3:
+                        return d100;
+                    case 4:
+                        return d101;
+                }
+                break;
+            case 2:
+                switch (ry) {
+                    case -4:
+                        return d106;
+                    case -3:
+                        return d107;
+                    case -2:
+                        return d108;
+                    case -1:
+                        return d109;
+                    case 0:
+                        return d110;
+                    case 1:
+                        return d111;
+                    case 2:
+                        return d112;
+                    case 3:
+                        return d113;
+                    case 4:
+                        return d114;
+                }
+                break;
+            case 3:
+                switch (ry) {
+                    case -3:
+                        return d120;
+                    case -2:
+                        return d121;
+                    case -1:
+                        return d122;
+                    case 0:
+                        return d123;
+                    case 1:
+                        return d124;
+                    case 2:
+                        return d125;
+                    case 3:
+                        return d126;
+                }
+                break;
+            case 4:
+                switch (ry) {
+                    case -2:
+                        return d134;
+                    case -1:
+                        return d135;
+                    case 0:
+                        return d136;
+                    case 1:
+                        return d137;
+                    case 2:
+                        return d138;
+                }
+                break;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,752 @@
+package mainbot;
+
+import battlecode.common.*;
+
+// generated by tools/codegen/BfsGenerator.java from tools/templates/BfsRadiusPacked.java.tmpl, edit those instead
+// unrolled bfs over the 25 tiles within r^2 8
+// yoinked from 5 musketeers 2022, although originally from xsquare
+// works on plain coordinates and MapMemory indices so a call allocates nothing. tile
+// costs are read straight out of MapMemory.tiles (recorded at the start of the turn,
+// never seen counts as open) and scoring is integer math on the Bfs.SQRT table
+public class BfsR8 {
+
+    // Includes a ~200 BC cushion
+    public static final int MIN_BC_TO_USE = 1500;
+
+    // where the last flood ran from
+    static int cx;
+    static int cy;
+
+    static int v56;
+    static Direction d56;
+
+    static int v57;
+    static Direction d57;
+
+    static int v58;
+    static Direction d58;
+
+    static int v59;
+    static Direction d59;
+
+    static int v60;
+    static Direction d60;
+
+    static int v69;
+    static Direction d69;
+
+    static int v70;
+    static Direction d70;
+
+    static int v71;
+    static Direction d71;
+
+    static int v72;
+    static Direction d72;
+
+    static int v73;
+    static Direction d73;
+
+    static int v82;
+    static Direction d82;
+
+    static int v83;
+    static Direction d83;
+
+    static int v84;
+    static Direction d84;
+
+    static int v85;
+    static Direction d85;
+
+    static int v86;
+    static Direction d86;
+
+    static int v95;
+    static Direction d95;
+
+    static int v96;
+    static Direction d96;
+
+    static int v97;
+    static Direction d97;
+
+    static int v98;
+    static Direction d98;
+
+    static int v99;
+    static Direction d99;
+
+    static int v108;
+    static Direction d108;
+
+    static int v109;
+    static Direction d109;
+
+    static int v110;
+    static Direction d110;
+
+    static int v111;
+    static Direction d111;
+
+    static int v112;
+    static Direction d112;
+
+    // fills v/d for every tile from where we stand, ready is whether we can move
+    // this turn (if not adjacent tiles only need to be open land). with fill water
+    // costs a fill and a move instead of being a wall
+    public static void flood(boolean ready, boolean fill) {
+        RobotController rc = Bfs.rc;
+        MapLocation me = rc.getLocation();
+        cx = me.x;
+        cy = me.y;
+        boolean fillNow = fill && rc.isActionReady();
+        int[] tiles = MapMemory.tiles;
+        int[] cost = fill ? MapMemory.BFS_COSTS_FILL : MapMemory.BFS_COSTS;
+        int h = MapMemory.height;
+        int w = MapMemory.width;
+        int p;
+        int col0 = cx * h + cy;
+        int colW1 = col0 - h;
+        int colW2 = colW1 - h;
+        int colE1 = col0 + h;
+        int colE2 = colE1 + h;
+        boolean okW1 = cx >= 1;
+        boolean okE1 = cx + 1 < w;
+        boolean okS1 = cy >= 1;
+        boolean okN1 = cy + 1 < h;
+        boolean okW2 = cx >= 2;
+        boolean okE2 = cx + 2 < w;
+        boolean okS2 = cy >= 2;
+        boolean okN2 = cy + 2 < h;
+        v84 = 0;
+        v71 = 1000000;
+        d71 = null;
+        v83 = 1000000;
+        d83 = null;
+        v85 = 1000000;
+        d85 = null;
+        v97 = 1000000;
+        d97 = null;
+        v70 = 1000000;
+        d70 = null;
+        v72 = 1000000;
+        d72 = null;
+        v96 = 1000000;
+        d96 = null;
+        v98 = 1000000;
+        d98 = null;
+        v58 = 1000000;
+        d58 = null;
+        v82 = 1000000;
+        d82 = null;
+        v86 = 1000000;
+        d86 = null;
+        v110 = 1000000;
+        d110 = null;
+        v57 = 1000000;
+        d57 = null;
+        v59 = 1000000;
+        d59 = null;
+        v69 = 1000000;
+        d69 = null;
+        v73 = 1000000;
+        d73 = null;
+        v95 = 1000000;
+        d95 = null;
+        v99 = 1000000;
+        d99 = null;
+        v109 = 1000000;
+        d109 = null;
+        v111 = 1000000;
+        d111 = null;
+        v56 = 1000000;
+        d56 = null;
+        v60 = 1000000;
+        d60 = null;
+        v108 = 1000000;
+        d108 = null;
+        v112 = 1000000;
+        d112 = null;
+
+        try {
+            if (ready ? rc.canMove(Direction.WEST) : okW1 && cost[tiles[colW1] & 15] == 1) {
+                v71 = 1;
+                d71 = Direction.WEST;
+            } else if (fillNow && okW1 && cost[tiles[colW1] & 15] == MapMemory.WATER_FILL_COST) {
+                v71 = MapMemory.WATER_FILL_COST;
+                d71 = Direction.WEST;
+            }
+            if (ready ? rc.canMove(Direction.SOUTH) : okS1 && cost[tiles[col0 - 1] & 15] == 1) {
+                v83 = 1;
+                d83 = Direction.SOUTH;
+            } else if (fillNow && okS1 && cost[tiles[col0 - 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v83 = MapMemory.WATER_FILL_COST;
+                d83 = Direction.SOUTH;
+            }
+            if (ready ? rc.canMove(Direction.NORTH) : okN1 && cost[tiles[col0 + 1] & 15] == 1) {
+                v85 = 1;
+                d85 = Direction.NORTH;
+            } else if (fillNow && okN1 && cost[tiles[col0 + 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v85 = MapMemory.WATER_FILL_COST;
+                d85 = Direction.NORTH;
+            }
+            if (ready ? rc.canMove(Direction.EAST) : okE1 && cost[tiles[colE1] & 15] == 1) {
+                v97 = 1;
+                d97 = Direction.EAST;
+            } else if (fillNow && okE1 && cost[tiles[colE1] & 15] == MapMemory.WATER_FILL_COST) {
+                v97 = MapMemory.WATER_FILL_COST;
+                d97 = Direction.EAST;
+            }
+            if (ready ? rc.canMove(Direction.SOUTHWEST) : okW1 && okS1 && cost[tiles[colW1 - 1] & 15] == 1) {
+                v70 = 1;
+                d70 = Direction.SOUTHWEST;
+            } else if (fillNow && okW1 && okS1 && cost[tiles[colW1 - 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v70 = MapMemory.WATER_FILL_COST;
+                d70 = Direction.SOUTHWEST;
+            }
+            if (ready ? rc.canMove(Direction.NORTHWEST) : okW1 && okN1 && cost[tiles[colW1 + 1] & 15] == 1) {
+                v72 = 1;
+                d72 = Direction.NORTHWEST;
+            } else if (fillNow && okW1 && okN1 && cost[tiles[colW1 + 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v72 = MapMemory.WATER_FILL_COST;
+                d72 = Direction.NORTHWEST;
+            }
+            if (ready ? rc.canMove(Direction.SOUTHEAST) : okE1 && okS1 && cost[tiles[colE1 - 1] & 15] == 1) {
+                v96 = 1;
+                d96 = Direction.SOUTHEAST;
+            } else if (fillNow && okE1 && okS1 && cost[tiles[colE1 - 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v96 = MapMemory.WATER_FILL_COST;
+                d96 = Direction.SOUTHEAST;
+            }
+            if (ready ? rc.canMove(Direction.NORTHEAST) : okE1 && okN1 && cost[tiles[colE1 + 1] & 15] == 1) {
+                v98 = 1;
+                d98 = Direction.NORTHEAST;
+            } else if (fillNow && okE1 && okN1 && cost[tiles[colE1 + 1] & 15] == MapMemory.WATER_FILL_COST) {
+                v98 = MapMemory.WATER_FILL_COST;
+                d98 = Direction.NORTHEAST;
+            }
+            if (okW2) {
+                p = cost[tiles[colW2] & 15];
+                if (v58 > v71 + p) {
+                    v58 = v71 + p;
+                    d58 = d71;
+                }
+                if (v58 > v70 + p) {
+                    v58 = v70 + p;
+                    d58 = d70;
+                }
+                if (v58 > v72 + p) {
+                    v58 = v72 + p;
+                    d58 = d72;
+                }
+            }
+            if (okS2) {
+                p = cost[tiles[col0 - 2] & 15];
+                if (v82 > v83 + p) {
+                    v82 = v83 + p;
+                    d82 = d83;
+                }
+                if (v82 > v70 + p) {
+                    v82 = v70 + p;
+                    d82 = d70;
+                }
+                if (v82 > v96 + p) {
+                    v82 = v96 + p;
+                    d82 = d96;
+                }
+            }
+            if (okN2) {
+                p = cost[tiles[col0 + 2] & 15];
+                if (v86 > v85 + p) {
+                    v86 = v85 + p;
+                    d86 = d85;
+                }
+                if (v86 > v72 + p) {
+                    v86 = v72 + p;
+                    d86 = d72;
+                }
+                if (v86 > v98 + p) {
+                    v86 = v98 + p;
+                    d86 = d98;
+                }
+            }
+            if (okE2) {
+                p = cost[tiles[colE2] & 15];
+                if (v110 > v97 + p) {
+                    v110 = v97 + p;
+                    d110 = d97;
+                }
+                if (v110 > v96 + p) {
+                    v110 = v96 + p;
+                    d110 = d96;
+                }
+                if (v110 > v98 + p) {
+                    v110 = v98 + p;
+                    d110 = d98;
+                }
+            }
+            if (okW2 && okS1) {
+                p = cost[tiles[colW2 - 1] & 15];
+                if (v57 > v71 + p) {
+                    v57 = v71 + p;
+                    d57 = d71;
+                }
+                if (v57 > v70 + p) {
+                    v57 = v70 + p;
+                    d57 = d70;
+                }
+                if (v57 > v58 + p) {
+                    v57 = v58 + p;
+                    d57 = d58;
+                }
+            }
+            if (okW2 && okN1) {
+                p = cost[tiles[colW2 + 1] & 15];
+                if (v59 > v71 + p) {
+                    v59 = v71 + p;
+                    d59 = d71;
+                }
+                if (v59 > v72 + p) {
+                    v59 = v72 + p;
+                    d59 = d72;
+                }
+                if (v59 > v58 + p) {
+                    v59 = v58 + p;
+                    d59 = d58;
+                }
+            }
+            if (okW1 && okS2) {
+                p = cost[tiles[colW1 - 2] & 15];
+                if (v69 > v83 + p) {
+                    v69 = v83 + p;
+                    d69 = d83;
+                }
+                if (v69 > v70 + p) {
+                    v69 = v70 + p;
+                    d69 = d70;
+                }
+                if (v69 > v82 + p) {
+                    v69 = v82 + p;
+                    d69 = d82;
+                }
+                if (v69 > v57 + p) {
+                    v69 = v57 + p;
+                    d69 = d57;
+                }
+            }
+            if (okW1 && okN2) {
+                p = cost[tiles[colW1 + 2] & 15];
+                if (v73 > v85 + p) {
+                    v73 = v85 + p;
+                    d73 = d85;
+                }
+                if (v73 > v72 + p) {
+                    v73 = v72 + p;
+                    d73 = d72;
+                }
+                if (v73 > v86 + p) {
+                    v73 = v86 + p;
+                    d73 = d86;
+                }
+                if (v73 > v59 + p) {
+                    v73 = v59 + p;
+                    d73 = d59;
+                }
+            }
+            if (okE1 && okS2) {
+                p = cost[tiles[colE1 - 2] & 15];
+                if (v95 > v83 + p) {
+                    v95 = v83 + p;
+                    d95 = d83;
+                }
+                if (v95 > v96 + p) {
+                    v95 = v96 + p;
+                    d95 = d96;
+                }
+                if (v95 > v82 + p) {
+                    v95 = v82 + p;
+                    d95 = d82;
+                }
+            }
+            if (okE1 && okN2) {
+                p = cost[tiles[colE1 + 2] & 15];
+                if (v99 > v85 + p) {
+                    v99 = v85 + p;
+                    d99 = d85;
+                }
+                if (v99 > v98 + p) {
+                    v99 = v98 + p;
+                    d99 = d98;
+                }
+                if (v99 > v86 + p) {
+                    v99 = v86 + p;
+                    d99 = d86;
+                }
+            }
+            if (okE2 && okS1) {
+                p = cost[tiles[colE2 - 1] & 15];
+                if (v109 > v97 + p) {
+                    v109 = v97 + p;
+                    d109 = d97;
+                }
+                if (v109 > v96 + p) {
+                    v109 = v96 + p;
+                    d109 = d96;
+                }
+                if (v109 > v110 + p) {
+                    v109 = v110 + p;
+                    d109 = d110;
+                }
+                if (v109 > v95 + p) {
+                    v109 = v95 + p;
+                    d109 = d95;
+                }
+            }
+            if (okE2 && okN1) {
+                p = cost[tiles[colE2 + 1] & 15];
+                if (v111 > v97 + p) {
+                    v111 = v97 + p;
+                    d111 = d97;
+                }
+                if (v111 > v98 + p) {
+                    v111 = v98 + p;
+                    d111 = d98;
+                }
+                if (v111 > v110 + p) {
+                    v111 = v110 + p;
+                    d111 = d110;
+                }
+                if (v111 > v99 + p) {
+                    v111 = v99 + p;
+                    d111 = d99;
+                }
+            }
+            if (okW2 && okS2) {
+                p = cost[tiles[colW2 - 2] & 15];
+                if (v56 > v70 + p) {
+                    v56 = v70 + p;
+                    d56 = d70;
+                }
+                if (v56 > v57 + p) {
+                    v56 = v57 + p;
+                    d56 = d57;
+                }
+                if (v56 > v69 + p) {
+                    v56 = v69 + p;
+                    d56 = d69;
+                }
+            }
+            if (okW2 && okN2) {
+                p = cost[tiles[colW2 + 2] & 15];
+                if (v60 > v72 + p) {
+                    v60 = v72 + p;
+                    d60 = d72;
+                }
+                if (v60 > v59 + p) {
+                    v60 = v59 + p;
+                    d60 = d59;
+                }
+                if (v60 > v73 + p) {
+                    v60 = v73 + p;
+                    d60 = d73;
+                }
+            }
+            if (okE2 && okS2) {
+                p = cost[tiles[colE2 - 2] & 15];
+                if (v108 > v96 + p) {
+                    v108 = v96 + p;
+                    d108 = d96;
+                }
+                if (v108 > v95 + p) {
+                    v108 = v95 + p;
+                    d108 = d95;
+                }
+                if (v108 > v109 + p) {
+                    v108 = v109 + p;
+                    d108 = d109;
+                }
+            }
+            if (okE2 && okN2) {
+                p = cost[tiles[colE2 + 2] & 15];
+                if (v112 > v98 + p) {
+                    v112 = v98 + p;
+                    d112 = d98;
+                }
+                if (v112 > v99 + p) {
+                    v112 = v99 + p;
+                    d112 = d99;
+                }
+                if (v112 > v111 + p) {
+                    v112 = v111 + p;
+                    d112 = d111;
+                }
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    // needs a flood from the current location
+    public static Direction getBestDir(MapLocation target) {
+        int rx = target.x - cx;
+        int ry = target.y - cy;
+        if (rx * rx + ry * ry <= 8) {
+            return firstStepTo(rx, ry);
+        }
+
+        // squared distances from each frontier column/row to the target
+        String sqrt = Bfs.SQRT;
+        int qW2 = (rx + 2) * (rx + 2);
+        int qW1 = (rx + 1) * (rx + 1);
+        int qX0 = rx * rx;
+        int qE1 = (rx - 1) * (rx - 1);
+        int qE2 = (rx - 2) * (rx - 2);
+        int qS2 = (ry + 2) * (ry + 2);
+        int qS1 = (ry + 1) * (ry + 1);
+        int qY0 = ry * ry;
+        int qN1 = (ry - 1) * (ry - 1);
+        int qN2 = (ry - 2) * (ry - 2);
+
+        // (how much closer the tile is, in 64ths of a tile) * 256 / cost of getting there
+        Direction ans = null;
+        int bestEstimation = 0;
+        int initialDist = sqrt.charAt(rx * rx + ry * ry);
+
+        int dist56 = (initialDist - sqrt.charAt(qW2 + qS2)) * 256 / v56;
+        if (dist56 > bestEstimation) {
+            bestEstimation = dist56;
+            ans = d56;
+        }
+        int dist57 = (initialDist - sqrt.charAt(qW2 + qS1)) * 256 / v57;
+        if (dist57 > bestEstimation) {
+            bestEstimation = dist57;
+            ans = d57;
+        }
+        int dist58 = (initialDist - sqrt.charAt(qW2 + qY0)) * 256 / v58;
+        if (dist58 > bestEstimation) {
+            bestEstimation = dist58;
+            ans = d58;
+        }
+        int dist59 = (initialDist - sqrt.charAt(qW2 + qN1)) * 256 / v59;
+        if (dist59 > bestEstimation) {
+            bestEstimation = dist59;
+            ans = d59;
+        }
+        int dist60 = (initialDist - sqrt.charAt(qW2 + qN2)) * 256 / v60;
+        if (dist60 > bestEstimation) {
+            bestEstimation = dist60;
+            ans = d60;
+        }
+        int dist69 = (initialDist - sqrt.charAt(qW1 + qS2)) * 256 / v69;
+        if (dist69 > bestEstimation) {
+            bestEstimation = dist69;
+            ans = d69;
+        }
+        int dist73 = (initialDist - sqrt.charAt(qW1 + qN2)) * 256 / v73;
+        if (dist73 > bestEstimation) {
+            bestEstimation = dist73;
+            ans = d73;
+        }
+        int dist82 = (initialDist - sqrt.charAt(qX0 + qS2)) * 256 / v82;
+        if (dist82 > bestEstimation) {
+            bestEstimation = dist82;
+            ans = d82;
+        }
+        int dist86 = (initialDist - sqrt.charAt(qX0 + qN2)) * 256 / v86;
+        if (dist86 > bestEstimation) {
+            bestEstimation = dist86;
+            ans = d86;
+        }
+        int dist95 = (initialDist - sqrt.charAt(qE1 + qS2)) * 256 / v95;
+        if (dist95 > bestEstimation) {
+            bestEstimation = dist95;
+            ans = d95;
+        }
+        int dist99 = (initialDist - sqrt.charAt(qE1 + qN2)) * 256 / v99;
+        if (dist99 > bestEstimation) {
+            bestEstimation = dist99;
+            ans = d99;
+        }
+        int dist108 = (initialDist - sqrt.charAt(qE2 + qS2)) * 256 / v108;
+        if (dist108 > bestEstimation) {
+            bestEstimation = dist108;
+            ans = d108;
+        }
+        int dist109 = (initialDist - sqrt.charAt(qE2 + qS1)) * 256 / v109;
+        if (dist109 > bestEstimation) {
+            bestEstimation = dist109;
+            ans = d109;
+        }
+        int dist110 = (initialDist - sqrt.charAt(qE2 + qY0)) * 256 / v110;
+        if (dist110 > bestEstimation) {
+            bestEstimation = dist110;
+            ans = d110;
+        }
+        int dist111 = (initialDist - sqrt.charAt(qE2 + qN1)) * 256 / v111;
+        if (dist111 > bestEstimation) {
+            bestEstimation = dist111;
+            ans = d111;
+        }
+        int dist112 = (initialDist - sqrt.charAt(qE2 + qN2)) * 256 / v112;
+        if (dist112 > bestEstimation) {
+            bestEstimation = dist112;
+            ans = d112;
+        }
+        return ans;
+    }
+
+    // walking cost to (cx + rx, cy + ry), -1 outside the disk
+    public static int distanceTo(int rx, int ry) {
+        switch (rx) {
+            case -2:
+                switch (ry) {
+                    case -2:
+                        return v56;
+                    case -1:
+                        return v57;
+                    case 0:
+                        return v58;
+                    case 1:
+                        return v59;
+                    case 2:
+                        return v60;
+                }
+                break;
+            case -1:
+                switch (ry) {
+                    case -2:
+                        return v69;
+                    case -1:
+                        return v70;
+                    case 0:
+                        return v71;
+                    case 1:
+                        return v72;
+                    case 2:
+                        return v73;
+                }
+                break;
+            case 0:
+                switch (ry) {
+                    case -2:
+                        return v82;
+                    case -1:
+                        return v83;
+                    case 0:
+                        return v84;
+                    case 1:
+                        return v85;
+                    case 2:
+                        return v86;
+                }
+                break;
+            case 1:
+                switch (ry) {
+                    case -2:
+                        return v95;
+                    case -1:
+                        return v96;
+                    case 0:
+                        return v97;
+                    case 1:
+                        return v98;
+                    case 2:
+                        return v99;
+                }
+                break;
+            case 2:
+                switch (ry) {
+                    case -2:
+                        return v108;
+                    case -1:
+                        return v109;
+                    case 0:
+                        return v110;
+                    case 1:
+                        return v111;
+                    case 2:
+                        return v112;
+                }
+                break;
+        }
+        return -1;
+    }
+
+    // first step towards (cx + rx, cy + ry), null if unreached or outside the disk
+    public static Direction firstStepTo(int rx, int ry) {
+        switch (rx) {
+            case -2:
+                switch (ry) {
+                    case -2:
+                        return d56;
+                    case -1:
+                        return d57;
+                    case 0:
+                        return d58;
+                    case 1:
+                        return d59;
+                    case 2:
+                        return d60;
+                }
+                break;
+            case -1:
+                switch (ry) {
+                    case -2:
+                        return d69;
+                    case -1:
+                        return d70;
+                    case 0:
+                        return d71;
+                    case 1:
+                        return d72;
+                    case 2:
+                        return d73;
+                }
+                break;
+            case 0:
+                switch (ry) {
+                    case -2:
+                        return d82;
+                    case -1:
+                        return d83;
+                    case 0:
+                        return d84;
+                    case 1:
+                        return d85;
+                    case 2:
+                        return d86;
+                }
+                break;
+            case 1:
+                switch (ry) {
+                    case -2:
+                        return d95;
+                    case -1:
+                        return d96;
+                    case 0:
+                        return d97;
+                    case 1:
+                        return d98;
+                    case 2:
+                        return d99;
+                }
+                break;
+            case 2:
+                switch (ry) {
+                    case -2:
+                        return d108;
+                    case -1:
+                        return d109;
+                    case 0:
+                        return d110;
+                    case 1:
+                        return d111;
+                    case 2:
+                        return d112;
+                }
+                break;
+        }
+        return null;
+    }
+}
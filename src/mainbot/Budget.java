@@ -0,0 +1,118 @@
+package mainbot;
+
+import battlecode.common.*;
+
+/**
+ * Notices when we blow the bytecode limit (the round moved on before we
+ * yielded, so we lose the next turn) and sheds optional work afterwards. Every
+ * overrun bumps the shed level, a long enough run of turns with bytecode to
+ * spare brings it back down one level at a time.
+ */
+public class Budget {
+    public static RobotController rc;
+
+    public static final int MAX_SHED = 3;
+    // turns in a row with slack before we drop a shed level
+    static final int CALM_TURNS = 25;
+    // a turn whose own work finished with this much left counts as slack
+    static final int SLACK_BC = 6000;
+    // print overruns per role every REPORT_EVERY rounds, off for submissions so javac
+    // strips it out like the profiler
+    static final boolean REPORT = false;
+    static final int REPORT_EVERY = 250;
+
+    // knobs per shed level
+    static final int[] DIGGABLE_SCAN_BC = { 2000, 1000, 0, 0 };
+    static final int[] BFS_MAX_RADIUS = { 20, 13, 8, 0 };
+    static final int[] SENTRY_RELOCATE_RADIUS = { 11, 8, 5, 2 };
+    static final int[] FIELD_RESERVE_BC = { 1500, 3000, 5000, 8000 };
+
+    public static int shedLevel = 0;
+    public static int totalOverruns = 0;
+    static int reportedOverruns = 0;
+    static int[] overrunsByRole = new int[Profiler.NUM_ROLES];
+    static int calmTurns = 0;
+    static int turnStartRound = -1;
+    static int lastEndRound = -1;
+    static int lastRole = Profiler.JAILED;
+    static int workLeftBc = 0;
+
+    public static void beginTurn() {
+        turnStartRound = rc.getRoundNum();
+        // overran after endTurn already looked (inside the yield bookkeeping)
+        if (lastEndRound != -1 && turnStartRound > lastEndRound + 1) {
+            overran(turnStartRound - lastEndRound - 1, lastRole);
+        }
+        workLeftBc = 0;
+    }
+
+    // call once the turn's own logic is done, before spare bytecode gets spent
+    public static void workDone() {
+        workLeftBc = Clock.getBytecodesLeft();
+    }
+
+    // call right before yielding, role is Profiler.JAILED when unspawned
+    public static void endTurn(int role) {
+        int round = rc.getRoundNum();
+        if (round > turnStartRound) {
+            overran(round - turnStartRound, role);
+        } else if (workLeftBc > SLACK_BC) {
+            if (++calmTurns >= CALM_TURNS && shedLevel > 0) {
+                shedLevel--;
+                calmTurns = 0;
+            }
+        } else {
+            calmTurns = 0;
+        }
+        lastEndRound = round;
+        lastRole = role;
+
+        if (REPORT && round % REPORT_EVERY == 0 && totalOverruns > reportedOverruns) {
+            report();
+        }
+    }
+
+    static void overran(int turnsLost, int role) {
+        totalOverruns += turnsLost;
+        overrunsByRole[role] += turnsLost;
+        if (shedLevel < MAX_SHED)
+            shedLevel++;
+        calmTurns = 0;
+    }
+
+    static void report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("overruns shortId ").append(Comms.shortId).append(" total ").append(totalOverruns)
+                .append(" shed ").append(shedLevel).append(':');
+        for (int i = 0; i < Profiler.NUM_ROLES; i++) {
+            if (overrunsByRole[i] != 0)
+                sb.append(' ').append(Profiler.ROLE_NAMES[i]).append('=').append(overrunsByRole[i]);
+        }
+        System.out.println(sb);
+        reportedOverruns = totalOverruns;
+    }
+
+    // bytecode the nearbyMap scan may spend hunting for a diggable tile
+    public static int diggableScanBc() {
+        return DIGGABLE_SCAN_BC[shedLevel];
+    }
+
+    // biggest unrolled bfs (r^2) a flood may use, 0 means straight to buhg
+    public static int bfsMaxRadius() {
+        return BFS_MAX_RADIUS[shedLevel];
+    }
+
+    public static boolean shouldSampleEnemies() {
+        return shedLevel < 2;
+    }
+
+    // radius^2 sentries score when relocating the home flag
+    public static int sentryRelocateRadius() {
+        return SENTRY_RELOCATE_RADIUS[shedLevel];
+    }
+
+    // bytecode distance field building always leaves for the end of the turn
+    public static int fieldReserveBc() {
+        return FIELD_RESERVE_BC[shedLevel];
+    }
+}
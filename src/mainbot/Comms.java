@@ -19,43 +19,24 @@ enum Spec {
 }
 
 public class Comms {
-    // comms[0:2][15] ally flag exists
-    // comms[0:2][11:6], [5:0] x, y coords of default ally flag locs
-    // comms[3:5][15] ally flag exists
-    // comms[3:5][11:6], [5:0] x, y coords of current ally flag locs
-    // comms[6:8] flag ids of ally flags, all ally flag info follows this order
-    // ex: comms[0] will always be same flag as comms[3] and comms[6]
-
-    // comms[9:11][15] enemy flag exists
-    // comms[9:11][11:6], [5:0] x, y coords of default enemy flag locs
-    // comms[12:14][15] enemy flag exists, [14] carry bit
-    // comms[12:14][11:6], [5:0] x, y coords of current enemy flag locs
-    // comms[15:17] flag ids of enemy flags, all enemy flag info follows this order
-    // comms[18] ally attack spec ducks
-    // comms[19] ally build spec ducks
-    // comms[20] ally heal spec ducks
-    // comms[21:24][15], [11:6], [5:0] exists, x, y of 4 randomly sampled enemies
-
-    // comms[25:27][15][11:6][5:0] closest enemy loc to each ally flag(current if
-    // exist, otherwise default)
-
-    // comms[28:40] ally cd tracking, 2 bit action cd 2 bit move cd for 50 units
-    // in order of shortID
-    // 00 - nothing, 01 - 10, 10 - 20, 11 - 20+
-
-    // comms[62] enemy alive count(overestimate)
-    // comms[63] unit count for random sampling and id sequencing
-    // these traps were set off between your last turn and your current turn, and so
-    // could either be valid for 4 or 5 turns but for simplicity we assume 4
-
-    public static final int[] ALLY_DEFAULT_FLAG_INDICES = { 0, 1, 2 };
-    public static final int[] ALLY_CURRENT_FLAG_INDICES = { 3, 4, 5 };
-    public static final int[] ENEMY_DEFAULT_FLAG_INDICES = { 9, 10, 11 };
-    public static final int[] ENEMY_CURRENT_FLAG_INDICES = { 12, 13, 14 };
-    public static final int[] STUN_TRAP_INDICES = { 30, 31, 32, 33 };
-    public static final int ENEMY_COUNT_INDEX = 62;
-    public static final int SEQUENCE_INDEX = 63;
-    public static final int CARRY_BIT = 14;
+    // layout lives in tools/schema/mainbot.comms, CommsLayout is generated from it
+    // (./gradlew genComms) and the build refuses a schema with overlapping fields.
+    // the dirty bitmaps aren't used before round 3 since init borrows 12:61 for
+    // turn order, shortId 0 clears the one for the current round first thing each
+    // turn
+
+    public static final int[] ALLY_DEFAULT_FLAG_INDICES = { CommsLayout.ALLY_DEFAULT_FLAG,
+            CommsLayout.ALLY_DEFAULT_FLAG + 1, CommsLayout.ALLY_DEFAULT_FLAG + 2 };
+    public static final int[] ALLY_CURRENT_FLAG_INDICES = { CommsLayout.ALLY_CURRENT_FLAG,
+            CommsLayout.ALLY_CURRENT_FLAG + 1, CommsLayout.ALLY_CURRENT_FLAG + 2 };
+    public static final int[] ENEMY_DEFAULT_FLAG_INDICES = { CommsLayout.ENEMY_DEFAULT_FLAG,
+            CommsLayout.ENEMY_DEFAULT_FLAG + 1, CommsLayout.ENEMY_DEFAULT_FLAG + 2 };
+    public static final int[] ENEMY_CURRENT_FLAG_INDICES = { CommsLayout.ENEMY_CURRENT_FLAG,
+            CommsLayout.ENEMY_CURRENT_FLAG + 1, CommsLayout.ENEMY_CURRENT_FLAG + 2 };
+    public static final int DIRTY_INDEX = CommsLayout.DIRTY;
+    public static final int ENEMY_COUNT_INDEX = CommsLayout.ENEMY_COUNT;
+    public static final int SEQUENCE_INDEX = CommsLayout.SEQUENCE;
+    public static final int CARRY_BIT = CommsLayout.ENEMY_FLAG_CARRIED_SHIFT;
 
     public static RobotController rc;
     public static int[] comms = new int[64];
@@ -79,26 +60,112 @@ public class Comms {
     public static int[] turnOrder = new int[50];
     public static HashMap<Integer, Integer> idToShortId = new HashMap<>();
 
+    // dirty marking starts once init2 has freed slots 12:61 in round 2
+    static final int DIRTY_TRACK_ROUND = 3;
+    public static int lastReceiveRound = -1;
+    // 4 slot groups changed since our last turn (by anyone, us included), all set
+    // on full reads
+    public static int changedGroups = 0xffff;
+
+    // decoded views handed out by the getters, shared so callers must not write into
+    // them. null means stale, cleared when a slot group they decode from changes
+    static MapLocation[] defaultAllyFlagsView;
+    static MapLocation[] currentAllyFlagsView;
+    static MapLocation[] defaultEnemyFlagsView;
+    static MapLocation[] currentEnemyFlagsView;
+    static MapLocation[] sampledEnemiesView;
+    static MapLocation[] closestEnemyToAllyFlagsView;
+    static int[] closestEnemyDistToAllyFlagsView;
+    // slot groups (4 slots each) every view decodes from
+    static final int DEFAULT_ALLY_FLAG_GROUPS = CommsLayout.ALLY_DEFAULT_FLAG_GROUPS;
+    static final int CURRENT_ALLY_FLAG_GROUPS = CommsLayout.ALLY_CURRENT_FLAG_GROUPS;
+    static final int DEFAULT_ENEMY_FLAG_GROUPS = CommsLayout.ENEMY_DEFAULT_FLAG_GROUPS;
+    static final int CURRENT_ENEMY_FLAG_GROUPS = CommsLayout.ENEMY_CURRENT_FLAG_GROUPS;
+    static final int SAMPLED_ENEMY_GROUPS = CommsLayout.SAMPLED_ENEMY_GROUPS;
+    static final int CLOSEST_ENEMY_GROUPS = CommsLayout.CLOSEST_ENEMY_TO_FLAG_GROUPS;
+
     // dropped enemy flag turn and loc for clearing if it gets returned
     public static int droppedEnemyFlagTurn = -1;
     public static MapLocation droppedEnemyFlagLoc = null;
     public static int droppedEnemyFlagIdx = -1;
 
     public static void receive() throws GameActionException {
-        // yea yea unroll this later
-        for (int i = 64; --i >= 0;) {
-            comms[i] = rc.readSharedArray(i);
+        int round = rc.getRoundNum();
+        // everything during init or if we missed a turn and so the bitmaps
+        if (round <= DIRTY_TRACK_ROUND || lastReceiveRound != round - 1) {
+            // yea yea unroll this later
+            for (int i = 64; --i >= 0;) {
+                comms[i] = rc.readSharedArray(i);
+            }
+            changedGroups = 0xffff;
+        } else {
+            // written after our turn last round or before our turn this round
+            int dirty = rc.readSharedArray(DIRTY_INDEX) | rc.readSharedArray(DIRTY_INDEX + 1);
+            changedGroups = dirty;
+            while (dirty != 0) {
+                int base = Integer.numberOfTrailingZeros(dirty) << 2;
+                dirty &= dirty - 1;
+                comms[base] = rc.readSharedArray(base);
+                comms[base + 1] = rc.readSharedArray(base + 1);
+                comms[base + 2] = rc.readSharedArray(base + 2);
+                comms[base + 3] = rc.readSharedArray(base + 3);
+            }
+            // the bitmaps themselves are never marked
+            comms[DIRTY_INDEX] = rc.readSharedArray(DIRTY_INDEX);
+            comms[DIRTY_INDEX + 1] = rc.readSharedArray(DIRTY_INDEX + 1);
+        }
+        lastReceiveRound = round;
+        invalidateViews(changedGroups);
+
+        // first to move each round, reset this round's bitmap (it holds 2 rounds ago)
+        if (shortId == 0 && round >= DIRTY_TRACK_ROUND) {
+            int slot = DIRTY_INDEX + (round & 1);
+            if (comms[slot] != 0) {
+                rc.writeSharedArray(slot, 0);
+                comms[slot] = 0;
+            }
         }
     }
 
     public static void write(int index, int val) throws GameActionException {
-        // check if info to write is already there and if can write
-        if (rc.readSharedArray(index) != val && rc.canWriteSharedArray(index, val)) {
+        // check if info to write is already there and if can write, nobody else runs
+        // during our turn so the local copy is as good as a fresh read
+        if (comms[index] != val && rc.canWriteSharedArray(index, val)) {
             rc.writeSharedArray(index, val);
             comms[index] = val; // update locally
+            int group = 1 << (index >> 2);
+            changedGroups |= group;
+            invalidateViews(group);
+            int round = rc.getRoundNum();
+            if (round >= DIRTY_TRACK_ROUND) {
+                int slot = DIRTY_INDEX + (round & 1);
+                if ((comms[slot] & group) == 0) {
+                    comms[slot] |= group;
+                    rc.writeSharedArray(slot, comms[slot]);
+                }
+            }
         }
     }
 
+    // drop every cached view that decodes from one of these slot groups
+    static void invalidateViews(int groups) {
+        if ((groups & DEFAULT_ALLY_FLAG_GROUPS) != 0)
+            defaultAllyFlagsView = null;
+        if ((groups & CURRENT_ALLY_FLAG_GROUPS) != 0)
+            currentAllyFlagsView = null;
+        if ((groups & DEFAULT_ENEMY_FLAG_GROUPS) != 0)
+            defaultEnemyFlagsView = null;
+        if ((groups & CURRENT_ENEMY_FLAG_GROUPS) != 0)
+            currentEnemyFlagsView = null;
+        if ((groups & SAMPLED_ENEMY_GROUPS) != 0)
+            sampledEnemiesView = null;
+        if ((groups & CLOSEST_ENEMY_GROUPS) != 0)
+            closestEnemyToAllyFlagsView = null;
+        // measured against current (or default) ally flags
+        if ((groups & (CLOSEST_ENEMY_GROUPS | CURRENT_ALLY_FLAG_GROUPS)) != 0)
+            closestEnemyDistToAllyFlagsView = null;
+    }
+
     // sequence unit ids(0-49) assumes starts at 0
     public static void sequence() throws GameActionException {
         shortId = comms[SEQUENCE_INDEX];
@@ -114,24 +181,24 @@ public class Comms {
             write(ENEMY_COUNT_INDEX, 50);
         }
         // absolute turn order noting
-        // uses comm indices 12 through 61
+        // borrows TURN_ORDER (12 through 61) until init2
         for (int i = 0; i < shortId; i++) {
-            turnOrder[i] = comms[i + 12];
+            turnOrder[i] = CommsLayout.getTurnOrder(i);
         }
         // write own id
         turnOrder[shortId] = rc.getID();
-        write(shortId + 12, rc.getID());
+        CommsLayout.setTurnOrder(shortId, rc.getID());
     }
 
     // finish getting turn order next turn
     public static void init2() throws GameActionException {
         for (int i = shortId + 1; i < 50; i++) {
-            turnOrder[i] = comms[i + 12];
+            turnOrder[i] = CommsLayout.getTurnOrder(i);
         }
         // clear all these indices if you are last unit
         if (shortId == 49) {
             for (int i = 0; i < 50; i++) {
-                write(i + 12, 0);
+                CommsLayout.setTurnOrder(i, 0);
             }
         }
         // populate id to short id mapping
@@ -166,26 +233,26 @@ public class Comms {
         if (curSpec != prevSpec) {
             switch (prevSpec) {
                 case ATT:
-                    write(18, comms[18] - 1);
+                    CommsLayout.setAttackSpecs(CommsLayout.getAttackSpecs() - 1);
                     break;
                 case BUILD:
-                    write(19, comms[19] - 1);
+                    CommsLayout.setBuildSpecs(CommsLayout.getBuildSpecs() - 1);
                     break;
                 case HEAL:
-                    write(20, comms[20] - 1);
+                    CommsLayout.setHealSpecs(CommsLayout.getHealSpecs() - 1);
                     break;
                 case NONE:
                     break;
             }
             switch (curSpec) {
                 case ATT:
-                    write(18, comms[18] + 1);
+                    CommsLayout.setAttackSpecs(CommsLayout.getAttackSpecs() + 1);
                     break;
                 case BUILD:
-                    write(19, comms[19] + 1);
+                    CommsLayout.setBuildSpecs(CommsLayout.getBuildSpecs() + 1);
                     break;
                 case HEAL:
-                    write(20, comms[20] + 1);
+                    CommsLayout.setHealSpecs(CommsLayout.getHealSpecs() + 1);
                     break;
                 case NONE:
                     break;
@@ -205,14 +272,16 @@ public class Comms {
         // if you have dropped a flag and that flag current pos has changed in
         // comms(update) you don't need to clear it later(someone else will handle it)
         int flagStickTurns = hasFlagDrop ? 4 + GlobalUpgrade.CAPTURING.flagReturnDelayChange : 4;
-        if (droppedEnemyFlagIdx != -1 && comms[12 + droppedEnemyFlagIdx] != encodeLoc(droppedEnemyFlagLoc)) {
+        if (droppedEnemyFlagIdx != -1
+                && comms[CommsLayout.ENEMY_CURRENT_FLAG + droppedEnemyFlagIdx] != encodeLoc(droppedEnemyFlagLoc)) {
             droppedEnemyFlagTurn = -1;
             droppedEnemyFlagLoc = null;
             droppedEnemyFlagIdx = -1;
         } else if (droppedEnemyFlagIdx != -1 && rc.getRoundNum() - droppedEnemyFlagTurn > flagStickTurns) {
             // clear dropped flag if it has been past stick time
             MapLocation[] defaultEnemyFlagLocs = getDefaultEnemyFlagLocations();
-            write(12 + droppedEnemyFlagIdx, encodeLoc(defaultEnemyFlagLocs[droppedEnemyFlagIdx]));
+            write(CommsLayout.ENEMY_CURRENT_FLAG + droppedEnemyFlagIdx,
+                    encodeLoc(defaultEnemyFlagLocs[droppedEnemyFlagIdx]));
             droppedEnemyFlagTurn = -1;
             droppedEnemyFlagLoc = null;
             droppedEnemyFlagIdx = -1;
@@ -226,7 +295,7 @@ public class Comms {
             if (carry_idx != -1 && !rc.hasFlag()) {
                 droppedEnemyFlagTurn = rc.getRoundNum();
                 // look for where we dropped flag within 2 r^2
-                int droppedFlagID = comms[15 + carry_idx];
+                int droppedFlagID = comms[CommsLayout.ENEMY_FLAG_ID + carry_idx];
                 for (int i = nearbyFlags.length; --i >= 0;) {
                     if (nearbyFlags[i].getID() == droppedFlagID) {
                         droppedEnemyFlagLoc = nearbyFlags[i].getLocation();
@@ -237,9 +306,9 @@ public class Comms {
                 // if we cant find it we captured it
                 if (droppedEnemyFlagLoc == null) {
                     // clear enemy flag entry(default + current and locally no dropped flag)
-                    write(9 + carry_idx, 0);
-                    write(12 + carry_idx, 0);
-                    write(15 + carry_idx, 0);
+                    write(CommsLayout.ENEMY_DEFAULT_FLAG + carry_idx, 0);
+                    write(CommsLayout.ENEMY_CURRENT_FLAG + carry_idx, 0);
+                    write(CommsLayout.ENEMY_FLAG_ID + carry_idx, 0);
                     droppedEnemyFlagTurn = -1;
                     droppedEnemyFlagIdx = -1;
                 }
@@ -247,16 +316,25 @@ public class Comms {
             }
             updateFlagLocs();
             if (rc.getRoundNum() > 2) {
-                nearbyEnemies = rc.senseNearbyRobots(-1, rc.getTeam().opponent());
-                sampleRandomEnemies();
+                // only senses again if we moved since the start of the turn
+                nearbyEnemies = EnemyTracker.update();
+                if (Budget.shouldSampleEnemies())
+                    sampleRandomEnemies();
+                if (nearbyEnemies.length > 0)
+                    Heatmap.record(nearbyEnemies);
+                Explorer.update();
                 updateCurrFlags();
                 updateClosestEnemyToAllyFlags();
                 writeSelfCDs();
             }
         } else {
+            if (rc.getRoundNum() > 2) {
+                Explorer.release();
+                TaskBoard.release();
+            }
             // if dead clear carry bit from flag you were carrying and note dropped flag
             if (carry_idx != -1) {
-                write(12 + carry_idx, comms[12 + carry_idx] & ~(1 << CARRY_BIT));
+                CommsLayout.setEnemyFlagCarried(carry_idx, 0);
                 droppedEnemyFlagTurn = rc.getRoundNum() - 1;
                 droppedEnemyFlagLoc = prevEndTurnLoc;
                 droppedEnemyFlagIdx = carry_idx;
@@ -264,6 +342,15 @@ public class Comms {
             }
         }
         prevEndTurnLoc = rc.isSpawned() ? rc.getLocation() : null;
+        if (shortId == 0 && rc.getRoundNum() > 2 && rc.getRoundNum() % Heatmap.DECAY_ROUNDS == 0) {
+            Heatmap.decay();
+        }
+        if (shortId == 0 && rc.getRoundNum() > 2 && rc.getRoundNum() % Explorer.CLAIM_ROUNDS == 0) {
+            Explorer.maintain();
+        }
+        if (shortId == 0 && rc.getRoundNum() > 2) {
+            TaskBoard.post();
+        }
 
         // kill count
         if (turnKillCount > 0) {
@@ -301,22 +388,22 @@ public class Comms {
         int idx = getFlagIndexFromID(flagID);
         if (idx != -1) {
             // clear default, current, and id entries for this flag
-            write(9 + idx, 0);
-            write(12 + idx, 0);
-            write(15 + idx, 0);
+            write(CommsLayout.ENEMY_DEFAULT_FLAG + idx, 0);
+            write(CommsLayout.ENEMY_CURRENT_FLAG + idx, 0);
+            write(CommsLayout.ENEMY_FLAG_ID + idx, 0);
         }
     }
 
     public static int getAllyAttackSpecs() {
-        return comms[18];
+        return CommsLayout.getAttackSpecs();
     }
 
     public static int getAllyBuildSpecs() {
-        return comms[19];
+        return CommsLayout.getBuildSpecs();
     }
 
     public static int getAllyHealSpecs() {
-        return comms[20];
+        return CommsLayout.getHealSpecs();
     }
 
     public static int getEnemyCount() throws GameActionException {
@@ -355,7 +442,7 @@ public class Comms {
     // matches read id to recorded flag id index(both enemy and ally)
     static int getFlagIndexFromID(int flagID) {
         for (int i = 3; --i >= 0;) {
-            if (comms[i + 6] == flagID || comms[i + 15] == flagID)
+            if (comms[CommsLayout.ALLY_FLAG_ID + i] == flagID || comms[CommsLayout.ENEMY_FLAG_ID + i] == flagID)
                 return i;
         }
         return -1;
@@ -367,7 +454,7 @@ public class Comms {
         if (finfo.getTeam() == rc.getTeam()) {
             // flagId should be between 0 and 2
             int flagId = getFlagIndexFromID(id);
-            write(flagId, encodeLoc(finfo.getLocation()));
+            write(CommsLayout.ALLY_DEFAULT_FLAG + flagId, encodeLoc(finfo.getLocation()));
         }
     }
 
@@ -383,7 +470,7 @@ public class Comms {
                     int idx = getFlagIndexFromID(fi.getID());
                     if (idx == -1) {
                         int firstFree = writeToFirstAvail(fi.getLocation(), ALLY_DEFAULT_FLAG_INDICES);
-                        write(6 + firstFree, fi.getID());
+                        write(CommsLayout.ALLY_FLAG_ID + firstFree, fi.getID());
                     }
                     // carrier during setup or anytime after setup
                 } else if ((rc.hasFlag() && fi.getLocation().equals(rc.getLocation())) || rc.getRoundNum() > 200) {
@@ -391,7 +478,7 @@ public class Comms {
                     int idx = getFlagIndexFromID(fi.getID());
                     // if our ducks have eyes this will always true
                     if (idx != -1) {
-                        write(3 + idx, encodeLoc(fi.getLocation()));
+                        write(CommsLayout.ALLY_CURRENT_FLAG + idx, encodeLoc(fi.getLocation()));
                     }
                 }
             } else {
@@ -400,11 +487,15 @@ public class Comms {
                     int idx = getFlagIndexFromID(fi.getID());
                     if (idx == -1) {
                         // new default enemy flag found! naisu!
+                        // -1 if all slots are taken or the loc is already up, then leave it be
                         int firstFree = writeToFirstAvail(fi.getLocation(), ENEMY_DEFAULT_FLAG_INDICES);
-                        idx = firstFree - 9;
-                        write(15 + idx, fi.getID());
+                        if (firstFree >= 0) {
+                            idx = firstFree - CommsLayout.ENEMY_DEFAULT_FLAG;
+                            write(CommsLayout.ENEMY_FLAG_ID + idx, fi.getID());
+                        }
                     }
-                    write(12 + idx, encodeLoc(fi.getLocation()));
+                    if (idx != -1)
+                        write(CommsLayout.ENEMY_CURRENT_FLAG + idx, encodeLoc(fi.getLocation()));
                 }
             }
 
@@ -416,7 +507,8 @@ public class Comms {
                     int idx = getFlagIndexFromID(fi.getID());
                     carry_idx = idx;
                     if (idx != -1) {
-                        write(12 + idx, encodeLoc(fi.getLocation()) + (1 << CARRY_BIT));
+                        write(CommsLayout.ENEMY_CURRENT_FLAG + idx,
+                                encodeLoc(fi.getLocation()) + (1 << CARRY_BIT));
                     }
                 }
             }
@@ -428,67 +520,94 @@ public class Comms {
         MapLocation[] defaultEnemyFlagLocs = getDefaultEnemyFlagLocations();
         for (int i = 3; --i >= 0;) {
             // enemy flags
-            MapLocation loc = decodeLoc(comms[12 + i]);
+            MapLocation loc = decodeLoc(comms[CommsLayout.ENEMY_CURRENT_FLAG + i]);
             // can only invalidate comm if you can see the loc
             if (loc == null || loc.distanceSquaredTo(rc.getLocation()) > GameConstants.VISION_RADIUS_SQUARED)
                 continue;
             boolean validComm = false;
             for (int j = nearbyFlags.length; --j >= 0;) {
-                if (nearbyFlags[j].getLocation().equals(loc) && nearbyFlags[j].getID() == comms[15 + i]) {
+                if (nearbyFlags[j].getLocation().equals(loc)
+                        && nearbyFlags[j].getID() == comms[CommsLayout.ENEMY_FLAG_ID + i]) {
                     validComm = true;
                 }
             }
             if (!validComm) {
                 // if its not here anymore and no other ally has it it must have returned to its
                 // default loc
-                write(12 + i, encodeLoc(defaultEnemyFlagLocs[i]));
+                write(CommsLayout.ENEMY_CURRENT_FLAG + i, encodeLoc(defaultEnemyFlagLocs[i]));
             }
         }
 
         for (int i = 3; --i >= 0;) {
             // ally flags
-            MapLocation loc = decodeLoc(comms[3 + i]);
-            int flagId = comms[6 + i];
+            MapLocation loc = decodeLoc(comms[CommsLayout.ALLY_CURRENT_FLAG + i]);
+            int flagId = comms[CommsLayout.ALLY_FLAG_ID + i];
             if (loc == null || loc.distanceSquaredTo(rc.getLocation()) > GameConstants.VISION_RADIUS_SQUARED)
                 continue;
             boolean validComm = false;
             for (int j = nearbyFlags.length; --j >= 0;) {
-                if (nearbyFlags[j].getLocation().equals(loc) && nearbyFlags[j].getID() == comms[6 + i]) {
+                if (nearbyFlags[j].getLocation().equals(loc)
+                        && nearbyFlags[j].getID() == comms[CommsLayout.ALLY_FLAG_ID + i]) {
                     validComm = true;
                 }
             }
             if (!validComm) {
-                if (!loc.equals(decodeLoc(comms[i]))) {
-                    write(3 + i, comms[i]);
+                if (!loc.equals(decodeLoc(comms[CommsLayout.ALLY_DEFAULT_FLAG + i]))) {
+                    write(CommsLayout.ALLY_CURRENT_FLAG + i, comms[CommsLayout.ALLY_DEFAULT_FLAG + i]);
                 } else {
-                    write(3 + i, 0);
+                    write(CommsLayout.ALLY_CURRENT_FLAG + i, 0);
                 }
             }
         }
     }
 
+    // the location getters below return shared cached arrays, read only!
+
     public static MapLocation[] getDefaultAllyFlagLocations() {
-        return new MapLocation[] { decodeLoc(comms[0]), decodeLoc(comms[1]), decodeLoc(comms[2]) };
+        if (defaultAllyFlagsView == null)
+            defaultAllyFlagsView = new MapLocation[] { CommsLayout.getAllyDefaultFlag(0),
+                    CommsLayout.getAllyDefaultFlag(1), CommsLayout.getAllyDefaultFlag(2) };
+        return defaultAllyFlagsView;
     }
 
     // can have null entries
     public static MapLocation[] getCurrentAllyFlagLocations() {
-        return new MapLocation[] { decodeLoc(comms[3]), decodeLoc(comms[4]), decodeLoc(comms[5]) };
+        if (currentAllyFlagsView == null)
+            currentAllyFlagsView = new MapLocation[] { CommsLayout.getAllyCurrentFlag(0),
+                    CommsLayout.getAllyCurrentFlag(1), CommsLayout.getAllyCurrentFlag(2) };
+        return currentAllyFlagsView;
     }
 
     // can have null entries if we have not seen em
     public static MapLocation[] getDefaultEnemyFlagLocations() {
-        return new MapLocation[] { decodeLoc(comms[9]), decodeLoc(comms[10]), decodeLoc(comms[11]) };
+        if (defaultEnemyFlagsView == null)
+            defaultEnemyFlagsView = new MapLocation[] { CommsLayout.getEnemyDefaultFlag(0),
+                    CommsLayout.getEnemyDefaultFlag(1), CommsLayout.getEnemyDefaultFlag(2) };
+        return defaultEnemyFlagsView;
+    }
+
+    // whether anyone has ever written a default enemy flag, sticks after they get captured
+    static boolean enemyFlagSeen = false;
+
+    public static boolean anyEnemyFlagSeen() {
+        if (!enemyFlagSeen) {
+            MapLocation[] defaults = getDefaultEnemyFlagLocations();
+            enemyFlagSeen = defaults[0] != null || defaults[1] != null || defaults[2] != null;
+        }
+        return enemyFlagSeen;
     }
 
     // can have null entries
     public static MapLocation[] getCurrentEnemyFlagLocations() {
-        return new MapLocation[] { decodeLoc(comms[12]), decodeLoc(comms[13]), decodeLoc(comms[14]) };
+        if (currentEnemyFlagsView == null)
+            currentEnemyFlagsView = new MapLocation[] { CommsLayout.getEnemyCurrentFlag(0),
+                    CommsLayout.getEnemyCurrentFlag(1), CommsLayout.getEnemyCurrentFlag(2) };
+        return currentEnemyFlagsView;
     }
 
     public static boolean[] getCarriedEnemyFlags() {
-        return new boolean[] { ((comms[12] >> CARRY_BIT) & 0x1) == 1, ((comms[13] >> CARRY_BIT) & 0x1) == 1,
-                ((comms[14] >> CARRY_BIT) & 0x1) == 1 };
+        return new boolean[] { CommsLayout.getEnemyFlagCarried(0) == 1, CommsLayout.getEnemyFlagCarried(1) == 1,
+                CommsLayout.getEnemyFlagCarried(2) == 1 };
     }
 
     // returns arr of size 3 containing displaced enemy flag current locs, can
@@ -554,23 +673,22 @@ public class Comms {
     }
 
     public static void clearRandomEnemies() throws GameActionException {
-        write(15, 0);
-        write(16, 0);
-        write(17, 0);
-        write(18, 0);
+        for (int i = CommsLayout.SAMPLED_ENEMY_COUNT; --i >= 0;) {
+            write(CommsLayout.SAMPLED_ENEMY + i, 0);
+        }
     }
 
     public static void sampleRandomEnemies() throws GameActionException {
         if (nearbyEnemies.length > 0 && rc.canWriteSharedArray(63, 0)) {
             for (int i = 4; --i >= 0;) {
                 RobotInfo r = nearbyEnemies[RobotPlayer.rng.nextInt(nearbyEnemies.length)];
-                MapLocation currSight = decodeLoc(comms[21 + i]);
+                MapLocation currSight = decodeLoc(comms[CommsLayout.SAMPLED_ENEMY + i]);
                 // TODO now that enemy sighting clear is controlled by writer idt this pr calc
                 // is correct
                 if (currSight == null || (RobotPlayer.rng.nextDouble() < 1.f / 50)) {
                     int toWrite = encodeLoc(r.getLocation());
-                    write(21 + i, toWrite);
-                    refreshIdxs[++refreshPtr] = 21 + i;
+                    write(CommsLayout.SAMPLED_ENEMY + i, toWrite);
+                    refreshIdxs[++refreshPtr] = CommsLayout.SAMPLED_ENEMY + i;
                     prevVals[refreshPtr] = toWrite;
                     break;
                 }
@@ -580,11 +698,14 @@ public class Comms {
 
     // returns arr of len 4 of sampled enemies, can contain null entries
     public static MapLocation[] getSampledEnemies() throws GameActionException {
-        MapLocation[] enemies = new MapLocation[4];
-        for (int i = 4; --i >= 0;) {
-            enemies[i] = decodeLoc(comms[21 + i]);
+        if (sampledEnemiesView == null) {
+            MapLocation[] enemies = new MapLocation[4];
+            for (int i = 4; --i >= 0;) {
+                enemies[i] = decodeLoc(comms[CommsLayout.SAMPLED_ENEMY + i]);
+            }
+            sampledEnemiesView = enemies;
         }
-        return enemies;
+        return sampledEnemiesView;
     }
 
     public static MapLocation getClosestSampleEnemy() throws GameActionException {
@@ -604,11 +725,16 @@ public class Comms {
     // returns arr of size 3 containing enemy locations closest to each ally
     // flag(current if exists, otherwise default), can have null entries
     public static MapLocation[] getClosestEnemyToAllyFlags() throws GameActionException {
-        return new MapLocation[] { decodeLoc(comms[25]), decodeLoc(comms[26]), decodeLoc(comms[27]) };
+        if (closestEnemyToAllyFlagsView == null)
+            closestEnemyToAllyFlagsView = new MapLocation[] { CommsLayout.getClosestEnemyToFlag(0),
+                    CommsLayout.getClosestEnemyToFlag(1), CommsLayout.getClosestEnemyToFlag(2) };
+        return closestEnemyToAllyFlagsView;
     }
 
     // absurdlyLongCamelCaseFunctionNameShowcaseNumberOne.png
     public static int[] getClosestEnemyDistanceToAllyFlags() throws GameActionException {
+        if (closestEnemyDistToAllyFlagsView != null)
+            return closestEnemyDistToAllyFlagsView;
         int[] dists = { 9999, 9999, 9999 };
         MapLocation[] closestEnemies = getClosestEnemyToAllyFlags();
         MapLocation[] currentAllyFlagLocs = getCurrentAllyFlagLocations();
@@ -619,6 +745,7 @@ public class Comms {
             if (enemyLoc != null)
                 dists[i] = Pathfinder.travelDistance(enemyLoc, flagRef);
         }
+        closestEnemyDistToAllyFlagsView = dists;
         return dists;
     }
 
@@ -628,30 +755,35 @@ public class Comms {
         MapLocation[] currentAllyFlagLocs = getCurrentAllyFlagLocations();
         MapLocation[] defaultAllyFlagLocs = getDefaultAllyFlagLocations();
         MapLocation[] closestEnemiesToFlags = { null, null, null };
+        // ranked by where they will be next round, a chaser running at a flag shows up a
+        // step early. comms still gets where it actually stands
+        MapLocation[] closestPredicted = { null, null, null };
         for (int i = nearbyEnemies.length; --i >= 0;) {
-            MapLocation enemyLoc = nearbyEnemies[i].getLocation();
+            MapLocation predicted = EnemyTracker.predict(nearbyEnemies[i], 1);
             for (int j = 3; --j >= 0;) {
                 // use current flag loc if avail, otherwise default
                 MapLocation currAlly = currentAllyFlagLocs[j];
                 if (currAlly != null) {
-                    if (closestEnemiesToFlags[j] == null || Pathfinder.travelDistance(currAlly, enemyLoc) < Pathfinder
-                            .travelDistance(currAlly, closestEnemiesToFlags[j])) {
-                        closestEnemiesToFlags[j] = enemyLoc;
+                    if (closestPredicted[j] == null || Pathfinder.travelDistance(currAlly, predicted) < Pathfinder
+                            .travelDistance(currAlly, closestPredicted[j])) {
+                        closestPredicted[j] = predicted;
+                        closestEnemiesToFlags[j] = nearbyEnemies[i].getLocation();
                     }
                 } else {
                     // default flags should be ok
                     // TODO REVIST ONLY USING CURRENT ALLY FLAGS?
                     MapLocation defaultAlly = defaultAllyFlagLocs[j];
-                    if (closestEnemiesToFlags[j] == null || Pathfinder.travelDistance(defaultAlly,
-                            enemyLoc) < Pathfinder.travelDistance(defaultAlly, closestEnemiesToFlags[j])) {
-                        closestEnemiesToFlags[j] = enemyLoc;
+                    if (closestPredicted[j] == null || Pathfinder.travelDistance(defaultAlly,
+                            predicted) < Pathfinder.travelDistance(defaultAlly, closestPredicted[j])) {
+                        closestPredicted[j] = predicted;
+                        closestEnemiesToFlags[j] = nearbyEnemies[i].getLocation();
                     }
                 }
             }
         }
         // write these to comms if closer than whats in comms
         for (int i = 3; --i >= 0;) {
-            MapLocation commClosestEnemy = decodeLoc(comms[25 + i]);
+            MapLocation commClosestEnemy = decodeLoc(comms[CommsLayout.CLOSEST_ENEMY_TO_FLAG + i]);
             MapLocation localClosestEnemy = closestEnemiesToFlags[i];
             if (localClosestEnemy == null)
                 continue;
@@ -659,8 +791,8 @@ public class Comms {
             if (commClosestEnemy == null || Pathfinder.travelDistance(allyFlagLoc, commClosestEnemy) > Pathfinder
                     .travelDistance(allyFlagLoc, localClosestEnemy)) {
                 int toWrite = encodeLoc(localClosestEnemy);
-                write(25 + i, toWrite);
-                refreshIdxs[++refreshPtr] = 25 + i;
+                write(CommsLayout.CLOSEST_ENEMY_TO_FLAG + i, toWrite);
+                refreshIdxs[++refreshPtr] = CommsLayout.CLOSEST_ENEMY_TO_FLAG + i;
                 prevVals[refreshPtr] = toWrite;
             }
         }
@@ -672,26 +804,17 @@ public class Comms {
     public static int[] getAllyCDs(int tgtID) {
         int allyShortId = idToShortId.get(tgtID);
         int[] cds = new int[2];
-        int comm_idx = 28 + allyShortId / 4;
-        // offset from right, this is basically big endian
-        int comm_offset = 4 * (3 - (allyShortId % 4));
-        int cd_bits = comms[comm_idx] >> comm_offset;
+        int cd_bits = CommsLayout.getAllyCooldown(allyShortId);
         cds[0] = 10 * ((cd_bits >> 2) & 0x3);
         cds[1] = 10 * (cd_bits & 0x3);
         return cds;
     }
 
     public static void writeSelfCDs() throws GameActionException {
-        int comm_idx = 28 + shortId / 4;
-        // offset from right, this is basically big endian
-        int comm_offset = 4 * (3 - (shortId % 4));
         // 4 cd bits
         int action_cd = Math.min(rc.getActionCooldownTurns(), 30) / 10;
         int move_cd = Math.min(rc.getMovementCooldownTurns(), 30) / 10;
-        // bmask to mask out old self cd vals, bit manip
-        int bmask = ~(0xf << comm_offset);
-        int fcomm_val = (bmask & comms[comm_idx]) | ((action_cd << 2 | move_cd) << comm_offset);
-        write(comm_idx, fcomm_val);
+        CommsLayout.setAllyCooldown(shortId, action_cd << 2 | move_cd);
     }
 
     static int encodeLoc(MapLocation loc) {
@@ -0,0 +1,410 @@
+package mainbot;
+
+import battlecode.common.*;
+
+// generated by tools/codegen/CommsGenerator.java from tools/schema/mainbot.comms, edit those instead
+// slot, dirty group and packed accessors for every field of the shared array. reads
+// come out of Comms.comms, writes go through Comms.write so they get marked dirty
+public class CommsLayout {
+
+    // default ally flag locs
+    public static final int ALLY_DEFAULT_FLAG = 0;
+    public static final int ALLY_DEFAULT_FLAG_COUNT = 3;
+    public static final int ALLY_DEFAULT_FLAG_GROUPS = 0x1;
+
+    public static MapLocation getAllyDefaultFlag(int i) {
+        return Comms.decodeLoc(Comms.comms[ALLY_DEFAULT_FLAG + i]);
+    }
+
+    // null clears it, other bits of the slot are kept
+    public static void setAllyDefaultFlag(int i, MapLocation loc) throws GameActionException {
+        int slot = ALLY_DEFAULT_FLAG + i;
+        Comms.write(slot, Comms.comms[slot] & ~0x8fff | (loc == null ? 0 : Comms.encodeLoc(loc)));
+    }
+
+    // where the ally flags are now
+    public static final int ALLY_CURRENT_FLAG = 3;
+    public static final int ALLY_CURRENT_FLAG_COUNT = 3;
+    public static final int ALLY_CURRENT_FLAG_GROUPS = 0x3;
+
+    public static MapLocation getAllyCurrentFlag(int i) {
+        return Comms.decodeLoc(Comms.comms[ALLY_CURRENT_FLAG + i]);
+    }
+
+    // null clears it, other bits of the slot are kept
+    public static void setAllyCurrentFlag(int i, MapLocation loc) throws GameActionException {
+        int slot = ALLY_CURRENT_FLAG + i;
+        Comms.write(slot, Comms.comms[slot] & ~0x8fff | (loc == null ? 0 : Comms.encodeLoc(loc)));
+    }
+
+    // ally flag ids, slot i is the same flag in all three
+    public static final int ALLY_FLAG_ID = 6;
+    public static final int ALLY_FLAG_ID_COUNT = 3;
+    public static final int ALLY_FLAG_ID_GROUPS = 0x6;
+
+    public static int getAllyFlagId(int i) {
+        return Comms.comms[ALLY_FLAG_ID + i];
+    }
+
+    public static void setAllyFlagId(int i, int v) throws GameActionException {
+        Comms.write(ALLY_FLAG_ID + i, v);
+    }
+
+    // default enemy flag locs
+    public static final int ENEMY_DEFAULT_FLAG = 9;
+    public static final int ENEMY_DEFAULT_FLAG_COUNT = 3;
+    public static final int ENEMY_DEFAULT_FLAG_GROUPS = 0x4;
+
+    public static MapLocation getEnemyDefaultFlag(int i) {
+        return Comms.decodeLoc(Comms.comms[ENEMY_DEFAULT_FLAG + i]);
+    }
+
+    // null clears it, other bits of the slot are kept
+    public static void setEnemyDefaultFlag(int i, MapLocation loc) throws GameActionException {
+        int slot = ENEMY_DEFAULT_FLAG + i;
+        Comms.write(slot, Comms.comms[slot] & ~0x8fff | (loc == null ? 0 : Comms.encodeLoc(loc)));
+    }
+
+    // where the enemy flags are now
+    public static final int ENEMY_CURRENT_FLAG = 12;
+    public static final int ENEMY_CURRENT_FLAG_COUNT = 3;
+    public static final int ENEMY_CURRENT_FLAG_GROUPS = 0x8;
+
+    public static MapLocation getEnemyCurrentFlag(int i) {
+        return Comms.decodeLoc(Comms.comms[ENEMY_CURRENT_FLAG + i]);
+    }
+
+    // null clears it, other bits of the slot are kept
+    public static void setEnemyCurrentFlag(int i, MapLocation loc) throws GameActionException {
+        int slot = ENEMY_CURRENT_FLAG + i;
+        Comms.write(slot, Comms.comms[slot] & ~0x8fff | (loc == null ? 0 : Comms.encodeLoc(loc)));
+    }
+
+    // one of us is carrying it
+    public static final int ENEMY_FLAG_CARRIED = 12;
+    public static final int ENEMY_FLAG_CARRIED_COUNT = 3;
+    public static final int ENEMY_FLAG_CARRIED_GROUPS = 0x8;
+    public static final int ENEMY_FLAG_CARRIED_SHIFT = 14;
+    public static final int ENEMY_FLAG_CARRIED_MASK = 0x4000;
+
+    public static int getEnemyFlagCarried(int i) {
+        return (Comms.comms[ENEMY_FLAG_CARRIED + i] & ENEMY_FLAG_CARRIED_MASK) >> ENEMY_FLAG_CARRIED_SHIFT;
+    }
+
+    public static void setEnemyFlagCarried(int i, int v) throws GameActionException {
+        int slot = ENEMY_FLAG_CARRIED + i;
+        Comms.write(slot,
+                Comms.comms[slot] & ~ENEMY_FLAG_CARRIED_MASK | v << ENEMY_FLAG_CARRIED_SHIFT & ENEMY_FLAG_CARRIED_MASK);
+    }
+
+    // enemy flag ids, same order as the locs
+    public static final int ENEMY_FLAG_ID = 15;
+    public static final int ENEMY_FLAG_ID_COUNT = 3;
+    public static final int ENEMY_FLAG_ID_GROUPS = 0x18;
+
+    public static int getEnemyFlagId(int i) {
+        return Comms.comms[ENEMY_FLAG_ID + i];
+    }
+
+    public static void setEnemyFlagId(int i, int v) throws GameActionException {
+        Comms.write(ENEMY_FLAG_ID + i, v);
+    }
+
+    // ally ducks at attack level 4+
+    public static final int ATTACK_SPECS = 18;
+    public static final int ATTACK_SPECS_COUNT = 1;
+    public static final int ATTACK_SPECS_GROUPS = 0x10;
+
+    public static int getAttackSpecs() {
+        return Comms.comms[ATTACK_SPECS];
+    }
+
+    public static void setAttackSpecs(int v) throws GameActionException {
+        Comms.write(ATTACK_SPECS, v);
+    }
+
+    // ally ducks at build level 4+
+    public static final int BUILD_SPECS = 19;
+    public static final int BUILD_SPECS_COUNT = 1;
+    public static final int BUILD_SPECS_GROUPS = 0x10;
+
+    public static int getBuildSpecs() {
+        return Comms.comms[BUILD_SPECS];
+    }
+
+    public static void setBuildSpecs(int v) throws GameActionException {
+        Comms.write(BUILD_SPECS, v);
+    }
+
+    // ally ducks at heal level 4+
+    public static final int HEAL_SPECS = 20;
+    public static final int HEAL_SPECS_COUNT = 1;
+    public static final int HEAL_SPECS_GROUPS = 0x20;
+
+    public static int getHealSpecs() {
+        return Comms.comms[HEAL_SPECS];
+    }
+
+    public static void setHealSpecs(int v) throws GameActionException {
+        Comms.write(HEAL_SPECS, v);
+    }
+
+    // randomly sampled enemy sightings
+    public static final int SAMPLED_ENEMY = 21;
+    public static final int SAMPLED_ENEMY_COUNT = 4;
+    public static final int SAMPLED_ENEMY_GROUPS = 0x60;
+
+    public static MapLocation getSampledEnemy(int i) {
+        return Comms.decodeLoc(Comms.comms[SAMPLED_ENEMY + i]);
+    }
+
+    // null clears it, other bits of the slot are kept
+    public static void setSampledEnemy(int i, MapLocation loc) throws GameActionException {
+        int slot = SAMPLED_ENEMY + i;
+        Comms.write(slot, Comms.comms[slot] & ~0x8fff | (loc == null ? 0 : Comms.encodeLoc(loc)));
+    }
+
+    // closest enemy to each ally flag (current if known, else default)
+    public static final int CLOSEST_ENEMY_TO_FLAG = 25;
+    public static final int CLOSEST_ENEMY_TO_FLAG_COUNT = 3;
+    public static final int CLOSEST_ENEMY_TO_FLAG_GROUPS = 0x40;
+
+    public static MapLocation getClosestEnemyToFlag(int i) {
+        return Comms.decodeLoc(Comms.comms[CLOSEST_ENEMY_TO_FLAG + i]);
+    }
+
+    // null clears it, other bits of the slot are kept
+    public static void setClosestEnemyToFlag(int i, MapLocation loc) throws GameActionException {
+        int slot = CLOSEST_ENEMY_TO_FLAG + i;
+        Comms.write(slot, Comms.comms[slot] & ~0x8fff | (loc == null ? 0 : Comms.encodeLoc(loc)));
+    }
+
+    // per shortId, action cd / 10 in the top 2 bits and move cd / 10 in the low 2 (3 is 30+)
+    public static final int ALLY_COOLDOWN = 28;
+    public static final int ALLY_COOLDOWN_COUNT = 52;
+    public static final int ALLY_COOLDOWN_GROUPS = 0x780;
+
+    public static int getAllyCooldown(int i) {
+        return Comms.comms[ALLY_COOLDOWN + i / 4] >> 4 * (3 - i % 4) & 0xf;
+    }
+
+    public static void setAllyCooldown(int i, int v) throws GameActionException {
+        int slot = ALLY_COOLDOWN + i / 4;
+        int shift = 4 * (3 - i % 4);
+        Comms.write(slot, Comms.comms[slot] & ~(0xf << shift) | (v & 0xf) << shift);
+    }
+
+    // enemy density per map sector (Heatmap), 0 none seen to 3 six or more, decays over time
+    public static final int HEAT = 41;
+    public static final int HEAT_COUNT = 40;
+    public static final int HEAT_GROUPS = 0xc00;
+
+    public static int getHeat(int i) {
+        return Comms.comms[HEAT + i / 8] >> 2 * (7 - i % 8) & 0x3;
+    }
+
+    public static void setHeat(int i, int v) throws GameActionException {
+        int slot = HEAT + i / 8;
+        int shift = 2 * (7 - i % 8);
+        Comms.write(slot, Comms.comms[slot] & ~(0x3 << shift) | (v & 0x3) << shift);
+    }
+
+    // sector (Heatmap grid) has been seen by someone (Explorer)
+    public static final int EXPLORED = 46;
+    public static final int EXPLORED_COUNT = 48;
+    public static final int EXPLORED_GROUPS = 0x1800;
+
+    public static int getExplored(int i) {
+        return Comms.comms[EXPLORED + i / 16] >> 1 * (15 - i % 16) & 0x1;
+    }
+
+    public static void setExplored(int i, int v) throws GameActionException {
+        int slot = EXPLORED + i / 16;
+        int shift = 1 * (15 - i % 16);
+        Comms.write(slot, Comms.comms[slot] & ~(0x1 << shift) | (v & 0x1) << shift);
+    }
+
+    // a scout is heading for the sector, wiped every Explorer.CLAIM_ROUNDS
+    public static final int CLAIMED = 49;
+    public static final int CLAIMED_COUNT = 48;
+    public static final int CLAIMED_GROUPS = 0x1000;
+
+    public static int getClaimed(int i) {
+        return Comms.comms[CLAIMED + i / 16] >> 1 * (15 - i % 16) & 0x1;
+    }
+
+    public static void setClaimed(int i, int v) throws GameActionException {
+        int slot = CLAIMED + i / 16;
+        int shift = 1 * (15 - i % 16);
+        Comms.write(slot, Comms.comms[slot] & ~(0x1 << shift) | (v & 0x1) << shift);
+    }
+
+    // symmetries ruled out (Symmetry), bit 0 rotational, 1 horizontal, 2 vertical
+    public static final int SYMMETRY = 52;
+    public static final int SYMMETRY_COUNT = 1;
+    public static final int SYMMETRY_GROUPS = 0x2000;
+    public static final int SYMMETRY_SHIFT = 0;
+    public static final int SYMMETRY_MASK = 0x7;
+
+    public static int getSymmetry() {
+        return (Comms.comms[SYMMETRY] & SYMMETRY_MASK) >> SYMMETRY_SHIFT;
+    }
+
+    public static void setSymmetry(int v) throws GameActionException {
+        int slot = SYMMETRY;
+        Comms.write(slot,
+                Comms.comms[slot] & ~SYMMETRY_MASK | v << SYMMETRY_SHIFT & SYMMETRY_MASK);
+    }
+
+    // posted task (TaskBoard), type << 2 | arg, 0 empty
+    public static final int TASK = 53;
+    public static final int TASK_COUNT = 4;
+    public static final int TASK_GROUPS = 0x6000;
+    public static final int TASK_SHIFT = 12;
+    public static final int TASK_MASK = 0xf000;
+
+    public static int getTask(int i) {
+        return (Comms.comms[TASK + i] & TASK_MASK) >> TASK_SHIFT;
+    }
+
+    public static void setTask(int i, int v) throws GameActionException {
+        int slot = TASK + i;
+        Comms.write(slot,
+                Comms.comms[slot] & ~TASK_MASK | v << TASK_SHIFT & TASK_MASK);
+    }
+
+    // shortId + 1 of the duck holding the task, 0 nobody
+    public static final int TASK_HOLDER = 53;
+    public static final int TASK_HOLDER_COUNT = 4;
+    public static final int TASK_HOLDER_GROUPS = 0x6000;
+    public static final int TASK_HOLDER_SHIFT = 6;
+    public static final int TASK_HOLDER_MASK = 0xfc0;
+
+    public static int getTaskHolder(int i) {
+        return (Comms.comms[TASK_HOLDER + i] & TASK_HOLDER_MASK) >> TASK_HOLDER_SHIFT;
+    }
+
+    public static void setTaskHolder(int i, int v) throws GameActionException {
+        int slot = TASK_HOLDER + i;
+        Comms.write(slot,
+                Comms.comms[slot] & ~TASK_HOLDER_MASK | v << TASK_HOLDER_SHIFT & TASK_HOLDER_MASK);
+    }
+
+    // the holder's bid, lower is better
+    public static final int TASK_COST = 53;
+    public static final int TASK_COST_COUNT = 4;
+    public static final int TASK_COST_GROUPS = 0x6000;
+    public static final int TASK_COST_SHIFT = 3;
+    public static final int TASK_COST_MASK = 0x38;
+
+    public static int getTaskCost(int i) {
+        return (Comms.comms[TASK_COST + i] & TASK_COST_MASK) >> TASK_COST_SHIFT;
+    }
+
+    public static void setTaskCost(int i, int v) throws GameActionException {
+        int slot = TASK_COST + i;
+        Comms.write(slot,
+                Comms.comms[slot] & ~TASK_COST_MASK | v << TASK_COST_SHIFT & TASK_COST_MASK);
+    }
+
+    // round / 4 % 8 the holder last renewed its lease
+    public static final int TASK_STAMP = 53;
+    public static final int TASK_STAMP_COUNT = 4;
+    public static final int TASK_STAMP_GROUPS = 0x6000;
+    public static final int TASK_STAMP_SHIFT = 0;
+    public static final int TASK_STAMP_MASK = 0x7;
+
+    public static int getTaskStamp(int i) {
+        return (Comms.comms[TASK_STAMP + i] & TASK_STAMP_MASK) >> TASK_STAMP_SHIFT;
+    }
+
+    public static void setTaskStamp(int i, int v) throws GameActionException {
+        int slot = TASK_STAMP + i;
+        Comms.write(slot,
+                Comms.comms[slot] & ~TASK_STAMP_MASK | v << TASK_STAMP_SHIFT & TASK_STAMP_MASK);
+    }
+
+    // choke tile (TrapPlanner) on the enemy approach to each ally flag
+    public static final int TRAP_PLAN = 57;
+    public static final int TRAP_PLAN_COUNT = 3;
+    public static final int TRAP_PLAN_GROUPS = 0x4000;
+
+    public static MapLocation getTrapPlan(int i) {
+        return Comms.decodeLoc(Comms.comms[TRAP_PLAN + i]);
+    }
+
+    // null clears it, other bits of the slot are kept
+    public static void setTrapPlan(int i, MapLocation loc) throws GameActionException {
+        int slot = TRAP_PLAN + i;
+        Comms.write(slot, Comms.comms[slot] & ~0x8fff | (loc == null ? 0 : Comms.encodeLoc(loc)));
+    }
+
+    // how boxed in that tile is, higher traps first
+    public static final int TRAP_SCORE = 57;
+    public static final int TRAP_SCORE_COUNT = 3;
+    public static final int TRAP_SCORE_GROUPS = 0x4000;
+    public static final int TRAP_SCORE_SHIFT = 12;
+    public static final int TRAP_SCORE_MASK = 0x7000;
+
+    public static int getTrapScore(int i) {
+        return (Comms.comms[TRAP_SCORE + i] & TRAP_SCORE_MASK) >> TRAP_SCORE_SHIFT;
+    }
+
+    public static void setTrapScore(int i, int v) throws GameActionException {
+        int slot = TRAP_SCORE + i;
+        Comms.write(slot,
+                Comms.comms[slot] & ~TRAP_SCORE_MASK | v << TRAP_SCORE_SHIFT & TRAP_SCORE_MASK);
+    }
+
+    // robot id by shortId while we work out the turn order
+    public static final int TURN_ORDER = 12;
+    public static final int TURN_ORDER_COUNT = 50;
+    public static final int TURN_ORDER_GROUPS = 0xfff8;
+
+    public static int getTurnOrder(int i) {
+        return Comms.comms[TURN_ORDER + i];
+    }
+
+    public static void setTurnOrder(int i, int v) throws GameActionException {
+        Comms.write(TURN_ORDER + i, v);
+    }
+
+    // bit g set if slots 4g..4g+3 changed in a round of that parity (60 even, 61 odd)
+    public static final int DIRTY = 60;
+    public static final int DIRTY_COUNT = 2;
+    public static final int DIRTY_GROUPS = 0x8000;
+
+    public static int getDirty(int i) {
+        return Comms.comms[DIRTY + i];
+    }
+
+    public static void setDirty(int i, int v) throws GameActionException {
+        Comms.write(DIRTY + i, v);
+    }
+
+    // enemy ducks alive (overestimate)
+    public static final int ENEMY_COUNT = 62;
+    public static final int ENEMY_COUNT_COUNT = 1;
+    public static final int ENEMY_COUNT_GROUPS = 0x8000;
+
+    public static int getEnemyCount() {
+        return Comms.comms[ENEMY_COUNT];
+    }
+
+    public static void setEnemyCount(int v) throws GameActionException {
+        Comms.write(ENEMY_COUNT, v);
+    }
+
+    // hands out shortIds, then unit count
+    public static final int SEQUENCE = 63;
+    public static final int SEQUENCE_COUNT = 1;
+    public static final int SEQUENCE_GROUPS = 0x8000;
+
+    public static int getSequence() {
+        return Comms.comms[SEQUENCE];
+    }
+
+    public static void setSequence(int v) throws GameActionException {
+        Comms.write(SEQUENCE, v);
+    }
+}
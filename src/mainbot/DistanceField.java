@@ -0,0 +1,205 @@
+package mainbot;
+
+import battlecode.common.*;
+
+/**
+ * Bfs distance field over MapMemory that gets built a little at a time so it
+ * can soak up spare bytecode over many turns. Floods outwards from the target,
+ * so every reached tile ends up knowing its distance and the first step to take
+ * towards the target.
+ *
+ * Unknown tiles count as passable and so do dams since they all drop when setup
+ * ends. The last finished field stays readable while a rebuild is in progress.
+ *
+ * Can also flood from several sources at once (all our spawn tiles), then each
+ * tile also remembers which source it is closest to.
+ */
+public class DistanceField {
+    // packed tile: [11:0] dist + 1 (0 = not reached), [15:12] index into DIRS of the
+    // step towards the target, [20:16] index of the closest source
+    public static final int DIST_MASK = 0xfff;
+    public static final int DIR_SHIFT = 12;
+    public static final int DIR_MASK = 0xf << DIR_SHIFT;
+    public static final int SRC_SHIFT = 16;
+    public static final int MAX_SOURCES = 32;
+    static final int BLOCKED = MapMemory.WALL | MapMemory.WATER;
+
+    // neighbour n of a tile steps DIRS[i] to get back to it, CENTER for the target
+    public static final Direction[] DIRS = {
+            Direction.NORTH,
+            Direction.NORTHEAST,
+            Direction.EAST,
+            Direction.SOUTHEAST,
+            Direction.SOUTH,
+            Direction.SOUTHWEST,
+            Direction.WEST,
+            Direction.NORTHWEST,
+            Direction.CENTER,
+    };
+
+    public MapLocation target;
+    public int key = -1; // x * MAP_HEIGHT + y of target, -1 for multi source fields
+    public MapLocation[] sources;
+    public int[] dists; // last finished field, null until the first build finishes
+    public int finishedRound = -1;
+    public int lastUsedRound;
+    public boolean building = false;
+    // MapMemory.numSeen when the current/last build started, for staleness checks
+    public int seenAtStart;
+
+    int[] work;
+    int[] queue;
+    int head;
+    int tail;
+
+    public DistanceField(MapLocation target) {
+        this.target = target;
+        this.key = target.x * MapMemory.height + target.y;
+        this.sources = new MapLocation[] { target };
+    }
+
+    // flood from every source at once, at most MAX_SOURCES of them
+    public DistanceField(MapLocation[] sources) {
+        this.target = sources[0];
+        this.sources = sources;
+    }
+
+    // bytecode rebuild() costs, allocation is charged per element so it is mostly the
+    // two whole map arrays
+    public static int rebuildBc() {
+        return 2 * MapMemory.width * MapMemory.height + 200;
+    }
+
+    // start a fresh build, keeps the old finished field around until this one is
+    // done. check rebuildBc() against what is left first
+    public void rebuild() {
+        int n = MapMemory.width * MapMemory.height;
+        // fresh arrays are way cheaper than zeroing 3600 ints by hand
+        work = new int[n];
+        queue = new int[n];
+        int tail = 0;
+        for (int i = sources.length; --i >= 0;) {
+            int idx = sources[i].x * MapMemory.height + sources[i].y;
+            if (work[idx] != 0)
+                continue;
+            work[idx] = 1 | (8 << DIR_SHIFT) | (i << SRC_SHIFT);
+            queue[tail++] = idx;
+        }
+        head = 0;
+        this.tail = tail;
+        building = true;
+        seenAtStart = MapMemory.numSeen;
+    }
+
+    // expand until we are under reserve bytecode, returns true once the build is done
+    public boolean step(int reserve) {
+        if (!building)
+            return true;
+        int[] work = this.work;
+        int[] queue = this.queue;
+        int[] tiles = MapMemory.tiles;
+        int h = MapMemory.height;
+        int lastCol = MapMemory.width * h - h;
+        int head = this.head;
+        int tail = this.tail;
+        while (head < tail) {
+            if (Clock.getBytecodesLeft() < reserve) {
+                this.head = head;
+                this.tail = tail;
+                return false;
+            }
+            int idx = queue[head++];
+            // keeps the source index, dist never carries past 12 bits
+            int next = (work[idx] & ~DIR_MASK) + 1;
+            int y = idx % h;
+            boolean hasN = y < h - 1;
+            boolean hasS = y > 0;
+            int n;
+            if (hasN) {
+                n = idx + 1;
+                if (work[n] == 0 && (tiles[n] & BLOCKED) == 0) {
+                    work[n] = next | (4 << DIR_SHIFT);
+                    queue[tail++] = n;
+                }
+            }
+            if (hasS) {
+                n = idx - 1;
+                if (work[n] == 0 && (tiles[n] & BLOCKED) == 0) {
+                    work[n] = next;
+                    queue[tail++] = n;
+                }
+            }
+            if (idx < lastCol) {
+                n = idx + h;
+                if (work[n] == 0 && (tiles[n] & BLOCKED) == 0) {
+                    work[n] = next | (6 << DIR_SHIFT);
+                    queue[tail++] = n;
+                }
+                if (hasN && work[++n] == 0 && (tiles[n] & BLOCKED) == 0) {
+                    work[n] = next | (5 << DIR_SHIFT);
+                    queue[tail++] = n;
+                }
+                n = idx + h - 1;
+                if (hasS && work[n] == 0 && (tiles[n] & BLOCKED) == 0) {
+                    work[n] = next | (7 << DIR_SHIFT);
+                    queue[tail++] = n;
+                }
+            }
+            if (idx >= h) {
+                n = idx - h;
+                if (work[n] == 0 && (tiles[n] & BLOCKED) == 0) {
+                    work[n] = next | (2 << DIR_SHIFT);
+                    queue[tail++] = n;
+                }
+                if (hasN && work[++n] == 0 && (tiles[n] & BLOCKED) == 0) {
+                    work[n] = next | (3 << DIR_SHIFT);
+                    queue[tail++] = n;
+                }
+                n = idx - h - 1;
+                if (hasS && work[n] == 0 && (tiles[n] & BLOCKED) == 0) {
+                    work[n] = next | (1 << DIR_SHIFT);
+                    queue[tail++] = n;
+                }
+            }
+        }
+        dists = work;
+        work = null;
+        queue = null;
+        building = false;
+        finishedRound = Info.rc.getRoundNum();
+        return true;
+    }
+
+    public boolean isReady() {
+        return dists != null;
+    }
+
+    // tiles walked to the target, -1 if not reached (or not finished yet)
+    public int distFrom(MapLocation loc) {
+        if (dists == null)
+            return -1;
+        return (dists[loc.x * MapMemory.height + loc.y] & DIST_MASK) - 1;
+    }
+
+    // first step from loc towards the target, null if not reached (or not finished
+    // yet)
+    public Direction dirFrom(MapLocation loc) {
+        if (dists == null)
+            return null;
+        int val = dists[loc.x * MapMemory.height + loc.y];
+        if (val == 0)
+            return null;
+        return DIRS[(val & DIR_MASK) >>> DIR_SHIFT];
+    }
+
+    // index into sources of the closest source to loc, -1 if not reached (or not
+    // finished yet)
+    public int sourceFrom(MapLocation loc) {
+        if (dists == null)
+            return -1;
+        int val = dists[loc.x * MapMemory.height + loc.y];
+        if (val == 0)
+            return -1;
+        return val >>> SRC_SHIFT;
+    }
+}
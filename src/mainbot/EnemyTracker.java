@@ -0,0 +1,133 @@
+package mainbot;
+
+import battlecode.common.*;
+import mainbot.utils.IntIntHashMap;
+
+/**
+ * Everything we know about enemy ducks, one slot per id. The sense happens once
+ * per turn and location, combat, flag defense and the comms sampling all read the
+ * same array. Slots outlive vision: last seen location, health, levels, the round
+ * and how far it moved since the sighting before, which is enough to guess
+ * where a chaser steps next.
+ */
+public class EnemyTracker {
+    public static RobotController rc;
+
+    // the enemy team is 50 ducks, spare room so we never evict a live one
+    static final int MAX_TRACKED = 64;
+    // sightings further apart than this don't give a usable velocity
+    static final int MAX_VELOCITY_GAP = 2;
+
+    static IntIntHashMap slotOf = new IntIntHashMap(MAX_TRACKED);
+    public static int numTracked = 0;
+    public static int[] ids = new int[MAX_TRACKED];
+    public static int[] xs = new int[MAX_TRACKED];
+    public static int[] ys = new int[MAX_TRACKED];
+    public static int[] health = new int[MAX_TRACKED];
+    public static int[] attackLevel = new int[MAX_TRACKED];
+    public static int[] healLevel = new int[MAX_TRACKED];
+    public static int[] buildLevel = new int[MAX_TRACKED];
+    public static int[] lastSeen = new int[MAX_TRACKED];
+    // displacement between the last two sightings and the rounds it took, kept apart
+    // so a tile over 2 rounds doesn't truncate to standing still. gap 0 if we only
+    // have one
+    public static int[] moveX = new int[MAX_TRACKED];
+    public static int[] moveY = new int[MAX_TRACKED];
+    public static int[] moveGap = new int[MAX_TRACKED];
+
+    // what we see right now
+    public static RobotInfo[] visible = new RobotInfo[0];
+    static int sensedRound = -1;
+    static int sensedX;
+    static int sensedY;
+
+    // next update() senses again even from the same spot, after we hit someone
+    public static void invalidate() {
+        sensedRound = -1;
+    }
+
+    // senses unless we already did from this exact spot this turn, returns visible
+    public static RobotInfo[] update() throws GameActionException {
+        MapLocation me = rc.getLocation();
+        int round = rc.getRoundNum();
+        if (sensedRound == round && sensedX == me.x && sensedY == me.y) {
+            return visible;
+        }
+        sensedRound = round;
+        sensedX = me.x;
+        sensedY = me.y;
+        visible = rc.senseNearbyRobots(-1, rc.getTeam().opponent());
+        for (int i = visible.length; --i >= 0;) {
+            record(visible[i], round);
+        }
+        return visible;
+    }
+
+    static void record(RobotInfo r, int round) {
+        int id = r.getID();
+        MapLocation loc = r.getLocation();
+        int slot = slotOf.getVal(id);
+        if (slot < 0) {
+            slot = freeSlot();
+            slotOf.put(id, slot);
+            ids[slot] = id;
+            moveGap[slot] = 0;
+        } else if (lastSeen[slot] != round) {
+            int gap = round - lastSeen[slot];
+            int dx = loc.x - xs[slot];
+            int dy = loc.y - ys[slot];
+            // more than a tile a round means it died and respawned in between
+            if (gap <= MAX_VELOCITY_GAP && Math.abs(dx) <= gap && Math.abs(dy) <= gap) {
+                moveX[slot] = dx;
+                moveY[slot] = dy;
+                moveGap[slot] = gap;
+            } else {
+                moveGap[slot] = 0;
+            }
+        }
+        xs[slot] = loc.x;
+        ys[slot] = loc.y;
+        health[slot] = r.getHealth();
+        attackLevel[slot] = r.getAttackLevel();
+        healLevel[slot] = r.getHealLevel();
+        buildLevel[slot] = r.getBuildLevel();
+        lastSeen[slot] = round;
+    }
+
+    // next unused slot, or the stalest one once all are taken
+    static int freeSlot() {
+        if (numTracked < MAX_TRACKED) {
+            return numTracked++;
+        }
+        int oldest = 0;
+        for (int i = MAX_TRACKED; --i > 0;) {
+            if (lastSeen[i] < lastSeen[oldest])
+                oldest = i;
+        }
+        slotOf.remove(ids[oldest]);
+        return oldest;
+    }
+
+    // slot for id, -1 if we have never seen it
+    public static int slot(int id) {
+        return slotOf.getVal(id);
+    }
+
+    // where r will probably stand after turns more rounds at its current velocity,
+    // clamped to the map. r itself if it isn't moving
+    public static MapLocation predict(RobotInfo r, int turns) {
+        int slot = slotOf.getVal(r.getID());
+        if (slot < 0 || moveGap[slot] == 0 || moveX[slot] == 0 && moveY[slot] == 0) {
+            return r.getLocation();
+        }
+        int gap = moveGap[slot];
+        int x = Math.max(0, Math.min(rc.getMapWidth() - 1, xs[slot] + scale(moveX[slot] * turns, gap)));
+        int y = Math.max(0, Math.min(rc.getMapHeight() - 1, ys[slot] + scale(moveY[slot] * turns, gap)));
+        return new MapLocation(x, y);
+    }
+
+    // d / gap rounded half away from zero, a tile over 2 rounds still counts as a step
+    static int scale(int d, int gap) {
+        return d >= 0 ? (2 * d + gap) / (2 * gap) : -((-2 * d + gap) / (2 * gap));
+    }
+}
@@ -0,0 +1,120 @@
+package mainbot;
+
+import battlecode.common.*;
+
+/**
+ * Frontier exploration over the Heatmap sectors. EXPLORED has a bit per sector
+ * whose center anyone has had in vision (or a scout gave up reaching), CLAIMED
+ * a bit per sector some scout is already heading for. Scouts take the nearest
+ * sector that is neither instead of a random tile, so 40 of them fan out rather
+ * than all criss-crossing the middle.
+ */
+public class Explorer {
+    public static RobotController rc;
+
+    // shortId 0 wipes claims this often, live scouts put theirs back next turn
+    public static final int CLAIM_ROUNDS = 20;
+
+    // sector we claimed, -1 if none
+    static int claimed = -1;
+    // last round claimNearest found nothing left
+    static int coveredRound = -CLAIM_ROUNDS;
+
+    // marks the sector we stand in and the ones around it once their center is in
+    // vision, a center in a wall or past water still gets seen from outside. keeps
+    // our claim up
+    public static void update() throws GameActionException {
+        int s = Heatmap.sectorOf(rc.getLocation());
+        int sx = s / Heatmap.SECTORS_PER_SIDE;
+        int sy = s % Heatmap.SECTORS_PER_SIDE;
+        for (int x = Math.max(0, sx - 1); x <= Math.min(Heatmap.SECTORS_PER_SIDE - 1, sx + 1); x++) {
+            for (int y = Math.max(0, sy - 1); y <= Math.min(Heatmap.SECTORS_PER_SIDE - 1, sy + 1); y++) {
+                int n = x * Heatmap.SECTORS_PER_SIDE + y;
+                if (CommsLayout.getExplored(n) == 0 && rc.canSenseLocation(Heatmap.center(n)))
+                    markExplored(n);
+            }
+        }
+        if (claimed >= 0) {
+            if (CommsLayout.getExplored(claimed) != 0) {
+                claimed = -1;
+            } else if (CommsLayout.getClaimed(claimed) == 0) {
+                CommsLayout.setClaimed(claimed, 1);
+            }
+        }
+    }
+
+    static void markExplored(int s) throws GameActionException {
+        CommsLayout.setExplored(s, 1);
+        if (CommsLayout.getClaimed(s) != 0)
+            CommsLayout.setClaimed(s, 0);
+    }
+
+    // we couldn't get to our sector in time, mark it explored so neither we nor
+    // anyone else keeps walking at it
+    public static void giveUp() throws GameActionException {
+        if (claimed >= 0) {
+            markExplored(claimed);
+            claimed = -1;
+        }
+    }
+
+    // center of the nearest sector nobody explored or claimed, claimed for us.
+    // null once the whole map is covered
+    public static MapLocation claimNearest() throws GameActionException {
+        release();
+        MapLocation me = rc.getLocation();
+        int best = -1;
+        int bestDist = Integer.MAX_VALUE;
+        for (int s = Heatmap.NUM_SECTORS; --s >= 0;) {
+            if (CommsLayout.getExplored(s) != 0 || CommsLayout.getClaimed(s) != 0)
+                continue;
+            int d = me.distanceSquaredTo(Heatmap.center(s));
+            if (d < bestDist) {
+                bestDist = d;
+                best = s;
+            }
+        }
+        if (best < 0) {
+            coveredRound = rc.getRoundNum();
+            return null;
+        }
+        claimed = best;
+        CommsLayout.setClaimed(best, 1);
+        return Heatmap.center(best);
+    }
+
+    // we have no sector (never had one, or someone else explored it first) and
+    // there were free ones last time we looked
+    public static boolean shouldClaim() {
+        int round = rc.getRoundNum();
+        return claimed < 0 && round > 2 && round - coveredRound > CLAIM_ROUNDS;
+    }
+
+    // give our sector back, when we switch to crumbs or a flag
+    public static void release() throws GameActionException {
+        if (claimed >= 0) {
+            if (CommsLayout.getClaimed(claimed) != 0)
+                CommsLayout.setClaimed(claimed, 0);
+            claimed = -1;
+        }
+    }
+
+    // shortId 0 every CLAIM_ROUNDS: drop claims of the dead, and start the sweep
+    // over once every sector has been seen
+    public static void maintain() throws GameActionException {
+        boolean all = true;
+        for (int i = CommsLayout.EXPLORED_COUNT / 16; --i >= 0;) {
+            Comms.write(CommsLayout.CLAIMED + i, 0);
+            int unused = i == CommsLayout.EXPLORED_COUNT / 16 - 1
+                    ? (1 << CommsLayout.EXPLORED_COUNT - Heatmap.NUM_SECTORS) - 1
+                    : 0;
+            if ((Comms.comms[CommsLayout.EXPLORED + i] | unused) != 0xffff)
+                all = false;
+        }
+        if (all) {
+            for (int i = CommsLayout.EXPLORED_COUNT / 16; --i >= 0;) {
+                Comms.write(CommsLayout.EXPLORED + i, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package mainbot;
+
+import battlecode.common.*;
+
+/**
+ * Keeps a handful of whole map DistanceFields for targets we keep walking to
+ * (enemy flags, home) and builds them with whatever bytecode is left at the end
+ * of each turn. Once a field is done pathing to its target is an array read
+ * instead of a fresh bfs every turn.
+ *
+ * The home field floods from every ally spawn tile at once and gets built
+ * first, flag carriers read their next step and true closest spawn off it.
+ */
+public class GlobalPathfinder {
+    public static RobotController rc;
+
+    static final int NUM_FIELDS = 5;
+    // rebuild a finished field once we have seen this many new tiles since it started
+    static final int REBUILD_NEW_TILES = 150;
+
+    static DistanceField[] fields = new DistanceField[NUM_FIELDS];
+    public static DistanceField homeField;
+
+    // field for tgt if we are tracking one
+    public static DistanceField find(MapLocation tgt) {
+        int key = tgt.x * MapMemory.height + tgt.y;
+        for (int i = NUM_FIELDS; --i >= 0;) {
+            DistanceField f = fields[i];
+            if (f != null && f.key == key)
+                return f;
+        }
+        return null;
+    }
+
+    // ask for a field to tgt, kicks out the least recently wanted one if we are full.
+    // only queues it, think() starts the build when there is bytecode for it
+    public static DistanceField request(MapLocation tgt) {
+        int round = rc.getRoundNum();
+        DistanceField f = find(tgt);
+        if (f == null) {
+            int slot = 0;
+            int oldest = Integer.MAX_VALUE;
+            for (int i = NUM_FIELDS; --i >= 0;) {
+                if (fields[i] == null) {
+                    slot = i;
+                    break;
+                }
+                if (fields[i].lastUsedRound < oldest) {
+                    oldest = fields[i].lastUsedRound;
+                    slot = i;
+                }
+            }
+            f = new DistanceField(tgt);
+            fields[slot] = f;
+        }
+        f.lastUsedRound = round;
+        return f;
+    }
+
+    // first step from src to tgt off a finished field, null if we dont have one
+    public static Direction getDir(MapLocation src, MapLocation tgt) {
+        DistanceField f = find(tgt);
+        if (f == null)
+            return null;
+        f.lastUsedRound = rc.getRoundNum();
+        return f.dirFrom(src);
+    }
+
+    // walking distance from src to tgt off a finished field, -1 if we dont have one
+    public static int getDist(MapLocation src, MapLocation tgt) {
+        DistanceField f = find(tgt);
+        if (f == null)
+            return -1;
+        return f.distFrom(src);
+    }
+
+    // step from loc towards whichever spawn is really closest, null if the home
+    // field isn't built yet or doesn't reach loc
+    public static Direction homeDir(MapLocation loc) {
+        if (homeField == null)
+            return null;
+        return homeField.dirFrom(loc);
+    }
+
+    // spawn tile with the shortest walk from loc, null if the home field can't tell
+    public static MapLocation nearestSpawn(MapLocation loc) {
+        if (homeField == null)
+            return null;
+        int src = homeField.sourceFrom(loc);
+        return src < 0 ? null : homeField.sources[src];
+    }
+
+    // never built, or we have seen enough new tiles since it started that it is stale
+    static boolean needsBuild(DistanceField f) {
+        return !f.building && (f.dists == null || MapMemory.numSeen - f.seenAtStart > REBUILD_NEW_TILES);
+    }
+
+    // spend spare bytecode on fields, call right before yielding
+    public static void think() {
+        // leaves more behind once this robot has been overrunning
+        int reserve = Budget.fieldReserveBc();
+        if (Clock.getBytecodesLeft() < reserve * 2)
+            return;
+
+        if (homeField == null)
+            homeField = new DistanceField(Info.spawnLocs);
+
+        // enemy flag spawns are where everyone ends up going
+        MapLocation[] enemyFlags = Comms.getDefaultEnemyFlagLocations();
+        for (int i = enemyFlags.length; --i >= 0;) {
+            if (enemyFlags[i] != null)
+                request(enemyFlags[i]);
+        }
+        // before anyone has seen one and while there are no broadcasts to go by (setup),
+        // where the symmetry says they started
+        MapLocation[] predicted = Symmetry.enemySpawnCenters();
+        if (predicted != null && !Comms.anyEnemyFlagSeen()
+                && rc.senseBroadcastFlagLocations().length == 0) {
+            for (int i = predicted.length; --i >= 0;) {
+                if (predicted[i] != null)
+                    request(predicted[i]);
+            }
+        }
+
+        // start at most one build a turn, home first then the most recently wanted. its
+        // arrays alone are ~7k bytecode on a big map so only if what is left covers them
+        DistanceField next = needsBuild(homeField) ? homeField : null;
+        for (int i = NUM_FIELDS; --i >= 0 && next != homeField;) {
+            DistanceField f = fields[i];
+            if (f != null && needsBuild(f) && (next == null || f.lastUsedRound > next.lastUsedRound))
+                next = f;
+        }
+        if (next != null && Clock.getBytecodesLeft() > DistanceField.rebuildBc() + reserve * 2)
+            next.rebuild();
+
+        // flag returns are the most time critical thing we path for, home goes first
+        if (homeField.building && !homeField.step(reserve))
+            return;
+
+        // then work on the most recently wanted field
+        while (Clock.getBytecodesLeft() > reserve * 2) {
+            DistanceField best = null;
+            for (int i = NUM_FIELDS; --i >= 0;) {
+                DistanceField f = fields[i];
+                if (f != null && f.building && (best == null || f.lastUsedRound > best.lastUsedRound))
+                    best = f;
+            }
+            if (best == null || !best.step(reserve))
+                return;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package mainbot;
+
+import battlecode.common.*;
+
+/**
+ * Team wide enemy density on a 6x6 grid of map sectors, 2 bits a sector in the
+ * HEAT comms field. Every spawned duck raises the sectors it sees enemies in at
+ * the end of its turn, shortId 0 knocks everything down a level every
+ * DECAY_ROUNDS so old fights fade out on their own.
+ */
+public class Heatmap {
+    public static RobotController rc;
+
+    public static final int SECTORS_PER_SIDE = 6;
+    public static final int NUM_SECTORS = SECTORS_PER_SIDE * SECTORS_PER_SIDE;
+    public static final int MAX_HEAT = 3;
+    public static final int DECAY_ROUNDS = 10;
+    // entries per slot in HEAT
+    static final int PER_SLOT = 8;
+
+    // sector size in tiles, rounded up so 6 of them cover the map
+    public static int sectorW;
+    public static int sectorH;
+
+    // enemies this turn per sector, reset after each record
+    static int[] counts = new int[NUM_SECTORS];
+    static int[] touched = new int[NUM_SECTORS];
+
+    public static void initialize(RobotController rc) {
+        Heatmap.rc = rc;
+        sectorW = (rc.getMapWidth() + SECTORS_PER_SIDE - 1) / SECTORS_PER_SIDE;
+        sectorH = (rc.getMapHeight() + SECTORS_PER_SIDE - 1) / SECTORS_PER_SIDE;
+    }
+
+    public static int sectorOf(MapLocation loc) {
+        return loc.x / sectorW * SECTORS_PER_SIDE + loc.y / sectorH;
+    }
+
+    public static MapLocation center(int sector) {
+        int x = Math.min(rc.getMapWidth() - 1, sector / SECTORS_PER_SIDE * sectorW + sectorW / 2);
+        int y = Math.min(rc.getMapHeight() - 1, sector % SECTORS_PER_SIDE * sectorH + sectorH / 2);
+        return new MapLocation(x, y);
+    }
+
+    public static int heat(int sector) {
+        return CommsLayout.getHeat(sector);
+    }
+
+    // 1-2 enemies is 1, 3-5 is 2, 6+ is 3
+    static int level(int count) {
+        return count >= 6 ? 3 : count >= 3 ? 2 : count > 0 ? 1 : 0;
+    }
+
+    // raise the sectors these enemies stand in, never lowers (decay does that)
+    public static void record(RobotInfo[] enemies) throws GameActionException {
+        int numTouched = 0;
+        for (int i = enemies.length; --i >= 0;) {
+            int s = sectorOf(enemies[i].getLocation());
+            if (counts[s]++ == 0)
+                touched[numTouched++] = s;
+        }
+        for (int i = numTouched; --i >= 0;) {
+            int s = touched[i];
+            int lvl = level(counts[s]);
+            counts[s] = 0;
+            if (lvl > CommsLayout.getHeat(s))
+                CommsLayout.setHeat(s, lvl);
+        }
+    }
+
+    // every sector down one level, shortId 0 calls this every DECAY_ROUNDS
+    public static void decay() throws GameActionException {
+        for (int i = CommsLayout.HEAT_COUNT / PER_SLOT; --i >= 0;) {
+            int slot = CommsLayout.HEAT + i;
+            int w = Comms.comms[slot];
+            // low bit of every nonzero 2 bit entry, subtracting it can't borrow
+            // into the next entry
+            Comms.write(slot, w - ((w | w >> 1) & 0x5555));
+        }
+    }
+
+    // center of the hottest sector, null if nobody has seen anything lately
+    public static MapLocation densest() {
+        int best = -1;
+        int bestHeat = 0;
+        for (int s = NUM_SECTORS; --s >= 0;) {
+            int h = CommsLayout.getHeat(s);
+            if (h > bestHeat) {
+                bestHeat = h;
+                best = s;
+            }
+        }
+        return best < 0 ? null : center(best);
+    }
+
+    // heat of loc's sector and the 8 around it
+    public static int pressure(MapLocation loc) {
+        int sx = loc.x / sectorW;
+        int sy = loc.y / sectorH;
+        int total = 0;
+        for (int x = Math.max(0, sx - 1); x <= Math.min(SECTORS_PER_SIDE - 1, sx + 1); x++) {
+            for (int y = Math.max(0, sy - 1); y <= Math.min(SECTORS_PER_SIDE - 1, sy + 1); y++) {
+                total += CommsLayout.getHeat(x * SECTORS_PER_SIDE + y);
+            }
+        }
+        return total;
+    }
+
+    // pressure around each ally flag (current loc if known, else default), 0 for
+    // flags we don't have anymore
+    public static int[] flagPressure() throws GameActionException {
+        MapLocation[] current = Comms.getCurrentAllyFlagLocations();
+        MapLocation[] defaults = Comms.getDefaultAllyFlagLocations();
+        int[] out = new int[3];
+        for (int i = 3; --i >= 0;) {
+            MapLocation flag = current[i] != null ? current[i] : defaults[i];
+            if (flag != null)
+                out[i] = pressure(flag);
+        }
+        return out;
+    }
+}
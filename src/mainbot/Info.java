@@ -13,7 +13,7 @@ public class Info {
     public static int VISION_DIST;
     
     public static MapLocation[] spawnLocs;
-    public static IterableLocSet spawnLocsSet;
+    public static BitLocSet spawnLocsSet;
     public static MapLocation closestSpawn;
     public static int numFlagsNearbyNotPickedUp;
     public static MapLocation closestFlag;
@@ -29,9 +29,11 @@ public class Info {
     public static void initialize(RobotController rc) throws GameActionException{
         Info.rc = rc;
         // TODO: Add other initialization code here (transfer some from RobotPlayer)
+        MAP_WIDTH = rc.getMapWidth();
+        MAP_HEIGHT = rc.getMapHeight();
 
         spawnLocs = rc.getAllySpawnLocations();
-        spawnLocsSet = new IterableLocSet(spawnLocs.length);
+        spawnLocsSet = new BitLocSet(spawnLocs.length);
         for (int i = spawnLocs.length - 1; i >= 0; i--) {
             spawnLocsSet.add(spawnLocs[i]);
         }
@@ -39,19 +41,28 @@ public class Info {
 
     }
 
-    public static void update() throws GameActionException{
-        friendly_robots = rc.senseNearbyRobots(-1, rc.getTeam());
-
-        // find closest spawnLoc:
-        closestSpawn = null;
+    // closest spawnLoc by travelDistance, used until the home field is built
+    public static MapLocation heuristicClosestSpawn() throws GameActionException {
+        MapLocation closest = null;
         int closestSpawnDist = Integer.MAX_VALUE;
         for (int i = spawnLocs.length - 1; i >= 0; i--) {
             int distSqToSpawn = Pathfinder.travelDistance(rc.getLocation(), spawnLocs[i]);
             if (distSqToSpawn < closestSpawnDist) {
                 closestSpawnDist = distSqToSpawn;
-                closestSpawn = spawnLocs[i];
+                closest = spawnLocs[i];
             }
         }
+        return closest;
+    }
+
+    public static void update() throws GameActionException{
+        friendly_robots = rc.senseNearbyRobots(-1, rc.getTeam());
+
+        // find closest spawnLoc, home field knows it by walking dist once it is built
+        closestSpawn = GlobalPathfinder.nearestSpawn(rc.getLocation());
+        if (closestSpawn == null) {
+            closestSpawn = heuristicClosestSpawn();
+        }
 
         // Flag Counting, finding number of nearby flags not picked up
         FlagInfo[] nearbyFlags = rc.senseNearbyFlags(GameConstants.VISION_RADIUS_SQUARED,
@@ -0,0 +1,129 @@
+package mainbot;
+
+import battlecode.common.*;
+
+/**
+ * Per robot memory of every tile we have sensed. Each tile is packed into one
+ * int of a flat array indexed by x * MAP_HEIGHT + y, so lookups never allocate
+ * and cost a couple of bytecode.
+ */
+public class MapMemory {
+    public static RobotController rc;
+
+    // tile bits, a tile value of 0 means we have never sensed it
+    public static final int SEEN = 1;
+    public static final int WALL = 1 << 1;
+    public static final int WATER = 1 << 2;
+    public static final int DAM = 1 << 3;
+    public static final int ALLY_SPAWN = 1 << 4;
+    public static final int ENEMY_SPAWN = 1 << 5;
+    // [7:6] trap type, only ever our own traps since enemy traps are invisible
+    public static final int TRAP_SHIFT = 6;
+    public static final int TRAP_MASK = 0x3 << TRAP_SHIFT;
+    public static final int TRAP_EXPLOSIVE = 1 << TRAP_SHIFT;
+    public static final int TRAP_WATER = 2 << TRAP_SHIFT;
+    public static final int TRAP_STUN = 3 << TRAP_SHIFT;
+
+    public static final int BLOCKED_COST = 1000000;
+    // water we fill before stepping in, the move plus the fill cooldown in turns
+    public static final int WATER_FILL_COST = 1 + GameConstants.FILL_COOLDOWN / GameConstants.COOLDOWNS_PER_TURN;
+    // bfs step cost by the low 4 tile bits (SEEN, WALL, WATER, DAM), never seen
+    // counts as open. walking can't cross water at all
+    public static final int[] BFS_COSTS = { 1, 1, BLOCKED_COST, BLOCKED_COST, BLOCKED_COST, BLOCKED_COST,
+            BLOCKED_COST, BLOCKED_COST, BLOCKED_COST, BLOCKED_COST, BLOCKED_COST, BLOCKED_COST, BLOCKED_COST,
+            BLOCKED_COST, BLOCKED_COST, BLOCKED_COST };
+    // same but for a robot with the crumbs to fill its way through
+    public static final int[] BFS_COSTS_FILL = { 1, 1, BLOCKED_COST, BLOCKED_COST, WATER_FILL_COST, WATER_FILL_COST,
+            BLOCKED_COST, BLOCKED_COST, BLOCKED_COST, BLOCKED_COST, BLOCKED_COST, BLOCKED_COST, BLOCKED_COST,
+            BLOCKED_COST, BLOCKED_COST, BLOCKED_COST };
+
+    public static int[] tiles;
+    public static int width;
+    public static int height;
+    public static int numSeen = 0;
+    // tile indices first seen by the last record call, Symmetry checks only these
+    public static int[] fresh = new int[128];
+    public static int numFresh = 0;
+
+    public static void initialize(RobotController rc) {
+        MapMemory.rc = rc;
+        width = rc.getMapWidth();
+        height = rc.getMapHeight();
+        tiles = new int[width * height];
+    }
+
+    // record everything from a senseNearbyMapInfos call, robotplayer already senses
+    // this every turn so we piggyback on that array instead of sensing again
+    public static void record(MapInfo[] infos) {
+        Team team = rc.getTeam();
+        int n = 0;
+        for (int i = infos.length; --i >= 0;) {
+            MapInfo mi = infos[i];
+            MapLocation loc = mi.getMapLocation();
+            int idx = loc.x * height + loc.y;
+            // walls never change, no point decoding them again
+            if ((tiles[idx] & WALL) != 0)
+                continue;
+            if (tiles[idx] == 0) {
+                numSeen++;
+                fresh[n++] = idx;
+            }
+            tiles[idx] = encode(mi, team);
+        }
+        numFresh = n;
+    }
+
+    static int encode(MapInfo mi, Team team) {
+        int bits = SEEN;
+        if (mi.isWall()) {
+            return bits | WALL;
+        }
+        if (mi.isWater()) {
+            bits |= WATER;
+        } else if (mi.isDam()) {
+            bits |= DAM;
+        } else if (mi.isSpawnZone()) {
+            bits |= mi.getTeamTerritory() == team ? ALLY_SPAWN : ENEMY_SPAWN;
+        }
+        TrapType trap = mi.getTrapType();
+        if (trap == TrapType.STUN) {
+            bits |= TRAP_STUN;
+        } else if (trap == TrapType.EXPLOSIVE) {
+            bits |= TRAP_EXPLOSIVE;
+        } else if (trap == TrapType.WATER) {
+            bits |= TRAP_WATER;
+        }
+        return bits;
+    }
+
+    public static int get(MapLocation loc) {
+        return tiles[loc.x * height + loc.y];
+    }
+
+    public static int get(int x, int y) {
+        return tiles[x * height + y];
+    }
+
+    public static boolean isKnown(MapLocation loc) {
+        return tiles[loc.x * height + loc.y] != 0;
+    }
+
+    // unknown tiles count as passable, callers that care should check isKnown
+    public static boolean isPassable(MapLocation loc) {
+        return (tiles[loc.x * height + loc.y] & (WALL | WATER | DAM)) == 0;
+    }
+
+    // step cost used by bfs out of costs (BFS_COSTS or BFS_COSTS_FILL), falls back to
+    // sensing (and remembering) the tile if we have never seen it. caller must make
+    // sure the loc is sensable
+    public static int bfsCost(MapLocation loc, int[] costs) throws GameActionException {
+        int idx = loc.x * height + loc.y;
+        int bits = tiles[idx];
+        if (bits == 0) {
+            bits = encode(rc.senseMapInfo(loc), rc.getTeam());
+            tiles[idx] = bits;
+            numSeen++;
+        }
+        return costs[bits & 15];
+    }
+}
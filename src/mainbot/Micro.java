@@ -0,0 +1,139 @@
+package mainbot;
+
+import battlecode.common.*;
+import mainbot.utils.IntIntHashMap;
+
+/**
+ * Combat tables for the 9 moves (index = Direction.ordinal(), CENTER included),
+ * built once per turn and location from the visible enemies. Everything after
+ * that is array reads: no float averages, no distance loop per candidate and no
+ * skill lookups per enemy.
+ */
+public class Micro {
+    public static RobotController rc;
+
+    // 1 move from attack range
+    public static final int THREAT_RADIUS_SQUARED = 10;
+    // masks are longs, more than this in vision never happens
+    static final int MAX_ENEMIES = 64;
+
+    public static final Direction[] MOVES = Direction.values();
+    public static final int STAY = Direction.CENTER.ordinal();
+
+    // damage one attack does by attacker level
+    static final int[] DAMAGE_BY_LEVEL = new int[7];
+    // bits of the moves that end within threat/attack range of an enemy at a relative
+    // offset, indexed (rx + 5) * 11 + ry + 5
+    static final int[] THREAT_MOVES = new int[121];
+    static final int[] HIT_MOVES = new int[121];
+
+    static {
+        for (int l = DAMAGE_BY_LEVEL.length; --l >= 0;) {
+            DAMAGE_BY_LEVEL[l] = SkillType.ATTACK.skillEffect + SkillType.ATTACK.getSkillEffect(l);
+        }
+        for (int rx = -5; rx <= 5; rx++) {
+            for (int ry = -5; ry <= 5; ry++) {
+                for (int m = MOVES.length; --m >= 0;) {
+                    int dx = rx - MOVES[m].getDeltaX();
+                    int dy = ry - MOVES[m].getDeltaY();
+                    int d = dx * dx + dy * dy;
+                    if (d <= THREAT_RADIUS_SQUARED)
+                        THREAT_MOVES[(rx + 5) * 11 + ry + 5] |= 1 << m;
+                    if (d <= GameConstants.ATTACK_RADIUS_SQUARED)
+                        HIT_MOVES[(rx + 5) * 11 + ry + 5] |= 1 << m;
+                }
+            }
+        }
+    }
+
+    public static int n = 0;
+    public static MapLocation[] locs = new MapLocation[MAX_ENEMIES];
+    public static int[] health = new int[MAX_ENEMIES];
+
+    // per move: summed distance^2 to every enemy (average * n, so compare these
+    // directly), damage the unstunned enemies in threat range can do, who is in
+    // threat/attack range, and the lowest health enemy we could hit (-1 if none)
+    public static int[] distSum = new int[9];
+    public static int[] dmgIn = new int[9];
+    public static long[] threatMask = new long[9];
+    public static long[] hitMask = new long[9];
+    public static int[] weakest = new int[9];
+    public static int[] weakestHealth = new int[9];
+
+    static int builtRound = -1;
+    static int builtX;
+    static int builtY;
+
+    // whether the tables are from this turn and where we stand now
+    public static boolean isFresh() {
+        MapLocation me = rc.getLocation();
+        return builtRound == rc.getRoundNum() && builtX == me.x && builtY == me.y;
+    }
+
+    public static void update(RobotInfo[] enemies, IntIntHashMap stunned) {
+        if (isFresh())
+            return;
+        MapLocation me = rc.getLocation();
+        builtRound = rc.getRoundNum();
+        builtX = me.x;
+        builtY = me.y;
+
+        int[] dmg = dmgIn;
+        long[] threat = threatMask;
+        long[] hit = hitMask;
+        int[] low = weakest;
+        int[] lowHealth = weakestHealth;
+        for (int m = 9; --m >= 0;) {
+            dmg[m] = 0;
+            threat[m] = 0;
+            hit[m] = 0;
+            low[m] = -1;
+            lowHealth[m] = Integer.MAX_VALUE;
+        }
+
+        // sum over enemies of |e - (me + d)|^2 expands to the sums below, so the
+        // distance part is one pass no matter how many moves we score
+        int sx = 0;
+        int sy = 0;
+        int sq = 0;
+        int count = Math.min(enemies.length, MAX_ENEMIES);
+        for (int i = count; --i >= 0;) {
+            RobotInfo enemy = enemies[i];
+            MapLocation loc = enemy.getLocation();
+            int rx = loc.x - me.x;
+            int ry = loc.y - me.y;
+            int hp = enemy.getHealth();
+            locs[i] = loc;
+            health[i] = hp;
+            sx += rx;
+            sy += ry;
+            sq += rx * rx + ry * ry;
+            if (rx < -5 || rx > 5 || ry < -5 || ry > 5)
+                continue;
+            int k = (rx + 5) * 11 + ry + 5;
+            int threatMoves = THREAT_MOVES[k];
+            int hitMoves = HIT_MOVES[k];
+            int d = stunned.contains(enemy.getID()) ? 0 : DAMAGE_BY_LEVEL[enemy.getAttackLevel()];
+            long bit = 1L << i;
+            for (int m = 9; --m >= 0;) {
+                if ((threatMoves >> m & 1) != 0) {
+                    dmg[m] += d;
+                    threat[m] |= bit;
+                    if ((hitMoves >> m & 1) != 0) {
+                        hit[m] |= bit;
+                        if (hp < lowHealth[m]) {
+                            lowHealth[m] = hp;
+                            low[m] = i;
+                        }
+                    }
+                }
+            }
+        }
+        n = count;
+        for (int m = 9; --m >= 0;) {
+            int dx = MOVES[m].getDeltaX();
+            int dy = MOVES[m].getDeltaY();
+            distSum[m] = sq - 2 * (dx * sx + dy * sy) + count * (dx * dx + dy * dy);
+        }
+    }
+}
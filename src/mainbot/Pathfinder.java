@@ -1,6 +1,7 @@
 package mainbot;
 
 import battlecode.common.*;
+import mainbot.utils.IntIntHashMap;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -19,8 +20,20 @@ public class Pathfinder {
     public static RobotController rc;
     public static Rot buhgDir = Rot.NONE;
     public static Direction lastBuhgDir = Direction.CENTER;
-    public static int initBlockDist = 9999;
-    public static int turnsBuhgging = 0;
+    // bug2 state, the m-line runs from mLineStart to buhgTarget
+    public static MapLocation buhgTarget = null;
+    public static MapLocation mLineStart = null;
+    // travel distance to the target where we hit the wall, only leave it closer than this
+    public static int hitDist = 9999;
+    // turnarounds since the last hit point
+    public static int sideSwitches = 0;
+    // (tile, heading, side) states seen while following the current wall
+    static final int MAX_BUHG_STATES = 100;
+    static IntIntHashMap visitedStates = new IntIntHashMap(MAX_BUHG_STATES);
+    // tile of the last buhg call, states only count once we have actually moved off it
+    static MapLocation lastBuhgTile = null;
+    // the last buhg step went around a robot, lastBuhgDir didn't follow the wall
+    static boolean lastStepUnitBlock = false;
 
     // cosine similarity for 2 2d vecs
     public static float cosSim(int dx1, int dy1, int dx2, int dy2) {
@@ -45,21 +58,41 @@ public class Pathfinder {
         if (!rc.isMovementReady() || src.equals(tgt))
             return Direction.CENTER;
 
-        // use bfs if we have > 5k bytecode, otherwise do buhg if no bytecode or no
-        // result from bfs
-        if (Clock.getBytecodesLeft() > 5000) {
+        // finished whole map field to this target beats anything local, only trust it
+        // if the step is actually open right now
+        Direction globalDir = GlobalPathfinder.getDir(src, tgt);
+        if (globalDir != null && globalDir != Direction.CENTER && rc.canMove(globalDir)) {
+            return globalDir;
+        }
+
+        // use the biggest bfs that fits in the bytecode we have left (smaller ones once
+        // we have been overrunning), otherwise do buhg if no bytecode or no result from bfs
+        if (Clock.getBytecodesLeft() > Bfs.MIN_BC_TO_USE && Bfs.radiusCap > 0) {
+            if (Profiler.ENABLED)
+                Profiler.start(Profiler.BFS);
             Direction bfsDir = Bfs.getBestDir(tgt);
+            if (Profiler.ENABLED)
+                Profiler.stop(Profiler.BFS);
             // make sure bfs returns dir that is not null and gets u closer to your target
             if (bfsDir != null) {
                 return bfsDir;
             }
         }
 
-        // some variant buh g with wall avoidance
+        // bug2 with wall avoidance, follows the wall until it is back on the m-line
+        // closer than where it hit
         Direction dirTo = src.directionTo(tgt);
+        if (!tgt.equals(buhgTarget)) {
+            buhgTarget = tgt;
+            mLineStart = src;
+            endBuhg();
+        }
 
         // if direct is blocked
         boolean directPassable = rc.senseMapInfo(src.add(dirTo)).isPassable();
+        if (buhgDir != Rot.NONE && directPassable && travelDistance(src, tgt) < hitDist && onMLine(src, tgt)) {
+            endBuhg();
+        }
 
         // direct greedily(8 dir) if can until impassible 1 tile no los, then buhg
         if (directPassable && buhgDir == Rot.NONE) {
@@ -109,16 +142,38 @@ public class Pathfinder {
             // if impass exists on both sides, choose dir with impass closest to tgt
             if (minBoundL != null && minBoundR != null) {
                 buhgDir = minDistL < minDistR ? Rot.LEFT : Rot.RIGHT;
-                // if no impass on both sides random
+                // if no impass on both sides take whichever side opens up first
             } else if (minBoundL == null && minBoundR == null) {
-                buhgDir = rc.getRoundNum() % 2 == 0 ? Rot.LEFT : Rot.RIGHT;
+                buhgDir = openSide(dirTo);
                 // if impass on only 1 side choose more open side
             } else {
                 buhgDir = minBoundL == null ? Rot.LEFT : Rot.RIGHT;
             }
-            initBlockDist = travelDistance(src, tgt);
+            // greedy can wander off the m-line, if so the line restarts at this hit point
+            if (!onMLine(src, tgt))
+                mLineStart = src;
+            hitDist = travelDistance(src, tgt);
+            sideSwitches = 0;
+            visitedStates.clear();
+            lastBuhgTile = src;
+            lastStepUnitBlock = false;
+        } else if (!src.equals(lastBuhgTile)) {
+            // only after a real move: staying put (blocked, CENTER, called twice a turn)
+            // would look like a repeat. steps around robots aren't wall following either
+            lastBuhgTile = src;
+            if (!lastStepUnitBlock) {
+                // same tile, heading and side as before means we are orbiting, go the other way
+                int state = (((src.x << 6) | src.y) << 5) | (lastBuhgDir.ordinal() << 1)
+                        | (buhgDir == Rot.LEFT ? 1 : 0);
+                if (visitedStates.contains(state)) {
+                    switchSide(src, tgt);
+                } else {
+                    if (visitedStates.size >= MAX_BUHG_STATES)
+                        visitedStates.clear();
+                    visitedStates.add(state, rc.getRoundNum());
+                }
+            }
         }
-        turnsBuhgging++;
 
         // flag for if we end up buhgging around a robot
         // in this case do not update lastbuhgdir, as it may result in us circling
@@ -134,24 +189,13 @@ public class Pathfinder {
             MapLocation currLoc = src.add(moveDir);
             // wall avoidance
             if (!rc.onTheMap(currLoc)) {
-                initBlockDist = travelDistance(src, tgt);
-                buhgDir = buhgDir == Rot.LEFT ? Rot.RIGHT : Rot.LEFT;
-                lastBuhgDir = Direction.CENTER;
-                turnsBuhgging = 0;
+                switchSide(src, tgt);
                 break;
             }
             if (rc.canMove(moveDir)) {
                 if (!unitBlock)
                     lastBuhgDir = moveDir;
-                // check for buhg exiting conditions(closer to goal than init buhgging dist +
-                // not blocked)
-                if ((travelDistance(src, tgt) < initBlockDist && directPassable)
-                        || turnsBuhgging > 20) {
-                    initBlockDist = 9999;
-                    buhgDir = Rot.NONE;
-                    turnsBuhgging = 0;
-                    lastBuhgDir = Direction.CENTER;
-                }
+                lastStepUnitBlock = unitBlock;
                 return moveDir;
             }
             // if blocked by robot set flag, else clear
@@ -168,15 +212,115 @@ public class Pathfinder {
         return Direction.CENTER;
     }
 
+    static void endBuhg() {
+        buhgDir = Rot.NONE;
+        lastBuhgTile = null;
+        lastStepUnitBlock = false;
+        lastBuhgDir = Direction.CENTER;
+        hitDist = 9999;
+        sideSwitches = 0;
+    }
+
+    // turn around on the same wall. the second time for one hit point both sides loop,
+    // so the m-line restarts from here and we get a fresh pair of tries
+    static void switchSide(MapLocation src, MapLocation tgt) throws GameActionException {
+        buhgDir = buhgDir == Rot.LEFT ? Rot.RIGHT : Rot.LEFT;
+        lastBuhgDir = Direction.CENTER;
+        visitedStates.clear();
+        if (++sideSwitches > 1) {
+            mLineStart = src;
+            hitDist = travelDistance(src, tgt);
+            sideSwitches = 0;
+        }
+    }
+
+    // within a tile of the line from mLineStart to tgt
+    static boolean onMLine(MapLocation loc, MapLocation tgt) {
+        int lx = tgt.x - mLineStart.x;
+        int ly = tgt.y - mLineStart.y;
+        int cross = lx * (loc.y - mLineStart.y) - ly * (loc.x - mLineStart.x);
+        return Math.abs(cross) <= Math.max(Math.abs(lx), Math.abs(ly));
+    }
+
+    // side whose first open dir comes soonest when sweeping out from dirTo, ties split
+    // by id so a blob of robots doesn't all go the same way
+    static Rot openSide(Direction dirTo) {
+        Direction l = dirTo;
+        Direction r = dirTo;
+        for (int i = 4; --i >= 0;) {
+            l = l.rotateLeft();
+            r = r.rotateRight();
+            boolean okL = rc.canMove(l);
+            boolean okR = rc.canMove(r);
+            if (okL != okR)
+                return okL ? Rot.LEFT : Rot.RIGHT;
+            if (okL)
+                break;
+        }
+        return (rc.getID() & 1) == 0 ? Rot.LEFT : Rot.RIGHT;
+    }
+
+    // set by pathfindThroughWater when the dir it gave steps into water that has to
+    // be filled first (fillAhead does that)
+    public static boolean fillFirst = false;
+
+    // like pathfind but bfs may route through water we have the crumbs to fill, which
+    // beats walking around a moat. anything it can't do falls back to pathfind
+    public static Direction pathfindThroughWater(MapLocation src, MapLocation tgt) throws GameActionException {
+        fillFirst = false;
+        if (rc.getCrumbs() < GameConstants.FILL_COST || Clock.getBytecodesLeft() <= Bfs.MIN_BC_TO_USE
+                || Bfs.radiusCap == 0) {
+            return pathfind(src, tgt);
+        }
+        if (!rc.isMovementReady() || src.equals(tgt))
+            return Direction.CENTER;
+
+        if (Profiler.ENABLED)
+            Profiler.start(Profiler.BFS);
+        Bfs.waterFill = true;
+        Direction bfsDir = Bfs.getBestDir(tgt);
+        Bfs.waterFill = false;
+        if (Profiler.ENABLED)
+            Profiler.stop(Profiler.BFS);
+        if (bfsDir != null) {
+            if (rc.canMove(bfsDir))
+                return bfsDir;
+            if (rc.canFill(src.add(bfsDir))) {
+                fillFirst = true;
+                return bfsDir;
+            }
+        }
+        return pathfind(src, tgt);
+    }
+
+    // fills the water in front of dir if pathfindThroughWater asked for it, returns
+    // whether dir can be moved into now
+    public static boolean fillAhead(Direction dir) throws GameActionException {
+        if (fillFirst) {
+            fillFirst = false;
+            MapLocation next = rc.getLocation().add(dir);
+            if (rc.canFill(next))
+                rc.fill(next);
+        }
+        return rc.canMove(dir);
+    }
+
     public static Direction pathfindHome() throws GameActionException {
         rc.setIndicatorString("returning: " + Info.closestSpawn.toString());
+        // home field already knows the step towards the closest spawn by walking dist
+        if (rc.isMovementReady()) {
+            Direction homeDir = GlobalPathfinder.homeDir(rc.getLocation());
+            if (homeDir != null && homeDir != Direction.CENTER && rc.canMove(homeDir)) {
+                return homeDir;
+            }
+        }
         return Pathfinder.pathfind(rc.getLocation(), Info.closestSpawn);
     }
 
+    // travel distance between src and tgt off the global field for tgt, returns -1
+    // if that field is not built yet or src can't reach tgt
     public static int bfsDist(MapLocation src, MapLocation tgt) throws GameActionException {
-        // TODO: implement bfs to find the travel distance between src and tgt
-        // returns -1 if we can't reach tgt based on our sensing radius
-        return -1;
+        return GlobalPathfinder.getDist(src, tgt);
     }
 
     // Gives the travelDistance between 2 points on the map. Not accurate, but
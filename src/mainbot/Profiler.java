@@ -0,0 +1,158 @@
+package mainbot;
+
+import battlecode.common.*;
+
+/**
+ * Bytecode profiler for the phases of a turn. Flip ENABLED to turn it on, every
+ * call site sits behind an if (Profiler.ENABLED) so javac strips all of it out
+ * when it is off.
+ *
+ * Phases are timed with start/stop and summed over the turn (bfs can run a few
+ * times a turn, nested phases count inside their parent too), then endTurn
+ * files the totals under the role we finished the turn in. Keeps
+ * count/sum/min/max plus a histogram for p95 per phase per role.
+ *
+ * The summary prints every DUMP_EVERY rounds and on the last round. A game won
+ * or lost early on the third flag capture never reaches either, so only full
+ * DUMP_EVERY windows show up, whatever ran after the last one is not reported.
+ */
+public class Profiler {
+    public static final boolean ENABLED = false;
+    public static RobotController rc;
+
+    // only robots with a shortId below this print, 50 dumps a round is unreadable
+    static final int DUMP_ROBOTS = 1;
+    // cumulative, a game that ends on captures loses the rounds since the last dump
+    static final int DUMP_EVERY = 250;
+    static final int BYTECODE_LIMIT = 25000;
+
+    public static final int TURN = 0;
+    public static final int COMMS_RECEIVE = 1;
+    public static final int INFO_UPDATE = 2;
+    public static final int MAP_SCAN = 3;
+    public static final int BFS = 4;
+    public static final int COMBAT = 5;
+    public static final int ROLE = 6;
+    public static final int COMMS_UPDATE = 7;
+    public static final int FIELDS = 8;
+    public static final int SPAWN = 9;
+    public static final int SENTRY = 10;
+    static final int NUM_PHASES = 11;
+    static final String[] PHASE_NAMES = { "turn", "comms.receive", "info.update", "map.scan", "bfs", "combat",
+            "role", "comms.update", "fields", "spawn", "sentry" };
+
+    // same ids as the RobotPlayer roles plus one for turns spent unspawned
+    public static final int JAILED = 14;
+    static final int NUM_ROLES = 15;
+    static final String[] ROLE_NAMES = { "SCOUTING", "INCOMBAT", "BUILDING", "CAPTURING", "RETURNING",
+            "DEFENDING", "HEALING", "WOUNDED", "SENTRYING", "RESPAWN", "CRUMBS", "LINEUP", "ESCORT", "TRAINBUILD",
+            "JAILED" };
+
+    static final int BUCKET_SIZE = 250;
+    // last bucket catches everything over the limit
+    static final int NUM_BUCKETS = BYTECODE_LIMIT / BUCKET_SIZE + 1;
+
+    static int turnStartRound;
+    static int[] startBc;
+    static int[] startRound;
+    static int[] turnSpent;
+    static boolean[] turnHit;
+
+    // [phase * NUM_ROLES + role]
+    static int[] count;
+    static long[] sum;
+    static int[] min;
+    static int[] max;
+    // [(phase * NUM_ROLES + role) * NUM_BUCKETS + bucket]
+    static int[] hist;
+
+    public static void initialize(RobotController rc) {
+        Profiler.rc = rc;
+        startBc = new int[NUM_PHASES];
+        startRound = new int[NUM_PHASES];
+        turnSpent = new int[NUM_PHASES];
+        turnHit = new boolean[NUM_PHASES];
+        count = new int[NUM_PHASES * NUM_ROLES];
+        sum = new long[NUM_PHASES * NUM_ROLES];
+        min = new int[NUM_PHASES * NUM_ROLES];
+        max = new int[NUM_PHASES * NUM_ROLES];
+        hist = new int[NUM_PHASES * NUM_ROLES * NUM_BUCKETS];
+        java.util.Arrays.fill(min, Integer.MAX_VALUE);
+        turnStartRound = rc.getRoundNum();
+    }
+
+    public static void beginTurn() {
+        turnStartRound = rc.getRoundNum();
+    }
+
+    public static void start(int phase) {
+        startBc[phase] = Clock.getBytecodeNum();
+        startRound[phase] = rc.getRoundNum();
+    }
+
+    public static void stop(int phase) {
+        // if we ran over into the next turn count the whole turns we ate
+        int spent = Clock.getBytecodeNum() - startBc[phase]
+                + (rc.getRoundNum() - startRound[phase]) * BYTECODE_LIMIT;
+        turnSpent[phase] += spent;
+        turnHit[phase] = true;
+    }
+
+    // fold this turn's phase totals into the stats for role, call right before
+    // yielding
+    public static void endTurn(int role) {
+        turnSpent[TURN] = Clock.getBytecodeNum() + (rc.getRoundNum() - turnStartRound) * BYTECODE_LIMIT;
+        turnHit[TURN] = true;
+        for (int phase = NUM_PHASES; --phase >= 0;) {
+            if (!turnHit[phase])
+                continue;
+            int spent = turnSpent[phase];
+            int i = phase * NUM_ROLES + role;
+            count[i]++;
+            sum[i] += spent;
+            if (spent < min[i])
+                min[i] = spent;
+            if (spent > max[i])
+                max[i] = spent;
+            hist[i * NUM_BUCKETS + Math.min(spent / BUCKET_SIZE, NUM_BUCKETS - 1)]++;
+            turnSpent[phase] = 0;
+            turnHit[phase] = false;
+        }
+
+        int round = rc.getRoundNum();
+        if (Comms.shortId < DUMP_ROBOTS
+                && (round % DUMP_EVERY == 0 || round == GameConstants.GAME_MAX_NUMBER_OF_ROUNDS)) {
+            dump();
+        }
+    }
+
+    // upper edge of the bucket holding the 95th percentile sample
+    static int p95(int i) {
+        int target = (count[i] * 95 + 99) / 100;
+        int seen = 0;
+        int base = i * NUM_BUCKETS;
+        for (int b = 0; b < NUM_BUCKETS; b++) {
+            seen += hist[base + b];
+            if (seen >= target)
+                return Math.min((b + 1) * BUCKET_SIZE, max[i]);
+        }
+        return max[i];
+    }
+
+    public static void dump() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("bytecode profile round ").append(rc.getRoundNum()).append(" shortId ").append(Comms.shortId)
+                .append("\nrole phase n mean min max p95\n");
+        for (int role = 0; role < NUM_ROLES; role++) {
+            for (int phase = 0; phase < NUM_PHASES; phase++) {
+                int i = phase * NUM_ROLES + role;
+                if (count[i] == 0)
+                    continue;
+                sb.append(ROLE_NAMES[role]).append(' ').append(PHASE_NAMES[phase]).append(' ').append(count[i])
+                        .append(' ').append(sum[i] / count[i]).append(' ').append(min[i]).append(' ')
+                        .append(max[i]).append(' ').append(p95(i)).append('\n');
+            }
+        }
+        System.out.println(sb);
+    }
+}
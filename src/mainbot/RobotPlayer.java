@@ -120,7 +120,8 @@ public strictfp class RobotPlayer {
 
     // stunned enemy tracking
     static FastQueue<Pair<Integer, Integer>> stunnedEnemiesQ = new FastQueue<>(100);
-    static FastIntIntMap stunnedEnemiesSet = new FastIntIntMap(50);
+    static IntIntHashMap stunnedEnemiesSet = new IntIntHashMap(50);
+    static BitLocSet currRoundStunsSet = new BitLocSet();
     static MapLocation[] prevRoundStuns = new MapLocation[70];
     static int prevRoundStunLen = 0;
 
@@ -150,6 +151,14 @@ public strictfp class RobotPlayer {
         Comms.rc = rc;
         RobotPlayer.rc = rc;
         Bfs.rc = rc;
+        Micro.rc = rc;
+        EnemyTracker.rc = rc;
+        GlobalPathfinder.rc = rc;
+        Budget.rc = rc;
+        Explorer.rc = rc;
+        TrapPlanner.rc = rc;
+        if (Profiler.ENABLED)
+            Profiler.initialize(rc);
 
         while (true) {
             // This code runs during the entire lifespan of the robot, which is why it is in
@@ -168,10 +177,22 @@ public strictfp class RobotPlayer {
 
             // Try/catch blocks stop unhandled exceptions, which cause your robot to
             // explode.
+            if (Profiler.ENABLED)
+                Profiler.beginTurn();
+            Budget.beginTurn();
+            Bfs.radiusCap = Budget.bfsMaxRadius();
             try {
+                if (Profiler.ENABLED)
+                    Profiler.start(Profiler.COMMS_RECEIVE);
                 Comms.receive();
+                if (Profiler.ENABLED)
+                    Profiler.stop(Profiler.COMMS_RECEIVE);
                 if (rc.getRoundNum() == 1) {
                     Info.initialize(rc);
+                    MapMemory.initialize(rc);
+                    Heatmap.initialize(rc);
+                    Symmetry.initialize(rc);
+                    Spawner.initialize(rc);
                     Comms.initialize();
                 } else if (rc.getRoundNum() == 2) {
                     Comms.init2();
@@ -181,6 +202,8 @@ public strictfp class RobotPlayer {
                 // Robots not spawned in do not have vision of any tiles and cannot perform any
                 // actions.
                 if (!rc.isSpawned()) {
+                    if (Profiler.ENABLED)
+                        Profiler.start(Profiler.SPAWN);
                     turnsAlive = 0;
                     haveSeenCombat = false;
 
@@ -245,7 +268,6 @@ public strictfp class RobotPlayer {
                         }
                     }
 
-                    MapLocation[] spawnLocs = rc.getAllySpawnLocations();
                     // If theres a displaced flag, find the spawn location
                     // that has the smallest distance to the first displaced flag in the list and
                     // spawn there
@@ -294,6 +316,25 @@ public strictfp class RobotPlayer {
                         }
                     }
 
+                    // otherwise the flag the team heatmap says is under the most pressure,
+                    // then wherever the enemy is thickest
+                    MapLocation pressuredFlag = null;
+                    MapLocation densestEnemies = null;
+                    if (closestSpawnInDanger == null && rc.getRoundNum() > 2) {
+                        int[] flagPressure = Heatmap.flagPressure();
+                        int mostPressure = 1;
+                        MapLocation[] currentFlags = Comms.getCurrentAllyFlagLocations();
+                        MapLocation[] defaultFlags = Comms.getDefaultAllyFlagLocations();
+                        for (int i = flagPressure.length; --i >= 0;) {
+                            if (flagPressure[i] > mostPressure) {
+                                mostPressure = flagPressure[i];
+                                pressuredFlag = currentFlags[i] != null ? currentFlags[i] : defaultFlags[i];
+                            }
+                        }
+                        if (pressuredFlag == null)
+                            densestEnemies = Heatmap.densest();
+                    }
+
                     // spawn location for sentries must be their home
                     MapLocation sentrySpawn = null;
                     if (SENTRY && !retireSentry) {
@@ -310,6 +351,10 @@ public strictfp class RobotPlayer {
                         targetSpawnClosestTo = displacedFlag;
                     } else if (closestSpawnInDanger != null) {
                         targetSpawnClosestTo = closestSpawnInDanger;
+                    } else if (pressuredFlag != null) {
+                        targetSpawnClosestTo = pressuredFlag;
+                    } else if (densestEnemies != null) {
+                        targetSpawnClosestTo = densestEnemies;
                     } else if (sampledEnemy != null) {
                         targetSpawnClosestTo = sampledEnemy;
                     }
@@ -317,43 +362,26 @@ public strictfp class RobotPlayer {
                     // don't spawn specialists on turn one becuase they won't have a home. spawn
                     // everyone else equally amongst the spawns
                     if (!(turnCount == 1 && (sentryShiftOne || sentryShiftTwo || BUILDERSPECIALIST))) {
+                        // zone with the shortest walk to the target, then its tile closest to it
                         if (targetSpawnClosestTo != null) {
-                            int distToTarget = Integer.MAX_VALUE;
-                            MapLocation closestToTarget = null;
-                            for (int i = spawnLocs.length - 1; i >= 0; i--) {
-                                if (rc.canSpawn(spawnLocs[i])
-                                        && spawnLocs[i].distanceSquaredTo(targetSpawnClosestTo) < distToTarget) {
-                                    distToTarget = spawnLocs[i].distanceSquaredTo(targetSpawnClosestTo);
-                                    closestToTarget = spawnLocs[i];
-                                }
-                            }
-                            if (closestToTarget != null && rc.canSpawn(closestToTarget)) {
-                                rc.spawn(closestToTarget);
-                            }
+                            Spawner.spawnNear(targetSpawnClosestTo);
                         } else {
-
-                            MapLocation loc = spawnLocs[Comms.shortId % spawnLocs.length];
-                            int distToTarget = Integer.MAX_VALUE;
-                            MapLocation closestToTarget = null;
-                            for (int i = spawnLocs.length - 1; i >= 0; i--) {
-                                if (rc.canSpawn(spawnLocs[i])
-                                        && spawnLocs[i].distanceSquaredTo(loc) < distToTarget) {
-                                    distToTarget = spawnLocs[i].distanceSquaredTo(loc);
-                                    closestToTarget = spawnLocs[i];
-                                }
-                            }
-                            if (closestToTarget != null && rc.canSpawn(closestToTarget)) {
-                                rc.spawn(closestToTarget);
-                            }
+                            Spawner.spawnSpread(Comms.shortId);
                         }
                     }
+                    if (Profiler.ENABLED)
+                        Profiler.stop(Profiler.SPAWN);
                 }
 
                 if (rc.isSpawned()) {
                     // if (turnCount > 5 && Comms.shortId == 0) {
                     // System.out.println(turnCount);
                     // }
+                    if (Profiler.ENABLED)
+                        Profiler.start(Profiler.INFO_UPDATE);
                     Info.update();
+                    if (Profiler.ENABLED)
+                        Profiler.stop(Profiler.INFO_UPDATE);
                     // if (turnCount > 2 && Comms.shortId ==1) {
                     // System.out.println(turnCount);
                     // }
@@ -449,8 +477,7 @@ public strictfp class RobotPlayer {
 
                     // Enemy Counting, finding number of hostiles, number of hostiles in range, and
                     // the nearby hostile with the lowest HP
-                    RobotInfo[] enemies = rc.senseNearbyRobots(rc.getLocation(), GameConstants.VISION_RADIUS_SQUARED,
-                            rc.getTeam().opponent());
+                    RobotInfo[] enemies = EnemyTracker.update();
                     int numHostiles = 0;
                     int numHostilesIR = 0;
                     MapLocation lowestCurrHostile = null;
@@ -496,13 +523,17 @@ public strictfp class RobotPlayer {
                     int lowestDistToDividerWithOpenNeighbor = Integer.MAX_VALUE;
                     int lowestDistToDam = Integer.MAX_VALUE;
 
+                    if (Profiler.ENABLED)
+                        Profiler.start(Profiler.MAP_SCAN);
                     MapInfo[] nearbyMap = rc.senseNearbyMapInfos();
+                    MapMemory.record(nearbyMap);
+                    Symmetry.update();
                     int bytecodesLeft = Clock.getBytecodesLeft();
 
                     for (int i = nearbyMap.length - 1; i >= 0; i--) {
                         MapInfo singleMap = nearbyMap[i];
                         int distToSingleMap = rc.getLocation().distanceSquaredTo(singleMap.getMapLocation());
-                        if (diggable == null && BUILDERSPECIALIST && bytecodesLeft - Clock.getBytecodesLeft() < 2000
+                        if (diggable == null && BUILDERSPECIALIST && bytecodesLeft - Clock.getBytecodesLeft() < Budget.diggableScanBc()
                                 && rc.getExperience(SkillType.BUILD) < 30
                                 && numHostiles == 0
                                 && distToSingleMap <= 11
@@ -541,6 +572,8 @@ public strictfp class RobotPlayer {
                             }
                         }
                     }
+                    if (Profiler.ENABLED)
+                        Profiler.stop(Profiler.MAP_SCAN);
                     rememberThisTurnClosestStunTrap = nearestStunTrap;
 
                     // ENEMY STUNLOCK TRACKING
@@ -549,15 +582,16 @@ public strictfp class RobotPlayer {
                     while (head != null && head.second <= rc.getRoundNum()) {
                         stunnedEnemiesQ.poll();
                         int dec = stunnedEnemiesSet.getVal(head.first) - 1;
-                        stunnedEnemiesSet.remove(head.first);
                         if (dec > 0) {
-                            stunnedEnemiesSet.add(head.first, dec);
+                            stunnedEnemiesSet.put(head.first, dec);
+                        } else {
+                            stunnedEnemiesSet.remove(head.first);
                         }
                         head = stunnedEnemiesQ.peek();
                     }
                     // find all stun traps this turn
                     int currRoundStunIndex = 0;
-                    IterableLocSet currRoundStunsSet = new IterableLocSet();
+                    currRoundStunsSet.clear();
                     for (int i = nearbyMap.length; --i >= 0;) {
                         MapInfo mapInfo = nearbyMap[i];
                         if (mapInfo.getTrapType() == TrapType.STUN) {
@@ -576,13 +610,9 @@ public strictfp class RobotPlayer {
                                     int id = enemy.getID();
                                     int stunnedRounds = Comms.shortId <= 24 ? 2 : 3;
                                     stunnedEnemiesQ.add(new Pair<>(id, rc.getRoundNum() + stunnedRounds));
-                                    if (stunnedEnemiesSet.contains(id)) {
-                                        int inc = stunnedEnemiesSet.getVal(id) + 1;
-                                        stunnedEnemiesSet.remove(id);
-                                        stunnedEnemiesSet.add(id, inc);
-                                    } else {
-                                        stunnedEnemiesSet.add(id, 1);
-                                    }
+                                    // getVal is -1 when missing
+                                    int stunCount = stunnedEnemiesSet.getVal(id);
+                                    stunnedEnemiesSet.put(id, stunCount < 0 ? 1 : stunCount + 1);
                                 }
                             }
                         }
@@ -646,6 +676,15 @@ public strictfp class RobotPlayer {
                         }
                     }
 
+                    // no broadcast either (setup), but if we know the symmetry we know where
+                    // they started. broadcasts go first, flags get moved off their spawns
+                    MapLocation[] predictedFlags = Symmetry.enemySpawnCenters();
+                    if (targetFlag == null && predictedFlags != null && broadCastLocs.length == 0
+                            && !Comms.anyEnemyFlagSeen()) {
+                        targetFlag = attackSquadOne ? predictedFlags[0]
+                                : attackSquadTwo ? predictedFlags[1] : predictedFlags[2];
+                    }
+
                     // disincentivize combat before this turn to allow for more useful activities
                     // during setup
                     int turnsTillAllowingCombat = 150;
@@ -704,6 +743,22 @@ public strictfp class RobotPlayer {
                         }
                     }
 
+                    // whatever task we hold on the board beats our shortId band. flag carriers,
+                    // sentries on shift and ducks heading back for their shift keep their jobs
+                    MapLocation taskTgt = null;
+                    if (rc.getRoundNum() > 2) {
+                        if (rc.hasFlag() || SENTRY && !retireSentry || shouldRespawn || shouldGoProtectSpawn) {
+                            TaskBoard.release();
+                        } else {
+                            taskTgt = TaskBoard.bid();
+                        }
+                    }
+                    int taskType = taskTgt == null ? TaskBoard.NONE : TaskBoard.type(TaskBoard.heldKey);
+                    if (taskType == TaskBoard.TRAIN) {
+                        BUILDERSPECIALIST = true;
+                    }
+                    MapLocation defendTgt = closestDisplacedFlag;
+
                     // Friendly Counting, finding number of friendlies, number of friends in range,
                     // and nearby friend with lowest HP
                     RobotInfo[] friendlies = rc.senseNearbyRobots(rc.getLocation(), GameConstants.VISION_RADIUS_SQUARED,
@@ -736,11 +791,13 @@ public strictfp class RobotPlayer {
                     }
 
                     // nearby crumbs - find nearest high value crumb not on water
-                    // TODO account for case where crumbs are surrounded completely by water
                     MapLocation[] nearbyCrumbs = rc.senseNearbyCrumbs(GameConstants.VISION_RADIUS_SQUARED);
                     int largestCrumb = Integer.MIN_VALUE;
                     int distToLargestCrumb = Integer.MAX_VALUE;
                     MapLocation bigCloseCrumb = null;
+                    // every crumb worth largestCrumb, the walk decides between them below
+                    MapLocation[] largestCrumbs = new MapLocation[nearbyCrumbs.length];
+                    int numLargestCrumbs = 0;
                     for (int i = nearbyCrumbs.length - 1; i >= 0; i--) {
                         int crumbVal = rc.senseMapInfo(nearbyCrumbs[i]).getCrumbs();
                         int distCrumb = Math.max(Math.abs(rc.getLocation().x - nearbyCrumbs[i].x),
@@ -749,7 +806,10 @@ public strictfp class RobotPlayer {
                             largestCrumb = crumbVal;
                             distToLargestCrumb = distCrumb;
                             bigCloseCrumb = nearbyCrumbs[i];
+                            numLargestCrumbs = 0;
+                            largestCrumbs[numLargestCrumbs++] = nearbyCrumbs[i];
                         } else if (crumbVal == largestCrumb) {
+                            largestCrumbs[numLargestCrumbs++] = nearbyCrumbs[i];
                             if (distCrumb < distToLargestCrumb) {
                                 largestCrumb = crumbVal;
                                 distToLargestCrumb = distCrumb;
@@ -757,6 +817,20 @@ public strictfp class RobotPlayer {
                             }
                         }
                     }
+                    // closest by walking instead of by straight line, crumbs behind walls
+                    // or across water lose to ones we can walk straight to. keeps the
+                    // straight line pick if the flood can't reach any of them. pathfind
+                    // to the crumb reuses the same flood
+                    if (numLargestCrumbs > 0 && rc.isMovementReady()) {
+                        if (Profiler.ENABLED)
+                            Profiler.start(Profiler.BFS);
+                        MapLocation walkCrumb = Bfs.nearest(largestCrumbs, numLargestCrumbs);
+                        if (Profiler.ENABLED)
+                            Profiler.stop(Profiler.BFS);
+                        if (walkCrumb != null) {
+                            bigCloseCrumb = walkCrumb;
+                        }
+                    }
 
                     // condition for when attackers can actually heal
                     // condition is if you're an attack specialist, the number of friendlies -
@@ -805,9 +879,17 @@ public strictfp class RobotPlayer {
                     if (rc.hasFlag() && turnCount > GameConstants.SETUP_ROUNDS) {
                         role = RETURNING;
                         rc.setIndicatorString("Returning");
-                    } else if (false && escortTgt != null) {
-                        role = ESCORT;
-                        rc.setIndicatorString("Escort " + targetFlag.toString());
+                    } else if (taskTgt != null && taskType != TaskBoard.TRAIN && (enemies.length == 0
+                            || rc.getLocation().distanceSquaredTo(taskTgt) > GameConstants.VISION_RADIUS_SQUARED)) {
+                        // on the way to our task, once there any fight is left to the combat roles
+                        if (taskType == TaskBoard.ESCORT) {
+                            role = ESCORT;
+                            escortTgt = taskTgt;
+                        } else {
+                            role = DEFENDING;
+                            defendTgt = taskTgt;
+                        }
+                        rc.setIndicatorString("Task " + taskType + ": " + taskTgt.toString());
                     } else if (!shouldGoProtectSpawn && (BUILDERSPECIALIST || rc.getLevel(SkillType.BUILD) > 3
                             || rc.getCrumbs() > crumbsWhenAllCanBuild)
                             && rc.getCrumbs() > 200
@@ -853,7 +935,11 @@ public strictfp class RobotPlayer {
                         role = SCOUTING;
                         rc.setIndicatorString("Scouting");
                     }
+                    if (role != SCOUTING && rc.getRoundNum() > 2)
+                        Explorer.release();
 
+                    if (Profiler.ENABLED)
+                        Profiler.start(Profiler.ROLE);
                     if (role == SCOUTING) {
                         Direction optimalDir = null;
 
@@ -932,6 +1018,16 @@ public strictfp class RobotPlayer {
                             }
                         }
 
+                        // then the choke the planner picked on the way in to our flag
+                        if (optimalDir == null && BUILDERSPECIALIST && homeFlagIndex >= 0 && turnCount > 100
+                                && rc.getCrumbs() >= 100) {
+                            MapLocation planned = CommsLayout.getTrapPlan(homeFlagIndex);
+                            if (planned != null && !TrapPlanner.buildPlanned() && rc.isMovementReady()) {
+                                optimalDir = Pathfinder.pathfind(rc.getLocation(), planned);
+                                rc.setIndicatorString("Scouting: Trapping choke: " + planned.toString());
+                            }
+                        }
+
                         // Otherwise, if optimalDir is null after these builder specific conditions,
                         // pursue nearby crumbs
                         // If there are no nearby crumbs, go to either a random location, or if it is
@@ -941,22 +1037,34 @@ public strictfp class RobotPlayer {
                                 tgtLocation = bigCloseCrumb;
                                 turnsNotReachedTgt = 0;
                                 lastTurnPursingCrumb = true;
+                                Explorer.release();
                             } else if (turnCount > turnsTillAllowingCombat && targetFlag != null
                                     && !rc.canSenseLocation(targetFlag)) {
                                 tgtLocation = targetFlag;
                                 turnsNotReachedTgt = 0;
+                                Explorer.release();
                             } else if (tgtLocation == null || rc.getLocation().equals(tgtLocation) ||
                                     (rc.canSenseLocation(tgtLocation) && (!rc.sensePassability(tgtLocation)
                                             || (rc.senseRobotAtLocation(tgtLocation) != null
                                                     && rc.senseRobotAtLocation(tgtLocation).getTeam()
                                                             .equals(rc.getTeam()))))
-                                    || turnsNotReachedTgt > 50 || lastTurnPursingCrumb) {
-                                tgtLocation = generateRandomMapLocation(3, rc.getMapWidth() - 3,
-                                        3, rc.getMapHeight() - 3);
+                                    || turnsNotReachedTgt > 50 || lastTurnPursingCrumb || Explorer.shouldClaim()) {
+                                // nearest sector nobody has seen or is heading to, random once
+                                // the whole map is covered
+                                if (turnsNotReachedTgt > 50)
+                                    Explorer.giveUp();
+                                tgtLocation = rc.getRoundNum() > 2 ? Explorer.claimNearest() : null;
+                                if (tgtLocation == null) {
+                                    tgtLocation = generateRandomMapLocation(3, rc.getMapWidth() - 3,
+                                            3, rc.getMapHeight() - 3);
+                                }
                                 turnsNotReachedTgt = 0;
                                 lastTurnPursingCrumb = false;
                             }
-                            optimalDir = Pathfinder.pathfind(rc.getLocation(), tgtLocation);
+                            // once we are clearing water anyway let bfs plan straight through it
+                            optimalDir = lastTurnPursingCrumb || turnCount > 150
+                                    ? Pathfinder.pathfindThroughWater(rc.getLocation(), tgtLocation)
+                                    : Pathfinder.pathfind(rc.getLocation(), tgtLocation);
                             if (tgtLocation != null) {
                                 rc.setIndicatorString("Scouting: Tgt: " + tgtLocation.toString());
                             }
@@ -970,7 +1078,9 @@ public strictfp class RobotPlayer {
                         if (BUILDERSPECIALIST && rc.getExperience(SkillType.BUILD) < 30) {
                             trainToSixByDigging(rc);
                         }
-                        if (lastTurnPursingCrumb || turnCount > 150) {
+                        if (Pathfinder.fillFirst) {
+                            Pathfinder.fillAhead(optimalDir);
+                        } else if (lastTurnPursingCrumb || turnCount > 150) {
                             clearTheWay(rc);
                         }
                         healMove(rc, optimalDir, lowestCurrFriendly, lowestCurrFriendlyHealth, attackerCanHeal);
@@ -1032,10 +1142,12 @@ public strictfp class RobotPlayer {
                         if (shouldProtectAtAllCosts && rc.isMovementReady()) {
                             optimalDir = Pathfinder.pathfind(rc.getLocation(), closestDisplacedFlag);
                         } else if (rc.isMovementReady()) {
-                            float averageDistSqFromEnemies = averageDistanceSquaredFrom(enemies, rc.getLocation());
+                            if (Profiler.ENABLED)
+                                Profiler.start(Profiler.COMBAT);
                             optimalDir = findOptimalCombatDir(rc, enemies, lowestCurrHostile, closestHostile,
-                                    lowestCurrFriendlySeen, averageDistSqFromEnemies,
-                                    numHostiles, numFriendlies, attackerCanHeal);
+                                    lowestCurrFriendlySeen, numHostiles, numFriendlies, attackerCanHeal);
+                            if (Profiler.ENABLED)
+                                Profiler.stop(Profiler.COMBAT);
                         }
                         if (optimalDir != null) {
                             if (!SENTRY || retireSentry || (SENTRY && !retireSentry && rc.getLocation().add(optimalDir)
@@ -1056,13 +1168,19 @@ public strictfp class RobotPlayer {
                             attackMove(rc, optimalDir, lowestCurrHostile, lowestCurrHostileHealth);
                         }
                     } else if (role == BUILDING) {
-                        // System.out.println("1, " + Clock.getBytecodesLeft());
                         Direction optimalDir = null;
+                        // planned chokes first, then wherever the fight is
+                        if (rc.isActionReady()) {
+                            TrapPlanner.buildPlanned();
+                        }
                         // see if the closest hostile is reachable
                         boolean closestHostileReachable = true;
                         if (closestHostile != null) {
-                            Bfs.getBestDir(closestHostile);
+                            if (Profiler.ENABLED)
+                                Profiler.start(Profiler.BFS);
                             closestHostileReachable = Bfs.isReachable(closestHostile);
+                            if (Profiler.ENABLED)
+                                Profiler.stop(Profiler.BFS);
                         }
                         if (closestHostileReachable && rc.isActionReady()) {
                             // dummy mapLocation. Build whlie cooldown + buildCD< 10 and build != null.
@@ -1093,14 +1211,14 @@ public strictfp class RobotPlayer {
                                 }
                             }
                         }
-                        // System.out.println("2. " + Clock.getBytecodesLeft());
                         // Calculate the average distance from all enemies.
                         if (rc.isMovementReady()) {
-                            float averageDistSqFromEnemies = averageDistanceSquaredFrom(enemies, rc.getLocation());
+                            if (Profiler.ENABLED)
+                                Profiler.start(Profiler.COMBAT);
                             optimalDir = findOptimalCombatDir(rc, enemies, lowestCurrHostile, closestHostile,
-                                    lowestCurrFriendlySeen, averageDistSqFromEnemies,
-                                    numHostiles, numFriendlies, attackerCanHeal);
-                            // System.out.println("3. " + Clock.getBytecodesLeft());
+                                    lowestCurrFriendlySeen, numHostiles, numFriendlies, attackerCanHeal);
+                            if (Profiler.ENABLED)
+                                Profiler.stop(Profiler.COMBAT);
                         }
                         attackMove(rc, optimalDir, lowestCurrHostile, lowestCurrHostileHealth);
                         if (closestHostileReachable && rc.isActionReady()) {
@@ -1230,10 +1348,10 @@ public strictfp class RobotPlayer {
                         }
                     } else if (role == DEFENDING) {
 
-                        Direction dir = Pathfinder.pathfind(rc.getLocation(), closestDisplacedFlag);
+                        Direction dir = Pathfinder.pathfind(rc.getLocation(), defendTgt);
                         healMove(rc, dir, lowestCurrFriendly, lowestCurrFriendlyHealth, attackerCanHeal);
 
-                        rc.setIndicatorString("Defending" + closestDisplacedFlag.toString());
+                        rc.setIndicatorString("Defending" + defendTgt.toString());
                     } else if (role == HEALING) {
 
                         // if you're a sentry, you cannot leave sight of the flag, so you are confined
@@ -1245,6 +1363,8 @@ public strictfp class RobotPlayer {
                         }
 
                     } else if (role == SENTRYING) {
+                        if (Profiler.ENABLED)
+                            Profiler.start(Profiler.SENTRY);
                         Direction optimalDir = null;
                         if (turnCount < 100 || !safeToDrop) {
                             if (rc.canPickupFlag(homeFlag) && !rc.hasFlag()) {
@@ -1253,7 +1373,7 @@ public strictfp class RobotPlayer {
                             } else if (rc.hasFlag()) {
                                 float furthestAway = Integer.MIN_VALUE;
                                 MapLocation bestRelocate = null;
-                                MapInfo[] checkLocs = rc.senseNearbyMapInfos(11);
+                                MapInfo[] checkLocs = rc.senseNearbyMapInfos(Budget.sentryRelocateRadius());
                                 for (int i = checkLocs.length-1; i>-0; i--) {
                                     MapLocation tempLoc = checkLocs[i].getMapLocation();
                                     if (rc.canSenseLocation(tempLoc) && rc.sensePassability(tempLoc)) {
@@ -1331,6 +1451,8 @@ public strictfp class RobotPlayer {
                         if (optimalDir != null && rc.canMove(optimalDir)) {
                             rc.move(optimalDir);
                         }
+                        if (Profiler.ENABLED)
+                            Profiler.stop(Profiler.SENTRY);
 
                     } else if (role == RESPAWN) {
                         // respawn by going to the nearest hostile or if that is null, the nearest
@@ -1354,7 +1476,10 @@ public strictfp class RobotPlayer {
                         }
                     } else if (role == CRUMBS) {
 
-                        Direction pathToCrumb = Pathfinder.pathfind(rc.getLocation(), bigCloseCrumb);
+                        Direction pathToCrumb = Pathfinder.pathfindThroughWater(rc.getLocation(), bigCloseCrumb);
+                        if (Pathfinder.fillFirst && enemies.length == 0) {
+                            Pathfinder.fillAhead(pathToCrumb);
+                        }
                         if (enemies.length != 0) {
                             attackMove(rc, pathToCrumb, lowestCurrHostile, lowestCurrHostileHealth);
                         } else if (nearestWater != null) {
@@ -1388,7 +1513,9 @@ public strictfp class RobotPlayer {
                         if (rc.getLocation().distanceSquaredTo(escortTgt) > 10) {
                             optimalDir = Pathfinder.pathfind(rc.getLocation(), escortTgt);
                         } else {
-                            optimalDir = Pathfinder.pathfind(rc.getLocation(), escortTgt).opposite();
+                            // give the carrier room
+                            optimalDir = Pathfinder.pathfind(rc.getLocation(), escortTgt);
+                            optimalDir = optimalDir == null ? null : optimalDir.opposite();
                         }
                         if (closestHostile != null) {
                             attackMove(rc, optimalDir, lowestCurrHostile, lowestCurrHostileHealth);
@@ -1420,6 +1547,10 @@ public strictfp class RobotPlayer {
                     if (turnCount > 1900 && rc.getExperience(SkillType.BUILD) < 15) {
                         trainToSixByDigging(rc);
                     }
+                    // the board asked for a builder and we took it
+                    if (taskType == TaskBoard.TRAIN && numHostiles == 0) {
+                        trainToSixByDigging(rc);
+                    }
 
                     // Sentry comm updates to information about home flags.
                     if (SENTRY && turnCount > GameConstants.SETUP_ROUNDS) {
@@ -1473,6 +1604,9 @@ public strictfp class RobotPlayer {
                     // // organize it!
                     // updateEnemyRobots(rc);
 
+                    if (Profiler.ENABLED)
+                        Profiler.stop(Profiler.ROLE);
+
                     // if alive update waypoint list as needed
                     if (role != RETURNING && turnsAlive % 5 == 0 && rc.getRoundNum() > 200) {
                         MapLocation prevWP = prevWaypoints[prevWaypointIndex];
@@ -1496,7 +1630,22 @@ public strictfp class RobotPlayer {
                     }
                     prevRoundStunLen = endRoundStunIndex;
                 }
+                if (Profiler.ENABLED)
+                    Profiler.start(Profiler.COMMS_UPDATE);
                 Comms.update();
+                if (Profiler.ENABLED)
+                    Profiler.stop(Profiler.COMMS_UPDATE);
+                // builders keep the trap plan for their home current
+                if (BUILDERSPECIALIST && homeFlag != null && rc.getRoundNum() > 2) {
+                    TrapPlanner.plan(homeFlagIndex, homeFlag);
+                }
+                Budget.workDone();
+                // leftover bytecode goes into the whole map distance fields
+                if (Profiler.ENABLED)
+                    Profiler.start(Profiler.FIELDS);
+                GlobalPathfinder.think();
+                if (Profiler.ENABLED)
+                    Profiler.stop(Profiler.FIELDS);
 
             }
             // catch (GameActionException e) {
@@ -1520,6 +1669,9 @@ public strictfp class RobotPlayer {
                 // Signify we've done everything we want to do, thereby ending our turn.
                 // This will make our code wait until the next turn, and then perform this loop
                 // again.
+                if (Profiler.ENABLED)
+                    Profiler.endTurn(rc.isSpawned() ? role : Profiler.JAILED);
+                Budget.endTurn(rc.isSpawned() ? role : Profiler.JAILED);
                 Clock.yield();
             }
             // End of loop: go back to the top. Clock.yield() has ended, so it's time for
@@ -1767,8 +1919,17 @@ public strictfp class RobotPlayer {
         // Calculate what would be the lowest health of a hostile after a movement.
         MapLocation aflowestCurrHostile = null;
         int aflowestCurrHostileHealth = Integer.MAX_VALUE;
-
-        if (optimalDir != null) {
+        int actionCd = rc.getActionCooldownTurns();
+
+        if (optimalDir != null && Micro.isFresh()) {
+            // combat micro already knows who is in range of each move (unless we killed
+            // it since)
+            int weakest = Micro.weakest[optimalDir.ordinal()];
+            if (weakest >= 0 && rc.canSenseRobotAtLocation(Micro.locs[weakest])) {
+                aflowestCurrHostileHealth = Micro.health[weakest];
+                aflowestCurrHostile = Micro.locs[weakest];
+            }
+        } else if (optimalDir != null) {
             RobotInfo[] afhostiles = rc.senseNearbyRobots(rc.getLocation().add(optimalDir),
                     GameConstants.ATTACK_RADIUS_SQUARED, rc.getTeam().opponent());
 
@@ -1842,6 +2003,9 @@ public strictfp class RobotPlayer {
                 }
             }
         }
+        // we hit someone, the enemies sensed this turn have the wrong health or are dead
+        if (rc.getActionCooldownTurns() != actionCd)
+            EnemyTracker.invalidate();
     }
 
     public static void healMove(RobotController rc, Direction optimalDir, MapLocation lowestCurrFriend,
@@ -1953,8 +2117,8 @@ public strictfp class RobotPlayer {
     }
 
     public static Direction findOptimalCombatDir(RobotController rc, RobotInfo[] enemies, MapLocation lowestCurrHostile,
-            MapLocation closestHostile, MapLocation lowestCurrFriendlySeen, float averageDistFromEnemies,
-            int numHostiles, int numFriendlies, boolean attackerCanHeal) throws GameActionException {
+            MapLocation closestHostile, MapLocation lowestCurrFriendlySeen, int numHostiles, int numFriendlies,
+            boolean attackerCanHeal) throws GameActionException {
         // Calculate the best retreating direction and best attackign direction
         // Simulate moving to any of the four cardinal directions. Calculate the average
         // distance from all enemies.
@@ -1966,12 +2130,18 @@ public strictfp class RobotPlayer {
         // equal to the attack radius squared.
         Direction optimalDir = null;
         if (rc.isMovementReady()) {
+            // average distances compare the same as the per move sums, we only ever
+            // look at one set of enemies
+            Micro.update(enemies, stunnedEnemiesSet);
+            int[] distSum = Micro.distSum;
             Direction bestRetreat = null;
             Direction bestAttack = null;
             Direction bestHeal = null;
-            float bestRetreatDist = averageDistFromEnemies;
-            float bestAttackDist = Integer.MAX_VALUE;
-            float bestHealDist = averageDistFromEnemies;
+            int bestRetreatDist = distSum[Micro.STAY];
+            int bestAttackDist = Integer.MAX_VALUE;
+            int bestHealDist = distSum[Micro.STAY];
+            // average > 3
+            int minAttackDist = 3 * Micro.n;
             int distToFriend = Integer.MAX_VALUE;
 
             if (lowestCurrFriendlySeen != null) {
@@ -1980,32 +2150,25 @@ public strictfp class RobotPlayer {
 
             Direction[] validCombatDirs = directions;
             for (int i = validCombatDirs.length - 1; i >= 0; i--) {
-                MapLocation tempLoc = rc.getLocation().add(validCombatDirs[i]);
-
-                if (rc.canSenseLocation(tempLoc) && rc.sensePassability(tempLoc)
-                        && !rc.canSenseRobotAtLocation(tempLoc)) {
-                    float averageDist = (float) averageDistanceSquaredFrom(enemies, tempLoc);
-                    if (averageDist > 3 && averageDist < bestAttackDist) {
+                Direction dir = validCombatDirs[i];
+                // movement is ready so this is the old passable and unoccupied check
+                if (rc.canMove(dir)) {
+                    int averageDist = distSum[dir.ordinal()];
+                    if (averageDist > minAttackDist && averageDist < bestAttackDist) {
                         bestAttackDist = averageDist;
-                        bestAttack = validCombatDirs[i];
+                        bestAttack = dir;
                     }
 
                     if (averageDist > bestRetreatDist) {
                         bestRetreatDist = averageDist;
-                        bestRetreat = validCombatDirs[i];
+                        bestRetreat = dir;
                     }
 
-                    if (lowestCurrFriendlySeen != null
-                            && tempLoc.distanceSquaredTo(lowestCurrFriendlySeen) < distToFriend) {
-                        distToFriend = tempLoc.distanceSquaredTo(lowestCurrFriendlySeen);
-                        bestHeal = validCombatDirs[i];
-                        bestHealDist = averageDist;
-
-                    } else if (lowestCurrFriendlySeen != null
-                            && tempLoc.distanceSquaredTo(lowestCurrFriendlySeen) == distToFriend) {
-                        if (bestHealDist < averageDist) {
-                            distToFriend = tempLoc.distanceSquaredTo(lowestCurrFriendlySeen);
-                            bestHeal = validCombatDirs[i];
+                    if (lowestCurrFriendlySeen != null) {
+                        int friendDist = rc.getLocation().add(dir).distanceSquaredTo(lowestCurrFriendlySeen);
+                        if (friendDist < distToFriend || friendDist == distToFriend && bestHealDist < averageDist) {
+                            distToFriend = friendDist;
+                            bestHeal = dir;
                             bestHealDist = averageDist;
                         }
                     }
@@ -2019,32 +2182,10 @@ public strictfp class RobotPlayer {
             // than 1,
             // go to best retreat dir. Otherwise, go to the best Attack dir.
 
-            // count damage you can take next round if you move bestAttack
-            MapLocation advanceLoc = bestAttack == null ? rc.getLocation()
-                    : rc.getLocation().add(bestAttack);
-            int dmg = 0;
-            int dmgIfHeal = 0;
-            // int stunnedHostilesInVision = 0;
-            for (int i = enemies.length; --i >= 0;) {
-                RobotInfo enemy = enemies[i];
-                // 10 r^2 is max dist where enemy is 1 move from attack range
-                // if enemy is not in stunned cache
-                // if (!Comms.stunnedEnemiesContains(enemy.getLocation())) {
-                if (enemy.getLocation().distanceSquaredTo(advanceLoc) <= 10
-                        && !stunnedEnemiesSet.contains(enemy.getID())) {
-                    dmg += SkillType.ATTACK.skillEffect
-                            + SkillType.ATTACK.getSkillEffect(enemy.getAttackLevel());
-                }
-                if (bestHeal != null) {
-                    if (enemy.getLocation().distanceSquaredTo(rc.getLocation().add(bestHeal)) <= 10) {
-                        dmgIfHeal += SkillType.ATTACK.skillEffect
-                                + SkillType.ATTACK.getSkillEffect(enemy.getAttackLevel());
-                    }
-                }
-                // } else {
-                // stunnedHostilesInVision++;
-                // }
-            }
+            // count damage you can take next round if you move bestAttack (enemies within
+            // 10 r^2, 1 move from attack range, that aren't stunned)
+            int dmg = Micro.dmgIn[bestAttack == null ? Micro.STAY : bestAttack.ordinal()];
+            int dmgIfHeal = bestHeal == null ? 0 : Micro.dmgIn[bestHeal.ordinal()];
             // if there's a nearby hostile to shoot, always kite, othewise if you have to go
             // in, make sure that you have a clear numbers advantage.
             // best attack should either be the direction that puts you into range of one
@@ -2461,11 +2602,14 @@ public strictfp class RobotPlayer {
             int fTravelDistHome = Pathfinder.trueTravelDistance(relay, Info.closestSpawn);
             int fTravelDistMe = Pathfinder.trueTravelDistance(relay, rc.getLocation());
 
-            if (fTravelDistMe == 2 && fTravelDistHome < myTravelDistHome &&
-                    Pathfinder.trueTravelDistance(
-                            Pathfinder.passableDirectionTowards(rc.getLocation().directionTo(relay)), relay) < 2) {
+            // walking 2 means one step puts us next to them (their own tile counts as the
+            // second step), fall back to the old guess if the flood didn't cover them
+            int walkDistMe = fTravelDistMe == 2 ? Bfs.distanceTo(relay) : -1;
+            if (fTravelDistMe == 2 && fTravelDistHome < myTravelDistHome && (walkDistMe == 2 || walkDistMe == -1
+                    && Pathfinder.trueTravelDistance(
+                            Pathfinder.passableDirectionTowards(rc.getLocation().directionTo(relay)), relay) < 2)) {
 
-                // TODO: replace with BFSdist and take into account cooldowns and turn order
+                // TODO: take into account cooldowns and turn order
                 return relay;
             } else if (fTravelDistMe == 1 && fTravelDistHome < myTravelDistHome) {
                 cacheDist1 = relay;
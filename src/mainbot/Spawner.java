@@ -0,0 +1,159 @@
+package mainbot;
+
+import battlecode.common.*;
+
+/**
+ * Picks the spawn tile for a jailed duck. Spawn tiles are grouped into their
+ * zones once at setup. For a target we ask the home field (which floods from
+ * every spawn tile and labels each tile with its closest source) which zone
+ * really has the shortest walk, so a zone behind a wall doesn't win just for
+ * being close as the crow flies. Only that zone's tiles get tried, the other
+ * zones are the fallback when it's full.
+ */
+public class Spawner {
+    public static RobotController rc;
+
+    // a spawn zone is 3x3, so two tiles further apart than this are in different zones
+    static final int ZONE_SPREAD = 2;
+    // re-ask the home field this often for the same target, it gets rebuilt as we see more
+    static final int REFRESH_ROUNDS = 10;
+
+    public static int numZones = 0;
+    // tiles per zone
+    public static MapLocation[][] zones;
+    static int[] zoneSize;
+    // zone of Info.spawnLocs[i], same indices as the home field sources
+    static int[] zoneOf;
+    static MapLocation[] zoneCenter;
+
+    // last target and the zone with the shortest walk to it
+    static MapLocation lastTarget;
+    static int lastZone = -1;
+    static int lastRound = -REFRESH_ROUNDS;
+
+    public static void initialize(RobotController rc) {
+        Spawner.rc = rc;
+        MapLocation[] spawns = Info.spawnLocs;
+        int n = spawns.length;
+        zones = new MapLocation[n][];
+        zoneSize = new int[n];
+        zoneOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            MapLocation s = spawns[i];
+            int z = numZones;
+            while (--z >= 0) {
+                MapLocation first = zones[z][0];
+                if (Math.abs(first.x - s.x) <= ZONE_SPREAD && Math.abs(first.y - s.y) <= ZONE_SPREAD)
+                    break;
+            }
+            if (z < 0) {
+                z = numZones++;
+                zones[z] = new MapLocation[n];
+            }
+            zones[z][zoneSize[z]++] = s;
+            zoneOf[i] = z;
+        }
+        zoneCenter = new MapLocation[numZones];
+        for (int z = numZones; --z >= 0;) {
+            int sx = 0;
+            int sy = 0;
+            for (int i = zoneSize[z]; --i >= 0;) {
+                sx += zones[z][i].x;
+                sy += zones[z][i].y;
+            }
+            zoneCenter[z] = new MapLocation(sx / zoneSize[z], sy / zoneSize[z]);
+        }
+    }
+
+    // zone with the shortest walk to tgt off the home field, the closest center as the
+    // crow flies until the field is built or if it doesn't reach tgt
+    public static int closestZone(MapLocation tgt) {
+        int round = rc.getRoundNum();
+        if (tgt.equals(lastTarget) && round - lastRound < REFRESH_ROUNDS)
+            return lastZone;
+        int zone = -1;
+        DistanceField home = GlobalPathfinder.homeField;
+        int src = home == null ? -1 : home.sourceFrom(tgt);
+        if (src >= 0) {
+            zone = zoneOf[src];
+        } else {
+            int best = Integer.MAX_VALUE;
+            for (int z = numZones; --z >= 0;) {
+                int d = zoneCenter[z].distanceSquaredTo(tgt);
+                if (d < best) {
+                    best = d;
+                    zone = z;
+                }
+            }
+        }
+        lastTarget = tgt;
+        lastZone = zone;
+        lastRound = round;
+        return zone;
+    }
+
+    // spawns in the zone closest to tgt by walking, on its tile nearest tgt. other
+    // zones by distance if that one is full. returns whether we spawned
+    public static boolean spawnNear(MapLocation tgt) throws GameActionException {
+        int first = closestZone(tgt);
+        if (trySpawn(first, tgt))
+            return true;
+        // rest of the zones, nearest center first
+        int tried = 1 << first;
+        for (int k = numZones; --k > 0;) {
+            int next = -1;
+            int best = Integer.MAX_VALUE;
+            for (int z = numZones; --z >= 0;) {
+                if ((tried >> z & 1) != 0)
+                    continue;
+                int d = zoneCenter[z].distanceSquaredTo(tgt);
+                if (d < best) {
+                    best = d;
+                    next = z;
+                }
+            }
+            if (next < 0)
+                return false;
+            tried |= 1 << next;
+            if (trySpawn(next, tgt))
+                return true;
+        }
+        return false;
+    }
+
+    // no target: shortIds spread over the zones and over the tiles within them
+    public static boolean spawnSpread(int shortId) throws GameActionException {
+        for (int k = numZones; --k >= 0;) {
+            int z = (shortId + k) % numZones;
+            MapLocation[] tiles = zones[z];
+            int size = zoneSize[z];
+            int start = shortId / numZones;
+            for (int i = size; --i >= 0;) {
+                MapLocation loc = tiles[(start + i) % size];
+                if (rc.canSpawn(loc)) {
+                    rc.spawn(loc);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static boolean trySpawn(int zone, MapLocation tgt) throws GameActionException {
+        MapLocation[] tiles = zones[zone];
+        MapLocation best = null;
+        int bestDist = Integer.MAX_VALUE;
+        for (int i = zoneSize[zone]; --i >= 0;) {
+            MapLocation loc = tiles[i];
+            int d = loc.distanceSquaredTo(tgt);
+            if (d < bestDist && rc.canSpawn(loc)) {
+                bestDist = d;
+                best = loc;
+            }
+        }
+        if (best == null)
+            return false;
+        rc.spawn(best);
+        return true;
+    }
+}
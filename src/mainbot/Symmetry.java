@@ -0,0 +1,126 @@
+package mainbot;
+
+import battlecode.common.*;
+
+/**
+ * Works out which of the three symmetries the map has. Every tile we see for
+ * the first time is checked against its mirror under each symmetry still in the
+ * running (walls and spawn zones have to line up, ally spawns have to
+ * mirror onto enemy spawns), the ones that fail are shared in the SYMMETRY
+ * comms field. Once one is left we know where the enemy spawns are, and so
+ * where their flags start, without having seen them.
+ */
+public class Symmetry {
+    public static RobotController rc;
+
+    public static final int ROTATIONAL = 1;
+    // x flips, mirrored across the vertical center line
+    public static final int HORIZONTAL = 2;
+    // y flips
+    public static final int VERTICAL = 4;
+    static final int ALL = ROTATIONAL | HORIZONTAL | VERTICAL;
+
+    // tile bits that have to match on both sides. water gets dug and filled and dams
+    // drop at the end of setup, so one side may be remembered from before
+    static final int SHAPE = MapMemory.WALL;
+    // stop checking tiles below this much bytecode, we only lose a chance to rule one out
+    static final int MIN_BC = 2000;
+
+    // symmetries not ruled out yet
+    public static int possible = ALL;
+
+    // centers of our 3 spawn zones, where our flags start
+    static MapLocation[] spawnCenters;
+    static MapLocation[] enemyCenters;
+
+    public static void initialize(RobotController rc) {
+        Symmetry.rc = rc;
+        MapLocation[] spawns = Info.spawnLocs;
+        int w1 = rc.getMapWidth() - 1;
+        int h1 = rc.getMapHeight() - 1;
+        spawnCenters = new MapLocation[3];
+        int n = 0;
+        for (int i = spawns.length; --i >= 0 && n < 3;) {
+            MapLocation s = spawns[i];
+            // a zone is 3x3, its center is the tile with spawn on all 4 sides
+            if (s.x > 0 && s.y > 0 && s.x < w1 && s.y < h1 && Info.spawnLocsSet.contains(s.x - 1, s.y)
+                    && Info.spawnLocsSet.contains(s.x + 1, s.y) && Info.spawnLocsSet.contains(s.x, s.y - 1)
+                    && Info.spawnLocsSet.contains(s.x, s.y + 1)) {
+                spawnCenters[n++] = s;
+            }
+        }
+    }
+
+    // call right after MapMemory.record, checks what it just saw and syncs with comms
+    public static void update() throws GameActionException {
+        boolean shared = rc.getRoundNum() > 2;
+        if (shared)
+            possible &= ~CommsLayout.getSymmetry();
+        if (Integer.bitCount(possible) > 1)
+            check();
+        if (shared) {
+            int ruledOut = ALL & ~possible;
+            if ((ruledOut | CommsLayout.getSymmetry()) != CommsLayout.getSymmetry())
+                CommsLayout.setSymmetry(ruledOut);
+        }
+    }
+
+    static void check() {
+        int[] fresh = MapMemory.fresh;
+        int[] tiles = MapMemory.tiles;
+        int h = MapMemory.height;
+        int w1 = MapMemory.width - 1;
+        int h1 = h - 1;
+        for (int i = MapMemory.numFresh; --i >= 0 && Clock.getBytecodesLeft() > MIN_BC;) {
+            int idx = fresh[i];
+            int x = idx / h;
+            int y = idx % h;
+            int bits = tiles[idx];
+            if ((possible & ROTATIONAL) != 0 && !matches(bits, w1 - x, h1 - y))
+                possible &= ~ROTATIONAL;
+            if ((possible & HORIZONTAL) != 0 && !matches(bits, w1 - x, y))
+                possible &= ~HORIZONTAL;
+            if ((possible & VERTICAL) != 0 && !matches(bits, x, h1 - y))
+                possible &= ~VERTICAL;
+        }
+    }
+
+    // whether a tile with these bits can sit opposite (mx, my)
+    static boolean matches(int bits, int mx, int my) {
+        // we know every ally spawn from the start, even ones we haven't seen
+        if (Info.spawnLocsSet.contains(mx, my) != ((bits & MapMemory.ENEMY_SPAWN) != 0))
+            return false;
+        int other = MapMemory.tiles[mx * MapMemory.height + my];
+        if (other == 0)
+            return true;
+        return (bits & SHAPE) == (other & SHAPE)
+                && ((bits & MapMemory.ALLY_SPAWN) != 0) == ((other & MapMemory.ENEMY_SPAWN) != 0);
+    }
+
+    // the symmetry if only one is left, 0 while we can't tell
+    public static int known() {
+        return Integer.bitCount(possible) == 1 ? possible : 0;
+    }
+
+    public static MapLocation mirror(MapLocation loc, int symmetry) {
+        int x = symmetry == VERTICAL ? loc.x : rc.getMapWidth() - 1 - loc.x;
+        int y = symmetry == HORIZONTAL ? loc.y : rc.getMapHeight() - 1 - loc.y;
+        return new MapLocation(x, y);
+    }
+
+    // centers of the enemy spawn zones (where their flags start), null until the
+    // symmetry is known
+    public static MapLocation[] enemySpawnCenters() {
+        int symmetry = known();
+        if (symmetry == 0)
+            return null;
+        if (enemyCenters == null) {
+            enemyCenters = new MapLocation[3];
+            for (int i = 3; --i >= 0;) {
+                if (spawnCenters[i] != null)
+                    enemyCenters[i] = mirror(spawnCenters[i], symmetry);
+            }
+        }
+        return enemyCenters;
+    }
+}
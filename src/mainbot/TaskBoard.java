@@ -0,0 +1,189 @@
+package mainbot;
+
+import battlecode.common.*;
+
+/**
+ * Jobs the team needs someone on, posted in the TASK comms entries. shortId 0
+ * works out the demands from what is already in comms (displaced or threatened
+ * ally flags, carried enemy flags, no builder left) and everyone else only reads
+ * the board. A duck takes the entry it is cheapest for (distance, health,
+ * skill), can take it off a holder that is clearly more expensive, and renews
+ * a lease every turn it keeps it. A dead or reassigned holder stops renewing
+ * and the next bidder gets it.
+ */
+public class TaskBoard {
+    public static RobotController rc;
+
+    public static final int NONE = 0;
+    // arg is the ally flag index, go stand by it
+    public static final int DEFEND = 1;
+    // arg is the enemy flag index, walk next to whoever carries it home
+    public static final int ESCORT = 2;
+    // nobody has build 4+ anymore, dig until we do
+    public static final int TRAIN = 3;
+
+    static final int SIZE = CommsLayout.TASK_COUNT;
+    static final int MAX_COST = 7;
+    // lease stamps count in 4 round ticks mod 8, one nobody renewed for 2 ticks is free
+    static final int TICK_SHIFT = 2;
+    static final int LEASE_TICKS = 2;
+    // only take a task off a live holder if we are this much cheaper, otherwise two
+    // ducks trade it back and forth
+    static final int OUTBID_MARGIN = 2;
+
+    // board entry we hold, -1 if none, and the task it had when we got it
+    public static int held = -1;
+    public static int heldKey = 0;
+
+    static int[] want = new int[SIZE];
+
+    public static int type(int key) {
+        return key >> 2;
+    }
+
+    // shortId 0 every turn: what we need done, keeps entries that are still wanted
+    // where they are so their holders don't lose them
+    public static void post() throws GameActionException {
+        int n = 0;
+        MapLocation[] displaced = Comms.getDisplacedAllyFlags();
+        boolean[] carried = Comms.getCarriedEnemyFlags();
+        for (int i = 3; --i >= 0;) {
+            if (displaced[i] != null)
+                want[n++] = DEFEND << 2 | i;
+        }
+        for (int i = 3; --i >= 0 && n < SIZE;) {
+            if (carried[i])
+                want[n++] = ESCORT << 2 | i;
+        }
+        for (int i = 3; --i >= 0 && n < SIZE;) {
+            if (displaced[i] == null && CommsLayout.getClosestEnemyToFlag(i) != null)
+                want[n++] = DEFEND << 2 | i;
+        }
+        if (n < SIZE && rc.getRoundNum() > GameConstants.SETUP_ROUNDS && CommsLayout.getBuildSpecs() == 0)
+            want[n++] = TRAIN << 2;
+
+        // which wants are already up, and which entries can be reused
+        int kept = 0;
+        int free = 0;
+        for (int e = SIZE; --e >= 0;) {
+            int key = CommsLayout.getTask(e);
+            int w = n;
+            while (--w >= 0 && want[w] != key) {
+            }
+            if (key != 0 && w >= 0 && (kept >> w & 1) == 0) {
+                kept |= 1 << w;
+            } else {
+                free |= 1 << e;
+            }
+        }
+        for (int w = n; --w >= 0;) {
+            if ((kept >> w & 1) != 0)
+                continue;
+            int e = Integer.numberOfTrailingZeros(free);
+            free &= free - 1;
+            Comms.write(CommsLayout.TASK + e, want[w] << CommsLayout.TASK_SHIFT);
+        }
+        while (free != 0) {
+            int e = Integer.numberOfTrailingZeros(free);
+            free &= free - 1;
+            if (Comms.comms[CommsLayout.TASK + e] != 0)
+                Comms.write(CommsLayout.TASK + e, 0);
+        }
+    }
+
+    // where a task takes us, null if it doesn't make sense anymore
+    public static MapLocation target(int key) throws GameActionException {
+        int arg = key & 3;
+        switch (key >> 2) {
+            case DEFEND:
+                MapLocation current = Comms.getCurrentAllyFlagLocations()[arg];
+                return current != null ? current : Comms.getDefaultAllyFlagLocations()[arg];
+            case ESCORT:
+                return Comms.getCurrentEnemyFlagLocations()[arg];
+            case TRAIN:
+                return rc.getLocation();
+        }
+        return null;
+    }
+
+    // our bid for a task, lower is better
+    static int cost(int key, MapLocation tgt) throws GameActionException {
+        int c;
+        if (key >> 2 == TRAIN) {
+            c = 6 - rc.getLevel(SkillType.BUILD);
+        } else {
+            MapLocation me = rc.getLocation();
+            // walking distance off a global field if we have one, about 5 tiles a bucket
+            int dist = Pathfinder.bfsDist(me, tgt);
+            if (dist < 0)
+                dist = Math.max(Math.abs(me.x - tgt.x), Math.abs(me.y - tgt.y));
+            c = dist / 5;
+            if (rc.getHealth() < GameConstants.DEFAULT_HEALTH / 2)
+                c++;
+            if (rc.getLevel(SkillType.ATTACK) > 3)
+                c--;
+        }
+        return Math.max(0, Math.min(MAX_COST, c));
+    }
+
+    // renews our lease or bids for the best task we can get, returns where it takes us
+    // (null if we have none). held/heldKey say which
+    public static MapLocation bid() throws GameActionException {
+        int me = Comms.shortId + 1;
+        int tick = rc.getRoundNum() >> TICK_SHIFT & 7;
+        if (held >= 0) {
+            if (CommsLayout.getTask(held) == heldKey && CommsLayout.getTaskHolder(held) == me) {
+                MapLocation tgt = target(heldKey);
+                if (tgt != null) {
+                    if (CommsLayout.getTaskStamp(held) != tick)
+                        CommsLayout.setTaskStamp(held, tick);
+                    return tgt;
+                }
+                release();
+            }
+            // taken off us or taken down
+            held = -1;
+            heldKey = 0;
+        }
+
+        int best = -1;
+        int bestKey = 0;
+        int bestCost = MAX_COST + 1;
+        MapLocation bestTgt = null;
+        for (int e = SIZE; --e >= 0;) {
+            int key = CommsLayout.getTask(e);
+            if (key == 0)
+                continue;
+            MapLocation tgt = target(key);
+            if (tgt == null)
+                continue;
+            int c = cost(key, tgt);
+            if (c >= bestCost)
+                continue;
+            if (CommsLayout.getTaskHolder(e) != 0 && (tick - CommsLayout.getTaskStamp(e) & 7) < LEASE_TICKS
+                    && c + OUTBID_MARGIN > CommsLayout.getTaskCost(e))
+                continue;
+            best = e;
+            bestKey = key;
+            bestCost = c;
+            bestTgt = tgt;
+        }
+        if (best < 0)
+            return null;
+        Comms.write(CommsLayout.TASK + best, bestKey << CommsLayout.TASK_SHIFT
+                | me << CommsLayout.TASK_HOLDER_SHIFT | bestCost << CommsLayout.TASK_COST_SHIFT | tick);
+        held = best;
+        heldKey = bestKey;
+        return bestTgt;
+    }
+
+    // hand our task back, on death or when something more important comes up
+    public static void release() throws GameActionException {
+        if (held < 0)
+            return;
+        if (CommsLayout.getTask(held) == heldKey && CommsLayout.getTaskHolder(held) == Comms.shortId + 1)
+            Comms.write(CommsLayout.TASK + held, heldKey << CommsLayout.TASK_SHIFT);
+        held = -1;
+        heldKey = 0;
+    }
+}
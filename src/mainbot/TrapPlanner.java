@@ -0,0 +1,178 @@
+package mainbot;
+
+import battlecode.common.*;
+
+/**
+ * Works out where stun traps around our flags actually pay off. The builder
+ * of each home walks the way the enemy would come in (off the distance field
+ * to the flag, starting from their spawn if Symmetry knows it) and scores
+ * every tile along the last stretch by how boxed in it is, from walls and
+ * water on its 8 sides plus a bonus next to the dam. The best untrapped tile
+ * goes into TRAP_PLAN for that flag with its score in TRAP_SCORE. Builders
+ * with crumbs spend them there before trapping wherever they stand.
+ */
+public class TrapPlanner {
+    public static RobotController rc;
+
+    // re-plan this often, the field and our map memory keep improving
+    static final int PLAN_ROUNDS = 25;
+    // only look at tiles this many steps from the flag, closer the flag traps cover
+    static final int MIN_STEPS = 3;
+    static final int MAX_STEPS = 15;
+    // not worth a plan below this, open ground
+    static final int MIN_SCORE = 3;
+    static final int MAX_SCORE = 7;
+    static final int DAM_BONUS = 2;
+    // a cross map walk is ~75 bytecode a step plus the scoring, up to ~15k on a big map,
+    // so it gets spread over turns. start one with this much left, stop with STOP_BC
+    // left (covers a scored step and the rest of the turn) and carry on next turn
+    static final int PLAN_BC = 3000;
+    static final int STOP_BC = 1000;
+    static final int MAX_WALK = 200;
+
+    static int lastPlanRound = -PLAN_ROUNDS;
+
+    // walk in progress: where it got to (null if none), for which flag, and the best tile
+    // so far
+    static MapLocation walkLoc = null;
+    static int walkIdx = -1;
+    static int walked = 0;
+    static MapLocation best = null;
+    static int bestScore = MIN_SCORE;
+
+    // recomputes the plan for ally flag idx at flag if it's time and we have the bytecode,
+    // or carries on the walk we ran out of bytecode in last turn
+    public static void plan(int idx, MapLocation flag) throws GameActionException {
+        if (walkLoc == null || walkIdx != idx) {
+            int round = rc.getRoundNum();
+            if (round - lastPlanRound < PLAN_ROUNDS || Clock.getBytecodesLeft() < PLAN_BC)
+                return;
+            if (!GlobalPathfinder.request(flag).isReady())
+                return;
+            lastPlanRound = round;
+            walkLoc = origin(flag);
+            walkIdx = idx;
+            walked = 0;
+            best = null;
+            bestScore = MIN_SCORE;
+        }
+        DistanceField field = GlobalPathfinder.request(flag);
+        MapLocation loc = walkLoc;
+        int dist = field.distFrom(loc);
+        if (dist < 0) {
+            walkLoc = null;
+            return;
+        }
+        for (; dist > 0 && walked < MAX_WALK; walked++) {
+            if (Clock.getBytecodesLeft() < STOP_BC) {
+                walkLoc = loc;
+                return;
+            }
+            if (dist >= MIN_STEPS && dist <= MAX_STEPS && (MapMemory.get(loc) & MapMemory.TRAP_MASK) == 0) {
+                int score = score(loc);
+                // ties go to the tile nearer the flag, we get there later in the walk
+                if (score >= bestScore) {
+                    bestScore = score;
+                    best = loc;
+                }
+            }
+            loc = loc.add(field.dirFrom(loc));
+            dist = field.distFrom(loc);
+        }
+        walkLoc = null;
+        if (best == null) {
+            if (CommsLayout.getTrapPlan(idx) != null)
+                CommsLayout.setTrapPlan(idx, null);
+            return;
+        }
+        if (!best.equals(CommsLayout.getTrapPlan(idx)))
+            CommsLayout.setTrapPlan(idx, best);
+        if (CommsLayout.getTrapScore(idx) != bestScore)
+            CommsLayout.setTrapScore(idx, bestScore);
+    }
+
+    // where the enemy comes from: their spawn closest to the flag if we know the
+    // symmetry, else the closest broadcast, else the flag rotated through the center
+    static MapLocation origin(MapLocation flag) throws GameActionException {
+        MapLocation[] candidates = Symmetry.enemySpawnCenters();
+        if (candidates == null)
+            candidates = rc.senseBroadcastFlagLocations();
+        MapLocation best = null;
+        int bestDist = Integer.MAX_VALUE;
+        for (int i = candidates.length; --i >= 0;) {
+            if (candidates[i] == null)
+                continue;
+            int d = candidates[i].distanceSquaredTo(flag);
+            if (d < bestDist) {
+                bestDist = d;
+                best = candidates[i];
+            }
+        }
+        if (best == null)
+            best = new MapLocation(rc.getMapWidth() - 1 - flag.x, rc.getMapHeight() - 1 - flag.y);
+        return best;
+    }
+
+    // walls/water around loc, plus a bonus for sitting by the dam. never seen counts as open
+    static int score(MapLocation loc) {
+        int w = MapMemory.width;
+        int h = MapMemory.height;
+        int blocked = 0;
+        boolean dam = false;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                if (dx == 0 && dy == 0)
+                    continue;
+                int x = loc.x + dx;
+                int y = loc.y + dy;
+                if (x < 0 || y < 0 || x >= w || y >= h) {
+                    blocked++;
+                    continue;
+                }
+                int bits = MapMemory.get(x, y);
+                if ((bits & (MapMemory.WALL | MapMemory.WATER)) != 0)
+                    blocked++;
+                else if ((bits & MapMemory.DAM) != 0)
+                    dam = true;
+            }
+        }
+        return Math.min(MAX_SCORE, blocked + (dam ? DAM_BONUS : 0));
+    }
+
+    // planned tile of the flag the most boxed in one we can reach from here, null if
+    // none is within building range
+    public static MapLocation plannedInReach() {
+        MapLocation me = rc.getLocation();
+        MapLocation best = null;
+        int bestScore = -1;
+        for (int i = CommsLayout.TRAP_PLAN_COUNT; --i >= 0;) {
+            MapLocation loc = CommsLayout.getTrapPlan(i);
+            if (loc != null && me.distanceSquaredTo(loc) <= GameConstants.INTERACT_RADIUS_SQUARED
+                    && CommsLayout.getTrapScore(i) > bestScore) {
+                bestScore = CommsLayout.getTrapScore(i);
+                best = loc;
+            }
+        }
+        return best;
+    }
+
+    // builds a stun trap on a planned tile next to us, takes it off the plan once it is
+    // trapped. returns whether we built
+    public static boolean buildPlanned() throws GameActionException {
+        MapLocation loc = plannedInReach();
+        if (loc == null)
+            return false;
+        boolean built = false;
+        if (rc.canBuild(TrapType.STUN, loc)) {
+            rc.build(TrapType.STUN, loc);
+            built = true;
+        }
+        if (rc.senseMapInfo(loc).getTrapType() != TrapType.NONE) {
+            for (int i = CommsLayout.TRAP_PLAN_COUNT; --i >= 0;) {
+                if (loc.equals(CommsLayout.getTrapPlan(i)))
+                    CommsLayout.setTrapPlan(i, null);
+            }
+        }
+        return built;
+    }
+}
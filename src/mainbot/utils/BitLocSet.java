@@ -0,0 +1,88 @@
+package mainbot.utils;
+
+import battlecode.common.*;
+
+/**
+ * Location set backed by one bit per tile of the biggest (60x60) map, bit
+ * x * 60 + y. add/remove/contains are a shift and a mask no matter how big the
+ * set gets, iterating walks the set bits with numberOfTrailingZeros.
+ *
+ * Same api as IterableLocSet so it drops in, call updateIterable before
+ * reading locs.
+ */
+public class BitLocSet {
+    static final int STRIDE = 60;
+    static final int NUM_WORDS = (STRIDE * STRIDE + 63) / 64;
+
+    public long[] words;
+    public int maxlen;
+    public MapLocation[] locs;
+    public int size;
+
+    public BitLocSet() {
+        this(100);
+    }
+
+    // len is only how many locs updateIterable can hand back
+    public BitLocSet(int len) {
+        words = new long[NUM_WORDS];
+        maxlen = len;
+        locs = new MapLocation[maxlen];
+    }
+
+    public void add(MapLocation loc) {
+        add(loc.x, loc.y);
+    }
+
+    public void add(int x, int y) {
+        int bit = x * STRIDE + y;
+        long mask = 1L << bit;
+        if ((words[bit >>> 6] & mask) == 0) {
+            words[bit >>> 6] |= mask;
+            size++;
+        }
+    }
+
+    public void remove(MapLocation loc) {
+        remove(loc.x, loc.y);
+    }
+
+    public void remove(int x, int y) {
+        int bit = x * STRIDE + y;
+        long mask = 1L << bit;
+        if ((words[bit >>> 6] & mask) != 0) {
+            words[bit >>> 6] &= ~mask;
+            size--;
+        }
+    }
+
+    public boolean contains(MapLocation loc) {
+        int bit = loc.x * STRIDE + loc.y;
+        return (words[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    public boolean contains(int x, int y) {
+        int bit = x * STRIDE + y;
+        return (words[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    public void clear() {
+        if (size == 0)
+            return;
+        size = 0;
+        words = new long[NUM_WORDS];
+    }
+
+    // fills locs[0, size) from the set bits, capped at maxlen
+    public void updateIterable() {
+        int n = 0;
+        for (int w = 0; w < NUM_WORDS && n < maxlen; w++) {
+            long word = words[w];
+            while (word != 0 && n < maxlen) {
+                int bit = (w << 6) + Long.numberOfTrailingZeros(word);
+                locs[n++] = new MapLocation(bit / STRIDE, bit % STRIDE);
+                word &= word - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,582 @@
+package codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes the unrolled Bfs classes (one BfsR<r^2> per radius plus the Bfs
+ * dispatcher that picks between them) into bot packages, from the templates in
+ * tools/templates. The output is committed since bots can't run code
+ * generation, rerun it whenever a template or this file changes.
+ *
+ * Tiles keep the numbering of the old hand unrolled Bfs: index (dx + 6) * 13 +
+ * (dy + 6), so the robot sits on l84. Tiles are relaxed once each in order of
+ * distance from the centre, every tile only looking at neighbours that were
+ * already done, same as the 5 musketeers version.
+ *
+ * Packages that have a MapMemory get the packed variants by default: plain int
+ * coordinates, MapMemory indices off a per call column base and integer
+ * scoring off the Bfs.SQRT table, so nothing is allocated. -PbfsPacked=false
+ * (or a package without MapMemory) gets the MapLocation version, with costs
+ * from MapMemory.bfsCost or sensed fresh like the old bots did.
+ *
+ * Run through ./gradlew genBfs, see build.gradle for the -P options.
+ */
+public class BfsGenerator {
+    static final int GRID = 13;
+    static final int OFFSET = 6;
+    static final int CENTER = OFFSET * GRID + OFFSET;
+    static final int VISION_RADIUS = 20;
+    static final int UNREACHED = 1000000;
+    // a water step when we fill it first, the move plus the fill cooldown in turns
+    static final int WATER_FILL_COST = 4;
+
+    // rough bytecode model of one call, scaled so r^2 20 lands on the 4900 the
+    // hand written one was measured at
+    static final int CUSHION_BC = 200;
+    static final int BC_PER_TILE = 37;
+    static final int BC_PER_RELAX = 8;
+    static final int BC_PER_FRONTIER = 15;
+    // packed variants skip building locations and sensing, same model otherwise
+    static final int BC_PER_TILE_PACKED = 20;
+    static final int BC_PER_FRONTIER_PACKED = 12;
+    static final int BC_SETUP_PACKED = 150;
+
+    // Bfs.SQRT covers squared distances up to this, a frontier tile can be 4 off
+    // the map so 60 wide maps need (63^2) * 2
+    static final int SQRT_LEN = 2 * 64 * 64;
+    static final int SQRT_SCALE = 64;
+
+    static final int[][] DIR_OFFSETS = { { 0, 1 }, { 1, 1 }, { 1, 0 }, { 1, -1 }, { 0, -1 }, { -1, -1 }, { -1, 0 },
+            { -1, 1 } };
+    static final String[] DIR_NAMES = { "NORTH", "NORTHEAST", "EAST", "SOUTHEAST", "SOUTH", "SOUTHWEST", "WEST",
+            "NORTHWEST" };
+
+    static class Tile {
+        final int dx;
+        final int dy;
+        final int idx;
+        // tiles relaxed before this one that it can step from
+        final List<Tile> sources = new ArrayList<>();
+        Tile parent;
+        int parentDir;
+        boolean frontier;
+
+        Tile(int dx, int dy) {
+            this.dx = dx;
+            this.dy = dy;
+            this.idx = (dx + OFFSET) * GRID + dy + OFFSET;
+        }
+
+        int distSq() {
+            return dx * dx + dy * dy;
+        }
+
+        boolean adjacent() {
+            return distSq() <= 2;
+        }
+    }
+
+    // everything in the disk except the centre, in the order they get relaxed
+    static class Shape {
+        final int radius;
+        final Tile center = new Tile(0, 0);
+        final List<Tile> order = new ArrayList<>();
+        int relaxations;
+        int frontier;
+
+        Shape(int radius) {
+            this.radius = radius;
+            Tile[] byIdx = new Tile[GRID * GRID];
+            byIdx[CENTER] = center;
+            for (int dx = -OFFSET; dx <= OFFSET; dx++) {
+                for (int dy = -OFFSET; dy <= OFFSET; dy++) {
+                    if ((dx != 0 || dy != 0) && dx * dx + dy * dy <= radius)
+                        order.add(new Tile(dx, dy));
+                }
+            }
+            Collections.sort(order, (a, b) -> a.distSq() != b.distSq() ? a.distSq() - b.distSq()
+                    : a.dx != b.dx ? a.dx - b.dx : a.dy - b.dy);
+
+            for (Tile t : order) {
+                for (int d = 0; d < 8; d++) {
+                    int nx = t.dx - DIR_OFFSETS[d][0];
+                    int ny = t.dy - DIR_OFFSETS[d][1];
+                    if (Math.abs(nx) > OFFSET || Math.abs(ny) > OFFSET)
+                        continue;
+                    Tile from = byIdx[(nx + OFFSET) * GRID + ny + OFFSET];
+                    if (from == null)
+                        continue;
+                    // locations get built by stepping off any tile that already has one
+                    if (t.parent == null || (from == center && t.parent != center)) {
+                        t.parent = from;
+                        t.parentDir = d;
+                    }
+                    if (from != center)
+                        t.sources.add(from);
+                }
+                // relax from neighbours in the order they were done
+                Collections.sort(t.sources, (a, b) -> order.indexOf(a) - order.indexOf(b));
+                relaxations += t.sources.size();
+                byIdx[t.idx] = t;
+            }
+
+            // the outer edge, anything with a side neighbour outside the disk
+            for (Tile t : order) {
+                for (int d = 0; d < 8; d += 2) {
+                    int nx = t.dx + DIR_OFFSETS[d][0];
+                    int ny = t.dy + DIR_OFFSETS[d][1];
+                    if (nx * nx + ny * ny > radius) {
+                        t.frontier = true;
+                        frontier++;
+                        break;
+                    }
+                }
+            }
+        }
+
+        int minBc(boolean packed) {
+            int bc;
+            if (packed) {
+                // adjacent tiles cost 1 once canMove passes, nothing can beat that
+                int relax = 0;
+                for (Tile t : order) {
+                    if (!t.adjacent())
+                        relax += t.sources.size();
+                }
+                bc = CUSHION_BC + BC_SETUP_PACKED + BC_PER_TILE_PACKED * order.size() + BC_PER_RELAX * relax
+                        + BC_PER_FRONTIER_PACKED * frontier;
+            } else {
+                bc = CUSHION_BC + BC_PER_TILE * order.size() + BC_PER_RELAX * relaxations
+                        + BC_PER_FRONTIER * frontier;
+            }
+            return (bc + 99) / 100 * 100;
+        }
+
+        // biggest |dx| (or |dy|) of any tile, every offset up to it gets a bounds check
+        int reach() {
+            int r = 0;
+            for (Tile t : order)
+                r = Math.max(r, Math.max(Math.abs(t.dx), Math.abs(t.dy)));
+            return r;
+        }
+
+        // centre first, then by index, same as the old declarations
+        List<Tile> byIndex() {
+            List<Tile> out = new ArrayList<>(order);
+            out.add(center);
+            Collections.sort(out, (a, b) -> a.idx - b.idx);
+            return out;
+        }
+    }
+
+    static String srcDir;
+    static String templateDir;
+
+    public static void main(String[] args) throws IOException {
+        srcDir = System.getProperty("bfs.src", "src");
+        templateDir = System.getProperty("bfs.templates", "tools/templates");
+        List<Integer> radii = new ArrayList<>();
+        for (String r : System.getProperty("bfs.radii", "8,13,20").split(",")) {
+            int radius = Integer.parseInt(r.trim());
+            if (radius < 2 || radius > VISION_RADIUS)
+                throw new IllegalArgumentException("r^2 " + radius + " has to be between 2 and " + VISION_RADIUS);
+            if (!radii.contains(radius))
+                radii.add(radius);
+        }
+        Collections.sort(radii);
+        boolean wantPacked = Boolean.parseBoolean(System.getProperty("bfs.packed", "true"));
+
+        List<Shape> shapes = new ArrayList<>();
+        for (int radius : radii)
+            shapes.add(new Shape(radius));
+
+        for (String pkg : System.getProperty("bfs.packages", "mainbot").split(",")) {
+            pkg = pkg.trim();
+            File dir = new File(srcDir, pkg);
+            if (!new File(dir, "RobotPlayer.java").exists())
+                throw new IllegalArgumentException("no bot package " + pkg + " in " + srcDir);
+            boolean memory = new File(dir, "MapMemory.java").exists();
+            boolean packed = wantPacked && memory;
+            for (Shape shape : shapes) {
+                write(new File(dir, "BfsR" + shape.radius + ".java"),
+                        packed ? packedVariant(pkg, shape) : variant(pkg, shape, memory));
+            }
+            write(new File(dir, "Bfs.java"), dispatcher(pkg, shapes, packed));
+        }
+    }
+
+    static String template(String name) throws IOException {
+        return new String(Files.readAllBytes(new File(templateDir, name).toPath()), StandardCharsets.UTF_8);
+    }
+
+    static void write(File file, String text) throws IOException {
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        System.out.println("Wrote " + file);
+    }
+
+    // placeholders sit on their own line, blocks come with their own newlines
+    static String fill(String text, String key, String block) {
+        String line = "\n%" + key + "%\n";
+        if (text.contains(line))
+            return text.replace(line, "\n" + block);
+        return text.replace("%" + key + "%", block);
+    }
+
+    static String variant(String pkg, Shape shape, boolean memory) throws IOException {
+        String text = template("BfsRadius.java.tmpl");
+        text = fill(text, "package", pkg);
+        text = fill(text, "class", "BfsR" + shape.radius);
+        text = fill(text, "tiles", String.valueOf(shape.order.size() + 1));
+        text = fill(text, "radius", String.valueOf(shape.radius));
+        text = fill(text, "minBc", String.valueOf(shape.minBc(false)));
+        text = fill(text, "costComment",
+                memory ? "// tile costs come from MapMemory so we only sense tiles we have never seen\n"
+                        : "// tile costs are sensed fresh every call\n");
+        text = fill(text, "fields", fields(shape));
+        text = fill(text, "costTable", memory
+                ? "        int[] cost = fill ? MapMemory.BFS_COSTS_FILL : MapMemory.BFS_COSTS;\n" : "");
+        text = fill(text, "init", init(shape));
+        text = fill(text, "relax", relax(shape, memory));
+        text = fill(text, "scoring", scoring(shape));
+        text = fill(text, "distanceSwitch", lookup(shape, "return (int) v%d;"));
+        text = fill(text, "stepSwitch", lookup(shape, "return d%d;"));
+        return text;
+    }
+
+    static String fields(Shape shape) {
+        StringBuilder sb = new StringBuilder();
+        for (Tile t : shape.byIndex()) {
+            int i = t.idx;
+            sb.append("    static MapLocation l").append(i).append(";\n");
+            sb.append("    static double v").append(i).append(";\n");
+            sb.append("    static Direction d").append(i).append(";\n");
+            sb.append("    static double p").append(i).append(";\n\n");
+        }
+        return sb.toString();
+    }
+
+    static String init(Shape shape) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("        l84 = rc.getLocation();\n");
+        sb.append("        v84 = 0;\n");
+        for (Tile t : shape.order) {
+            int i = t.idx;
+            sb.append("        l").append(i).append(" = l").append(t.parent.idx).append(".add(Direction.")
+                    .append(DIR_NAMES[t.parentDir]).append(");\n");
+            sb.append("        v").append(i).append(" = ").append(UNREACHED).append(";\n");
+            sb.append("        d").append(i).append(" = null;\n");
+        }
+        return sb.toString();
+    }
+
+    static String relax(Shape shape, boolean memory) {
+        StringBuilder sb = new StringBuilder();
+        String ind = "                ";
+        for (Tile t : shape.order) {
+            int i = t.idx;
+            if (t.adjacent()) {
+                sb.append("            if (ready ? rc.canMove(Direction.").append(DIR_NAMES[t.parentDir])
+                        .append(") : rc.onTheMap(l").append(i).append(") && rc.sensePassability(l").append(i)
+                        .append(")) {\n");
+            } else {
+                sb.append("            if (rc.canSenseLocation(l").append(i).append(")) {\n");
+            }
+            if (memory) {
+                sb.append(ind).append("p").append(i).append(" = MapMemory.bfsCost(l").append(i).append(", cost);\n");
+            } else {
+                sb.append(ind).append("MapInfo mi = rc.senseMapInfo(l").append(i).append(");\n");
+                sb.append(ind).append("p").append(i).append(" = mi.isWall() || mi.isDam() ? ").append(UNREACHED)
+                        .append(" : mi.isWater() ? (fill ? ").append(WATER_FILL_COST).append(" : ").append(UNREACHED)
+                        .append(") : 1;\n");
+            }
+            if (t.adjacent()) {
+                sb.append(ind).append("v").append(i).append(" = p").append(i).append(";\n");
+                sb.append(ind).append("d").append(i).append(" = Direction.").append(DIR_NAMES[t.parentDir])
+                        .append(";\n");
+            }
+            for (Tile s : t.sources) {
+                int j = s.idx;
+                sb.append(ind).append("if (v").append(i).append(" > v").append(j).append(" + p").append(i)
+                        .append(") {\n");
+                sb.append(ind).append("    v").append(i).append(" = v").append(j).append(" + p").append(i)
+                        .append(";\n");
+                sb.append(ind).append("    d").append(i).append(" = d").append(j).append(";\n");
+                sb.append(ind).append("}\n");
+            }
+            sb.append("            }");
+            if (t.adjacent()) {
+                // water we can fill right now is a step too, just a pricier one
+                sb.append(" else if (fillNow && rc.onTheMap(l").append(i).append(") && ");
+                if (memory) {
+                    sb.append("MapMemory.bfsCost(l").append(i).append(", cost) == MapMemory.WATER_FILL_COST) {\n");
+                } else {
+                    sb.append("rc.senseMapInfo(l").append(i).append(").isWater()) {\n");
+                }
+                sb.append(ind).append("v").append(i).append(" = ").append(memory ? "MapMemory.WATER_FILL_COST"
+                        : String.valueOf(WATER_FILL_COST)).append(";\n");
+                sb.append(ind).append("d").append(i).append(" = Direction.").append(DIR_NAMES[t.parentDir])
+                        .append(";\n");
+                sb.append("            }");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    // switch (rx) { case: switch (ry) { case: <body> } } over every tile
+    static String lookup(Shape shape, String body) {
+        StringBuilder sb = new StringBuilder();
+        String ind = "            ";
+        List<Tile> tiles = shape.byIndex();
+        for (int k = 0; k < tiles.size();) {
+            int dx = tiles.get(k).dx;
+            sb.append(ind).append("case ").append(dx).append(":\n");
+            sb.append(ind).append("    switch (ry) {\n");
+            for (; k < tiles.size() && tiles.get(k).dx == dx; k++) {
+                Tile t = tiles.get(k);
+                sb.append(ind).append("        case ").append(t.dy).append(":\n");
+                sb.append(ind).append("            ").append(String.format(body, t.idx)).append("\n");
+            }
+            sb.append(ind).append("    }\n");
+            sb.append(ind).append("    break;\n");
+        }
+        return sb.toString();
+    }
+
+    static String scoring(Shape shape) {
+        StringBuilder sb = new StringBuilder();
+        for (Tile t : shape.byIndex()) {
+            if (!t.frontier)
+                continue;
+            int i = t.idx;
+            sb.append("        double dist").append(i).append(" = (initialDist - Math.sqrt(l").append(i)
+                    .append(".distanceSquaredTo(target))) / v").append(i).append(";\n");
+            sb.append("        if (dist").append(i).append(" > bestEstimation) {\n");
+            sb.append("            bestEstimation = dist").append(i).append(";\n");
+            sb.append("            ans = d").append(i).append(";\n");
+            sb.append("        }\n");
+        }
+        return sb.toString();
+    }
+
+    static String xName(int dx) {
+        return dx < 0 ? "W" + -dx : dx > 0 ? "E" + dx : "X0";
+    }
+
+    static String yName(int dy) {
+        return dy < 0 ? "S" + -dy : dy > 0 ? "N" + dy : "Y0";
+    }
+
+    static String column(int dx) {
+        return dx == 0 ? "col0" : "col" + xName(dx);
+    }
+
+    static String packedVariant(String pkg, Shape shape) throws IOException {
+        String text = template("BfsRadiusPacked.java.tmpl");
+        text = fill(text, "package", pkg);
+        text = fill(text, "class", "BfsR" + shape.radius);
+        text = fill(text, "tiles", String.valueOf(shape.order.size() + 1));
+        text = fill(text, "radius", String.valueOf(shape.radius));
+        text = fill(text, "minBc", String.valueOf(shape.minBc(true)));
+        text = fill(text, "fields", packedFields(shape));
+        text = fill(text, "init", packedInit(shape));
+        text = fill(text, "relax", packedRelax(shape));
+        text = fill(text, "squares", packedSquares(shape));
+        text = fill(text, "scoring", packedScoring(shape));
+        text = fill(text, "distanceSwitch", lookup(shape, "return v%d;"));
+        text = fill(text, "stepSwitch", lookup(shape, "return d%d;"));
+        return text;
+    }
+
+    static String packedFields(Shape shape) {
+        StringBuilder sb = new StringBuilder();
+        for (Tile t : shape.byIndex()) {
+            int i = t.idx;
+            sb.append("    static int v").append(i).append(";\n");
+            sb.append("    static Direction d").append(i).append(";\n\n");
+        }
+        return sb.toString();
+    }
+
+    // column bases into MapMemory.tiles and which offsets are still on the map
+    static String packedInit(Shape shape) {
+        StringBuilder sb = new StringBuilder();
+        int reach = shape.reach();
+        sb.append("        int col0 = cx * h + cy;\n");
+        for (int d = 1; d <= reach; d++) {
+            sb.append("        int ").append(column(-d)).append(" = ").append(column(1 - d)).append(" - h;\n");
+        }
+        for (int d = 1; d <= reach; d++) {
+            sb.append("        int ").append(column(d)).append(" = ").append(column(d - 1)).append(" + h;\n");
+        }
+        for (int d = 1; d <= reach; d++) {
+            sb.append("        boolean ok").append(xName(-d)).append(" = cx >= ").append(d).append(";\n");
+            sb.append("        boolean ok").append(xName(d)).append(" = cx + ").append(d).append(" < w;\n");
+            sb.append("        boolean ok").append(yName(-d)).append(" = cy >= ").append(d).append(";\n");
+            sb.append("        boolean ok").append(yName(d)).append(" = cy + ").append(d).append(" < h;\n");
+        }
+        sb.append("        v84 = 0;\n");
+        for (Tile t : shape.order) {
+            sb.append("        v").append(t.idx).append(" = ").append(UNREACHED).append(";\n");
+            sb.append("        d").append(t.idx).append(" = null;\n");
+        }
+        return sb.toString();
+    }
+
+    // on map checks and MapMemory index for a tile
+    static String bounds(Tile t) {
+        List<String> checks = new ArrayList<>();
+        if (t.dx != 0)
+            checks.add("ok" + xName(t.dx));
+        if (t.dy != 0)
+            checks.add("ok" + yName(t.dy));
+        return String.join(" && ", checks);
+    }
+
+    static String index(Tile t) {
+        return column(t.dx) + (t.dy > 0 ? " + " + t.dy : t.dy < 0 ? " - " + -t.dy : "");
+    }
+
+    static String packedRelax(Shape shape) {
+        StringBuilder sb = new StringBuilder();
+        String ind = "                ";
+        for (Tile t : shape.order) {
+            int i = t.idx;
+            if (t.adjacent()) {
+                // open land is the cheapest a step gets, nothing can beat it
+                sb.append("            if (ready ? rc.canMove(Direction.").append(DIR_NAMES[t.parentDir])
+                        .append(") : ").append(bounds(t)).append(" && cost[tiles[").append(index(t))
+                        .append("] & 15] == 1) {\n");
+                sb.append(ind).append("v").append(i).append(" = 1;\n");
+                sb.append(ind).append("d").append(i).append(" = Direction.").append(DIR_NAMES[t.parentDir])
+                        .append(";\n");
+                // water we can fill right now is a step too, just a pricier one
+                sb.append("            } else if (fillNow && ").append(bounds(t)).append(" && cost[tiles[")
+                        .append(index(t)).append("] & 15] == MapMemory.WATER_FILL_COST) {\n");
+                sb.append(ind).append("v").append(i).append(" = MapMemory.WATER_FILL_COST;\n");
+                sb.append(ind).append("d").append(i).append(" = Direction.").append(DIR_NAMES[t.parentDir])
+                        .append(";\n");
+                sb.append("            }\n");
+                continue;
+            }
+            sb.append("            if (").append(bounds(t)).append(") {\n");
+            sb.append(ind).append("p = cost[tiles[").append(index(t)).append("] & 15];\n");
+            for (Tile s : t.sources) {
+                int j = s.idx;
+                sb.append(ind).append("if (v").append(i).append(" > v").append(j).append(" + p) {\n");
+                sb.append(ind).append("    v").append(i).append(" = v").append(j).append(" + p;\n");
+                sb.append(ind).append("    d").append(i).append(" = d").append(j).append(";\n");
+                sb.append(ind).append("}\n");
+            }
+            sb.append("            }\n");
+        }
+        return sb.toString();
+    }
+
+    static String packedSquares(Shape shape) {
+        boolean[] xs = new boolean[2 * OFFSET + 1];
+        boolean[] ys = new boolean[2 * OFFSET + 1];
+        for (Tile t : shape.order) {
+            if (t.frontier) {
+                xs[t.dx + OFFSET] = true;
+                ys[t.dy + OFFSET] = true;
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int k = 0; k < xs.length; k++) {
+            if (xs[k])
+                sb.append("        int q").append(xName(k - OFFSET)).append(" = ").append(square("rx", k - OFFSET))
+                        .append(";\n");
+        }
+        for (int k = 0; k < ys.length; k++) {
+            if (ys[k])
+                sb.append("        int q").append(yName(k - OFFSET)).append(" = ").append(square("ry", k - OFFSET))
+                        .append(";\n");
+        }
+        return sb.toString();
+    }
+
+    // (v - d)^2 as source
+    static String square(String v, int d) {
+        String e = d == 0 ? v : d < 0 ? "(" + v + " + " + -d + ")" : "(" + v + " - " + d + ")";
+        return e + " * " + e;
+    }
+
+    static String packedScoring(Shape shape) {
+        StringBuilder sb = new StringBuilder();
+        for (Tile t : shape.byIndex()) {
+            if (!t.frontier)
+                continue;
+            int i = t.idx;
+            sb.append("        int dist").append(i).append(" = (initialDist - sqrt.charAt(q").append(xName(t.dx))
+                    .append(" + q").append(yName(t.dy)).append(")) * 256 / v").append(i).append(";\n");
+            sb.append("        if (dist").append(i).append(" > bestEstimation) {\n");
+            sb.append("            bestEstimation = dist").append(i).append(";\n");
+            sb.append("            ans = d").append(i).append(";\n");
+            sb.append("        }\n");
+        }
+        return sb.toString();
+    }
+
+    static String sqrtTable() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("    // round(").append(SQRT_SCALE)
+                .append(" * sqrt(i)) for every squared distance the packed variants can\n");
+        sb.append("    // ask about. a string constant costs nothing to set up and charAt is one call\n");
+        sb.append("    public static final String SQRT = \"\"");
+        for (int i = 0; i < SQRT_LEN; i++) {
+            if (i % 16 == 0)
+                sb.append("\n            + \"");
+            int c = (int) Math.round(SQRT_SCALE * Math.sqrt(i));
+            // unicode escapes are resolved before parsing, so \ or " would end
+            // the literal. octal for anything that fits
+            sb.append(c < 256 ? String.format("\\%03o", c) : String.format("\\u%04x", c));
+            if (i % 16 == 15 || i == SQRT_LEN - 1)
+                sb.append('"');
+        }
+        sb.append(";\n\n");
+        return sb.toString();
+    }
+
+    static String dispatcher(String pkg, List<Shape> shapes, boolean packed) throws IOException {
+        String text = template("Bfs.java.tmpl");
+        List<String> names = new ArrayList<>();
+        StringBuilder pick = new StringBuilder();
+        StringBuilder bestDir = new StringBuilder();
+        StringBuilder distanceTo = new StringBuilder();
+        StringBuilder firstStepTo = new StringBuilder();
+        for (int k = shapes.size(); --k >= 0;) {
+            Shape s = shapes.get(k);
+            String cls = "BfsR" + s.radius;
+            names.add(0, cls);
+            pick.append(k == shapes.size() - 1 ? "        if" : " else if").append(" (cap >= ").append(s.radius)
+                    .append(" && left > ").append(cls).append(".MIN_BC_TO_USE) {\n");
+            pick.append("            ").append(cls).append(".flood(ready, fill);\n");
+            pick.append("            lastRadius = ").append(s.radius).append(";\n");
+            pick.append("        }");
+            bestDir.append("            case ").append(s.radius).append(":\n");
+            bestDir.append("                return ").append(cls).append(".getBestDir(target);\n");
+            distanceTo.append("            case ").append(s.radius).append(":\n");
+            distanceTo.append("                return ").append(cls).append(".distanceTo(rx, ry);\n");
+            firstStepTo.append("            case ").append(s.radius).append(":\n");
+            firstStepTo.append("                return ").append(cls).append(".firstStepTo(rx, ry);\n");
+        }
+        pick.append("\n");
+        text = fill(text, "package", pkg);
+        text = fill(text, "variants", String.join(", ", names));
+        text = fill(text, "minBc", "BfsR" + shapes.get(0).radius + ".MIN_BC_TO_USE");
+        text = fill(text, "maxRadius", String.valueOf(shapes.get(shapes.size() - 1).radius));
+        text = fill(text, "sqrt", packed ? sqrtTable() : "");
+        text = fill(text, "pick", pick.toString());
+        text = fill(text, "bestDir", bestDir.toString());
+        text = fill(text, "distanceTo", distanceTo.toString());
+        text = fill(text, "firstStepTo", firstStepTo.toString());
+        return text;
+    }
+}
@@ -0,0 +1,282 @@
+package codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a shared array schema (tools/schema/<package>.comms) and writes the
+ * matching CommsLayout class into the bot package: slot constants, the 4 slot
+ * dirty groups each field lives in and packed get/set accessors over
+ * Comms.comms. Fails if two fields of overlapping phases share a bit, or if a
+ * field falls outside the 64 x 16 bits.
+ *
+ * With -Dcomms.check=true it only validates and checks the committed file is
+ * what the schema generates, which is what compileJava runs so a layout clash
+ * (or a hand edit of the generated file) breaks the build instead of the game.
+ *
+ * Run through ./gradlew genComms.
+ */
+public class CommsGenerator {
+    static final int SLOTS = 64;
+    static final int GROUP_SIZE = 4;
+    static final int LOC_MASK = 0x8fff;
+
+    static final int INIT = 1;
+    static final int GAME = 2;
+    static final int ALL = INIT | GAME;
+
+    static class Field {
+        String name;
+        int phase;
+        int first;
+        int last;
+        // one of the three shapes
+        boolean loc;
+        int entryBits;
+        int hi;
+        int lo;
+        String doc;
+        int line;
+
+        int slots() {
+            return last - first + 1;
+        }
+
+        // bits of each of our slots we use
+        int mask() {
+            if (loc)
+                return LOC_MASK;
+            if (entryBits != 0)
+                return 0xffff;
+            return ((1 << (hi - lo + 1)) - 1) << lo;
+        }
+
+        int groups() {
+            int g = 0;
+            for (int s = first; s <= last; s++)
+                g |= 1 << (s / GROUP_SIZE);
+            return g;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String pkg = System.getProperty("comms.package", "mainbot");
+        File schema = new File(System.getProperty("comms.schema", "tools/schema/" + pkg + ".comms"));
+        File out = new File(System.getProperty("comms.src", "src"), pkg + "/CommsLayout.java");
+        boolean check = Boolean.parseBoolean(System.getProperty("comms.check", "false"));
+
+        List<Field> fields = parse(schema);
+        checkOverlaps(fields, schema);
+        String text = generate(pkg, schema, fields);
+        if (check) {
+            String current = out.exists() ? new String(Files.readAllBytes(out.toPath()), StandardCharsets.UTF_8) : "";
+            if (!current.equals(text))
+                throw new IllegalStateException(out + " doesn't match " + schema + ", run ./gradlew genComms");
+            return;
+        }
+        Files.write(out.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        System.out.println("Wrote " + out);
+    }
+
+    static List<Field> parse(File schema) throws IOException {
+        List<Field> fields = new ArrayList<>();
+        List<String> lines = Files.readAllLines(schema.toPath(), StandardCharsets.UTF_8);
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n).trim();
+            if (line.isEmpty() || line.startsWith("#"))
+                continue;
+            String[] parts = line.split("\\s+", 5);
+            if (parts.length < 4)
+                throw error(schema, n + 1, "expected name phase slots bits [description]");
+            Field f = new Field();
+            f.line = n + 1;
+            f.name = parts[0];
+            if (!f.name.matches("[A-Z][A-Z0-9_]*"))
+                throw error(schema, f.line, "field names are UPPER_SNAKE, got " + f.name);
+            switch (parts[1]) {
+                case "init":
+                    f.phase = INIT;
+                    break;
+                case "game":
+                    f.phase = GAME;
+                    break;
+                case "all":
+                    f.phase = ALL;
+                    break;
+                default:
+                    throw error(schema, f.line, "phase is init, game or all, got " + parts[1]);
+            }
+            int[] slots = range(parts[2], schema, f.line);
+            f.first = slots[1];
+            f.last = slots[0];
+            if (f.first < 0 || f.last >= SLOTS || f.first > f.last)
+                throw error(schema, f.line, "slots " + parts[2] + " outside 0-" + (SLOTS - 1));
+            if (parts[3].equals("loc")) {
+                f.loc = true;
+            } else if (parts[3].startsWith("array:")) {
+                f.entryBits = Integer.parseInt(parts[3].substring(6));
+                if (f.entryBits <= 0 || 16 % f.entryBits != 0)
+                    throw error(schema, f.line, "array entries must divide 16 bits, got " + f.entryBits);
+            } else {
+                int[] bits = range(parts[3], schema, f.line);
+                f.hi = bits[0];
+                f.lo = bits[1];
+                if (f.lo < 0 || f.hi > 15 || f.lo > f.hi)
+                    throw error(schema, f.line, "bits " + parts[3] + " outside 15-0");
+            }
+            f.doc = parts.length > 4 ? parts[4] : "";
+            for (Field g : fields) {
+                if (g.name.equals(f.name))
+                    throw error(schema, f.line, f.name + " already defined on line " + g.line);
+            }
+            fields.add(f);
+        }
+        return fields;
+    }
+
+    // "a-b" or "a", returned as {max, min}
+    static int[] range(String s, File schema, int line) {
+        try {
+            int dash = s.indexOf('-');
+            if (dash < 0) {
+                int v = Integer.parseInt(s);
+                return new int[] { v, v };
+            }
+            int a = Integer.parseInt(s.substring(0, dash));
+            int b = Integer.parseInt(s.substring(dash + 1));
+            return new int[] { Math.max(a, b), Math.min(a, b) };
+        } catch (NumberFormatException e) {
+            throw error(schema, line, "bad range " + s);
+        }
+    }
+
+    static void checkOverlaps(List<Field> fields, File schema) {
+        for (int i = 0; i < fields.size(); i++) {
+            Field a = fields.get(i);
+            for (int j = 0; j < i; j++) {
+                Field b = fields.get(j);
+                if ((a.phase & b.phase) == 0)
+                    continue;
+                int from = Math.max(a.first, b.first);
+                int to = Math.min(a.last, b.last);
+                if (from <= to && (a.mask() & b.mask()) != 0) {
+                    throw error(schema, a.line, a.name + " overlaps " + b.name + " (line " + b.line + ") in slot "
+                            + from + " bits 0x" + Integer.toHexString(a.mask() & b.mask()));
+                }
+            }
+        }
+    }
+
+    static IllegalArgumentException error(File schema, int line, String msg) {
+        return new IllegalArgumentException(schema + ":" + line + ": " + msg);
+    }
+
+    static String generate(String pkg, File schema, List<Field> fields) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(pkg).append(";\n\n");
+        sb.append("import battlecode.common.*;\n\n");
+        sb.append("// generated by tools/codegen/CommsGenerator.java from tools/schema/").append(schema.getName())
+                .append(", edit those instead\n");
+        sb.append("// slot, dirty group and packed accessors for every field of the shared array. reads\n");
+        sb.append("// come out of Comms.comms, writes go through Comms.write so they get marked dirty\n");
+        sb.append("public class CommsLayout {\n");
+        for (Field f : fields)
+            field(sb, f);
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    static void field(StringBuilder sb, Field f) {
+        String camel = camel(f.name);
+        String ind = "    ";
+        sb.append("\n");
+        if (!f.doc.isEmpty())
+            sb.append(ind).append("// ").append(f.doc).append("\n");
+        sb.append(ind).append("public static final int ").append(f.name).append(" = ").append(f.first).append(";\n");
+        int count = f.entryBits != 0 ? f.slots() * (16 / f.entryBits) : f.slots();
+        sb.append(ind).append("public static final int ").append(f.name).append("_COUNT = ").append(count)
+                .append(";\n");
+        sb.append(ind).append("public static final int ").append(f.name).append("_GROUPS = 0x")
+                .append(Integer.toHexString(f.groups())).append(";\n");
+        if (!f.loc && f.entryBits == 0 && f.mask() != 0xffff) {
+            sb.append(ind).append("public static final int ").append(f.name).append("_SHIFT = ").append(f.lo)
+                    .append(";\n");
+            sb.append(ind).append("public static final int ").append(f.name).append("_MASK = 0x")
+                    .append(Integer.toHexString(f.mask())).append(";\n");
+        }
+        // single slot fields don't take an index
+        boolean indexed = count > 1;
+        String param = indexed ? "int i" : "";
+        String slot = indexed && f.entryBits == 0 ? f.name + " + i" : f.name;
+
+        if (f.loc) {
+            sb.append("\n");
+            sb.append(ind).append("public static MapLocation get").append(camel).append("(").append(param)
+                    .append(") {\n");
+            sb.append(ind).append("    return Comms.decodeLoc(Comms.comms[").append(slot).append("]);\n");
+            sb.append(ind).append("}\n\n");
+            sb.append(ind).append("// null clears it, other bits of the slot are kept\n");
+            sb.append(ind).append("public static void set").append(camel).append("(")
+                    .append(indexed ? "int i, " : "").append("MapLocation loc) throws GameActionException {\n");
+            sb.append(ind).append("    int slot = ").append(slot).append(";\n");
+            sb.append(ind).append("    Comms.write(slot, Comms.comms[slot] & ~0x").append(Integer.toHexString(LOC_MASK))
+                    .append(" | (loc == null ? 0 : Comms.encodeLoc(loc)));\n");
+            sb.append(ind).append("}\n");
+            return;
+        }
+        if (f.entryBits != 0) {
+            int per = 16 / f.entryBits;
+            String mask = "0x" + Integer.toHexString((1 << f.entryBits) - 1);
+            sb.append("\n");
+            sb.append(ind).append("public static int get").append(camel).append("(int i) {\n");
+            sb.append(ind).append("    return Comms.comms[").append(f.name).append(" + i / ").append(per)
+                    .append("] >> ").append(f.entryBits).append(" * (").append(per - 1).append(" - i % ")
+                    .append(per).append(") & ").append(mask).append(";\n");
+            sb.append(ind).append("}\n\n");
+            sb.append(ind).append("public static void set").append(camel)
+                    .append("(int i, int v) throws GameActionException {\n");
+            sb.append(ind).append("    int slot = ").append(f.name).append(" + i / ").append(per).append(";\n");
+            sb.append(ind).append("    int shift = ").append(f.entryBits).append(" * (").append(per - 1)
+                    .append(" - i % ").append(per).append(");\n");
+            sb.append(ind).append("    Comms.write(slot, Comms.comms[slot] & ~(").append(mask)
+                    .append(" << shift) | (v & ").append(mask).append(") << shift);\n");
+            sb.append(ind).append("}\n");
+            return;
+        }
+        boolean whole = f.mask() == 0xffff;
+        sb.append("\n");
+        sb.append(ind).append("public static int get").append(camel).append("(").append(param).append(") {\n");
+        if (whole) {
+            sb.append(ind).append("    return Comms.comms[").append(slot).append("];\n");
+        } else {
+            sb.append(ind).append("    return (Comms.comms[").append(slot).append("] & ").append(f.name)
+                    .append("_MASK) >> ").append(f.name).append("_SHIFT;\n");
+        }
+        sb.append(ind).append("}\n\n");
+        sb.append(ind).append("public static void set").append(camel).append("(").append(indexed ? "int i, " : "")
+                .append("int v) throws GameActionException {\n");
+        if (whole) {
+            sb.append(ind).append("    Comms.write(").append(slot).append(", v);\n");
+        } else {
+            sb.append(ind).append("    int slot = ").append(slot).append(";\n");
+            sb.append(ind).append("    Comms.write(slot,\n");
+            sb.append(ind).append("            Comms.comms[slot] & ~").append(f.name).append("_MASK | v << ")
+                    .append(f.name).append("_SHIFT & ").append(f.name).append("_MASK);\n");
+        }
+        sb.append(ind).append("}\n");
+    }
+
+    static String camel(String name) {
+        StringBuilder sb = new StringBuilder();
+        for (String part : name.split("_")) {
+            if (part.isEmpty())
+                continue;
+            sb.append(part.charAt(0)).append(part.substring(1).toLowerCase());
+        }
+        return sb.toString();
+    }
+}
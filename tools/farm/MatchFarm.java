@@ -0,0 +1,290 @@
+package farm;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the regression matches (current bot vs every other bot on every map,
+ * both sides) without going through gradle for each game, and writes the same
+ * table as run_matches_fast.py into matches-summary-fast.txt.
+ *
+ * The engine keeps its settings in system properties so games can't share a
+ * JVM in parallel. Instead there's one engine JVM per core and each one plays a
+ * chunk of maps back to back (bc.game.maps takes a comma separated list), so
+ * JVM startup and engine loading are paid per chunk instead of per game.
+ *
+ * Run through ./gradlew farm, see build.gradle for the -P options.
+ */
+public class MatchFarm {
+    static final String[] QUALIFIER_MAPS = { "Asteroids", "Backslash", "Capacitance", "Digging", "EvilGrin",
+            "Funnel", "GravitationalWaves", "Joker", "KingQuacksCastle", "MIT", "OceanFloor", "ORV", "Pancakes",
+            "Puzzle", "StackGame", "Tunnels", "Whirlpool", "YearOfTheDragon" };
+    static final String[] SPRINT1_MAPS = { "AceOfSpades", "Alien", "Ambush", "Battlecode24", "BigDucksBigPond",
+            "Canals", "CH3353C4K3F4CT0RY", "Duck", "Fountain", "Hockey", "HungerGames", "MazeRunner", "Rivers",
+            "Snake", "Soccer", "SteamboatMickey", "Yinyang" };
+    static final String[] SPRINT2_MAPS = { "BedWars", "Bunkers", "Checkered", "Diagonal", "Divergent", "EndAround",
+            "FloodGates", "Foxes", "Fusbol", "GaltonBoard", "HeMustBeFreed", "Intercontinental", "Klein",
+            "QueenOfHearts", "QuestionableChess", "Racetrack", "Rainbow", "TreeSearch" };
+    static final String[] INITIAL_MAPS = { "DefaultHuge", "DefaultLarge", "DefaultMedium", "DefaultSmall" };
+
+    static final String[][] EMOJI = { { "Won", ":heavy_check_mark:" }, { "Lost", ":x:" },
+            { "Tied", ":grimacing:" }, { "N/A", ":heavy_minus_sign:" }, { "Error", ":heavy_exclamation_mark:" } };
+
+    // what the server prints at the end of each game
+    static final Pattern WIN_LINE = Pattern.compile("(\\S+) \\((A|B)\\) wins \\(round (\\d+)\\)");
+
+    // one engine run, teamA vs teamB on a few maps in a row
+    static class Job {
+        final String teamA;
+        final String teamB;
+        final List<String> maps;
+        // per map: winner package + round, null if the game never reported
+        String[] winners;
+        String[] rounds;
+        String error;
+
+        Job(String teamA, String teamB, List<String> maps) {
+            this.teamA = teamA;
+            this.teamB = teamB;
+            this.maps = maps;
+            this.winners = new String[maps.size()];
+            this.rounds = new String[maps.size()];
+        }
+    }
+
+    static String currentBot;
+    static List<String> bots;
+    static List<String> maps;
+    static int workers;
+    static int chunkSize;
+    static String engineClasspath;
+    static String classLocation;
+    static String outFile;
+    static boolean emojiMode;
+
+    public static void main(String[] args) throws Exception {
+        currentBot = System.getProperty("farm.current", "mainbot");
+        bots = split(System.getProperty("farm.bots", "bfs_plusplus"));
+        maps = resolveMaps(System.getProperty("farm.maps", "qualifier,sprint1,sprint2"));
+        workers = Integer.parseInt(
+                System.getProperty("farm.workers", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        chunkSize = Integer.parseInt(System.getProperty("farm.chunk", "0"));
+        engineClasspath = System.getProperty("farm.engineClasspath", System.getProperty("java.class.path"));
+        classLocation = System.getProperty("farm.classLocation", "build/classes");
+        outFile = System.getProperty("farm.out", "matches-summary-fast.txt");
+        emojiMode = Boolean.parseBoolean(System.getProperty("farm.emoji", "true"));
+
+        // enough chunks that every worker gets a few, small enough to balance out
+        // slow maps
+        if (chunkSize <= 0) {
+            int games = bots.size() * 2;
+            chunkSize = Math.max(1, Math.min(6, maps.size() * games / (workers * 3)));
+        }
+
+        List<Job> jobs = new ArrayList<>();
+        for (String bot : bots) {
+            for (int i = 0; i < maps.size(); i += chunkSize) {
+                List<String> chunk = maps.subList(i, Math.min(maps.size(), i + chunkSize));
+                jobs.add(new Job(currentBot, bot, chunk));
+                jobs.add(new Job(bot, currentBot, chunk));
+            }
+        }
+
+        System.out.println("Running " + bots.size() * maps.size() + " matches (" + jobs.size() + " engine runs of up to "
+                + chunkSize + " maps) on " + workers + " workers");
+        long start = System.currentTimeMillis();
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        List<Future<?>> futures = new ArrayList<>();
+        final int[] finished = { 0 };
+        for (final Job job : jobs) {
+            futures.add(pool.submit(new Runnable() {
+                public void run() {
+                    runJob(job);
+                    synchronized (finished) {
+                        finished[0]++;
+                        System.out.println("Finished " + finished[0] + " of " + jobs.size() + ": " + job.teamA
+                                + " vs " + job.teamB + " on " + String.join(",", job.maps)
+                                + (job.error != null ? " (" + job.error + ")" : ""));
+                    }
+                }
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+
+        writeSummary(jobs);
+        System.out.println("Took " + (System.currentTimeMillis() - start) / 1000 + "s");
+    }
+
+    static List<String> split(String s) {
+        List<String> out = new ArrayList<>();
+        for (String part : s.split(",")) {
+            if (!part.trim().isEmpty())
+                out.add(part.trim());
+        }
+        return out;
+    }
+
+    // map list entries can be map names or one of the named sets
+    static List<String> resolveMaps(String spec) {
+        List<String> out = new ArrayList<>();
+        for (String name : split(spec)) {
+            if (name.equals("qualifier"))
+                out.addAll(Arrays.asList(QUALIFIER_MAPS));
+            else if (name.equals("sprint1"))
+                out.addAll(Arrays.asList(SPRINT1_MAPS));
+            else if (name.equals("sprint2"))
+                out.addAll(Arrays.asList(SPRINT2_MAPS));
+            else if (name.equals("initial"))
+                out.addAll(Arrays.asList(INITIAL_MAPS));
+            else
+                out.add(name);
+        }
+        return out;
+    }
+
+    static void runJob(Job job) {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> cmd = new ArrayList<>();
+        cmd.add(java);
+        cmd.add("-Dbc.server.wait-for-client=false");
+        cmd.add("-Dbc.server.mode=headless");
+        cmd.add("-Dbc.server.map-path=maps");
+        cmd.add("-Dbc.server.robot-player-to-system-out=false");
+        cmd.add("-Dbc.server.debug=false");
+        cmd.add("-Dbc.engine.debug-methods=false");
+        cmd.add("-Dbc.engine.show-indicators=false");
+        cmd.add("-Dbc.game.team-a=" + job.teamA);
+        cmd.add("-Dbc.game.team-b=" + job.teamB);
+        cmd.add("-Dbc.game.team-a.url=" + classLocation);
+        cmd.add("-Dbc.game.team-b.url=" + classLocation);
+        cmd.add("-Dbc.game.team-a.package=" + job.teamA);
+        cmd.add("-Dbc.game.team-b.package=" + job.teamB);
+        cmd.add("-Dbc.game.maps=" + String.join(",", job.maps));
+        cmd.add("-Dbc.server.validate-maps=false");
+        cmd.add("-Dbc.server.alternate-order=false");
+        cmd.add("-Dbc.server.save-file=matches/farm-" + job.teamA + "-vs-" + job.teamB + "-on-" + job.maps.get(0)
+                + ".bc24");
+        cmd.add("-cp");
+        cmd.add(engineClasspath);
+        cmd.add("battlecode.server.Main");
+        cmd.add("-c=-");
+
+        try {
+            Process p = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+            int game = 0;
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(p.getInputStream()))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    Matcher m = WIN_LINE.matcher(line);
+                    // games are played in map order
+                    if (m.find() && game < job.maps.size()) {
+                        job.winners[game] = m.group(1);
+                        job.rounds[game] = m.group(3);
+                        game++;
+                    }
+                }
+            }
+            int exit = p.waitFor();
+            if (exit != 0 || game < job.maps.size()) {
+                job.error = "exit " + exit + ", " + game + "/" + job.maps.size() + " games reported";
+            }
+        } catch (IOException | InterruptedException e) {
+            job.error = e.toString();
+        }
+    }
+
+    // current bot's result against bot on map, like run_match in the python script
+    static String cell(Map<String, Job[]> byMatch, String bot, String map, int[] wins) {
+        Job[] pair = byMatch.get(bot + "/" + map);
+        int[] idx = { pair[0].maps.indexOf(map), pair[1].maps.indexOf(map) };
+        int numWins = 0;
+        String[] lengths = new String[2];
+        for (int side = 0; side < 2; side++) {
+            String winner = pair[side].winners[idx[side]];
+            if (winner == null)
+                return "Error";
+            if (winner.equals(currentBot))
+                numWins++;
+            lengths[side] = pair[side].rounds[idx[side]];
+        }
+        wins[0] += numWins;
+        wins[1] += 2;
+        String outcome = numWins == 2 ? "Won" : numWins == 1 ? "Tied" : "Lost";
+        return outcome + " (" + lengths[0] + ", " + lengths[1] + ")";
+    }
+
+    static void writeSummary(List<Job> jobs) throws IOException {
+        // [0] current bot as A, [1] current bot as B
+        Map<String, Job[]> byMatch = new LinkedHashMap<>();
+        for (Job job : jobs) {
+            boolean currentIsA = job.teamA.equals(currentBot);
+            String bot = currentIsA ? job.teamB : job.teamA;
+            for (String map : job.maps) {
+                Job[] pair = byMatch.get(bot + "/" + map);
+                if (pair == null) {
+                    pair = new Job[2];
+                    byMatch.put(bot + "/" + map, pair);
+                }
+                pair[currentIsA ? 0 : 1] = job;
+            }
+        }
+
+        int[] wins = { 0, 0 };
+        String[][] table = new String[maps.size()][bots.size()];
+        for (int i = 0; i < maps.size(); i++) {
+            for (int j = 0; j < bots.size(); j++) {
+                table[i][j] = cell(byMatch, bots.get(j), maps.get(i), wins);
+            }
+        }
+
+        double ratio = wins[1] == 0 ? 0 : 100.0 * wins[0] / wins[1];
+        String stats = String.format("Win ratio: %d/%d (%.2f%%)", wins[0], wins[1], ratio) + "\n";
+        System.out.println("\n" + stats);
+
+        try (PrintWriter out = new PrintWriter(new FileWriter(outFile))) {
+            out.write(stats);
+            out.write("|  | " + String.join(" | ", bots) + " |\n");
+            StringBuilder sep = new StringBuilder("|");
+            for (int j = 0; j <= bots.size(); j++)
+                sep.append(" :---: |");
+            out.write(sep + "\n");
+            for (int i = 0; i < maps.size(); i++) {
+                StringBuilder row = new StringBuilder("| " + maps.get(i));
+                for (int j = 0; j < bots.size(); j++) {
+                    row.append(" | ").append(emojiMode ? emojify(table[i][j]) : table[i][j]);
+                }
+                out.write(row + " |\n");
+            }
+            out.write("\n");
+            for (Job job : jobs) {
+                if (job.error != null)
+                    out.write(job.teamA + " vs " + job.teamB + " on " + String.join(",", job.maps) + ": "
+                            + job.error + "\n");
+            }
+        }
+    }
+
+    static String emojify(String s) {
+        for (String[] e : EMOJI)
+            s = s.replace(e[0], e[1]);
+        return s;
+    }
+}